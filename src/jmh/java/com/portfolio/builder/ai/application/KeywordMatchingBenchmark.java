@@ -0,0 +1,78 @@
+package com.portfolio.builder.ai.application;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RuleBasedScorer 키워드 매칭 - 기존 contains 반복 방식(LegacyKeywordMatching, src/test) vs KeywordMatcher (Aho–Corasick)
+ * 두 방식의 결과가 같은지는 KeywordMatcherParityTest에서 확인
+ * 실행: ./gradlew jmh -Pjmh.includes=KeywordMatchingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class KeywordMatchingBenchmark {
+
+    // 실제 트러블슈팅 작성 예시와 비슷한 분량 / 구성 (키워드가 뒤쪽에 나오는 경우)
+    private String troubleshootingProblem;
+    private String troubleshootingCause;
+    private String troubleshootingSolution;
+    private String introduction;
+    private List<String> skills;
+
+    @Setup
+    public void setUp() {
+        troubleshootingProblem = "게시글 목록 화면에서 페이지를 넘길 때마다 응답이 3초 이상 걸리고, "
+                + "사용자가 많아지는 저녁 시간대에는 간헐적으로 화면이 멈추는 현상이 발생했습니다.";
+        troubleshootingCause = "게시글마다 작성자 정보를 따로 조회하면서 목록 1회 조회에 쿼리가 수십 번 실행되었고, "
+                + "연관 엔티티를 지연 로딩으로 가져오는 구조 때문에 조회 건수만큼 추가 쿼리가 발생하고 있었습니다.";
+        troubleshootingSolution = "fetch join으로 작성자를 함께 조회하도록 바꾸고 페이지 크기를 제한했습니다. "
+                + "이후 응답 시간이 180ms 수준으로 줄었고 같은 패턴의 다른 화면도 함께 점검했습니다. JPA";
+        introduction = "안녕하세요, 사용자 입장에서 생각하는 백엔드 개발자를 목표로 공부하고 있습니다. "
+                + "부트캠프에서 4개의 팀 프로젝트를 진행하며 일정 관리와 코드 리뷰를 주도했고, "
+                + "배포 과정에서 생긴 문제를 끝까지 추적해 해결한 경험이 있습니다. "
+                + "새로운 기술을 빠르게 익히고 팀원과 지식을 나누는 것을 좋아하며, "
+                + "꾸준히 기록하며 성장하는 개발자가 되고 싶습니다.";
+        skills = List.of("Java", "Spring Boot", "Spring Security", "JPA", "Oracle", "MySQL",
+                "React", "TypeScript", "Docker", "AWS EC2", "GitHub Actions", "Redis");
+    }
+
+    @Benchmark
+    public boolean technicalKeywordsLegacy() {
+        return LegacyKeywordMatching.hasTechnicalKeywords(troubleshootingProblem, troubleshootingCause, troubleshootingSolution);
+    }
+
+    @Benchmark
+    public boolean technicalKeywordsAutomaton() {
+        return RuleBasedScorer.hasTechnicalKeywords(troubleshootingProblem, troubleshootingCause, troubleshootingSolution);
+    }
+
+    @Benchmark
+    public Set<String> techStackLegacy() {
+        return LegacyKeywordMatching.categorizeTechStack(skills);
+    }
+
+    @Benchmark
+    public Set<String> techStackAutomaton() {
+        return RuleBasedScorer.categorizeTechStack(skills);
+    }
+
+    @Benchmark
+    public boolean specificWordsLegacy() {
+        return LegacyKeywordMatching.containsSpecificWords(introduction);
+    }
+
+    @Benchmark
+    public boolean specificWordsAutomaton() {
+        return RuleBasedScorer.containsSpecificWords(introduction);
+    }
+}
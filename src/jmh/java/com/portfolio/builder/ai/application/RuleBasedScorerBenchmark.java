@@ -0,0 +1,82 @@
+package com.portfolio.builder.ai.application;
+
+import com.portfolio.builder.ai.dto.PortfolioData;
+import com.portfolio.builder.ai.dto.ScoreResult;
+import com.portfolio.builder.benchmark.BenchmarkFixtures;
+import com.portfolio.builder.portfolio.domain.Troubleshooting;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RuleBasedScorer 점수 계산 5종 + 잔디 스냅샷 파싱
+ * 합성 포트폴리오 64개를 돌아가며 사용 (입력 크기 / 분기 다양화)
+ * 실행: ./gradlew jmh -Pjmh.includes=RuleBasedScorerBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RuleBasedScorerBenchmark {
+
+    private static final int FIXTURES = 64;
+
+    private RuleBasedScorer scorer;
+    private List<PortfolioData> portfolios;
+    private List<List<Troubleshooting>> troubleshootings;
+    private String[] snapshots;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        scorer = new RuleBasedScorer(BenchmarkFixtures.OBJECT_MAPPER);
+        portfolios = BenchmarkFixtures.portfolios(FIXTURES);
+        troubleshootings = BenchmarkFixtures.troubleshootings(FIXTURES);
+        snapshots = new String[FIXTURES];
+        for (int i = 0; i < FIXTURES; i++) {
+            snapshots[i] = BenchmarkFixtures.contributionSnapshot(i);
+        }
+    }
+
+    private int next() {
+        index = (index + 1) & (FIXTURES - 1);
+        return index;
+    }
+
+    @Benchmark
+    public ScoreResult completeness() {
+        return scorer.calculateCompleteness(portfolios.get(next()));
+    }
+
+    @Benchmark
+    public ScoreResult technical() {
+        return scorer.calculateTechnical(portfolios.get(next()));
+    }
+
+    @Benchmark
+    public ScoreResult troubleshooting() {
+        return scorer.calculateTroubleshooting(troubleshootings.get(next()));
+    }
+
+    @Benchmark
+    public ScoreResult expression() {
+        return scorer.calculateExpression(portfolios.get(next()));
+    }
+
+    @Benchmark
+    public ScoreResult activity() {
+        int i = next();
+        return scorer.calculateActivity(true, snapshots[i], portfolios.get(i));
+    }
+
+    @Benchmark
+    public int parseContributions() throws Exception {
+        return scorer.parseContributions(snapshots[next()]);
+    }
+}
@@ -0,0 +1,212 @@
+package com.portfolio.builder.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.portfolio.builder.ai.dto.PortfolioData;
+import com.portfolio.builder.portfolio.domain.Troubleshooting;
+import com.portfolio.builder.quiz.domain.Quiz;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크 입력 데이터
+ * - 퀴즈: 실제 콘텐츠 팩(data/interview_quiz.json)
+ * - 포트폴리오 / 트러블슈팅 / 잔디 / 댓글: 고정 시드로 만든 합성 데이터 (실행마다 동일)
+ */
+public final class BenchmarkFixtures {
+
+    public static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final String QUIZ_PACK = "data/interview_quiz.json";
+
+    private static final List<String> SENTENCES = List.of(
+            "사용자 입장에서 생각하는 백엔드 개발자를 목표로 공부하고 있습니다.",
+            "팀 프로젝트에서 주문 API 설계와 배포 자동화를 담당했습니다.",
+            "N+1 쿼리 문제를 fetch join으로 해결해 응답 시간을 1.2초에서 180ms로 줄였습니다.",
+            "코드 리뷰 문화를 만들기 위해 PR 템플릿과 체크리스트를 도입했습니다.",
+            "Redis 캐시를 적용해 조회 트래픽의 DB 부하를 절반 이하로 낮췄습니다.",
+            "새로운 기술을 빠르게 익히고 팀원과 지식을 나누는 것을 좋아합니다.",
+            "CORS 에러와 JWT 만료 처리 문제를 추적하며 인증 흐름을 깊이 이해하게 되었습니다.",
+            "꾸준히 기록하며 성장하는 개발자가 되고 싶습니다.",
+            "React와 TypeScript로 관리자 대시보드를 구현했습니다.",
+            "Docker와 GitHub Actions로 배포 파이프라인을 구성했습니다."
+    );
+
+    private static final List<String> SKILLS = List.of(
+            "Java", "Spring Boot", "Spring Security", "JPA", "MyBatis", "Oracle", "MySQL", "Redis",
+            "React", "TypeScript", "JavaScript", "HTML", "CSS", "Docker", "AWS EC2", "GitHub Actions",
+            "Linux", "Nginx", "Python", "Git"
+    );
+
+    private static final List<String> COMMENT_SENTENCES = List.of(
+            "포트폴리오 잘 봤습니다!", "프로젝트 설명이 정말 구체적이네요.", "트러블슈팅 부분이 인상 깊어요.",
+            "Great work on the caching layer, very clean.", "배포 링크도 있으면 좋을 것 같아요.",
+            "저도 같은 문제를 겪었는데 많이 배워갑니다.", "Nice use of Spring Security here.",
+            "자기소개가 읽기 편하고 좋네요.", "다음 프로젝트도 기대할게요 :)"
+    );
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 콘텐츠 팩의 퀴즈 전체 (options는 DB와 같은 JSON 문자열)
+     */
+    public static List<Quiz> quizzes() {
+        try (InputStream in = BenchmarkFixtures.class.getClassLoader().getResourceAsStream(QUIZ_PACK)) {
+            if (in == null) {
+                throw new IllegalStateException(QUIZ_PACK + " not found");
+            }
+            List<Quiz> quizzes = new ArrayList<>();
+            long id = 1;
+            for (JsonNode node : OBJECT_MAPPER.readTree(in).get("quizzes")) {
+                JsonNode options = node.get("options");
+                JsonNode answer = node.get("answer");
+                quizzes.add(Quiz.builder()
+                        .id(id++)
+                        .category(node.path("category").asText())
+                        .type(node.path("type").asText())
+                        .question(node.path("question").asText())
+                        .options(options != null && options.isArray() ? OBJECT_MAPPER.writeValueAsString(options) : null)
+                        .answer(answer.isBoolean() ? (answer.asBoolean() ? 1 : 0) : answer.asInt())
+                        .explanation(node.path("explanation").asText())
+                        .build());
+            }
+            return quizzes;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 합성 포트폴리오 JSON (TB_PORTFOLIO_PF.data 형식)
+     */
+    public static List<String> portfolioJsons(int count) {
+        Random random = new Random(42);
+        List<String> portfolios = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ObjectNode root = OBJECT_MAPPER.createObjectNode();
+            root.put("name", "수강생" + i);
+            root.put("email", "student" + i + "@example.com");
+            root.put("phone", String.format("010-%04d-%04d", random.nextInt(10000), random.nextInt(10000)));
+            root.put("introduction", paragraph(random, 2 + random.nextInt(8)));
+
+            ArrayNode skills = root.putArray("skills");
+            int skillCount = 3 + random.nextInt(10);
+            for (int s = 0; s < skillCount; s++) {
+                ObjectNode skill = skills.addObject();
+                skill.put("name", SKILLS.get(random.nextInt(SKILLS.size())));
+                skill.put("level", 1 + random.nextInt(5));
+            }
+
+            ArrayNode projects = root.putArray("projects");
+            int projectCount = 1 + random.nextInt(5);
+            for (int p = 0; p < projectCount; p++) {
+                ObjectNode project = projects.addObject();
+                project.put("name", "프로젝트 " + (p + 1));
+                project.put("description", paragraph(random, 1 + random.nextInt(5)));
+                project.put("role", random.nextBoolean() ? "백엔드" : "풀스택");
+                project.put("tech", String.join(", ", SKILLS.subList(p, p + 3)));
+                if (random.nextBoolean()) project.put("githubUrl", "https://github.com/student" + i + "/project" + p);
+                if (random.nextInt(3) == 0) project.put("demoUrl", "https://project" + p + ".example.com");
+            }
+
+            ArrayNode educations = root.putArray("educations");
+            educations.addObject().put("school", "한국대학교").put("major", "컴퓨터공학").put("degree", "학사");
+            if (random.nextBoolean()) {
+                root.putArray("certificates").addObject().put("name", "정보처리기사").put("issuer", "한국산업인력공단");
+            }
+            portfolios.add(root.toString());
+        }
+        return portfolios;
+    }
+
+    public static List<PortfolioData> portfolios(int count) {
+        List<PortfolioData> portfolios = new ArrayList<>(count);
+        for (String json : portfolioJsons(count)) {
+            try {
+                portfolios.add(OBJECT_MAPPER.readValue(json, PortfolioData.class));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return portfolios;
+    }
+
+    /**
+     * 합성 트러블슈팅 목록 (포트폴리오마다 0~4개)
+     */
+    public static List<List<Troubleshooting>> troubleshootings(int count) {
+        Random random = new Random(7);
+        Troubleshooting.Category[] categories = Troubleshooting.Category.values();
+        List<List<Troubleshooting>> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            List<Troubleshooting> list = new ArrayList<>();
+            int size = random.nextInt(5);
+            for (int t = 0; t < size; t++) {
+                list.add(Troubleshooting.builder()
+                        .category(categories[random.nextInt(categories.length)])
+                        .problem(paragraph(random, 1 + random.nextInt(3)))
+                        .cause(paragraph(random, 1 + random.nextInt(3)))
+                        .solution(paragraph(random, 1 + random.nextInt(3)))
+                        .lesson(paragraph(random, 1))
+                        .build());
+            }
+            result.add(list);
+        }
+        return result;
+    }
+
+    /**
+     * GitHub 잔디 스냅샷 (53주 x 7일, GraphQL contributionCalendar 형식)
+     */
+    public static String contributionSnapshot(long seed) {
+        Random random = new Random(seed);
+        ObjectNode root = OBJECT_MAPPER.createObjectNode();
+        root.put("totalContributions", 0);
+        ArrayNode weeks = root.putArray("weeks");
+        for (int w = 0; w < 53; w++) {
+            ArrayNode days = weeks.addObject().putArray("contributionDays");
+            for (int d = 0; d < 7; d++) {
+                ObjectNode day = days.addObject();
+                day.put("date", "2025-01-01");
+                day.put("contributionCount", random.nextInt(4) == 0 ? random.nextInt(12) : 0);
+                day.put("color", "#ebedf0");
+            }
+        }
+        return root.toString();
+    }
+
+    /**
+     * 합성 댓글 (욕설 없음 → 필터 입장에서 전체 검사가 필요한 최악의 경우)
+     */
+    public static List<String> comments(int count) {
+        Random random = new Random(11);
+        List<String> comments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder sb = new StringBuilder();
+            int sentences = 1 + random.nextInt(4);
+            for (int s = 0; s < sentences; s++) {
+                if (s > 0) sb.append(' ');
+                sb.append(COMMENT_SENTENCES.get(random.nextInt(COMMENT_SENTENCES.size())));
+            }
+            comments.add(sb.toString());
+        }
+        return comments;
+    }
+
+    private static String paragraph(Random random, int sentences) {
+        StringBuilder sb = new StringBuilder();
+        for (int s = 0; s < sentences; s++) {
+            if (s > 0) sb.append(' ');
+            sb.append(SENTENCES.get(random.nextInt(SENTENCES.size())));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,51 @@
+package com.portfolio.builder.comment.application;
+
+import com.portfolio.builder.benchmark.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 욕설 검사 / 마스킹
+ * 욕설 없는 댓글 기준 (모든 금지어를 검사해야 하는 가장 느린 경로, 탐지 로그도 남지 않음)
+ * 실행: ./gradlew jmh -Pjmh.includes=ProfanityFilterBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProfanityFilterBenchmark {
+
+    private static final int FIXTURES = 64;
+
+    private ProfanityFilterService profanityFilterService;
+    private List<String> comments;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        profanityFilterService = new ProfanityFilterService();
+        comments = BenchmarkFixtures.comments(FIXTURES);
+    }
+
+    private String nextComment() {
+        index = (index + 1) & (FIXTURES - 1);
+        return comments.get(index);
+    }
+
+    @Benchmark
+    public boolean containsProfanity() {
+        return profanityFilterService.containsProfanity(nextComment());
+    }
+
+    @Benchmark
+    public String maskProfanity() {
+        return profanityFilterService.maskProfanity(nextComment());
+    }
+}
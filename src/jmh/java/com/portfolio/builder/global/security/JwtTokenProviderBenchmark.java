@@ -0,0 +1,51 @@
+package com.portfolio.builder.global.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 검증 (요청마다 JwtAuthenticationFilter에서 실행)
+ * 필터는 validateToken → getMemberId 순으로 서명을 두 번 검증하므로 그 경로도 함께 측정
+ * 실행: ./gradlew jmh -Pjmh.includes=JwtTokenProviderBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        byte[] secret = new byte[64];
+        for (int i = 0; i < secret.length; i++) {
+            secret[i] = (byte) (i * 31 + 7);
+        }
+        jwtTokenProvider = new JwtTokenProvider(Base64.getEncoder().encodeToString(secret), 3_600_000L);
+        token = jwtTokenProvider.createToken(1234L, "benchmark-user");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Long getMemberId() {
+        return jwtTokenProvider.getMemberId(token);
+    }
+
+    @Benchmark
+    public Long filterPath() {
+        return jwtTokenProvider.validateToken(token) ? jwtTokenProvider.getMemberId(token) : null;
+    }
+}
@@ -0,0 +1,42 @@
+package com.portfolio.builder.portfolio.application;
+
+import com.portfolio.builder.benchmark.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 타인 포트폴리오 조회 시 개인정보 마스킹 (JSON 파싱 → 마스킹 → 직렬화)
+ * 실행: ./gradlew jmh -Pjmh.includes=MaskPersonalInfoBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MaskPersonalInfoBenchmark {
+
+    private static final int FIXTURES = 64;
+
+    private PortfolioService portfolioService;
+    private List<String> portfolios;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        // 마스킹은 저장소를 쓰지 않음
+        portfolioService = new PortfolioService(null, null, null, null, null, null, null, null);
+        portfolios = BenchmarkFixtures.portfolioJsons(FIXTURES);
+    }
+
+    @Benchmark
+    public String maskPersonalInfo() {
+        index = (index + 1) & (FIXTURES - 1);
+        return portfolioService.maskPersonalInfo(portfolios.get(index));
+    }
+}
@@ -0,0 +1,56 @@
+package com.portfolio.builder.quiz.service;
+
+import com.portfolio.builder.benchmark.BenchmarkFixtures;
+import com.portfolio.builder.quiz.domain.Quiz;
+import com.portfolio.builder.quiz.dto.QuizDto.QuizResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Quiz → QuizResponse 변환 (객관식 보기 JSON 파싱)
+ * 실제 콘텐츠 팩 문제 전체를 돌아가며 사용, daily 세트(10문제) 단위로도 측정
+ * 실행: ./gradlew jmh -Pjmh.includes=QuizResponseBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QuizResponseBenchmark {
+
+    private static final int DAILY_SIZE = 10;
+
+    private QuizService quizService;
+    private List<Quiz> quizzes;
+    private List<Quiz> multipleChoice;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        // 변환은 ObjectMapper만 사용
+        quizService = new QuizService(null, null, null, null, null, null, null, null, null, null, null,
+                BenchmarkFixtures.OBJECT_MAPPER);
+        quizzes = BenchmarkFixtures.quizzes();
+        multipleChoice = quizzes.stream().filter(quiz -> quiz.getOptions() != null).toList();
+    }
+
+    @Benchmark
+    public QuizResponse multipleChoice() {
+        index = (index + 1) % multipleChoice.size();
+        return quizService.toQuizResponse(multipleChoice.get(index));
+    }
+
+    @Benchmark
+    public List<QuizResponse> dailySet() {
+        index = (index + DAILY_SIZE) % (quizzes.size() - DAILY_SIZE);
+        return quizzes.subList(index, index + DAILY_SIZE).stream()
+                .map(quizService::toQuizResponse)
+                .toList();
+    }
+}
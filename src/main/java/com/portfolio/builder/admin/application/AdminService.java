@@ -1,5 +1,6 @@
 package com.portfolio.builder.admin.application;
 
+import com.portfolio.builder.ai.application.EvaluationHistoryService;
 import com.portfolio.builder.comment.application.CommentService;
 import com.portfolio.builder.comment.domain.Comment;
 import com.portfolio.builder.comment.domain.CommentRepository;
@@ -11,6 +12,7 @@ import com.portfolio.builder.portfolio.domain.Portfolio;
 import com.portfolio.builder.portfolio.domain.PortfolioLikeRepository;
 import com.portfolio.builder.portfolio.domain.PortfolioRepository;
 import com.portfolio.builder.portfolio.dto.PortfolioResponse;
+import com.portfolio.builder.quiz.service.BadgeRarityService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -31,6 +33,8 @@ public class AdminService {
     private final PortfolioRepository portfolioRepository;
     private final PortfolioLikeRepository portfolioLikeRepository;
     private final CommentRepository commentRepository;
+    private final BadgeRarityService badgeRarityService;
+    private final EvaluationHistoryService evaluationHistoryService;
 
     // 관리자 권한 확인
     public void validateAdmin(Long memberId) {
@@ -97,13 +101,19 @@ public class AdminService {
         for (Portfolio portfolio : portfolios) {
             portfolioLikeRepository.deleteAllByPortfolio(portfolio);
             commentRepository.deleteAllByPortfolio(portfolio);
+            evaluationHistoryService.deleteAll(portfolio.getId());
         }
         portfolioRepository.deleteAll(portfolios);
         portfolioLikeRepository.deleteAllByMember(member);
         commentRepository.deleteAllByMember(member);
+        badgeRarityService.onMemberRemoved(targetMemberId);
         
         memberRepository.delete(member);
         log.info("Member {} deleted", targetMemberId);
+        
+        if ("수강생".equals(member.getPosition())) {
+            badgeRarityService.onStudentPopulationChanged();
+        }
     }
 
     // === 포트폴리오 관리 ===
@@ -124,6 +134,7 @@ public class AdminService {
         
         portfolioLikeRepository.deleteAllByPortfolio(portfolio);
         commentRepository.deleteAllByPortfolio(portfolio);
+        evaluationHistoryService.deleteAll(portfolioId);
         portfolioRepository.delete(portfolio);
         log.info("Portfolio {} deleted by admin", portfolioId);
     }
@@ -177,12 +188,16 @@ public class AdminService {
             throw new RuntimeException("No pending position request");
         }
         
+        boolean wasStudent = "수강생".equals(member.getPosition());
         String approvedPosition = member.getPendingPosition();
         member.setPosition(approvedPosition);
         member.setPendingPosition(null);
         member.setClassroom(null);  // 강사/운영팀은 강의실 불필요
         
         Member updated = memberRepository.save(member);
+        if (wasStudent != "수강생".equals(approvedPosition)) {
+            badgeRarityService.onStudentPopulationChanged();
+        }
         log.info("Member {} position approved to {}", targetMemberId, approvedPosition);
         return MemberResponse.from(updated);
     }
@@ -213,6 +228,7 @@ public class AdminService {
             throw new RuntimeException("Invalid position: " + position);
         }
         
+        boolean wasStudent = "수강생".equals(member.getPosition());
         member.setPosition(position);
         member.setPendingPosition(null);
         
@@ -222,6 +238,9 @@ public class AdminService {
         }
         
         Member updated = memberRepository.save(member);
+        if (wasStudent != "수강생".equals(position)) {
+            badgeRarityService.onStudentPopulationChanged();
+        }
         log.info("Member {} position updated to {} by admin", targetMemberId, position);
         return MemberResponse.from(updated);
     }
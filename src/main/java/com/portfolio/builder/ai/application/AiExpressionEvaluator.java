@@ -1,200 +1,301 @@
 package com.portfolio.builder.ai.application;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.portfolio.builder.ai.dto.PortfolioData;
 import com.portfolio.builder.portfolio.domain.Troubleshooting;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * GPT-4o-mini 기반 표현력 평가기
- * - 자기소개 품질 평가
- * - 프로젝트 설명 품질 평가
- * - 트러블슈팅 품질 평가
- * - 24시간 캐싱으로 비용 최적화
+ * - 자기소개 / 프로젝트 설명 / 트러블슈팅을 섹션별로 평가 (각 0~20점)
+ * - 섹션 결과는 섹션 다이제스트 기준으로 24시간 캐싱
+ * - 내용이 바뀐 섹션만 프롬프트에 넣어 한 번에 평가 → 자기소개만 고치면 자기소개만 다시 평가
+ * - 바뀐 섹션도 같은 포트폴리오의 최근 평가와 거의 같으면(오타 수정 등) 재사용 (NearDuplicateExpressionCache)
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class AiExpressionEvaluator {
-    
+
     private final ChatClient.Builder chatClientBuilder;
     private final StringRedisTemplate redisTemplate;
-    
-    private static final String CACHE_PREFIX = "ai:expression:";
+    private final LlmCallGuard llmCallGuard;
+    private final LlmTokenMetrics llmTokenMetrics;
+    private final NearDuplicateExpressionCache nearDuplicateCache;
+    private final ObjectMapper objectMapper;
+
+    private static final String CACHE_PREFIX = "ai:expression:section:";
     private static final Duration CACHE_TTL = Duration.ofHours(24);
-    
+    private static final int MAX_OUTPUT_TOKENS_PER_SECTION = 80;  // {"score", "feedback"} 한 줄
+    private static final Duration CALL_TIMEOUT = Duration.ofSeconds(15);
+    private static final int PROMPT_BUDGET_TOKENS = 700;
+
+    /**
+     * AI 평가 섹션
+     * @param key 응답 JSON 필드명
+     * @param source 다이제스트를 가져올 포트폴리오 섹션
+     * @param weight 섹션 점수를 합칠 때 가중치
+     */
+    enum ExpressionSection {
+        INTRODUCTION("introduction", PortfolioSection.PROFILE, 4),
+        PROJECTS("projects", PortfolioSection.PROJECTS, 4),
+        TROUBLESHOOTING("troubleshooting", PortfolioSection.TROUBLESHOOTING, 2);
+
+        private final String key;
+        private final PortfolioSection source;
+        private final int weight;
+
+        ExpressionSection(String key, PortfolioSection source, int weight) {
+            this.key = key;
+            this.source = source;
+            this.weight = weight;
+        }
+    }
+
     /**
      * AI 표현력 평가 실행
+     * @param portfolioId 포트폴리오 ID (유사 콘텐츠 재사용 범위, null이면 재사용 안 함)
+     * @param sectionDigests 섹션별 다이제스트 (EvaluationDigest.sectionDigests)
      * @return 0~20점 사이의 점수
      */
-    public ExpressionResult evaluate(PortfolioData data, List<Troubleshooting> troubleshootings) {
-        // 1. 평가할 텍스트 준비
-        String contentHash = generateContentHash(data, troubleshootings);
-        String cacheKey = CACHE_PREFIX + contentHash;
-        
-        // 2. 캐시 확인
-        String cachedResult = getCachedResult(cacheKey);
-        if (cachedResult != null) {
-            log.info("AI expression evaluation cache hit: {}", cacheKey);
-            return parseResult(cachedResult);
-        }
-        
-        // 3. AI 평가 실행
-        log.info("AI expression evaluation - calling GPT-4o-mini");
-        ExpressionResult result = callAiEvaluation(data, troubleshootings);
-        
-        // 4. 결과 캐싱
-        cacheResult(cacheKey, result);
-        
-        return result;
+    public ExpressionResult evaluate(Long portfolioId, PortfolioData data, List<Troubleshooting> troubleshootings,
+                                     Map<PortfolioSection, String> sectionDigests) {
+        // 1. 평가할 섹션 (내용이 있는 섹션만)
+        List<PortfolioData.ProjectData> projects = describedProjects(data);
+        List<ExpressionSection> present = new ArrayList<>();
+        if (data.getIntroduction() != null && !data.getIntroduction().isBlank()) present.add(ExpressionSection.INTRODUCTION);
+        if (!projects.isEmpty()) present.add(ExpressionSection.PROJECTS);
+        if (troubleshootings != null && !troubleshootings.isEmpty()) present.add(ExpressionSection.TROUBLESHOOTING);
+        if (present.isEmpty()) {
+            return new ExpressionResult(0, "평가할 자기소개, 프로젝트 설명, 트러블슈팅이 없습니다");
+        }
+
+        // 2. 섹션 캐시 확인
+        Map<ExpressionSection, ExpressionResult> results = getCachedResults(present, sectionDigests);
+        List<ExpressionSection> changed = present.stream()
+            .filter(section -> !results.containsKey(section))
+            .toList();
+
+        // 3. 바뀐 섹션 중 최근 평가와 거의 같은 섹션은 재사용
+        Map<ExpressionSection, String> texts = Map.of();
+        if (!changed.isEmpty()) {
+            texts = sectionTexts(changed, data, projects, troubleshootings);
+            results.putAll(nearDuplicateCache.find(portfolioId, texts));
+            changed = changed.stream().filter(section -> !results.containsKey(section)).toList();
+        }
+
+        // 4. 나머지 섹션만 AI 평가
+        if (!changed.isEmpty()) {
+            log.info("AI expression evaluation - calling GPT-4o-mini (sections: {}, cached: {})", changed, results.keySet());
+            Map<ExpressionSection, ExpressionResult> evaluated = callAiEvaluation(changed, data, projects, troubleshootings);
+            if (evaluated == null) {
+                // 실패 시 규칙 기반 점수만 사용
+                return ExpressionResult.unavailable();
+            }
+
+            // 5. 섹션 결과 캐싱 (실패 시 기본값은 캐싱하지 않음)
+            Map<ExpressionSection, String> evaluatedTexts = texts;
+            evaluated.forEach((section, result) -> {
+                cacheResult(cacheKey(section, sectionDigests), result);
+                nearDuplicateCache.remember(portfolioId, section, evaluatedTexts.get(section), result);
+            });
+            results.putAll(evaluated);
+        } else {
+            log.info("AI expression evaluation cache hit (sections: {})", present);
+        }
+
+        return combine(present, results);
     }
-    
+
+    /**
+     * 섹션 점수 가중 평균, 피드백은 가장 낮은 섹션 것 사용 (가장 먼저 고칠 부분)
+     */
+    private ExpressionResult combine(List<ExpressionSection> present, Map<ExpressionSection, ExpressionResult> results) {
+        int weighted = 0;
+        int totalWeight = 0;
+        ExpressionResult weakest = null;
+        for (ExpressionSection section : present) {
+            ExpressionResult result = results.get(section);
+            weighted += result.score() * section.weight;
+            totalWeight += section.weight;
+            if (weakest == null || result.score() < weakest.score()) {
+                weakest = result;
+            }
+        }
+        int score = Math.round((float) weighted / totalWeight);
+        return new ExpressionResult(score, weakest.feedback());
+    }
+
     /**
-     * GPT-4o-mini로 표현력 평가
+     * GPT-4o-mini로 섹션별 표현력 평가
+     * @return 섹션별 결과 (실패 시 null)
      */
-    private ExpressionResult callAiEvaluation(PortfolioData data, List<Troubleshooting> troubleshootings) {
+    private Map<ExpressionSection, ExpressionResult> callAiEvaluation(List<ExpressionSection> sections, PortfolioData data,
+                                                                     List<PortfolioData.ProjectData> projects,
+                                                                     List<Troubleshooting> troubleshootings) {
         try {
-            String prompt = buildPrompt(data, troubleshootings);
-            
+            PromptAssembler.AssembledPrompt prompt = buildPrompt(sections, data, projects, troubleshootings);
+
             ChatClient chatClient = chatClientBuilder.build();
-            String response = chatClient.prompt()
-                .user(prompt)
+            int maxOutputTokens = MAX_OUTPUT_TOKENS_PER_SECTION * sections.size();
+            // 실제 사용량을 기록하고 분당 토큰 예상치와 정산
+            ChatResponse chatResponse = llmCallGuard.call("expression", prompt.tokens() + maxOutputTokens, CALL_TIMEOUT, () -> chatClient.prompt()
+                .user(prompt.text())
                 .call()
-                .content();
-            
-            return parseAiResponse(response);
+                .chatResponse(),
+                result -> llmTokenMetrics.record("expression", prompt, result, result.getResult().getOutput().getText()));
+            String response = chatResponse.getResult().getOutput().getText();
+
+            return parseAiResponse(response, sections);
         } catch (Exception e) {
             log.error("AI expression evaluation failed: {}", e.getMessage());
-            // 실패 시 기본 점수 반환
-            return new ExpressionResult(10, "AI 평가를 수행할 수 없습니다.");
+            return null;
         }
     }
-    
+
     /**
-     * 평가 프롬프트 생성 (토큰 최적화)
+     * 평가 프롬프트 생성 (요청한 섹션만, 토큰 예산 내에서 자기소개 → 프로젝트 → 트러블슈팅 순으로 배분)
      */
-    private String buildPrompt(PortfolioData data, List<Troubleshooting> troubleshootings) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("포트폴리오 표현력을 0~20점으로 평가해주세요.\n\n");
-        
-        // 자기소개 (최대 500자)
-        if (data.getIntroduction() != null) {
-            String intro = data.getIntroduction();
-            if (intro.length() > 500) intro = intro.substring(0, 500) + "...";
-            sb.append("[자기소개]\n").append(intro).append("\n\n");
-        }
-        
-        // 프로젝트 설명 (최대 2개, 각 200자)
-        if (data.getProjects() != null && !data.getProjects().isEmpty()) {
-            sb.append("[프로젝트]\n");
-            int count = 0;
-            for (PortfolioData.ProjectData project : data.getProjects()) {
-                if (count >= 2) break;
-                String desc = project.getDescription();
-                if (desc != null) {
-                    if (desc.length() > 200) desc = desc.substring(0, 200) + "...";
-                    sb.append("- ").append(project.getName()).append(": ").append(desc).append("\n");
-                    count++;
-                }
+    private PromptAssembler.AssembledPrompt buildPrompt(List<ExpressionSection> sections, PortfolioData data,
+                                                        List<PortfolioData.ProjectData> projects,
+                                                        List<Troubleshooting> troubleshootings) {
+        PromptAssembler prompt = new PromptAssembler(PROMPT_BUDGET_TOKENS)
+            .fixed("포트폴리오 표현력을 0~20점으로 평가해주세요. 아래 항목별로 따로 평가합니다.\n\n");
+
+        // 자기소개 (약 500자)
+        if (sections.contains(ExpressionSection.INTRODUCTION)) {
+            prompt.text("introduction", 1, 260, "[자기소개]\n", "", data.getIntroduction(), "\n\n");
+        }
+
+        // 프로젝트 설명 (설명이 있는 프로젝트 최대 2개, 각 약 200자)
+        if (sections.contains(ExpressionSection.PROJECTS)) {
+            for (int i = 0; i < projects.size(); i++) {
+                PortfolioData.ProjectData project = projects.get(i);
+                prompt.text("project" + i, 2, 110, "[프로젝트]\n",
+                    "- " + project.getName() + ": ", project.getDescription(), "\n");
             }
-            sb.append("\n");
+            prompt.fixed("\n");
         }
-        
-        // 트러블슈팅 (최대 1개, 요약)
-        if (troubleshootings != null && !troubleshootings.isEmpty()) {
+
+        // 트러블슈팅 (최신 1개, 문제 / 해결 각 약 100자)
+        if (sections.contains(ExpressionSection.TROUBLESHOOTING)) {
             Troubleshooting t = troubleshootings.get(0);
-            sb.append("[트러블슈팅 예시]\n");
-            sb.append("문제: ").append(truncate(t.getProblem(), 100)).append("\n");
-            sb.append("해결: ").append(truncate(t.getSolution(), 100)).append("\n\n");
-        }
-        
-        sb.append("평가 기준:\n");
-        sb.append("- 구체성: 추상적 표현 vs 구체적 경험/수치\n");
-        sb.append("- 명확성: 문장이 명확하고 읽기 쉬운지\n");
-        sb.append("- 전문성: 기술 용어 적절히 사용하는지\n\n");
-        sb.append("응답 형식 (JSON):\n");
-        sb.append("{\"score\": 0~20, \"feedback\": \"한줄 피드백\"}");
-        
-        return sb.toString();
+            prompt.text("troubleshootingProblem", 3, 60, "[트러블슈팅]\n", "문제: ", t.getProblem(), "\n")
+                .text("troubleshootingSolution", 3, 60, "[트러블슈팅]\n", "해결: ", t.getSolution(), "\n")
+                .fixed("\n");
+        }
+
+        String format = sections.stream()
+            .map(section -> "\"" + section.key + "\": {\"score\": 0~20, \"feedback\": \"한줄 피드백\"}")
+            .collect(Collectors.joining(", ", "{", "}"));
+        return prompt
+            .fixed("""
+                평가 기준:
+                - 구체성: 추상적 표현 vs 구체적 경험/수치
+                - 명확성: 문장이 명확하고 읽기 쉬운지
+                - 전문성: 기술 용어 적절히 사용하는지
+
+                응답 형식 (JSON):
+                """)
+            .fixed(format)
+            .assemble();
     }
-    
+
     /**
-     * AI 응답 파싱
+     * AI 응답 파싱 (요청한 섹션이 하나라도 빠지면 실패)
      */
-    private ExpressionResult parseAiResponse(String response) {
+    private Map<ExpressionSection, ExpressionResult> parseAiResponse(String response, List<ExpressionSection> sections) {
         try {
-            // JSON 파싱 시도
-            response = response.trim();
-            if (response.startsWith("```")) {
-                response = response.replaceAll("```json\\s*", "").replaceAll("```\\s*", "");
-            }
-            
-            // 간단한 JSON 파싱
-            int scoreStart = response.indexOf("\"score\"");
-            int scoreEnd = response.indexOf(",", scoreStart);
-            if (scoreEnd == -1) scoreEnd = response.indexOf("}", scoreStart);
-            
-            String scoreStr = response.substring(scoreStart, scoreEnd)
-                .replaceAll("[^0-9]", "");
-            int score = Integer.parseInt(scoreStr);
-            score = Math.min(20, Math.max(0, score)); // 0~20 범위로 제한
-            
-            // 피드백 추출
-            int feedbackStart = response.indexOf("\"feedback\"");
-            String feedback = "";
-            if (feedbackStart != -1) {
-                int colonPos = response.indexOf(":", feedbackStart);
-                int quoteStart = response.indexOf("\"", colonPos + 1);
-                int quoteEnd = response.indexOf("\"", quoteStart + 1);
-                if (quoteStart != -1 && quoteEnd != -1) {
-                    feedback = response.substring(quoteStart + 1, quoteEnd);
+            String json = response.trim();
+            int start = json.indexOf('{');
+            int end = json.lastIndexOf('}');
+            JsonNode root = objectMapper.readTree(json.substring(start, end + 1));
+
+            Map<ExpressionSection, ExpressionResult> results = new EnumMap<>(ExpressionSection.class);
+            for (ExpressionSection section : sections) {
+                JsonNode node = root.path(section.key);
+                if (!node.path("score").canConvertToInt() && !node.path("score").isTextual()) {
+                    log.warn("AI response missing section {}: {}", section.key, response);
+                    return null;
                 }
+                int score = Math.min(20, Math.max(0, node.path("score").asInt())); // 0~20 범위로 제한
+                results.put(section, new ExpressionResult(score, node.path("feedback").asText("")));
             }
-            
-            return new ExpressionResult(score, feedback);
+            return results;
         } catch (Exception e) {
             log.warn("Failed to parse AI response: {}", response);
-            return new ExpressionResult(10, "표현력 평가가 완료되었습니다.");
+            return null;
         }
     }
-    
+
     /**
-     * 컨텐츠 해시 생성 (캐싱용)
+     * 섹션별 AI 평가 대상 텍스트 (프롬프트에 들어가는 내용 그대로, 유사도 비교용)
      */
-    private String generateContentHash(PortfolioData data, List<Troubleshooting> troubleshootings) {
-        StringBuilder sb = new StringBuilder();
-        if (data.getIntroduction() != null) sb.append(data.getIntroduction());
-        if (data.getProjects() != null) {
-            data.getProjects().forEach(p -> {
-                if (p.getDescription() != null) sb.append(p.getDescription());
-            });
-        }
-        if (troubleshootings != null) {
-            troubleshootings.forEach(t -> {
-                sb.append(t.getProblem()).append(t.getSolution());
-            });
+    private Map<ExpressionSection, String> sectionTexts(List<ExpressionSection> sections, PortfolioData data,
+                                                       List<PortfolioData.ProjectData> projects,
+                                                       List<Troubleshooting> troubleshootings) {
+        Map<ExpressionSection, String> texts = new EnumMap<>(ExpressionSection.class);
+        for (ExpressionSection section : sections) {
+            switch (section) {
+                case INTRODUCTION -> texts.put(section, data.getIntroduction());
+                case PROJECTS -> texts.put(section, projects.stream()
+                    .map(project -> project.getName() + ": " + project.getDescription())
+                    .collect(Collectors.joining("\n")));
+                case TROUBLESHOOTING -> {
+                    Troubleshooting t = troubleshootings.get(0);
+                    texts.put(section, t.getProblem() + "\n" + t.getSolution());
+                }
+            }
         }
-        return String.valueOf(sb.toString().hashCode());
+        return texts;
+    }
+
+    private List<PortfolioData.ProjectData> describedProjects(PortfolioData data) {
+        if (data.getProjects() == null) return List.of();
+        return data.getProjects().stream()
+            .filter(project -> project.getDescription() != null && !project.getDescription().isBlank())
+            .limit(2)
+            .toList();
     }
-    
+
+    private String cacheKey(ExpressionSection section, Map<PortfolioSection, String> sectionDigests) {
+        return CACHE_PREFIX + section.key + ":" + sectionDigests.get(section.source);
+    }
+
     /**
-     * 캐시에서 결과 조회
+     * 캐시에서 섹션 결과 조회 (한 번의 MGET)
      */
-    private String getCachedResult(String key) {
+    private Map<ExpressionSection, ExpressionResult> getCachedResults(List<ExpressionSection> sections,
+                                                                     Map<PortfolioSection, String> sectionDigests) {
+        Map<ExpressionSection, ExpressionResult> results = new EnumMap<>(ExpressionSection.class);
         try {
-            return redisTemplate.opsForValue().get(key);
+            List<String> keys = sections.stream().map(section -> cacheKey(section, sectionDigests)).toList();
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+            for (int i = 0; values != null && i < sections.size(); i++) {
+                ExpressionResult cached = parseResult(values.get(i));
+                if (cached != null) {
+                    results.put(sections.get(i), cached);
+                }
+            }
         } catch (Exception e) {
             log.warn("Redis cache get failed: {}", e.getMessage());
-            return null;
         }
+        return results;
     }
-    
+
     /**
      * 결과 캐싱
      */
@@ -206,31 +307,34 @@ public class AiExpressionEvaluator {
             log.warn("Redis cache set failed: {}", e.getMessage());
         }
     }
-    
+
     /**
-     * 캐시된 결과 파싱
+     * 캐시된 결과 파싱 (없거나 깨졌으면 null → 다시 평가)
      */
     private ExpressionResult parseResult(String cached) {
+        if (cached == null) return null;
         try {
             String[] parts = cached.split("\\|", 2);
             int score = Integer.parseInt(parts[0]);
             String feedback = parts.length > 1 ? parts[1] : "";
             return new ExpressionResult(score, feedback);
         } catch (Exception e) {
-            return new ExpressionResult(10, "");
+            return null;
         }
     }
-    
-    /**
-     * 문자열 자르기
-     */
-    private String truncate(String s, int max) {
-        if (s == null) return "";
-        return s.length() > max ? s.substring(0, max) + "..." : s;
-    }
-    
+
     /**
      * 표현력 평가 결과
+     * @param fallback AI 평가 실패 (호출부에서 규칙 기반 점수만 사용)
      */
-    public record ExpressionResult(int score, String feedback) {}
+    public record ExpressionResult(int score, String feedback, boolean fallback) {
+
+        public ExpressionResult(int score, String feedback) {
+            this(score, feedback, false);
+        }
+
+        static ExpressionResult unavailable() {
+            return new ExpressionResult(0, null, true);
+        }
+    }
 }
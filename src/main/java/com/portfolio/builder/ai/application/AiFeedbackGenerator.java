@@ -8,9 +8,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -24,19 +26,29 @@ public class AiFeedbackGenerator {
     
     private final ChatClient chatClient;
     private final ObjectMapper objectMapper;
+    private final LlmCallGuard llmCallGuard;
+    private final LlmTokenMetrics llmTokenMetrics;
+    
+    private static final Duration CALL_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration STREAM_TIMEOUT = Duration.ofSeconds(60);
+    private static final int MAX_OUTPUT_TOKENS = 600;  // 종합 피드백 2-3문장 + 팁 3개
+    private static final int PROMPT_BUDGET_TOKENS = 900;
     
     /**
      * 점수와 포트폴리오 요약을 바탕으로 AI 피드백 생성
      */
     public AiFeedback generateFeedback(EvaluationScores scores, PortfolioSummary summary) {
-        String promptText = buildPrompt(scores, summary);
+        PromptAssembler.AssembledPrompt assembled = buildPrompt(scores, summary);
         
         try {
             // PromptTemplate을 우회하기 위해 직접 Prompt 생성
-            Prompt prompt = new Prompt(new UserMessage(promptText));
-            String response = chatClient.prompt(prompt)
+            Prompt prompt = new Prompt(new UserMessage(assembled.text()));
+            // 실제 사용량을 기록하고 분당 토큰 예상치와 정산
+            ChatResponse chatResponse = llmCallGuard.call("feedback", assembled.tokens() + MAX_OUTPUT_TOKENS, CALL_TIMEOUT, () -> chatClient.prompt(prompt)
                     .call()
-                    .content();
+                    .chatResponse(),
+                    result -> llmTokenMetrics.record("feedback", assembled, result, result.getResult().getOutput().getText()));
+            String response = chatResponse.getResult().getOutput().getText();
             
             log.debug("AI Response: {}", response);
             return parseResponse(response, scores);
@@ -46,6 +58,46 @@ public class AiFeedbackGenerator {
         }
     }
     
+    /**
+     * 피드백 스트리밍 생성
+     * 응답 조각이 도착할 때마다 overallFeedback / tips 텍스트를 listener로 전달하고,
+     * 스트림이 끝나면 완성된 피드백을 반환한다.
+     * 실패하거나 응답이 중간에 끊기면 기본 피드백을 반환하고 onFeedbackFallback으로 알린다.
+     * (이미 보낸 조각은 화면에서 버리도록)
+     */
+    public AiFeedback streamFeedback(EvaluationScores scores, PortfolioSummary summary, EvaluationStreamListener listener) {
+        PromptAssembler.AssembledPrompt assembled = buildPrompt(scores, summary);
+        FeedbackStreamParser parser = new FeedbackStreamParser(listener::onFeedbackDelta);
+        StringBuilder completion = new StringBuilder();
+        
+        try {
+            Prompt prompt = new Prompt(new UserMessage(assembled.text()));
+            // 스트리밍 응답에는 사용량이 없어 프롬프트 예상 토큰 + 받은 응답 길이로 기록 / 정산
+            llmCallGuard.call("feedbackStream", assembled.tokens() + MAX_OUTPUT_TOKENS, STREAM_TIMEOUT, () -> chatClient.prompt(prompt)
+                    .stream()
+                    .content()
+                    .doOnNext(parser::feed)
+                    .doOnNext(completion::append)
+                    .blockLast(),
+                    result -> llmTokenMetrics.record("feedbackStream", assembled, null, completion.toString()));
+        } catch (Exception e) {
+            log.error("AI 피드백 스트리밍 실패, 기본 피드백 반환", e);
+            return fallback(scores, listener);
+        }
+        
+        if (!parser.isComplete() || parser.getOverallFeedback() == null) {
+            log.warn("AI 스트리밍 응답이 완전하지 않아 기본 피드백 반환 - complete: {}", parser.isComplete());
+            return fallback(scores, listener);
+        }
+        return new AiFeedback(parser.getOverallFeedback(), parser.getTips());
+    }
+    
+    private AiFeedback fallback(EvaluationScores scores, EvaluationStreamListener listener) {
+        AiFeedback feedback = createDefaultFeedback(scores);
+        listener.onFeedbackFallback(feedback);
+        return feedback;
+    }
+    
     /**
      * AI 응답 파싱
      */
@@ -92,44 +144,58 @@ public class AiFeedbackGenerator {
         return response;
     }
     
-    private String buildPrompt(EvaluationScores scores, PortfolioSummary summary) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("당신은 개발자 포트폴리오 멘토입니다.\n");
-        sb.append("다음 평가 결과를 바탕으로 건설적인 피드백을 작성해주세요.\n\n");
-        
-        sb.append("## 중요 제약사항\n");
-        sb.append("- 이 서비스는 템플릿 기반 포트폴리오 빌더입니다\n");
-        sb.append("- 디자인, 레이아웃, 색상, 폰트 등 시각적 요소는 템플릿으로 제공되므로 언급하지 마세요\n");
-        sb.append("- 오직 '콘텐츠' 관련 피드백만 제공하세요 (자기소개, 프로젝트 설명, 기술스택, 트러블슈팅 등)\n\n");
-        
-        sb.append("## 평가 점수\n");
-        sb.append(String.format("- 총점: %d/100\n", scores.getTotal()));
-        sb.append(String.format("- 완성도: %d/25 %s\n", scores.getCompleteness(), formatDetails(scores.getCompletenessDetails())));
-        sb.append(String.format("- 기술력: %d/25 %s\n", scores.getTechnical(), formatDetails(scores.getTechnicalDetails())));
-        sb.append(String.format("- 트러블슈팅: %d/25 %s\n", scores.getTroubleshooting(), formatDetails(scores.getTroubleshootingDetails())));
-        sb.append(String.format("- 표현력: %d/15 %s\n", scores.getExpression(), formatDetails(scores.getExpressionDetails())));
-        sb.append(String.format("- 활동성: %d/10 %s\n\n", scores.getActivity(), formatDetails(scores.getActivityDetails())));
+    /**
+     * 피드백 프롬프트 생성 (토큰 예산 내에서 점수별 개선 항목 → 포트폴리오 요약 순으로 배분)
+     */
+    private PromptAssembler.AssembledPrompt buildPrompt(EvaluationScores scores, PortfolioSummary summary) {
+        PromptAssembler prompt = new PromptAssembler(PROMPT_BUDGET_TOKENS)
+            .fixed("""
+                당신은 개발자 포트폴리오 멘토입니다.
+                다음 평가 결과를 바탕으로 건설적인 피드백을 작성해주세요.
+                
+                ## 중요 제약사항
+                - 이 서비스는 템플릿 기반 포트폴리오 빌더입니다
+                - 디자인, 레이아웃, 색상, 폰트 등 시각적 요소는 템플릿으로 제공되므로 언급하지 마세요
+                - 오직 '콘텐츠' 관련 피드백만 제공하세요 (자기소개, 프로젝트 설명, 기술스택, 트러블슈팅 등)
+                
+                ## 평가 점수
+                """)
+            .fixed(String.format("- 총점: %d/100\n", scores.getTotal()));
         
-        sb.append("## 포트폴리오 요약\n");
-        sb.append(String.format("- 이름: %s\n", summary.getName() != null ? summary.getName() : "미입력"));
-        String skillsStr = summary.getSkills() != null && !summary.getSkills().isEmpty()
-            ? String.join(", ", summary.getSkills().subList(0, Math.min(5, summary.getSkills().size())))
-            : "미입력";
-        sb.append(String.format("- 스킬: %s\n", skillsStr));
-        sb.append(String.format("- 프로젝트 수: %d개\n", summary.getProjectCount()));
-        sb.append(String.format("- 트러블슈팅 수: %d개\n\n", summary.getTroubleshootingCount()));
+        scoreLine(prompt, "completeness", String.format("- 완성도: %d/25 ", scores.getCompleteness()), scores.getCompletenessDetails());
+        scoreLine(prompt, "technical", String.format("- 기술력: %d/25 ", scores.getTechnical()), scores.getTechnicalDetails());
+        scoreLine(prompt, "troubleshooting", String.format("- 트러블슈팅: %d/25 ", scores.getTroubleshooting()), scores.getTroubleshootingDetails());
+        scoreLine(prompt, "expression", String.format("- 표현력: %d/15 ", scores.getExpression()), scores.getExpressionDetails());
+        scoreLine(prompt, "activity", String.format("- 활동성: %d/10 ", scores.getActivity()), scores.getActivityDetails());
         
-        sb.append("응답 형식: JSON으로 응답해주세요.\n");
-        sb.append("필드: overallFeedback (전체 피드백 2-3문장), tips (개선 팁 3개 배열)\n");
+        prompt.fixed("\n## 포트폴리오 요약\n")
+            .fixed(String.format("- 이름: %s\n", summary.getName() != null ? summary.getName() : "미입력"));
+        List<String> skills = summary.getSkills() != null
+            ? summary.getSkills().subList(0, Math.min(5, summary.getSkills().size()))
+            : List.of();
+        if (skills.isEmpty()) {
+            prompt.fixed("- 스킬: 미입력\n");
+        } else {
+            prompt.items("skills", 2, 40, null, "- 스킬: ", skills, ", ", "\n");
+        }
         
-        return sb.toString();
+        return prompt
+            .fixed(String.format("- 프로젝트 수: %d개\n", summary.getProjectCount()))
+            .fixed(String.format("- 트러블슈팅 수: %d개\n\n", summary.getTroubleshootingCount()))
+            .fixed("응답 형식: JSON으로 응답해주세요.\n")
+            .fixed("필드: overallFeedback (전체 피드백 2-3문장), tips (개선 팁 3개 배열)\n")
+            .assemble();
     }
     
-    private String formatDetails(List<String> details) {
+    /**
+     * 점수 한 줄 (개선 항목은 예산 내에서 앞에서부터)
+     */
+    private void scoreLine(PromptAssembler prompt, String name, String label, List<String> details) {
         if (details == null || details.isEmpty()) {
-            return "(양호)";
+            prompt.fixed(label + "(양호)\n");
+            return;
         }
-        return "- 개선필요: " + String.join(", ", details);
+        prompt.items(name, 1, 90, null, label + "- 개선필요: ", details, ", ", "\n");
     }
     
     /**
@@ -153,6 +219,8 @@ public class AiFeedbackGenerator {
             "자기소개를 더 구체적으로 작성해보세요"
         );
         
-        return new AiFeedback(feedback, tips);
+        AiFeedback defaultFeedback = new AiFeedback(feedback, tips);
+        defaultFeedback.setFallback(true);
+        return defaultFeedback;
     }
 }
@@ -0,0 +1,95 @@
+package com.portfolio.builder.ai.application;
+
+import com.portfolio.builder.ai.dto.CohortEvaluationStatus;
+import com.portfolio.builder.ai.dto.EvaluationJobStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 반 일괄 평가 진행 상태 (실행 인스턴스 메모리, 다른 인스턴스에는 CohortEvaluationStore로 공유)
+ */
+@Getter
+class CohortEvaluationBatch {
+
+    private final String batchId;
+    private final String branch;
+    private final String classroom;
+    private final String cohort;
+    private final Long requestedBy;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+
+    private final AtomicInteger evaluated = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger scoresUpdated = new AtomicInteger();
+
+    private volatile EvaluationJobStatus status = EvaluationJobStatus.QUEUED;
+    private volatile int total;
+    private volatile LocalDateTime finishedAt;
+
+    // 저장 대기 중인 점수 [aiScore, portfolioId] (UPDATE 바인딩 순서)
+    private final List<Object[]> pendingScores = new ArrayList<>();
+
+    CohortEvaluationBatch(String batchId, String branch, String classroom, String cohort, Long requestedBy) {
+        this.batchId = batchId;
+        this.branch = branch;
+        this.classroom = classroom;
+        this.cohort = cohort;
+        this.requestedBy = requestedBy;
+    }
+
+    String cohortKey() {
+        return cohortKey(branch, classroom, cohort);
+    }
+
+    static String cohortKey(String branch, String classroom, String cohort) {
+        return branch + ":" + classroom + ":" + cohort;
+    }
+
+    void start(int total) {
+        this.total = total;
+        this.status = EvaluationJobStatus.RUNNING;
+    }
+
+    void finish(EvaluationJobStatus status) {
+        this.status = status;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 점수 저장 대기열에 추가
+     * @return 대기열이 flushSize 이상이면 꺼낸 목록, 아니면 null
+     */
+    synchronized List<Object[]> addPendingScore(Long portfolioId, int aiScore, int flushSize) {
+        pendingScores.add(new Object[]{aiScore, portfolioId});
+        return pendingScores.size() >= flushSize ? drainPendingScores() : null;
+    }
+
+    synchronized List<Object[]> drainPendingScores() {
+        List<Object[]> drained = new ArrayList<>(pendingScores);
+        pendingScores.clear();
+        return drained;
+    }
+
+    CohortEvaluationStatus toStatus() {
+        return CohortEvaluationStatus.builder()
+                .batchId(batchId)
+                .branch(branch)
+                .classroom(classroom)
+                .cohort(cohort)
+                .status(status)
+                .total(total)
+                .evaluated(evaluated.get())
+                .skipped(skipped.get())
+                .failed(failed.get())
+                .scoresUpdated(scoresUpdated.get())
+                .requestedBy(requestedBy)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .build();
+    }
+}
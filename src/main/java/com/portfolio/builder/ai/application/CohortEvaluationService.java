@@ -0,0 +1,220 @@
+package com.portfolio.builder.ai.application;
+
+import com.portfolio.builder.ai.dto.CohortEvaluationStatus;
+import com.portfolio.builder.ai.dto.EvaluationJobStatus;
+import com.portfolio.builder.member.domain.Member;
+import com.portfolio.builder.member.domain.MemberRepository;
+import com.portfolio.builder.portfolio.domain.PortfolioRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 반(지점/강의실/기수) 일괄 AI 평가 (운영팀/강사/관리자)
+ * - 포트폴리오를 작업 큐로 돌리되 동시 평가 수는 ai.batch.concurrency로 제한
+ *   (LLM 동시 호출 / 분당 토큰은 LlmCallGuard가 전체 인스턴스 합계로 제한)
+ * - 진행 상황은 CohortEvaluationStore(Redis)에 저장해 어느 인스턴스에서든 조회 가능, 같은 반은 인스턴스 간에도 1개만 진행
+ * - 콘텐츠 다이제스트가 같으면 AI 호출 없이 이전 결과 재사용 (skipped)
+ * - aiScore는 모아서 JDBC 배치로 갱신
+ * - 회원별 평가 횟수 제한(RateLimitService)은 적용하지 않음
+ */
+@Service
+@Slf4j
+public class CohortEvaluationService {
+
+    private static final Duration BATCH_RETENTION = Duration.ofHours(24);
+    private static final int SCORE_FLUSH_SIZE = 50;
+    private static final String UPDATE_SCORE_SQL = "UPDATE TB_PORTFOLIO_PF SET ai_score = ? WHERE id = ?";
+
+    private final PortfolioEvaluationService evaluationService;
+    private final PortfolioRepository portfolioRepository;
+    private final MemberRepository memberRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final CohortEvaluationStore batchStore;
+    private final int batchConcurrency;
+
+    private final Map<String, CohortEvaluationBatch> batches = new ConcurrentHashMap<>();
+    private final Map<String, String> activeBatchIds = new ConcurrentHashMap<>();  // cohortKey → batchId
+
+    public CohortEvaluationService(
+            PortfolioEvaluationService evaluationService,
+            PortfolioRepository portfolioRepository,
+            MemberRepository memberRepository,
+            JdbcTemplate jdbcTemplate,
+            CohortEvaluationStore batchStore,
+            @Value("${ai.batch.concurrency:2}") int batchConcurrency) {
+        this.evaluationService = evaluationService;
+        this.portfolioRepository = portfolioRepository;
+        this.memberRepository = memberRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchStore = batchStore;
+        this.batchConcurrency = batchConcurrency;
+    }
+
+    /**
+     * 일괄 평가 시작 (같은 반이 진행 중이면 그 작업 반환)
+     */
+    public CohortEvaluationStatus start(Long memberId, String branch, String classroom, String cohort) {
+        validateStaff(memberId);
+
+        CohortEvaluationBatch[] created = new CohortEvaluationBatch[1];
+        String[] remoteBatchId = new String[1];
+        String batchId = activeBatchIds.computeIfAbsent(CohortEvaluationBatch.cohortKey(branch, classroom, cohort), key -> {
+            CohortEvaluationBatch batch = new CohortEvaluationBatch(UUID.randomUUID().toString(), branch, classroom, cohort, memberId);
+            // 합류하는 다른 인스턴스가 바로 조회할 수 있도록 선점 전에 저장
+            batchStore.save(batch.toStatus());
+            String activeBatchId = batchStore.claimActive(key, batch.getBatchId());
+            if (!activeBatchId.equals(batch.getBatchId())) {
+                batchStore.delete(batch.getBatchId());
+                remoteBatchId[0] = activeBatchId;
+                return null;
+            }
+            batches.put(batch.getBatchId(), batch);
+            created[0] = batch;
+            return batch.getBatchId();
+        });
+
+        // 다른 인스턴스에서 진행 중인 같은 반
+        if (remoteBatchId[0] != null) {
+            return findStoredStatus(remoteBatchId[0]);
+        }
+        if (created[0] == null) {
+            return batches.get(batchId).toStatus();
+        }
+
+        CohortEvaluationBatch batch = created[0];
+        Thread.ofVirtual().name("cohort-evaluation-" + batchId).start(() -> run(batch));
+        log.info("Cohort evaluation started - batchId: {}, cohort: {}, requestedBy: {}", batchId, batch.cohortKey(), memberId);
+        return batch.toStatus();
+    }
+
+    /**
+     * 진행 상황 조회 (다른 인스턴스에서 실행 중이면 Redis에서 조회)
+     */
+    public CohortEvaluationStatus getStatus(Long memberId, String batchId) {
+        validateStaff(memberId);
+        CohortEvaluationBatch batch = batches.get(batchId);
+        return batch != null ? batch.toStatus() : findStoredStatus(batchId);
+    }
+
+    /**
+     * 완료 후 보관 시간이 지난 작업 정리
+     */
+    @Scheduled(fixedDelay = 3_600_000)
+    public void evictFinishedBatches() {
+        LocalDateTime threshold = LocalDateTime.now().minus(BATCH_RETENTION);
+        batches.values().removeIf(batch -> batch.getFinishedAt() != null && batch.getFinishedAt().isBefore(threshold));
+    }
+
+    private void run(CohortEvaluationBatch batch) {
+        long startedAt = System.currentTimeMillis();
+        try {
+            List<Long> portfolioIds = portfolioRepository.findIdsByMemberBranchAndClassroomAndCohort(
+                    batch.getBranch(), batch.getClassroom(), batch.getCohort());
+            batch.start(portfolioIds.size());
+            saveProgress(batch);
+
+            Semaphore slots = new Semaphore(batchConcurrency);
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (Long portfolioId : portfolioIds) {
+                    slots.acquire();
+                    executor.submit(() -> {
+                        try {
+                            evaluateOne(batch, portfolioId);
+                            saveProgress(batch);
+                        } finally {
+                            slots.release();
+                        }
+                    });
+                }
+            }  // 모든 평가가 끝날 때까지 대기
+
+            flushScores(batch, batch.drainPendingScores());
+            batch.finish(EvaluationJobStatus.COMPLETED);
+        } catch (Exception e) {
+            log.error("Cohort evaluation failed - batchId: {}", batch.getBatchId(), e);
+            flushScores(batch, batch.drainPendingScores());
+            batch.finish(EvaluationJobStatus.FAILED);
+        } finally {
+            // 완료 상태를 저장한 뒤 선점 해제
+            saveProgress(batch);
+            activeBatchIds.remove(batch.cohortKey(), batch.getBatchId());
+            batchStore.releaseActive(batch.cohortKey(), batch.getBatchId());
+            log.info("Cohort evaluation finished - {}, elapsed: {}ms", batch.toStatus(), System.currentTimeMillis() - startedAt);
+        }
+    }
+
+    private void evaluateOne(CohortEvaluationBatch batch, Long portfolioId) {
+        try {
+            PortfolioEvaluationService.EvaluationOutcome outcome = evaluationService.evaluateForBatch(portfolioId);
+            (outcome.cached() ? batch.getSkipped() : batch.getEvaluated()).incrementAndGet();
+
+            int score = outcome.response().getTotalScore();
+            if (!Objects.equals(score, outcome.previousScore())) {
+                List<Object[]> drained = batch.addPendingScore(portfolioId, score, SCORE_FLUSH_SIZE);
+                if (drained != null) {
+                    flushScores(batch, drained);
+                }
+            }
+        } catch (Exception e) {
+            batch.getFailed().incrementAndGet();
+            log.warn("Cohort evaluation item failed - batchId: {}, portfolioId: {}: {}",
+                    batch.getBatchId(), portfolioId, e.getMessage());
+        }
+    }
+
+    /**
+     * 진행 상황 저장 (동시에 끝난 항목끼리 이전 상황으로 덮어쓰지 않도록 작업 단위로 순서 보장)
+     */
+    private void saveProgress(CohortEvaluationBatch batch) {
+        synchronized (batch) {
+            batchStore.save(batch.toStatus());
+        }
+    }
+
+    private CohortEvaluationStatus findStoredStatus(String batchId) {
+        return batchStore.find(batchId)
+                .orElseThrow(() -> new RuntimeException("일괄 평가 작업을 찾을 수 없습니다."));
+    }
+
+    /**
+     * aiScore 배치 갱신
+     */
+    private void flushScores(CohortEvaluationBatch batch, List<Object[]> scores) {
+        if (scores.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SCORE_SQL, scores);
+            batch.getScoresUpdated().addAndGet(scores.size());
+        } catch (Exception e) {
+            log.error("Failed to update AI scores - batchId: {}, count: {}", batch.getBatchId(), scores.size(), e);
+        }
+    }
+
+    /**
+     * 운영팀 / 강사 / 관리자만 가능
+     */
+    private void validateStaff(Long memberId) {
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다"));
+        String position = member.getPosition();
+        boolean isStaff = "운영팀".equals(position) || "강사".equals(position);
+        if (!isStaff && member.getRole() != Member.Role.ADMIN) {
+            throw new IllegalStateException("일괄 평가는 강사 또는 운영팀만 요청할 수 있습니다");
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.portfolio.builder.ai.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.builder.ai.dto.CohortEvaluationStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 반 일괄 평가 진행 상황 공유 (Redis, 인스턴스 간)
+ * - 실행 인스턴스가 진행 상황이 바뀔 때마다 저장 → 다른 인스턴스에서도 조회 가능
+ * - 반당 진행 중인 일괄 평가 1개를 SETNX로 선점 (진행 중에는 저장할 때마다 만료 연장)
+ * Redis 장애 시 인스턴스 내 상태만으로 동작
+ *
+ * ai:cohort-batch:{batchId}         → 진행 상황
+ * ai:cohort-active:{cohortKey}      → batchId
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+class CohortEvaluationStore {
+
+    private static final String BATCH_PREFIX = "ai:cohort-batch:";
+    private static final String ACTIVE_PREFIX = "ai:cohort-active:";
+    private static final Duration BATCH_TTL = Duration.ofHours(24);    // 완료 작업 보관 시간과 같음
+    private static final Duration ACTIVE_TTL = Duration.ofMinutes(30);  // 실행 인스턴스가 죽어도 선점이 풀리도록
+
+    // 선점한 작업일 때만 해제 / 연장
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+    private static final RedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    void save(CohortEvaluationStatus status) {
+        try {
+            redisTemplate.opsForValue().set(BATCH_PREFIX + status.getBatchId(), objectMapper.writeValueAsString(status), BATCH_TTL);
+            if (!status.getStatus().isFinished()) {
+                redisTemplate.execute(EXTEND_SCRIPT, List.of(activeKey(status)),
+                        status.getBatchId(), String.valueOf(ACTIVE_TTL.toMillis()));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to save cohort evaluation progress - batchId: {}: {}", status.getBatchId(), e.getMessage());
+        }
+    }
+
+    Optional<CohortEvaluationStatus> find(String batchId) {
+        try {
+            String stored = redisTemplate.opsForValue().get(BATCH_PREFIX + batchId);
+            return stored != null ? Optional.of(objectMapper.readValue(stored, CohortEvaluationStatus.class)) : Optional.empty();
+        } catch (Exception e) {
+            log.warn("Failed to load cohort evaluation progress - batchId: {}: {}", batchId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    void delete(String batchId) {
+        try {
+            redisTemplate.delete(BATCH_PREFIX + batchId);
+        } catch (Exception e) {
+            log.warn("Failed to delete cohort evaluation progress - batchId: {}: {}", batchId, e.getMessage());
+        }
+    }
+
+    /**
+     * 진행 중인 일괄 평가로 선점 (상태가 없거나 이미 끝난 이전 선점은 정리 후 다시 시도)
+     * @return 선점했거나 Redis 장애면 batchId, 같은 반이 진행 중이면 그 작업 ID
+     */
+    String claimActive(String cohortKey, String batchId) {
+        String key = ACTIVE_PREFIX + cohortKey;
+        try {
+            for (int attempt = 0; attempt < 2; attempt++) {
+                if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, batchId, ACTIVE_TTL))) {
+                    return batchId;
+                }
+                String activeBatchId = redisTemplate.opsForValue().get(key);
+                if (activeBatchId == null) {
+                    continue;
+                }
+                Optional<CohortEvaluationStatus> active = find(activeBatchId);
+                if (active.isPresent() && !active.get().getStatus().isFinished()) {
+                    return activeBatchId;
+                }
+                redisTemplate.execute(RELEASE_SCRIPT, List.of(key), activeBatchId);
+            }
+            log.warn("Could not claim cohort evaluation - cohort: {}", cohortKey);
+        } catch (Exception e) {
+            log.warn("Failed to claim cohort evaluation, using local state only: {}", e.getMessage());
+        }
+        return batchId;
+    }
+
+    void releaseActive(String cohortKey, String batchId) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(ACTIVE_PREFIX + cohortKey), batchId);
+        } catch (Exception e) {
+            log.warn("Failed to release cohort evaluation claim - batchId: {}: {}", batchId, e.getMessage());
+        }
+    }
+
+    private String activeKey(CohortEvaluationStatus status) {
+        return ACTIVE_PREFIX + CohortEvaluationBatch.cohortKey(status.getBranch(), status.getClassroom(), status.getCohort());
+    }
+}
@@ -0,0 +1,167 @@
+package com.portfolio.builder.ai.application;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.portfolio.builder.ai.dto.PortfolioData;
+import com.portfolio.builder.portfolio.domain.Troubleshooting;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 평가 입력 콘텐츠 다이제스트 (SHA-256)
+ * 섹션(PortfolioSection)별로 정규화한 뒤 해시하고, 전체 다이제스트는 섹션 다이제스트를 합쳐 만든다.
+ * - 객체 키 정렬, 문자열 앞뒤 공백 제거, null / 빈 값 제거
+ * - 트러블슈팅은 조회 순서(최신순) 유지 (AI 프롬프트에 첫 항목이 쓰임)
+ * - 점수와 무관한 값(프로필 이미지, 색상 테마)은 제외
+ * 평가 로직이 바뀌면 EVALUATION_VERSION을 올려 기존 캐시를 무효화한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EvaluationDigest {
+
+    private static final String EVALUATION_VERSION = "v2";
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 전체 다이제스트 (평가 결과 캐시 키)
+     */
+    public String digest(PortfolioData data, List<Troubleshooting> troubleshootings,
+                         Boolean showContributionGraph, String contributionGraphSnapshot) {
+        return digest(sectionDigests(data, troubleshootings, showContributionGraph, contributionGraphSnapshot));
+    }
+
+    /**
+     * 섹션 다이제스트를 합친 전체 다이제스트
+     */
+    public String digest(Map<PortfolioSection, String> sectionDigests) {
+        StringBuilder sb = new StringBuilder(EVALUATION_VERSION);
+        for (PortfolioSection section : PortfolioSection.values()) {
+            sb.append('|').append(sectionDigests.get(section));
+        }
+        return sha256(sb.toString());
+    }
+
+    /**
+     * 섹션별 다이제스트 (내용이 같은 섹션은 포트폴리오가 달라도 같은 값)
+     */
+    public Map<PortfolioSection, String> sectionDigests(PortfolioData data, List<Troubleshooting> troubleshootings,
+                                                        Boolean showContributionGraph, String contributionGraphSnapshot) {
+        Map<PortfolioSection, String> digests = new EnumMap<>(PortfolioSection.class);
+
+        ObjectNode profile = JsonNodeFactory.instance.objectNode();
+        profile.put("name", data.getName());
+        profile.put("email", data.getEmail());
+        profile.put("phone", data.getPhone());
+        profile.put("introduction", data.getIntroduction());
+        digests.put(PortfolioSection.PROFILE, sectionDigest(PortfolioSection.PROFILE, profile));
+
+        digests.put(PortfolioSection.SKILLS, sectionDigest(PortfolioSection.SKILLS,
+                objectMapper.valueToTree(data.getSkills())));
+        digests.put(PortfolioSection.PROJECTS, sectionDigest(PortfolioSection.PROJECTS,
+                objectMapper.valueToTree(data.getProjects())));
+
+        ObjectNode education = JsonNodeFactory.instance.objectNode();
+        education.set("educations", objectMapper.valueToTree(data.getEducations()));
+        education.set("experiences", objectMapper.valueToTree(data.getExperiences()));
+        education.set("certificates", objectMapper.valueToTree(data.getCertificates()));
+        digests.put(PortfolioSection.EDUCATION, sectionDigest(PortfolioSection.EDUCATION, education));
+
+        ArrayNode troubleshootingNodes = JsonNodeFactory.instance.arrayNode();
+        for (Troubleshooting t : troubleshootings) {
+            ObjectNode node = troubleshootingNodes.addObject();
+            node.put("category", t.getCategory() != null ? t.getCategory().name() : null);
+            node.put("problem", t.getProblem());
+            node.put("cause", t.getCause());
+            node.put("solution", t.getSolution());
+            node.put("lesson", t.getLesson());
+            node.put("causeCode", t.getCauseCode());
+            node.put("solutionCode", t.getSolutionCode());
+            node.put("codeLanguage", t.getCodeLanguage());
+        }
+        digests.put(PortfolioSection.TROUBLESHOOTING, sectionDigest(PortfolioSection.TROUBLESHOOTING, troubleshootingNodes));
+
+        ObjectNode activity = JsonNodeFactory.instance.objectNode();
+        activity.put("showContributionGraph", Boolean.TRUE.equals(showContributionGraph));
+        activity.set("contributionGraphSnapshot", parseSnapshot(contributionGraphSnapshot));
+        digests.put(PortfolioSection.ACTIVITY, sectionDigest(PortfolioSection.ACTIVITY, activity));
+
+        return digests;
+    }
+
+    private String sectionDigest(PortfolioSection section, JsonNode content) {
+        JsonNode normalized = content != null ? normalize(content) : JsonNodeFactory.instance.nullNode();
+        return sha256(EVALUATION_VERSION + "|" + section.name() + "|" + normalized);
+    }
+
+    /**
+     * SHA-256 16진수 문자열
+     */
+    static String sha256(String text) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private JsonNode parseSnapshot(String snapshot) {
+        if (snapshot == null || snapshot.isBlank()) {
+            return JsonNodeFactory.instance.nullNode();
+        }
+        try {
+            return objectMapper.readTree(snapshot);
+        } catch (Exception e) {
+            return JsonNodeFactory.instance.textNode(snapshot);  // JSON이 아니면 원문 그대로
+        }
+    }
+
+    /**
+     * 정규화 (키 정렬 / 문자열 trim / null·빈 값 제거)
+     */
+    private JsonNode normalize(JsonNode node) {
+        if (node.isObject()) {
+            Map<String, JsonNode> sorted = new TreeMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                JsonNode value = normalize(field.getValue());
+                if (!isEmpty(value)) {
+                    sorted.put(field.getKey(), value);
+                }
+            }
+            ObjectNode normalized = JsonNodeFactory.instance.objectNode();
+            sorted.forEach(normalized::set);
+            return normalized;
+        }
+        if (node.isArray()) {
+            ArrayNode normalized = JsonNodeFactory.instance.arrayNode();
+            node.forEach(element -> normalized.add(normalize(element)));
+            return normalized;
+        }
+        if (node.isTextual()) {
+            return JsonNodeFactory.instance.textNode(node.asText().trim());
+        }
+        return node;
+    }
+
+    private boolean isEmpty(JsonNode node) {
+        return node.isNull()
+                || (node.isTextual() && node.asText().isEmpty())
+                || (node.isContainerNode() && node.isEmpty());
+    }
+}
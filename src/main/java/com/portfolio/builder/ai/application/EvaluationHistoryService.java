@@ -0,0 +1,144 @@
+package com.portfolio.builder.ai.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.builder.ai.domain.PortfolioEvaluation;
+import com.portfolio.builder.ai.domain.PortfolioEvaluationRepository;
+import com.portfolio.builder.ai.dto.EvaluationHistoryItem;
+import com.portfolio.builder.ai.dto.EvaluationResponse;
+import com.portfolio.builder.ai.dto.ScoreBreakdown;
+import com.portfolio.builder.ai.dto.ScoreDetail;
+import com.portfolio.builder.portfolio.domain.Portfolio;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 평가 결과 저장 / 조회
+ * - 평가할 때마다 TB_PORTFOLIO_EVALUATION에 한 건 저장 (직전 평가와 콘텐츠가 같으면 저장하지 않음)
+ * - 최근 평가는 Redis에 포트폴리오별로 캐싱 → 리포트 화면 재진입 시 DB / LLM 없이 응답
+ * Redis 장애 시 DB에서 조회
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EvaluationHistoryService {
+
+    private static final String LATEST_PREFIX = "ai:evaluation:latest:";
+    private static final Duration LATEST_TTL = Duration.ofDays(7);
+
+    private final PortfolioEvaluationRepository portfolioEvaluationRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 저장된 평가
+     * @param contentDigest 평가 당시 콘텐츠 다이제스트
+     */
+    public record StoredEvaluation(Long evaluationId, String contentDigest, EvaluationResponse response) {}
+
+    /**
+     * 평가 결과 저장 (직전 평가와 다이제스트가 같으면 건너뜀 - 캐시 재사용 결과)
+     * 저장 실패는 평가 응답에 영향을 주지 않음
+     * @return 새로 저장했는지
+     */
+    public boolean record(Portfolio portfolio, String contentDigest, EvaluationResponse response) {
+        try {
+            Optional<StoredEvaluation> latest = findLatest(portfolio.getId());
+            if (latest.isPresent() && latest.get().contentDigest().equals(contentDigest)) {
+                return false;
+            }
+
+            ScoreBreakdown breakdown = response.getBreakdown();
+            PortfolioEvaluation saved = portfolioEvaluationRepository.save(PortfolioEvaluation.builder()
+                .portfolio(portfolio)
+                .totalScore(response.getTotalScore())
+                .completenessScore(score(breakdown.getCompleteness()))
+                .technicalScore(score(breakdown.getTechnical()))
+                .troubleshootingScore(score(breakdown.getTroubleshooting()))
+                .expressionScore(score(breakdown.getExpression()))
+                .activityScore(score(breakdown.getActivity()))
+                .contentDigest(contentDigest)
+                .result(objectMapper.writeValueAsString(response))
+                .evaluatedAt(response.getEvaluatedAt() != null ? response.getEvaluatedAt() : LocalDateTime.now())
+                .build());
+            cacheLatest(portfolio.getId(), new StoredEvaluation(saved.getId(), contentDigest, response));
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to record evaluation - portfolioId: {}: {}", portfolio.getId(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 가장 최근 평가 (캐시 → DB)
+     */
+    public Optional<StoredEvaluation> findLatest(Long portfolioId) {
+        Optional<StoredEvaluation> cached = getCachedLatest(portfolioId);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        Optional<StoredEvaluation> latest = portfolioEvaluationRepository
+            .findFirstByPortfolioIdOrderByEvaluatedAtDescIdDesc(portfolioId)
+            .map(this::toStored);
+        latest.ifPresent(stored -> cacheLatest(portfolioId, stored));
+        return latest;
+    }
+
+    /**
+     * 점수 추이 (최신순)
+     */
+    public Slice<EvaluationHistoryItem> findHistory(Long portfolioId, int page, int size) {
+        return portfolioEvaluationRepository.findHistory(portfolioId, PageRequest.of(page, size));
+    }
+
+    /**
+     * 포트폴리오의 평가 기록 삭제 (포트폴리오 삭제 / 회원 탈퇴용, 호출부 트랜잭션 안에서 실행)
+     */
+    public void deleteAll(Long portfolioId) {
+        portfolioEvaluationRepository.deleteAllByPortfolioId(portfolioId);
+        try {
+            redisTemplate.delete(LATEST_PREFIX + portfolioId);
+        } catch (Exception e) {
+            log.warn("Latest evaluation cache evict failed: {}", e.getMessage());
+        }
+    }
+
+    private StoredEvaluation toStored(PortfolioEvaluation evaluation) {
+        try {
+            return new StoredEvaluation(evaluation.getId(), evaluation.getContentDigest(),
+                objectMapper.readValue(evaluation.getResult(), EvaluationResponse.class));
+        } catch (Exception e) {
+            throw new IllegalStateException("저장된 평가 결과를 읽을 수 없습니다", e);
+        }
+    }
+
+    private int score(ScoreDetail detail) {
+        return detail != null ? detail.getScore() : 0;
+    }
+
+    private Optional<StoredEvaluation> getCachedLatest(Long portfolioId) {
+        try {
+            String cached = redisTemplate.opsForValue().get(LATEST_PREFIX + portfolioId);
+            return cached != null ? Optional.of(objectMapper.readValue(cached, StoredEvaluation.class)) : Optional.empty();
+        } catch (Exception e) {
+            log.warn("Latest evaluation cache get failed: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void cacheLatest(Long portfolioId, StoredEvaluation stored) {
+        try {
+            redisTemplate.opsForValue().set(LATEST_PREFIX + portfolioId, objectMapper.writeValueAsString(stored), LATEST_TTL);
+        } catch (Exception e) {
+            log.warn("Latest evaluation cache set failed: {}", e.getMessage());
+        }
+    }
+}
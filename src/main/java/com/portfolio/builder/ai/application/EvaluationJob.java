@@ -0,0 +1,64 @@
+package com.portfolio.builder.ai.application;
+
+import com.portfolio.builder.ai.dto.EvaluationJobResponse;
+import com.portfolio.builder.ai.dto.EvaluationJobStatus;
+import com.portfolio.builder.ai.dto.EvaluationResponse;
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 평가 작업 상태 (메모리 보관)
+ * 상태 전이와 구독자 알림은 작업 단위로 동기화한다.
+ */
+@Getter
+class EvaluationJob {
+
+    private final String jobId;
+    private final Long portfolioId;
+    private final Long memberId;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    private volatile EvaluationJobStatus status = EvaluationJobStatus.QUEUED;
+    private volatile EvaluationResponse result;
+    private volatile String errorMessage;
+    private volatile LocalDateTime completedAt;
+
+    EvaluationJob(String jobId, Long portfolioId, Long memberId) {
+        this.jobId = jobId;
+        this.portfolioId = portfolioId;
+        this.memberId = memberId;
+    }
+
+    synchronized void markRunning() {
+        this.status = EvaluationJobStatus.RUNNING;
+    }
+
+    synchronized void complete(EvaluationResponse result) {
+        this.result = result;
+        this.status = EvaluationJobStatus.COMPLETED;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    synchronized void fail(String errorMessage) {
+        this.errorMessage = errorMessage;
+        this.status = EvaluationJobStatus.FAILED;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    synchronized EvaluationJobResponse toResponse() {
+        return EvaluationJobResponse.builder()
+                .jobId(jobId)
+                .portfolioId(portfolioId)
+                .status(status)
+                .result(result)
+                .errorMessage(errorMessage)
+                .createdAt(createdAt)
+                .completedAt(completedAt)
+                .build();
+    }
+}
@@ -0,0 +1,441 @@
+package com.portfolio.builder.ai.application;
+
+import com.portfolio.builder.ai.dto.AiFeedback;
+import com.portfolio.builder.ai.dto.EvaluationJobResponse;
+import com.portfolio.builder.ai.dto.EvaluationJobStatus;
+import com.portfolio.builder.ai.dto.EvaluationResponse;
+import com.portfolio.builder.ai.dto.FeedbackDelta;
+import com.portfolio.builder.global.ratelimit.RateLimitExceededException;
+import com.portfolio.builder.global.ratelimit.RateLimitService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 포트폴리오 평가 작업 관리
+ * - 요청은 작업으로 등록하고 즉시 작업 ID 반환 (요청 스레드는 LLM 응답을 기다리지 않음)
+ * - 고정 크기 워커 풀 + 유한 대기열에서 실행 (워커는 인스턴스별, LLM 동시 호출은 LlmCallGuard가 전체 인스턴스 합계로 제한)
+ * - 회원 + 포트폴리오당 진행 중인 작업은 1개 (중복 요청 시 기존 작업 반환, 인스턴스 간에도 EvaluationJobStore로 선점)
+ * - 평가 횟수(RateLimitService)는 새 작업을 등록할 때만 차감하고, 등록하지 못하면 되돌린다.
+ * - 상태는 조회(폴링) 또는 SSE 구독으로 확인
+ *   (SSE: status, ruleScores → scores → feedback 조각 → 완료 status 순,
+ *    AI 피드백 실패 시 feedbackFallback으로 기본 피드백을 보내고 이전 조각은 무효)
+ * - 다른 인스턴스에서 실행 중인 작업은 Redis에 저장된 상태로 조회하고,
+ *   SSE 구독은 상태가 바뀔 때마다 status 이벤트만 전달한다. (중간 결과 / 피드백 조각 없음)
+ */
+@Service
+@Slf4j
+public class EvaluationJobService {
+
+    private static final Duration JOB_RETENTION = Duration.ofHours(1);   // 완료 작업 보관 시간
+    private static final Duration SSE_TIMEOUT = Duration.ofMinutes(3);
+    private static final String EVENT_STATUS = "status";
+    private static final String EVENT_RULE_SCORES = "ruleScores";
+    private static final String EVENT_SCORES = "scores";
+    private static final String EVENT_FEEDBACK = "feedback";
+    private static final String EVENT_FEEDBACK_FALLBACK = "feedbackFallback";
+    private static final String QUEUE_FULL_MESSAGE = "평가 요청이 많습니다. 잠시 후 다시 시도해주세요.";
+    private static final String RATE_LIMIT_MESSAGE = "일일 AI 평가 횟수를 초과했습니다. 내일 다시 시도해주세요.";
+
+    private final PortfolioEvaluationService evaluationService;
+    private final EvaluationJobStore jobStore;
+    private final RateLimitService rateLimitService;
+    private final ThreadPoolExecutor workers;
+
+    private final Map<String, EvaluationJob> jobs = new ConcurrentHashMap<>();
+    private final Map<JobKey, String> activeJobIds = new ConcurrentHashMap<>();  // (memberId, portfolioId) → jobId
+    private final Map<String, RemoteSubscription> remoteSubscriptions = new ConcurrentHashMap<>();  // 다른 인스턴스 작업 jobId → 구독자
+
+    public EvaluationJobService(
+            PortfolioEvaluationService evaluationService,
+            EvaluationJobStore jobStore,
+            RateLimitService rateLimitService,
+            @Value("${ai.evaluation.workers:4}") int workerCount,
+            @Value("${ai.evaluation.queue-capacity:100}") int queueCapacity) {
+        this.evaluationService = evaluationService;
+        this.jobStore = jobStore;
+        this.rateLimitService = rateLimitService;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(
+                workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "evaluation-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 평가 작업 등록 (진행 중인 작업이 있으면 횟수 차감 없이 그 작업 반환)
+     * @throws RateLimitExceededException 평가 횟수를 모두 쓴 경우
+     * @throws RejectedExecutionException 대기열이 가득 찬 경우 (차감한 횟수는 되돌림)
+     */
+    public EvaluationJobResponse submit(Long portfolioId, Long memberId) {
+        return enqueue(portfolioId, memberId, null);
+    }
+
+    /**
+     * 평가 작업 등록과 동시에 구독 (스트리밍 평가)
+     * 실행 전에 구독자를 등록하므로 규칙 점수 / 피드백 조각 이벤트를 빠짐없이 받는다.
+     * @throws RateLimitExceededException 평가 횟수를 모두 쓴 경우
+     * @throws RejectedExecutionException 대기열이 가득 찬 경우 (차감한 횟수는 되돌림)
+     */
+    public SseEmitter submitAndSubscribe(Long portfolioId, Long memberId) {
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT.toMillis());
+        enqueue(portfolioId, memberId, emitter);
+        return emitter;
+    }
+
+    /**
+     * 이미 끝난 평가 결과를 SSE 한 건으로 전달 (캐시 적중 시)
+     */
+    public SseEmitter completed(EvaluationJobResponse response) {
+        SseEmitter emitter = new SseEmitter();
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(EVENT_STATUS)
+                    .data(response));
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    /**
+     * 작업 상태 조회 (본인 작업만, 다른 인스턴스 작업은 Redis에서 조회)
+     */
+    public EvaluationJobResponse getJob(String jobId, Long memberId) {
+        EvaluationJob job = findLocalJob(jobId, memberId);
+        return job != null ? job.toResponse() : findStoredJob(jobId, memberId);
+    }
+
+    /**
+     * 작업 상태 구독 (SSE)
+     * 현재 상태를 먼저 보내고 이후 이벤트를 전달하며, 완료/실패 시 스트림을 닫는다.
+     * (구독 이전에 지난 중간 결과는 다시 보내지 않음)
+     */
+    public SseEmitter subscribe(String jobId, Long memberId) {
+        EvaluationJob job = findLocalJob(jobId, memberId);
+        EvaluationJobResponse stored = job == null ? findStoredJob(jobId, memberId) : null;
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT.toMillis());
+        if (job != null) {
+            attach(job, emitter);
+        } else {
+            attachRemote(stored, emitter);
+        }
+        return emitter;
+    }
+
+    /**
+     * 완료 후 보관 시간이 지난 작업 정리
+     */
+    @Scheduled(fixedDelay = 600_000)
+    public void evictFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minus(JOB_RETENTION);
+        jobs.values().removeIf(job -> job.getCompletedAt() != null && job.getCompletedAt().isBefore(threshold));
+    }
+
+    /**
+     * 다른 인스턴스에서 실행 중인 작업의 상태 변화를 구독자에게 전달
+     */
+    @Scheduled(fixedDelay = 1_000)
+    public void relayRemoteJobs() {
+        for (String jobId : remoteSubscriptions.keySet()) {
+            EvaluationJobResponse job = jobStore.find(jobId).map(EvaluationJobStore.StoredJob::job).orElse(null);
+            remoteSubscriptions.computeIfPresent(jobId, (id, subscription) -> relay(subscription, job) ? null : subscription);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    /**
+     * 진행 중인 작업 확인 → 선점 → 횟수 차감 → 실행을 (회원, 포트폴리오) 단위로 한 번에 처리
+     * 같은 인스턴스의 동시 요청은 activeJobIds로, 다른 인스턴스와는 EvaluationJobStore 선점으로 하나만 새 작업이 된다.
+     */
+    private EvaluationJobResponse enqueue(Long portfolioId, Long memberId, SseEmitter emitter) {
+        JobKey key = new JobKey(memberId, portfolioId);
+        EvaluationJob[] created = new EvaluationJob[1];
+        String[] remoteJobId = new String[1];
+        String jobId = activeJobIds.computeIfAbsent(key, k -> {
+            EvaluationJob job = new EvaluationJob(UUID.randomUUID().toString(), portfolioId, memberId);
+            // 합류하는 다른 인스턴스가 바로 조회할 수 있도록 선점 전에 저장
+            jobStore.save(memberId, job.toResponse());
+            String activeJobId = jobStore.claimActive(memberId, portfolioId, job.getJobId());
+            if (!activeJobId.equals(job.getJobId())) {
+                jobStore.delete(job.getJobId());
+                remoteJobId[0] = activeJobId;
+                return null;
+            }
+
+            // 새 작업일 때만 차감 (대기열이 가득 차 있으면 차감하지 않음)
+            if (!hasCapacity()) {
+                abandon(job);
+                throw new RejectedExecutionException(QUEUE_FULL_MESSAGE);
+            }
+            if (!rateLimitService.isAllowed(memberId)) {
+                abandon(job);
+                log.warn("Rate limit exceeded - memberId: {}, portfolioId: {}", memberId, portfolioId);
+                throw new RateLimitExceededException(RATE_LIMIT_MESSAGE);
+            }
+            jobs.put(job.getJobId(), job);
+            created[0] = job;
+            return job.getJobId();
+        });
+
+        // 다른 인스턴스에서 진행 중인 작업에 합류
+        if (remoteJobId[0] != null) {
+            EvaluationJobResponse stored = findStoredJob(remoteJobId[0], memberId);
+            if (emitter != null) {
+                attachRemote(stored, emitter);
+            }
+            return stored;
+        }
+
+        // 이 인스턴스에서 진행 중인 작업에 합류
+        if (created[0] == null) {
+            EvaluationJob job = jobs.get(jobId);
+            if (emitter != null) {
+                attach(job, emitter);
+            }
+            return job.toResponse();
+        }
+
+        EvaluationJob job = created[0];
+        if (emitter != null) {
+            attach(job, emitter);
+        }
+        try {
+            workers.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            // 확인 직후 대기열이 찬 경우 - 차감한 횟수 반환
+            activeJobIds.remove(key, jobId);
+            jobs.remove(jobId);
+            job.getEmitters().clear();
+            abandon(job);
+            rateLimitService.refund(memberId);
+            log.warn("Evaluation queue is full - memberId: {}, portfolioId: {}", memberId, portfolioId);
+            throw new RejectedExecutionException(QUEUE_FULL_MESSAGE);
+        }
+
+        log.info("Evaluation job queued - jobId: {}, portfolioId: {}, queued: {}", jobId, portfolioId, workers.getQueue().size());
+        return job.toResponse();
+    }
+
+    private boolean hasCapacity() {
+        return workers.getActiveCount() < workers.getMaximumPoolSize()
+                || workers.getQueue().remainingCapacity() > 0;
+    }
+
+    /**
+     * 등록하지 못한 작업의 선점 / 저장 상태 정리
+     */
+    private void abandon(EvaluationJob job) {
+        jobStore.releaseActive(job.getMemberId(), job.getPortfolioId(), job.getJobId());
+        jobStore.delete(job.getJobId());
+    }
+
+    /**
+     * 구독자 등록 - 현재 상태를 먼저 보내고, 이미 끝난 작업이면 바로 종료
+     */
+    private void attach(EvaluationJob job, SseEmitter emitter) {
+        synchronized (job) {
+            if (!send(emitter, job.getEmitters(), EVENT_STATUS, job.toResponse())) {
+                return;
+            }
+            if (job.getStatus().isFinished()) {
+                emitter.complete();
+                return;
+            }
+            job.getEmitters().add(emitter);
+        }
+
+        emitter.onCompletion(() -> job.getEmitters().remove(emitter));
+        emitter.onTimeout(() -> job.getEmitters().remove(emitter));
+        emitter.onError(e -> job.getEmitters().remove(emitter));
+    }
+
+    private void run(EvaluationJob job) {
+        long startedAt = System.currentTimeMillis();
+        job.markRunning();
+        publish(job);
+
+        try {
+            EvaluationResponse result = evaluationService.evaluate(job.getPortfolioId(), job.getMemberId(),
+                    new EvaluationStreamListener() {
+                        @Override
+                        public void onRuleScores(EvaluationResponse scores) {
+                            broadcast(job, EVENT_RULE_SCORES, scores);
+                        }
+
+                        @Override
+                        public void onScores(EvaluationResponse scores) {
+                            broadcast(job, EVENT_SCORES, scores);
+                        }
+
+                        @Override
+                        public void onFeedbackDelta(FeedbackDelta delta) {
+                            broadcast(job, EVENT_FEEDBACK, delta);
+                        }
+
+                        @Override
+                        public void onFeedbackFallback(AiFeedback fallback) {
+                            broadcast(job, EVENT_FEEDBACK_FALLBACK, fallback);
+                        }
+                    });
+            job.complete(result);
+            log.info("Evaluation job completed - jobId: {}, totalScore: {}, elapsed: {}ms",
+                    job.getJobId(), result.getTotalScore(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("Evaluation job failed - jobId: {}, portfolioId: {}", job.getJobId(), job.getPortfolioId(), e);
+            job.fail(e.getMessage() != null ? e.getMessage() : "평가 중 오류가 발생했습니다.");
+        } finally {
+            // 완료 상태를 저장한 뒤 선점 해제 (해제 직후 요청이 끝난 작업 상태를 보지 않도록)
+            publish(job);
+            activeJobIds.remove(new JobKey(job.getMemberId(), job.getPortfolioId()), job.getJobId());
+            jobStore.releaseActive(job.getMemberId(), job.getPortfolioId(), job.getJobId());
+        }
+    }
+
+    /**
+     * 현재 상태 저장 후 구독자에게 전송 (완료/실패 시 스트림 종료)
+     */
+    private void publish(EvaluationJob job) {
+        synchronized (job) {
+            EvaluationJobResponse response = job.toResponse();
+            jobStore.save(job.getMemberId(), response);
+            for (SseEmitter emitter : job.getEmitters()) {
+                if (send(emitter, job.getEmitters(), EVENT_STATUS, response) && job.getStatus().isFinished()) {
+                    emitter.complete();
+                }
+            }
+            if (job.getStatus().isFinished()) {
+                job.getEmitters().clear();
+            }
+        }
+    }
+
+    /**
+     * 평가 중간 결과 전송
+     */
+    private void broadcast(EvaluationJob job, String eventName, Object data) {
+        synchronized (job) {
+            for (SseEmitter emitter : job.getEmitters()) {
+                send(emitter, job.getEmitters(), eventName, data);
+            }
+        }
+    }
+
+    /**
+     * 다른 인스턴스 작업 구독자 등록 - 현재 상태를 먼저 보내고, 이후 변화는 relayRemoteJobs가 전달
+     */
+    private void attachRemote(EvaluationJobResponse job, SseEmitter emitter) {
+        List<SseEmitter> sent = new CopyOnWriteArrayList<>(List.of(emitter));
+        if (!send(emitter, sent, EVENT_STATUS, job)) {
+            return;
+        }
+        if (job.getStatus().isFinished()) {
+            emitter.complete();
+            return;
+        }
+
+        RemoteSubscription subscription = remoteSubscriptions.compute(job.getJobId(), (id, current) -> {
+            RemoteSubscription target = current != null ? current : new RemoteSubscription(job.getStatus());
+            target.emitters.add(emitter);
+            return target;
+        });
+        emitter.onCompletion(() -> subscription.emitters.remove(emitter));
+        emitter.onTimeout(() -> subscription.emitters.remove(emitter));
+        emitter.onError(e -> subscription.emitters.remove(emitter));
+    }
+
+    /**
+     * 상태가 바뀌었으면 전달
+     * @return 더 전달할 필요가 없으면 true (완료 / 상태 없음 / 구독자 없음)
+     */
+    private boolean relay(RemoteSubscription subscription, EvaluationJobResponse job) {
+        if (job == null) {
+            // 보관 시간이 지났거나 Redis 장애 - 더 기다리지 않고 종료
+            subscription.emitters.forEach(SseEmitter::complete);
+            return true;
+        }
+        if (job.getStatus() != subscription.lastStatus) {
+            subscription.lastStatus = job.getStatus();
+            for (SseEmitter emitter : subscription.emitters) {
+                send(emitter, subscription.emitters, EVENT_STATUS, job);
+            }
+        }
+        if (job.getStatus().isFinished()) {
+            subscription.emitters.forEach(SseEmitter::complete);
+            return true;
+        }
+        return subscription.emitters.isEmpty();
+    }
+
+    private boolean send(SseEmitter emitter, List<SseEmitter> emitters, String eventName, Object data) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(eventName)
+                    .data(data));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료
+            emitters.remove(emitter);
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    /**
+     * 이 인스턴스에서 실행 중인 작업 (없으면 null, 다른 회원의 작업이면 예외)
+     */
+    private EvaluationJob findLocalJob(String jobId, Long memberId) {
+        EvaluationJob job = jobs.get(jobId);
+        if (job != null && !job.getMemberId().equals(memberId)) {
+            throw new RuntimeException("평가 작업을 찾을 수 없습니다.");
+        }
+        return job;
+    }
+
+    private EvaluationJobResponse findStoredJob(String jobId, Long memberId) {
+        return jobStore.find(jobId)
+                .filter(stored -> stored.memberId().equals(memberId))
+                .map(EvaluationJobStore.StoredJob::job)
+                .orElseThrow(() -> new RuntimeException("평가 작업을 찾을 수 없습니다."));
+    }
+
+    private record JobKey(Long memberId, Long portfolioId) {
+    }
+
+    private static final class RemoteSubscription {
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private volatile EvaluationJobStatus lastStatus;
+
+        private RemoteSubscription(EvaluationJobStatus lastStatus) {
+            this.lastStatus = lastStatus;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.portfolio.builder.ai.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.builder.ai.dto.EvaluationJobResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 평가 작업 상태 공유 (Redis, 인스턴스 간)
+ * - 작업을 실행하는 인스턴스가 상태가 바뀔 때마다 저장 → 다른 인스턴스에서도 조회 / 구독 가능
+ * - (회원, 포트폴리오)당 진행 중인 작업 1개를 SETNX로 선점 → 인스턴스 간 중복 요청 방지
+ * Redis 장애 시 인스턴스 내 상태만으로 동작
+ *
+ * ai:evaluation-job:{jobId}                       → {memberId, job}
+ * ai:evaluation-active:{memberId}:{portfolioId}   → jobId
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+class EvaluationJobStore {
+
+    private static final String JOB_PREFIX = "ai:evaluation-job:";
+    private static final String ACTIVE_PREFIX = "ai:evaluation-active:";
+    private static final Duration JOB_TTL = Duration.ofHours(1);       // 완료 작업 보관 시간과 같음
+    private static final Duration ACTIVE_TTL = Duration.ofMinutes(15);  // 실행 인스턴스가 죽어도 선점이 풀리도록
+
+    // 선점한 작업일 때만 해제
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    void save(Long memberId, EvaluationJobResponse job) {
+        try {
+            redisTemplate.opsForValue().set(JOB_PREFIX + job.getJobId(),
+                    objectMapper.writeValueAsString(new StoredJob(memberId, job)), JOB_TTL);
+        } catch (Exception e) {
+            log.warn("Failed to save evaluation job state - jobId: {}: {}", job.getJobId(), e.getMessage());
+        }
+    }
+
+    Optional<StoredJob> find(String jobId) {
+        try {
+            String stored = redisTemplate.opsForValue().get(JOB_PREFIX + jobId);
+            return stored != null ? Optional.of(objectMapper.readValue(stored, StoredJob.class)) : Optional.empty();
+        } catch (Exception e) {
+            log.warn("Failed to load evaluation job state - jobId: {}: {}", jobId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    void delete(String jobId) {
+        try {
+            redisTemplate.delete(JOB_PREFIX + jobId);
+        } catch (Exception e) {
+            log.warn("Failed to delete evaluation job state - jobId: {}: {}", jobId, e.getMessage());
+        }
+    }
+
+    /**
+     * 진행 중인 작업으로 선점 (상태가 없거나 이미 끝난 이전 선점은 정리 후 다시 시도)
+     * @return 선점했거나 Redis 장애면 jobId, 다른 작업이 진행 중이면 그 작업 ID
+     */
+    String claimActive(Long memberId, Long portfolioId, String jobId) {
+        String key = activeKey(memberId, portfolioId);
+        try {
+            for (int attempt = 0; attempt < 2; attempt++) {
+                if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, jobId, ACTIVE_TTL))) {
+                    return jobId;
+                }
+                String activeJobId = redisTemplate.opsForValue().get(key);
+                if (activeJobId == null) {
+                    continue;
+                }
+                Optional<StoredJob> active = find(activeJobId);
+                if (active.isPresent() && !active.get().job().getStatus().isFinished()) {
+                    return activeJobId;
+                }
+                redisTemplate.execute(RELEASE_SCRIPT, List.of(key), activeJobId);
+            }
+            log.warn("Could not claim evaluation job - memberId: {}, portfolioId: {}", memberId, portfolioId);
+        } catch (Exception e) {
+            log.warn("Failed to claim evaluation job, using local state only: {}", e.getMessage());
+        }
+        return jobId;
+    }
+
+    void releaseActive(Long memberId, Long portfolioId, String jobId) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(activeKey(memberId, portfolioId)), jobId);
+        } catch (Exception e) {
+            log.warn("Failed to release evaluation job claim - jobId: {}: {}", jobId, e.getMessage());
+        }
+    }
+
+    private String activeKey(Long memberId, Long portfolioId) {
+        return ACTIVE_PREFIX + memberId + ":" + portfolioId;
+    }
+
+    record StoredJob(Long memberId, EvaluationJobResponse job) {
+    }
+}
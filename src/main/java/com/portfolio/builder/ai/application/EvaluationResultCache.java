@@ -0,0 +1,50 @@
+package com.portfolio.builder.ai.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.builder.ai.dto.EvaluationResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 평가 결과 캐시 (콘텐츠 다이제스트 기준)
+ * 같은 콘텐츠를 다시 평가하면 AI 호출 없이 이전 결과를 그대로 반환한다.
+ * Redis 장애 시 캐시 없이 동작
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EvaluationResultCache {
+
+    private static final String CACHE_PREFIX = "ai:evaluation:";
+    private static final Duration CACHE_TTL = Duration.ofDays(7);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public Optional<EvaluationResponse> get(String digest) {
+        try {
+            String cached = redisTemplate.opsForValue().get(CACHE_PREFIX + digest);
+            if (cached == null) {
+                return Optional.empty();
+            }
+            log.info("Evaluation result cache hit: {}", digest);
+            return Optional.of(objectMapper.readValue(cached, EvaluationResponse.class));
+        } catch (Exception e) {
+            log.warn("Evaluation result cache get failed: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void put(String digest, EvaluationResponse response) {
+        try {
+            redisTemplate.opsForValue().set(CACHE_PREFIX + digest, objectMapper.writeValueAsString(response), CACHE_TTL);
+        } catch (Exception e) {
+            log.warn("Evaluation result cache set failed: {}", e.getMessage());
+        }
+    }
+}
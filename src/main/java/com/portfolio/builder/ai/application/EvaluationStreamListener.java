@@ -0,0 +1,31 @@
+package com.portfolio.builder.ai.application;
+
+import com.portfolio.builder.ai.dto.AiFeedback;
+import com.portfolio.builder.ai.dto.EvaluationResponse;
+import com.portfolio.builder.ai.dto.FeedbackDelta;
+
+/**
+ * 평가 중간 결과 수신 (스트리밍 평가용)
+ */
+public interface EvaluationStreamListener {
+
+    /**
+     * 규칙 기반 점수 계산 완료 (표현력은 규칙 점수만 반영, 피드백 없음)
+     */
+    void onRuleScores(EvaluationResponse scores);
+
+    /**
+     * AI 표현력 평가 반영 후 최종 점수 (피드백 없음)
+     */
+    void onScores(EvaluationResponse scores);
+
+    /**
+     * AI 피드백 조각
+     */
+    void onFeedbackDelta(FeedbackDelta delta);
+
+    /**
+     * AI 피드백 대신 기본 피드백 사용 (지금까지 받은 피드백 조각은 버림)
+     */
+    void onFeedbackFallback(AiFeedback fallback);
+}
@@ -0,0 +1,207 @@
+package com.portfolio.builder.ai.application;
+
+import com.portfolio.builder.ai.dto.FeedbackDelta;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 스트리밍 AI 응답에서 피드백 JSON을 조각 단위로 추출
+ * {"overallFeedback": "...", "tips": ["...", ...]} 형태를 가정하고,
+ * 첫 '{' 이전(```json 등)과 최상위 객체 이후의 텍스트는 무시한다.
+ * 문자열 값은 도착하는 대로 디코딩해 overallFeedback / tips 조각으로 전달한다.
+ * (조각 경계에 걸친 이스케이프, \\uXXXX, 서로게이트 쌍은 다음 조각까지 보류)
+ */
+class FeedbackStreamParser {
+
+    static final String FIELD_OVERALL = "overallFeedback";
+    static final String FIELD_TIPS = "tips";
+
+    private final Consumer<FeedbackDelta> deltaConsumer;
+
+    private int depth = 0;               // {, [ 중첩 깊이
+    private boolean started = false;
+    private boolean finished = false;
+    private boolean inString = false;
+    private boolean escape = false;
+    private StringBuilder unicode;       // \\uXXXX 처리 중인 16진수
+    private boolean expectingKey = false;
+    private String currentKey;           // 최상위 객체의 현재 키
+    private boolean stringIsKey = false;
+
+    private final StringBuilder token = new StringBuilder();    // 현재 문자열 전체
+    private final StringBuilder pending = new StringBuilder();  // 아직 전달하지 않은 조각
+
+    private final StringBuilder overallFeedback = new StringBuilder();
+    private boolean overallFeedbackFound = false;
+    private final List<StringBuilder> tips = new ArrayList<>();
+
+    FeedbackStreamParser(Consumer<FeedbackDelta> deltaConsumer) {
+        this.deltaConsumer = deltaConsumer;
+    }
+
+    /**
+     * 응답 조각 입력
+     */
+    void feed(String chunk) {
+        if (chunk == null) {
+            return;
+        }
+        for (int i = 0; i < chunk.length() && !finished; i++) {
+            accept(chunk.charAt(i));
+        }
+        flush(false);
+    }
+
+    /**
+     * 최상위 객체가 닫혔는지 (false면 응답이 중간에 끊긴 것)
+     */
+    boolean isComplete() {
+        return finished;
+    }
+
+    String getOverallFeedback() {
+        return overallFeedbackFound ? overallFeedback.toString() : null;
+    }
+
+    List<String> getTips() {
+        return tips.stream().map(StringBuilder::toString).toList();
+    }
+
+    private void accept(char c) {
+        if (!started) {
+            if (c == '{') {
+                started = true;
+                depth = 1;
+                expectingKey = true;
+            }
+            return;
+        }
+
+        if (inString) {
+            acceptStringChar(c);
+            return;
+        }
+
+        switch (c) {
+            case '"' -> {
+                inString = true;
+                stringIsKey = depth == 1 && expectingKey;
+                token.setLength(0);
+                if (isTipValue()) {
+                    tips.add(new StringBuilder());
+                }
+            }
+            case '{', '[' -> depth++;
+            case '}', ']' -> {
+                depth--;
+                if (depth == 0) {
+                    finished = true;
+                }
+            }
+            case ':' -> {
+                if (depth == 1) {
+                    expectingKey = false;
+                }
+            }
+            case ',' -> {
+                if (depth == 1) {
+                    expectingKey = true;
+                }
+            }
+            default -> {
+                // 공백, 숫자 등은 무시
+            }
+        }
+    }
+
+    private void acceptStringChar(char c) {
+        if (unicode != null) {
+            if (Character.digit(c, 16) < 0) {
+                // 잘못된 \\u 이스케이프는 버리고 현재 문자부터 다시 처리
+                unicode = null;
+                acceptStringChar(c);
+                return;
+            }
+            unicode.append(c);
+            if (unicode.length() == 4) {
+                appendDecoded((char) Integer.parseInt(unicode.toString(), 16));
+                unicode = null;
+            }
+            return;
+        }
+        if (escape) {
+            escape = false;
+            switch (c) {
+                case 'n' -> appendDecoded('\n');
+                case 't' -> appendDecoded('\t');
+                case 'r' -> appendDecoded('\r');
+                case 'b' -> appendDecoded('\b');
+                case 'f' -> appendDecoded('\f');
+                case 'u' -> unicode = new StringBuilder(4);
+                default -> appendDecoded(c);  // \" \\ \/
+            }
+            return;
+        }
+        if (c == '\\') {
+            escape = true;
+            return;
+        }
+        if (c == '"') {
+            flush(true);
+            inString = false;
+            if (stringIsKey) {
+                currentKey = token.toString();
+                if (FIELD_OVERALL.equals(currentKey)) {
+                    overallFeedbackFound = true;
+                }
+            }
+            return;
+        }
+        appendDecoded(c);
+    }
+
+    private void appendDecoded(char c) {
+        token.append(c);
+        if (stringIsKey) {
+            return;
+        }
+        if (isOverallValue()) {
+            overallFeedback.append(c);
+            pending.append(c);
+        } else if (isTipValue()) {
+            tips.get(tips.size() - 1).append(c);
+            pending.append(c);
+        }
+    }
+
+    /**
+     * 이번 조각에서 모인 텍스트를 한 번에 전달
+     * 값이 끝나지 않았으면 짝이 안 맞는 상위 서로게이트는 다음 조각과 함께 보낸다.
+     */
+    private void flush(boolean endOfValue) {
+        int length = pending.length();
+        if (!endOfValue && length > 0 && Character.isHighSurrogate(pending.charAt(length - 1))) {
+            length--;
+        }
+        if (length == 0) {
+            return;
+        }
+        String text = pending.substring(0, length);
+        if (isOverallValue()) {
+            deltaConsumer.accept(new FeedbackDelta(FIELD_OVERALL, null, text));
+        } else if (isTipValue()) {
+            deltaConsumer.accept(new FeedbackDelta(FIELD_TIPS, tips.size() - 1, text));
+        }
+        pending.delete(0, length);
+    }
+
+    private boolean isOverallValue() {
+        return depth == 1 && !expectingKey && FIELD_OVERALL.equals(currentKey);
+    }
+
+    private boolean isTipValue() {
+        return depth == 2 && FIELD_TIPS.equals(currentKey);
+    }
+}
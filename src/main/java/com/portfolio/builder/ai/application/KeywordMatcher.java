@@ -0,0 +1,253 @@
+package com.portfolio.builder.ai.application;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 다중 키워드 매칭기 (Aho–Corasick)
+ * 키워드 전체를 하나의 오토마톤으로 미리 만들어 두고, 텍스트를 한 번만 훑어 일치한 키워드 / 그룹을 모두 찾는다.
+ * - 부분 문자열 일치 (기존 String.contains와 같은 의미)
+ * - 대소문자 구분 없음 (키워드는 소문자로 저장, 텍스트는 글자 단위로 소문자 변환 → 소문자 사본을 만들지 않음)
+ * - 만든 뒤에는 불변이라 여러 스레드에서 공유 가능
+ * @param <G> 키워드 그룹 (예: 기술 카테고리), 최대 64개
+ */
+final class KeywordMatcher<G> {
+
+    private static final int ROOT = 0;
+    private static final int[] NO_OUTPUT = new int[0];
+
+    private final List<G> groups;
+    private final String[] keywords;
+    private final char[][] edgeChars;    // 노드별 전이 문자 (정렬, 이진 탐색)
+    private final int[][] edgeTargets;
+    private final int[] fail;
+    private final long[] groupMasks;     // 이 노드에서 끝나는 키워드(실패 링크 포함)의 그룹 비트
+    private final int[][] outputs;       // 이 노드에서 끝나는 키워드 ID (실패 링크 포함)
+
+    static <G> Builder<G> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * 일치한 키워드가 하나라도 있는지 (첫 일치에서 종료)
+     */
+    boolean containsAny(CharSequence text) {
+        if (text == null) return false;
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            state = step(state, Character.toLowerCase(text.charAt(i)));
+            if (outputs[state].length > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 일치한 키워드가 속한 그룹 (모든 그룹이 일치하면 조기 종료)
+     */
+    Set<G> matchGroups(CharSequence text) {
+        return toGroups(matchGroupMask(text, 0L));
+    }
+
+    /**
+     * 여러 텍스트에서 일치한 그룹 합집합
+     */
+    Set<G> matchGroups(Collection<? extends CharSequence> texts) {
+        long mask = 0L;
+        if (texts != null) {
+            for (CharSequence text : texts) {
+                mask = matchGroupMask(text, mask);
+            }
+        }
+        return toGroups(mask);
+    }
+
+    /**
+     * 일치한 서로 다른 키워드 수
+     */
+    int countDistinctKeywords(CharSequence text) {
+        return matchKeywordIds(text).cardinality();
+    }
+
+    /**
+     * 일치한 키워드 (등록 순서)
+     */
+    Set<String> matchKeywords(CharSequence text) {
+        Set<String> matched = new LinkedHashSet<>();
+        BitSet ids = matchKeywordIds(text);
+        for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+            matched.add(keywords[id]);
+        }
+        return matched;
+    }
+
+    private long matchGroupMask(CharSequence text, long mask) {
+        if (text == null) return mask;
+        long all = groups.size() == 64 ? -1L : (1L << groups.size()) - 1;
+        int state = ROOT;
+        for (int i = 0; i < text.length() && mask != all; i++) {
+            state = step(state, Character.toLowerCase(text.charAt(i)));
+            mask |= groupMasks[state];
+        }
+        return mask;
+    }
+
+    private BitSet matchKeywordIds(CharSequence text) {
+        BitSet ids = new BitSet(keywords.length);
+        if (text == null) return ids;
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            state = step(state, Character.toLowerCase(text.charAt(i)));
+            for (int id : outputs[state]) {
+                ids.set(id);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 다음 상태 (전이가 없으면 실패 링크를 따라 내려감)
+     */
+    private int step(int state, char c) {
+        while (true) {
+            char[] chars = edgeChars[state];
+            int index = chars.length == 0 ? -1 : Arrays.binarySearch(chars, c);
+            if (index >= 0) {
+                return edgeTargets[state][index];
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = fail[state];
+        }
+    }
+
+    private Set<G> toGroups(long mask) {
+        Set<G> matched = new LinkedHashSet<>();
+        for (int i = 0; i < groups.size(); i++) {
+            if ((mask & (1L << i)) != 0) {
+                matched.add(groups.get(i));
+            }
+        }
+        return matched;
+    }
+
+    private KeywordMatcher(List<G> groups, Map<String, Long> keywordGroups) {
+        this.groups = List.copyOf(groups);
+        this.keywords = keywordGroups.keySet().toArray(String[]::new);
+
+        // 1. 트라이 구성
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<Long> ownGroups = new ArrayList<>();
+        List<List<Integer>> ownOutputs = new ArrayList<>();
+        children.add(new TreeMap<>());
+        ownGroups.add(0L);
+        ownOutputs.add(new ArrayList<>());
+        for (int id = 0; id < keywords.length; id++) {
+            int node = ROOT;
+            for (char c : keywords[id].toCharArray()) {
+                Integer next = children.get(node).get(c);
+                if (next == null) {
+                    next = children.size();
+                    children.get(node).put(c, next);
+                    children.add(new TreeMap<>());
+                    ownGroups.add(0L);
+                    ownOutputs.add(new ArrayList<>());
+                }
+                node = next;
+            }
+            ownGroups.set(node, ownGroups.get(node) | keywordGroups.get(keywords[id]));
+            ownOutputs.get(node).add(id);
+        }
+
+        int size = children.size();
+        this.edgeChars = new char[size][];
+        this.edgeTargets = new int[size][];
+        for (int node = 0; node < size; node++) {
+            TreeMap<Character, Integer> edges = children.get(node);
+            edgeChars[node] = new char[edges.size()];
+            edgeTargets[node] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                edgeChars[node][i] = edge.getKey();
+                edgeTargets[node][i] = edge.getValue();
+                i++;
+            }
+        }
+
+        // 2. 실패 링크 + 출력 병합 (너비 우선 → 실패 대상 노드가 항상 먼저 완성됨)
+        this.fail = new int[size];
+        this.groupMasks = new long[size];
+        this.outputs = new int[size][];
+        outputs[ROOT] = NO_OUTPUT;
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : edgeTargets[ROOT]) {
+            fail[child] = ROOT;
+            groupMasks[child] = ownGroups.get(child);
+            outputs[child] = toArray(ownOutputs.get(child), NO_OUTPUT);
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < edgeChars[node].length; i++) {
+                char c = edgeChars[node][i];
+                int child = edgeTargets[node][i];
+                fail[child] = step(fail[node], c);
+                groupMasks[child] = ownGroups.get(child) | groupMasks[fail[child]];
+                outputs[child] = toArray(ownOutputs.get(child), outputs[fail[child]]);
+                queue.add(child);
+            }
+        }
+    }
+
+    private static int[] toArray(List<Integer> own, int[] inherited) {
+        if (own.isEmpty()) return inherited;
+        int[] merged = Arrays.copyOf(inherited, inherited.length + own.size());
+        for (int i = 0; i < own.size(); i++) {
+            merged[inherited.length + i] = own.get(i);
+        }
+        return merged;
+    }
+
+    static final class Builder<G> {
+
+        private final List<G> groups = new ArrayList<>();
+        private final Map<String, Long> keywordGroups = new LinkedHashMap<>();
+
+        /**
+         * 그룹에 키워드 추가 (같은 키워드가 여러 그룹에 속할 수 있음)
+         */
+        Builder<G> add(G group, Collection<String> keywords) {
+            int index = groups.indexOf(group);
+            if (index < 0) {
+                if (groups.size() == 64) {
+                    throw new IllegalArgumentException("키워드 그룹은 최대 64개까지 가능합니다");
+                }
+                groups.add(group);
+                index = groups.size() - 1;
+            }
+            long bit = 1L << index;
+            for (String keyword : keywords) {
+                if (keyword == null || keyword.isBlank()) continue;
+                keywordGroups.merge(keyword.toLowerCase(Locale.ROOT), bit, (a, b) -> a | b);
+            }
+            return this;
+        }
+
+        KeywordMatcher<G> build() {
+            return new KeywordMatcher<>(groups, keywordGroups);
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package com.portfolio.builder.ai.application;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * LLM 호출 보호 (인스턴스 전역, 모든 ChatClient 호출이 거쳐감)
+ * - 서킷 브레이커: 실패가 이어지면 일정 시간 호출 없이 즉시 예외 → 호출부 기본값(규칙 기반) 처리
+ * - 분당 토큰(TPM) 제한: 호출 전 예상 토큰만큼 차감하고, 호출이 끝나면 실제 사용량과의 차이를 돌려주거나 더 차감
+ *   (실행되지 못한 호출은 전부 반환, 실패 / 시간 초과는 실제 사용량을 알 수 없어 예상치 유지)
+ *   전체 인스턴스가 Redis의 분 단위 합계(LlmSharedLimiter)를 공유하고, Redis 장애 시 인스턴스별 토큰 버킷 사용
+ * - 벌크헤드: 동시 호출 수 제한 (평가 워커 / 일괄 평가 수와 무관)
+ *   인스턴스별 세마포어 + 전체 인스턴스 합계(LlmSharedLimiter, Redis) 모두 ai.llm.max-concurrency 이하
+ *   (Redis 장애 시 인스턴스별로만 제한)
+ * - 호출별 제한 시간: 초과 시 호출 스레드를 중단하고 예외
+ * 대기 시간 초과 / 차단 / 제한 시간 초과는 모두 RuntimeException으로 전달된다.
+ */
+@Component
+@Slf4j
+public class LlmCallGuard {
+
+    private static final int LATENCY_SAMPLES = 256;  // p95 계산용 최근 호출 수
+    private static final Duration LEASE_MARGIN = Duration.ofSeconds(30);  // 공유 자리 임차 시간 = 호출 제한 시간 + 여유
+    private static final long SLOT_POLL_MS = 100;     // 공유 자리 대기 간격
+    private static final long LOCAL_BUDGET = -1;       // 인스턴스별 버킷에서 차감한 경우의 창 값
+
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final long acquireTimeoutMs;
+    private final LlmCircuitBreaker circuitBreaker;
+    private final LlmSharedLimiter sharedLimiter;
+    private final ExecutorService callExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final long tokensPerMinute;
+    private final ReentrantLock tokenLock = new ReentrantLock();
+    private double availableTokens;
+    private long lastRefillNanos = System.nanoTime();
+
+    // 지표
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong bulkheadRejections = new AtomicLong();
+    private final long[] latencySamples = new long[LATENCY_SAMPLES];
+    private int latencyIndex;
+    private int latencyCount;
+    private long maxLatencyMs;
+
+    public LlmCallGuard(
+            LlmSharedLimiter sharedLimiter,
+            @Value("${ai.llm.max-concurrency:4}") int maxConcurrency,
+            @Value("${ai.llm.acquire-timeout-ms:30000}") long acquireTimeoutMs,
+            @Value("${ai.llm.tokens-per-minute:200000}") long tokensPerMinute,
+            @Value("${ai.llm.circuit.window-size:20}") int windowSize,
+            @Value("${ai.llm.circuit.min-calls:10}") int minCalls,
+            @Value("${ai.llm.circuit.failure-rate:0.5}") double failureRate,
+            @Value("${ai.llm.circuit.open-seconds:30}") long openSeconds,
+            @Value("${ai.llm.circuit.half-open-calls:2}") int halfOpenCalls) {
+        this.sharedLimiter = sharedLimiter;
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.maxConcurrency = maxConcurrency;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.tokensPerMinute = tokensPerMinute;
+        this.availableTokens = tokensPerMinute;
+        this.circuitBreaker = new LlmCircuitBreaker(windowSize, minCalls, failureRate,
+                Duration.ofSeconds(openSeconds), halfOpenCalls);
+    }
+
+    /**
+     * 보호 장치를 거쳐 호출
+     * @param operation 호출 이름 (로그용)
+     * @param estimatedTokens 예상 토큰 수 (프롬프트 + 최대 응답)
+     * @param timeout 호출 제한 시간 (대기 시간 제외)
+     * @param actualTokens 호출 결과에서 실제 사용 토큰 수 (LlmTokenMetrics.record 반환값)
+     */
+    public <T> T call(String operation, int estimatedTokens, Duration timeout, Supplier<T> llmCall,
+                      ToLongFunction<T> actualTokens) {
+        LlmCircuitBreaker.Admission admission = circuitBreaker.tryAcquire();
+        if (admission == null) {
+            throw new RuntimeException("AI 서비스가 일시적으로 불안정합니다. (" + operation + ")");
+        }
+
+        String leaseId = UUID.randomUUID().toString();
+        TokenCharge charge = null;
+        try {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(acquireTimeoutMs);
+            charge = acquireTokens(estimatedTokens, deadline);
+            long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (!permits.tryAcquire(Math.max(0, remainingMs), TimeUnit.MILLISECONDS)) {
+                bulkheadRejections.incrementAndGet();
+                log.warn("LLM concurrency limit wait timed out ({}ms) - {}", acquireTimeoutMs, operation);
+                throw new RuntimeException("AI 호출 대기 시간이 초과되었습니다.");
+            }
+            try {
+                acquireSharedSlot(operation, leaseId, timeout.plus(LEASE_MARGIN), deadline);
+            } catch (InterruptedException | RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        } catch (InterruptedException e) {
+            settle(charge, 0);
+            circuitBreaker.onIgnored(admission);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("AI 호출이 중단되었습니다.", e);
+        } catch (RuntimeException e) {
+            settle(charge, 0);
+            circuitBreaker.onIgnored(admission);
+            throw e;
+        }
+
+        // 허가는 호출 스레드가 실제로 끝날 때 반환 (callWithTimeout)
+        long start = System.nanoTime();
+        T result;
+        try {
+            result = callWithTimeout(operation, leaseId, timeout, llmCall);
+            circuitBreaker.onSuccess(admission);
+        } catch (RuntimeException e) {
+            if (Thread.currentThread().isInterrupted()) {
+                // 호출부가 취소한 경우 (평가의 다른 단계 실패 등) - LLM 실패로 집계하지 않음
+                circuitBreaker.onIgnored(admission);
+            } else {
+                failures.incrementAndGet();
+                circuitBreaker.onFailure(admission);
+            }
+            throw e;
+        } finally {
+            recordLatency((System.nanoTime() - start) / 1_000_000);
+        }
+
+        try {
+            settle(charge, actualTokens.applyAsLong(result));
+        } catch (RuntimeException e) {
+            log.warn("Failed to read LLM token usage - {}: {}", operation, e.getMessage());
+        }
+        return result;
+    }
+
+    /**
+     * 호출 현황 (헬스체크용)
+     */
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("circuitState", circuitBreaker.getState());
+        metrics.put("circuitOpened", circuitBreaker.getOpenedCount());
+        metrics.put("shortCircuited", circuitBreaker.getShortCircuited());
+        metrics.put("inFlight", maxConcurrency - permits.availablePermits());
+        metrics.put("sharedInFlight", sharedLimiter.getInFlight());
+        metrics.put("maxConcurrency", maxConcurrency);
+        metrics.put("bulkheadRejections", bulkheadRejections.get());
+        metrics.put("calls", calls.get());
+        metrics.put("failures", failures.get());
+        metrics.put("timeouts", timeouts.get());
+        metrics.put("availableTokens", getAvailableTokens());
+        metrics.put("sharedUsedTokens", sharedLimiter.getUsedTokens());
+        metrics.put("tokensPerMinute", tokensPerMinute);
+        metrics.putAll(latencySnapshot());
+        return metrics;
+    }
+
+    public long getAvailableTokens() {
+        tokenLock.lock();
+        try {
+            refill();
+            return (long) availableTokens;
+        } finally {
+            tokenLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        callExecutor.shutdownNow();
+    }
+
+    /**
+     * 별도 가상 스레드에서 호출하고 제한 시간이 지나면 인터럽트
+     * 벌크헤드 허가(인스턴스 / 공유 자리)는 호출 작업의 finally에서 반환한다. (인터럽트를 무시하고 계속 도는 호출도 끝날 때까지 동시 호출 수에 포함)
+     * 작업이 시작되기 전에 취소되면 호출부에서 대신 반환한다.
+     */
+    private <T> T callWithTimeout(String operation, String leaseId, Duration timeout, Supplier<T> llmCall) {
+        AtomicBoolean claimed = new AtomicBoolean();  // 허가 반환 책임을 가져간 쪽 (작업 / 호출부)
+        Future<T> future;
+        try {
+            future = callExecutor.submit(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    return null;  // 시작 전에 취소됨
+                }
+                try {
+                    return llmCall.get();
+                } finally {
+                    release(leaseId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            release(leaseId);
+            throw new RuntimeException("AI 호출에 실패했습니다.", e);
+        }
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            cancel(future, claimed, leaseId);
+            timeouts.incrementAndGet();
+            log.warn("LLM call timed out after {}ms - {}", timeout.toMillis(), operation);
+            throw new RuntimeException("AI 응답 시간이 초과되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException("AI 호출에 실패했습니다.", e.getCause());
+        } catch (InterruptedException e) {
+            cancel(future, claimed, leaseId);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("AI 호출이 중단되었습니다.", e);
+        }
+    }
+
+    private void cancel(Future<?> future, AtomicBoolean claimed, String leaseId) {
+        future.cancel(true);
+        if (claimed.compareAndSet(false, true)) {
+            release(leaseId);
+        }
+    }
+
+    private void release(String leaseId) {
+        sharedLimiter.releaseSlot(leaseId);
+        permits.release();
+    }
+
+    /**
+     * 전체 인스턴스 합계 동시 호출 자리 확보 (자리가 날 때까지 대기)
+     */
+    private void acquireSharedSlot(String operation, String leaseId, Duration leaseTime, long deadline) throws InterruptedException {
+        while (!sharedLimiter.tryAcquireSlot(leaseId, maxConcurrency, leaseTime)) {
+            long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMs <= 0) {
+                bulkheadRejections.incrementAndGet();
+                log.warn("LLM shared concurrency limit wait timed out ({}ms) - {}", acquireTimeoutMs, operation);
+                throw new RuntimeException("AI 호출 대기 시간이 초과되었습니다.");
+            }
+            Thread.sleep(Math.min(SLOT_POLL_MS, remainingMs));
+        }
+    }
+
+    /**
+     * 분당 토큰 차감 (부족하면 채워질 때까지 대기)
+     * 공유 한도(Redis)를 먼저 쓰고, Redis 장애 시 인스턴스별 토큰 버킷에서 차감
+     * 가상 스레드에서도 호출되므로 synchronized 대신 락을 잡지 않고 sleep으로 대기
+     * @return 차감 내역 (호출 후 실제 사용량으로 맞출 때 사용)
+     */
+    private TokenCharge acquireTokens(int tokens, long deadline) throws InterruptedException {
+        long required = Math.min(tokens, tokensPerMinute);  // 한 번에 버킷보다 큰 요청은 버킷 크기로 제한
+        while (true) {
+            long window = LlmSharedLimiter.currentWindow();
+            long waitMs = sharedLimiter.tryAcquireTokens(window, required, tokensPerMinute);
+            if (waitMs == 0) {
+                return new TokenCharge(required, window);
+            }
+            if (waitMs < 0) {
+                waitMs = tryAcquireLocalTokens(required);
+                if (waitMs == 0) {
+                    return new TokenCharge(required, LOCAL_BUDGET);
+                }
+            }
+
+            long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMs <= 0) {
+                log.warn("LLM tokens-per-minute budget wait timed out ({}ms)", acquireTimeoutMs);
+                throw new RuntimeException("AI 호출 대기 시간이 초과되었습니다.");
+            }
+            Thread.sleep(Math.max(1, Math.min(waitMs, remainingMs)));
+        }
+    }
+
+    /**
+     * 인스턴스별 토큰 버킷에서 차감
+     * @return 0 차감함, 양수 채워질 때까지 기다릴 시간(ms)
+     */
+    private long tryAcquireLocalTokens(double required) {
+        tokenLock.lock();
+        try {
+            refill();
+            if (availableTokens >= required) {
+                availableTokens -= required;
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((required - availableTokens) * 60_000 / tokensPerMinute));
+        } finally {
+            tokenLock.unlock();
+        }
+    }
+
+    /**
+     * 차감한 예상 토큰을 실제 사용량으로 맞춤 (남으면 돌려주고, 넘으면 더 차감)
+     * 공유 한도는 차감한 분이 지났으면 초과분만 이번 분에 반영 (지난 분에 돌려줄 토큰은 의미 없음)
+     */
+    private void settle(TokenCharge charge, long actualTokens) {
+        if (charge == null || actualTokens == charge.tokens()) {
+            return;
+        }
+        long delta = actualTokens - charge.tokens();
+        if (charge.window() == LOCAL_BUDGET) {
+            tokenLock.lock();
+            try {
+                refill();
+                availableTokens = Math.max(-tokensPerMinute, Math.min(tokensPerMinute, availableTokens - delta));
+            } finally {
+                tokenLock.unlock();
+            }
+            return;
+        }
+        long window = LlmSharedLimiter.currentWindow();
+        if (window == charge.window() || delta > 0) {
+            sharedLimiter.adjustTokens(window, delta);
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        double refilled = (now - lastRefillNanos) / 60_000_000_000.0 * tokensPerMinute;
+        availableTokens = Math.min(tokensPerMinute, availableTokens + refilled);
+        lastRefillNanos = now;
+    }
+
+    private synchronized void recordLatency(long millis) {
+        calls.incrementAndGet();
+        latencySamples[latencyIndex] = millis;
+        latencyIndex = (latencyIndex + 1) % LATENCY_SAMPLES;
+        latencyCount = Math.min(latencyCount + 1, LATENCY_SAMPLES);
+        maxLatencyMs = Math.max(maxLatencyMs, millis);
+    }
+
+    private synchronized Map<String, Object> latencySnapshot() {
+        Map<String, Object> latency = new LinkedHashMap<>();
+        long[] samples = Arrays.copyOf(latencySamples, latencyCount);
+        Arrays.sort(samples);
+        latency.put("latencyP50Ms", samples.length > 0 ? samples[(int) Math.ceil(samples.length * 0.50) - 1] : 0);
+        latency.put("latencyP95Ms", samples.length > 0 ? samples[(int) Math.ceil(samples.length * 0.95) - 1] : 0);
+        latency.put("latencyMaxMs", maxLatencyMs);
+        return latency;
+    }
+
+    /**
+     * 호출 전 차감한 토큰 (window: 공유 한도의 분, 인스턴스별 버킷이면 LOCAL_BUDGET)
+     */
+    private record TokenCharge(long tokens, long window) {
+    }
+}
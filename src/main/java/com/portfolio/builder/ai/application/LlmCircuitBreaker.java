@@ -0,0 +1,189 @@
+package com.portfolio.builder.ai.application;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * LLM 호출 서킷 브레이커 (최근 N회 호출 기준)
+ * CLOSED: 실패율이 임계값 이상이면 OPEN
+ * OPEN: 일정 시간 동안 호출 차단 (즉시 기본값 처리) → 이후 HALF_OPEN
+ * HALF_OPEN: 시험 호출 몇 건만 허용, 모두 성공하면 CLOSED / 하나라도 실패하면 다시 OPEN
+ * 결과는 호출이 허용될 때의 상태(세대) 기준으로 집계하고, 그 사이 상태가 바뀌었으면 버린다.
+ * (CLOSED에서 시작해 HALF_OPEN 중에 끝난 호출이 시험 호출로 집계되지 않도록)
+ */
+@Slf4j
+class LlmCircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    /**
+     * 호출 허용 표식 - 허용 당시 세대와 시험 호출 여부
+     */
+    record Admission(long generation, boolean trial) {
+    }
+
+    private final int minCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenMaxCalls;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final boolean[] window;  // true = 실패
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    private volatile State state = State.CLOSED;
+    private long generation;         // 상태가 바뀔 때마다 증가
+    private long openedAtNanos;
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+
+    private final AtomicLong openedCount = new AtomicLong();
+    private final AtomicLong shortCircuited = new AtomicLong();
+
+    LlmCircuitBreaker(int windowSize, int minCalls, double failureRateThreshold,
+                      Duration openDuration, int halfOpenMaxCalls) {
+        this.window = new boolean[windowSize];
+        this.minCalls = minCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenMaxCalls = halfOpenMaxCalls;
+    }
+
+    /**
+     * 호출 허용 여부 (null이면 호출하지 않고 기본값 처리)
+     * 결과는 반환된 표식과 함께 onSuccess / onFailure / onIgnored로 알린다.
+     */
+    Admission tryAcquire() {
+        lock.lock();
+        try {
+            if (state == State.OPEN) {
+                if (System.nanoTime() - openedAtNanos < openDurationNanos) {
+                    shortCircuited.incrementAndGet();
+                    return null;
+                }
+                transition(State.HALF_OPEN);
+                halfOpenInFlight = 0;
+                halfOpenSuccesses = 0;
+            }
+            if (state == State.HALF_OPEN) {
+                if (halfOpenInFlight >= halfOpenMaxCalls) {
+                    shortCircuited.incrementAndGet();
+                    return null;
+                }
+                halfOpenInFlight++;
+                return new Admission(generation, true);
+            }
+            return new Admission(generation, false);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void onSuccess(Admission admission) {
+        lock.lock();
+        try {
+            if (admission.generation() != generation) {
+                return;
+            }
+            if (admission.trial()) {
+                halfOpenInFlight--;
+                if (++halfOpenSuccesses >= halfOpenMaxCalls) {
+                    resetWindow();
+                    transition(State.CLOSED);
+                }
+                return;
+            }
+            record(false);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void onFailure(Admission admission) {
+        lock.lock();
+        try {
+            if (admission.generation() != generation) {
+                return;
+            }
+            if (admission.trial()) {
+                halfOpenInFlight--;
+                open();
+                return;
+            }
+            record(true);
+            if (state == State.CLOSED && windowCount >= minCalls
+                    && (double) windowFailures / windowCount >= failureRateThreshold) {
+                open();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 허용됐지만 LLM을 호출하지 못한 경우 (동시 호출 / 토큰 대기 초과) - 성공/실패로 집계하지 않음
+     */
+    void onIgnored(Admission admission) {
+        lock.lock();
+        try {
+            if (admission.generation() == generation && admission.trial()) {
+                halfOpenInFlight--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    State getState() {
+        return state;
+    }
+
+    long getOpenedCount() {
+        return openedCount.get();
+    }
+
+    long getShortCircuited() {
+        return shortCircuited.get();
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void open() {
+        openedAtNanos = System.nanoTime();
+        openedCount.incrementAndGet();
+        resetWindow();
+        transition(State.OPEN);
+    }
+
+    private void resetWindow() {
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+    }
+
+    private void transition(State next) {
+        if (state != next) {
+            log.warn("LLM circuit breaker {} → {}", state, next);
+            state = next;
+            generation++;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.portfolio.builder.ai.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * LLM 호출 한도 공유 (Redis, 인스턴스 간)
+ * - 동시 호출 수: 호출마다 만료 시각이 있는 임차(lease)를 Sorted Set에 등록하고, 만료되지 않은 임차 수로 제한
+ *   (인스턴스가 호출 도중 죽어도 만료 시각이 지나면 자리가 풀림)
+ * - 분당 토큰(TPM): 1분 단위 창마다 사용한 토큰 수를 합산 (창 경계에서는 잠깐 한도를 넘을 수 있음)
+ *   호출 전 예상 토큰으로 차감하고, 호출 후 실제 사용량과의 차이를 반영
+ * Redis 장애 시 허용 (fail-open) → 인스턴스별 제한(LlmCallGuard)만 적용
+ *
+ * llm:concurrency         → {leaseId: 만료 시각(ms)}
+ * llm:tpm:{epochMinute}   → 이번 분에 사용한 토큰 수
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+class LlmSharedLimiter {
+
+    private static final String CONCURRENCY_KEY = "llm:concurrency";
+    private static final String TPM_KEY_PREFIX = "llm:tpm:";
+    private static final long WINDOW_MS = 60_000;
+    private static final long UNAVAILABLE = -1;
+
+    // 만료된 임차 정리 후 자리가 있으면 등록 (시각은 Redis 서버 기준)
+    private static final RedisScript<Long> ACQUIRE_SLOT_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now)
+            if redis.call('ZCARD', KEYS[1]) >= tonumber(ARGV[1]) then
+                return 0
+            end
+            redis.call('ZADD', KEYS[1], now + tonumber(ARGV[2]), ARGV[3])
+            if redis.call('PTTL', KEYS[1]) < tonumber(ARGV[2]) then
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> IN_FLIGHT_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            return redis.call('ZCOUNT', KEYS[1], '(' .. now, '+inf')
+            """, Long.class);
+
+    // 한도 안이면 차감 (ARGV[1] = 토큰 수, ARGV[2] = 분당 한도)
+    private static final RedisScript<Long> ACQUIRE_TOKENS_SCRIPT = new DefaultRedisScript<>("""
+            local used = tonumber(redis.call('GET', KEYS[1]) or '0')
+            if used + tonumber(ARGV[1]) > tonumber(ARGV[2]) then
+                return 0
+            end
+            redis.call('INCRBY', KEYS[1], ARGV[1])
+            redis.call('EXPIRE', KEYS[1], 120)
+            return 1
+            """, Long.class);
+
+    // 차이 반영 (ARGV[1] = 더할 토큰 수, 음수면 반환 / 0 미만으로 내려가지 않음)
+    private static final RedisScript<Long> ADJUST_TOKENS_SCRIPT = new DefaultRedisScript<>("""
+            local used = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local adjusted = math.max(0, used + tonumber(ARGV[1]))
+            if adjusted ~= used then
+                redis.call('SET', KEYS[1], adjusted, 'EX', 120)
+            end
+            return adjusted
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 동시 호출 자리 확보
+     * @param leaseId 호출별 고유 ID (반환 시 사용)
+     * @param leaseTime 자리를 잡아두는 최대 시간 (호출 제한 시간보다 길게)
+     * @return 확보했거나 Redis 장애면 true, 자리가 없으면 false
+     */
+    boolean tryAcquireSlot(String leaseId, int maxConcurrency, Duration leaseTime) {
+        try {
+            Long acquired = redisTemplate.execute(ACQUIRE_SLOT_SCRIPT, List.of(CONCURRENCY_KEY),
+                    String.valueOf(maxConcurrency), String.valueOf(leaseTime.toMillis()), leaseId);
+            return acquired == null || acquired == 1;
+        } catch (Exception e) {
+            log.warn("Shared LLM concurrency check failed, allowing call: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    void releaseSlot(String leaseId) {
+        try {
+            redisTemplate.opsForZSet().remove(CONCURRENCY_KEY, leaseId);
+        } catch (Exception e) {
+            log.warn("Failed to release shared LLM concurrency slot: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 토큰 창 (epoch 기준 분)
+     */
+    static long currentWindow() {
+        return System.currentTimeMillis() / WINDOW_MS;
+    }
+
+    /**
+     * 토큰 창에서 차감
+     * @return 0 차감함, 양수 다음 창까지 기다릴 시간(ms), -1 Redis 장애 (인스턴스별 버킷 사용)
+     */
+    long tryAcquireTokens(long window, long tokens, long tokensPerMinute) {
+        try {
+            Long acquired = redisTemplate.execute(ACQUIRE_TOKENS_SCRIPT, List.of(TPM_KEY_PREFIX + window),
+                    String.valueOf(tokens), String.valueOf(tokensPerMinute));
+            if (acquired == null) {
+                return UNAVAILABLE;
+            }
+            return acquired == 1 ? 0 : Math.max(1, (window + 1) * WINDOW_MS - System.currentTimeMillis());
+        } catch (Exception e) {
+            log.warn("Shared LLM token budget check failed, using local budget: {}", e.getMessage());
+            return UNAVAILABLE;
+        }
+    }
+
+    /**
+     * 토큰 창 사용량 조정 (예상치와 실제 사용량의 차이)
+     */
+    void adjustTokens(long window, long delta) {
+        try {
+            redisTemplate.execute(ADJUST_TOKENS_SCRIPT, List.of(TPM_KEY_PREFIX + window), String.valueOf(delta));
+        } catch (Exception e) {
+            log.warn("Failed to adjust shared LLM token budget: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 이번 분에 전체 인스턴스가 사용한 토큰 수 (헬스체크용, Redis 장애 시 -1)
+     */
+    long getUsedTokens() {
+        try {
+            String used = redisTemplate.opsForValue().get(TPM_KEY_PREFIX + currentWindow());
+            return used != null ? Long.parseLong(used) : 0;
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 전체 인스턴스의 진행 중인 호출 수 (헬스체크용, Redis 장애 시 -1)
+     */
+    long getInFlight() {
+        try {
+            Long count = redisTemplate.execute(IN_FLIGHT_SCRIPT, List.of(CONCURRENCY_KEY));
+            return count != null ? count : -1;
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.portfolio.builder.ai.application;
+
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LLM 호출별 프롬프트 / 응답 토큰 집계 (인스턴스별, 헬스체크용)
+ * 응답에 실제 사용량(usage)이 있으면 그 값을, 없으면 예상 토큰 수를 사용한다.
+ * 예상치와 실제값을 함께 쌓아 추정기 오차도 확인할 수 있다.
+ */
+@Component
+public class LlmTokenMetrics {
+
+    private final Map<String, OperationStats> operations = new ConcurrentHashMap<>();
+
+    /**
+     * 호출 결과 기록
+     * @param prompt 조립된 프롬프트 (예상 토큰 / 줄어든 섹션)
+     * @param response 모델 응답 (usage 없으면 null 가능)
+     * @param completionText 응답 텍스트 (usage 없을 때 응답 토큰 추정용)
+     * @return 이번 호출의 프롬프트 + 응답 토큰 수 (LlmCallGuard 분당 토큰 정산용)
+     */
+    long record(String operation, PromptAssembler.AssembledPrompt prompt, ChatResponse response, String completionText) {
+        Usage usage = response != null && response.getMetadata() != null ? response.getMetadata().getUsage() : null;
+        long promptTokens = usage != null && usage.getPromptTokens() != null && usage.getPromptTokens() > 0
+                ? usage.getPromptTokens() : prompt.tokens();
+        long completionTokens = usage != null && usage.getCompletionTokens() != null && usage.getCompletionTokens() > 0
+                ? usage.getCompletionTokens() : PromptAssembler.estimateTokens(completionText);
+
+        OperationStats stats = operations.computeIfAbsent(operation, k -> new OperationStats());
+        stats.calls.increment();
+        stats.estimatedPromptTokens.add(prompt.tokens());
+        stats.promptTokens.add(promptTokens);
+        stats.completionTokens.add(completionTokens);
+        stats.maxPromptTokens.accumulate(promptTokens);
+        stats.trimmedSections.add(prompt.trimmed().size());
+        stats.droppedSections.add(prompt.dropped().size());
+        if (!prompt.trimmed().isEmpty() || !prompt.dropped().isEmpty()) {
+            stats.budgetLimitedCalls.increment();
+        }
+        return promptTokens + completionTokens;
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        operations.forEach((operation, stats) -> metrics.put(operation, stats.snapshot()));
+        return metrics;
+    }
+
+    private static class OperationStats {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder estimatedPromptTokens = new LongAdder();
+        private final LongAdder promptTokens = new LongAdder();
+        private final LongAdder completionTokens = new LongAdder();
+        private final LongAccumulator maxPromptTokens = new LongAccumulator(Math::max, 0);
+        private final LongAdder trimmedSections = new LongAdder();
+        private final LongAdder droppedSections = new LongAdder();
+        private final LongAdder budgetLimitedCalls = new LongAdder();
+
+        Map<String, Object> snapshot() {
+            long count = calls.sum();
+            Map<String, Object> snapshot = new LinkedHashMap<>();
+            snapshot.put("calls", count);
+            snapshot.put("promptTokens", promptTokens.sum());
+            snapshot.put("completionTokens", completionTokens.sum());
+            snapshot.put("estimatedPromptTokens", estimatedPromptTokens.sum());
+            snapshot.put("avgPromptTokens", count == 0 ? 0 : promptTokens.sum() / count);
+            snapshot.put("avgCompletionTokens", count == 0 ? 0 : completionTokens.sum() / count);
+            snapshot.put("maxPromptTokens", maxPromptTokens.get());
+            snapshot.put("budgetLimitedCalls", budgetLimitedCalls.sum());
+            snapshot.put("trimmedSections", trimmedSections.sum());
+            snapshot.put("droppedSections", droppedSections.sum());
+            return snapshot;
+        }
+    }
+}
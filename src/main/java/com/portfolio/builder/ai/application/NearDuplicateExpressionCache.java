@@ -0,0 +1,155 @@
+package com.portfolio.builder.ai.application;
+
+import com.portfolio.builder.ai.application.AiExpressionEvaluator.ExpressionResult;
+import com.portfolio.builder.ai.application.AiExpressionEvaluator.ExpressionSection;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 표현력 평가 유사 콘텐츠 재사용 (포트폴리오 + 섹션별 최근 AI 평가)
+ * 오타 수정처럼 내용이 거의 같으면 섹션 다이제스트가 달라도 최근 AI 평가 결과를 그대로 사용한다.
+ * - 최근 평가: 평가 당시 텍스트의 SimHash 지문 + 점수 + 피드백 (AI가 실제로 평가한 경우만 갱신)
+ * - 재사용한 결과로는 갱신하지 않음 → 작은 수정이 쌓여 원문과 멀어지면 다시 AI 평가
+ * - 해밍 거리 기준은 ai.expression.near-duplicate.max-distance (음수면 사용 안 함)
+ * Redis 장애 시 재사용 없이 동작
+ */
+@Component
+@Slf4j
+public class NearDuplicateExpressionCache {
+
+    private static final String CACHE_PREFIX = "ai:expression:recent:";
+    private static final Duration CACHE_TTL = Duration.ofDays(7);
+    private static final int MIN_TEXT_LENGTH = 40;  // 짧은 텍스트는 글자 몇 개로도 의미가 크게 바뀜
+
+    private final StringRedisTemplate redisTemplate;
+    private final int maxDistance;
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder tooDifferent = new LongAdder();
+    private final LongAdder noRecent = new LongAdder();
+    private final long[] distanceHistogram = new long[65];
+
+    public NearDuplicateExpressionCache(
+            StringRedisTemplate redisTemplate,
+            @Value("${ai.expression.near-duplicate.max-distance:3}") int maxDistance) {
+        this.redisTemplate = redisTemplate;
+        this.maxDistance = maxDistance;
+    }
+
+    /**
+     * 최근 평가와 거의 같은 섹션의 결과 조회 (한 번의 MGET)
+     * @param texts 섹션별 AI 평가 대상 텍스트 (프롬프트에 들어가는 내용)
+     * @return 재사용 가능한 섹션 결과
+     */
+    Map<ExpressionSection, ExpressionResult> find(Long portfolioId, Map<ExpressionSection, String> texts) {
+        Map<ExpressionSection, ExpressionResult> results = new EnumMap<>(ExpressionSection.class);
+        if (portfolioId == null || maxDistance < 0) return results;
+
+        List<ExpressionSection> sections = new ArrayList<>();
+        texts.forEach((section, text) -> {
+            if (text != null && text.length() >= MIN_TEXT_LENGTH) sections.add(section);
+        });
+        if (sections.isEmpty()) return results;
+
+        try {
+            List<String> keys = sections.stream().map(section -> cacheKey(portfolioId, section)).toList();
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+            for (int i = 0; i < sections.size(); i++) {
+                ExpressionSection section = sections.get(i);
+                lookups.increment();
+                Recent recent = values != null ? parse(values.get(i)) : null;
+                if (recent == null) {
+                    noRecent.increment();
+                    continue;
+                }
+                int distance = SimHash.distance(recent.fingerprint(), SimHash.fingerprint(texts.get(section)));
+                synchronized (distanceHistogram) {
+                    distanceHistogram[distance]++;
+                }
+                if (distance <= maxDistance) {
+                    hits.increment();
+                    results.put(section, recent.result());
+                } else {
+                    tooDifferent.increment();
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Near-duplicate cache get failed: {}", e.getMessage());
+        }
+        if (!results.isEmpty()) {
+            log.info("Portfolio {} expression reused for near-duplicate sections: {}", portfolioId, results.keySet());
+        }
+        return results;
+    }
+
+    /**
+     * AI 평가 결과를 최근 평가로 저장
+     */
+    void remember(Long portfolioId, ExpressionSection section, String text, ExpressionResult result) {
+        if (portfolioId == null || maxDistance < 0 || text == null || result.fallback()) return;
+        try {
+            String value = Long.toHexString(SimHash.fingerprint(text)) + "|" + result.score() + "|" + result.feedback();
+            redisTemplate.opsForValue().set(cacheKey(portfolioId, section), value, CACHE_TTL);
+        } catch (Exception e) {
+            log.warn("Near-duplicate cache set failed: {}", e.getMessage());
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        long lookupCount = lookups.sum();
+        long hitCount = hits.sum();
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("maxDistance", maxDistance);
+        metrics.put("lookups", lookupCount);
+        metrics.put("hits", hitCount);
+        metrics.put("tooDifferent", tooDifferent.sum());
+        metrics.put("noRecent", noRecent.sum());
+        metrics.put("hitRate", lookupCount == 0 ? 0.0 : Math.round(hitCount * 1000.0 / lookupCount) / 1000.0);
+
+        // 기준값 조정용 거리 분포 (0~8, 그 이상은 합산)
+        Map<String, Long> distances = new LinkedHashMap<>();
+        synchronized (distanceHistogram) {
+            long far = 0;
+            for (int d = 0; d < distanceHistogram.length; d++) {
+                if (d <= 8) distances.put(String.valueOf(d), distanceHistogram[d]);
+                else far += distanceHistogram[d];
+            }
+            distances.put("9+", far);
+        }
+        metrics.put("distances", distances);
+        return metrics;
+    }
+
+    private String cacheKey(Long portfolioId, ExpressionSection section) {
+        return CACHE_PREFIX + portfolioId + ":" + section.name().toLowerCase();
+    }
+
+    /**
+     * 저장 값 파싱 (지문|점수|피드백, 깨졌으면 null)
+     */
+    private Recent parse(String value) {
+        if (value == null) return null;
+        try {
+            String[] parts = value.split("\\|", 3);
+            long fingerprint = Long.parseUnsignedLong(parts[0], 16);
+            int score = Integer.parseInt(parts[1]);
+            String feedback = parts.length > 2 ? parts[2] : "";
+            return new Recent(fingerprint, new ExpressionResult(score, feedback));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private record Recent(long fingerprint, ExpressionResult result) {}
+}
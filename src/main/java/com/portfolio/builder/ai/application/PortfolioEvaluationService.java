@@ -6,6 +6,8 @@ import com.portfolio.builder.portfolio.domain.Portfolio;
 import com.portfolio.builder.portfolio.domain.PortfolioRepository;
 import com.portfolio.builder.portfolio.domain.Troubleshooting;
 import com.portfolio.builder.portfolio.domain.TroubleshootingRepository;
+import org.springframework.data.domain.Slice;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -13,6 +15,17 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 /**
  * 포트폴리오 평가 통합 서비스
@@ -29,44 +42,136 @@ public class PortfolioEvaluationService {
     private final AiFeedbackGenerator aiFeedbackGenerator;
     private final PortfolioRepository portfolioRepository;
     private final TroubleshootingRepository troubleshootingRepository;
+    private final EvaluationDigest evaluationDigest;
+    private final EvaluationResultCache evaluationResultCache;
+    private final EvaluationHistoryService evaluationHistoryService;
     private final ObjectMapper objectMapper;
     
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+    
+    /**
+     * 평가 단계 실행용 가상 스레드 (단계 대부분이 DB/LLM 대기)
+     */
+    private final ExecutorService stageExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    
     /**
      * 포트폴리오 평가 실행
+     * 단계 의존 관계:
+     *   포트폴리오 / 트러블슈팅 조회 → 섹션별 콘텐츠 다이제스트 (전체 결과 캐시 적중 시 종료)
+     *     ─┬→ AI 표현력 평가 (섹션 캐시에 없고 최근 평가와도 다른 섹션만 AI 호출)
+     *      └→ 규칙 점수 (완성도 / 기술력 / 트러블슈팅 / 활동성 / 표현력)
+     *   위 단계가 모두 끝나면 → AI 피드백 생성
+     *   → 점수 저장 + 평가 기록 (직전 기록과 콘텐츠가 같으면 생략)
      * @param portfolioId 포트폴리오 ID
      * @param memberId 요청자 회원 ID (본인 확인용)
      * @return 평가 결과
      */
     public EvaluationResponse evaluate(Long portfolioId, Long memberId) {
-        // 1. 포트폴리오 조회
-        Portfolio portfolio = portfolioRepository.findById(portfolioId)
-            .orElseThrow(() -> new RuntimeException("포트폴리오를 찾을 수 없습니다"));
+        return evaluate(portfolioId, memberId, null);
+    }
+    
+    /**
+     * 포트폴리오 평가 실행 (중간 결과 스트리밍)
+     * 규칙 점수 → 최종 점수 → 피드백 조각 순으로 listener에 전달
+     * @param listener 중간 결과 수신자 (null이면 스트리밍 없이 평가)
+     */
+    public EvaluationResponse evaluate(Long portfolioId, Long memberId, EvaluationStreamListener listener) {
+        StageTimer timer = new StageTimer();
         
-        // 권한 체크 (본인 포트폴리오만 평가 가능)
-        if (!portfolio.getMember().getId().equals(memberId)) {
-            throw new RuntimeException("본인의 포트폴리오만 평가할 수 있습니다");
+        // 1. 포트폴리오 조회 + 권한 체크
+        Portfolio portfolio = timer.time("load", () -> findOwnedPortfolio(portfolioId, memberId));
+        EvaluationOutcome outcome = run(portfolio, listener, timer);
+        
+        // AI 점수 저장
+        timer.time("save", () -> saveScore(portfolio, outcome.response().getTotalScore()));
+        timer.time("history", () -> evaluationHistoryService.record(portfolio, outcome.digest(), outcome.response()));
+        log.info("Portfolio {} evaluation stages - {}", portfolioId, timer);
+        return outcome.response();
+    }
+    
+    /**
+     * 일괄 평가용 (권한 체크 / 점수 저장 없음, 저장은 호출부에서 모아서 처리)
+     */
+    public EvaluationOutcome evaluateForBatch(Long portfolioId) {
+        StageTimer timer = new StageTimer();
+        Portfolio portfolio = timer.time("load", () -> portfolioRepository.findById(portfolioId)
+            .orElseThrow(() -> new RuntimeException("포트폴리오를 찾을 수 없습니다")));
+        EvaluationOutcome outcome = run(portfolio, null, timer);
+        timer.time("history", () -> evaluationHistoryService.record(portfolio, outcome.digest(), outcome.response()));
+        log.info("Portfolio {} batch evaluation stages - {}", portfolioId, timer);
+        return outcome;
+    }
+    
+    /**
+     * 평가 결과
+     * @param cached 콘텐츠가 바뀌지 않아 이전 결과를 재사용했는지
+     * @param previousScore 평가 전 저장되어 있던 AI 점수
+     * @param digest 평가한 콘텐츠 다이제스트
+     */
+    public record EvaluationOutcome(EvaluationResponse response, boolean cached, Integer previousScore, String digest) {}
+    
+    private EvaluationOutcome run(Portfolio portfolio, EvaluationStreamListener listener, StageTimer timer) {
+        Long portfolioId = portfolio.getId();
+        PortfolioData data = timer.time("parse", () -> parseData(portfolio.getData()));
+        
+        List<Troubleshooting> troubleshootings = timer.time("troubleshootingLoad",
+            () -> troubleshootingRepository.findByPortfolioIdOrderByCreatedAtDesc(portfolioId));
+        
+        // 2. 콘텐츠가 바뀌지 않았으면 이전 평가 결과 재사용
+        Map<PortfolioSection, String> sectionDigests = timer.time("digest", () -> evaluationDigest.sectionDigests(
+            data, troubleshootings, portfolio.getShowContributionGraph(), portfolio.getContributionGraphSnapshot()));
+        String digest = evaluationDigest.digest(sectionDigests);
+        Optional<EvaluationResponse> cached = evaluationResultCache.get(digest);
+        if (cached.isPresent()) {
+            log.info("Portfolio {} evaluation reused from cache", portfolioId);
+            return new EvaluationOutcome(cached.get(), true, portfolio.getAiScore(), digest);
         }
         
-        // 데이터 파싱
-        PortfolioData data = parseData(portfolio.getData());
-        List<Troubleshooting> troubleshootings = troubleshootingRepository.findByPortfolioIdOrderByCreatedAtDesc(portfolioId);
-        
-        // 2. 규칙 기반 점수 계산 (130점 만점)
-        ScoreResult completeness = ruleBasedScorer.calculateCompleteness(data);
-        ScoreResult technical = ruleBasedScorer.calculateTechnical(data);
-        ScoreResult troubleshooting = ruleBasedScorer.calculateTroubleshooting(troubleshootings);
-        ScoreResult activity = ruleBasedScorer.calculateActivity(
-            portfolio.getShowContributionGraph(),
-            portfolio.getContributionGraphSnapshot(),
-            data
-        );
-        
-        // 3. AI 표현력 평가 (규칙 기반 + AI 보정)
-        ScoreResult ruleExpression = ruleBasedScorer.calculateExpression(data);
-        AiExpressionEvaluator.ExpressionResult aiExpression = aiExpressionEvaluator.evaluate(data, troubleshootings);
+        // 한 단계라도 실패하면 나머지 단계(AI 호출 포함)는 취소
+        StageGroup stages = new StageGroup(timer);
+        
+        // 가장 오래 걸리는 AI 표현력 평가부터 시작 (바뀐 섹션만 AI 호출)
+        CompletableFuture<AiExpressionEvaluator.ExpressionResult> aiExpressionFuture = stages.run("aiExpression",
+            () -> aiExpressionEvaluator.evaluate(portfolioId, data, troubleshootings, sectionDigests));
+        
+        // 3. 규칙 기반 점수 계산 (130점 만점, 단계별 병렬)
+        CompletableFuture<ScoreResult> completenessFuture = stages.run("completeness",
+            () -> ruleBasedScorer.calculateCompleteness(data));
+        CompletableFuture<ScoreResult> technicalFuture = stages.run("technical",
+            () -> ruleBasedScorer.calculateTechnical(data));
+        CompletableFuture<ScoreResult> activityFuture = stages.run("activity",
+            () -> ruleBasedScorer.calculateActivity(
+                portfolio.getShowContributionGraph(),
+                portfolio.getContributionGraphSnapshot(),
+                data
+            ));
+        CompletableFuture<ScoreResult> ruleExpressionFuture = stages.run("ruleExpression",
+            () -> ruleBasedScorer.calculateExpression(data));
+        CompletableFuture<ScoreResult> troubleshootingFuture = stages.run("troubleshooting",
+            () -> ruleBasedScorer.calculateTroubleshooting(troubleshootings));
+        
+        ScoreResult completeness = stages.await(completenessFuture);
+        ScoreResult technical = stages.await(technicalFuture);
+        ScoreResult troubleshooting = stages.await(troubleshootingFuture);
+        ScoreResult activity = stages.await(activityFuture);
+        ScoreResult ruleExpression = stages.await(ruleExpressionFuture);
+        
+        // 규칙 점수는 AI 표현력 평가를 기다리지 않고 먼저 전달
+        if (listener != null) {
+            listener.onRuleScores(EvaluationResponse.builder()
+                .totalScore(completeness.getScore() + technical.getScore() + troubleshooting.getScore()
+                    + ruleExpression.getScore() + activity.getScore())
+                .breakdown(toBreakdown(completeness, technical, troubleshooting, ruleExpression, activity))
+                .build());
+        }
+        
+        AiExpressionEvaluator.ExpressionResult aiExpression = stages.await(aiExpressionFuture);
         
         // AI 점수와 규칙 점수 혼합 (AI 70%, 규칙 30%)
-        int expressionScore = (int) Math.round(aiExpression.score() * 0.7 + ruleExpression.getScore() * 0.3);
+        // AI 평가 실패(차단 / 시간 초과 포함) 시 규칙 점수만 사용
+        int expressionScore = aiExpression.fallback()
+            ? ruleExpression.getScore()
+            : (int) Math.round(aiExpression.score() * 0.7 + ruleExpression.getScore() * 0.3);
         expressionScore = Math.min(20, Math.max(0, expressionScore)); // 0~20 범위 보장
         
         // AI 피드백 추가
@@ -78,8 +183,16 @@ public class PortfolioEvaluationService {
         
         int totalScore = completeness.getScore() + technical.getScore() + 
                         troubleshooting.getScore() + expression.getScore() + activity.getScore();
+        ScoreBreakdown breakdown = toBreakdown(completeness, technical, troubleshooting, expression, activity);
+        
+        if (listener != null) {
+            listener.onScores(EvaluationResponse.builder()
+                .totalScore(totalScore)
+                .breakdown(breakdown)
+                .build());
+        }
         
-        // 3. EvaluationScores 객체 생성
+        // 4. EvaluationScores 객체 생성
         EvaluationScores scores = EvaluationScores.builder()
             .total(totalScore)
             .completeness(completeness.getScore())
@@ -94,7 +207,7 @@ public class PortfolioEvaluationService {
             .activityDetails(activity.getDetails())
             .build();
         
-        // 4. AI 피드백 생성
+        // 5. AI 피드백 생성 (모든 점수가 필요한 유일한 단계)
         PortfolioSummary summary = PortfolioSummary.builder()
             .name(data.getName())
             .skills(data.getSkillNames())
@@ -102,27 +215,180 @@ public class PortfolioEvaluationService {
             .troubleshootingCount(troubleshootings.size())
             .build();
         
-        AiFeedback aiFeedback = aiFeedbackGenerator.generateFeedback(scores, summary);
-        
-        // 5. AI 점수 저장
-        portfolio.setAiScore(totalScore);
-        portfolioRepository.save(portfolio);
-        log.info("Portfolio {} AI score saved: {}", portfolioId, totalScore);
+        AiFeedback aiFeedback = timer.time("feedback", () -> listener != null
+            ? aiFeedbackGenerator.streamFeedback(scores, summary, listener)
+            : aiFeedbackGenerator.generateFeedback(scores, summary));
         
-        // 6. 최종 응답 조합
-        return EvaluationResponse.builder()
+        // 6. 최종 응답 조합 + 결과 캐싱
+        EvaluationResponse response = EvaluationResponse.builder()
             .totalScore(totalScore)
-            .breakdown(ScoreBreakdown.builder()
-                .completeness(ScoreDetail.of(completeness))
-                .technical(ScoreDetail.of(technical))
-                .troubleshooting(ScoreDetail.of(troubleshooting))
-                .expression(ScoreDetail.of(expression))
-                .activity(ScoreDetail.of(activity))
-                .build())
+            .breakdown(breakdown)
             .overallFeedback(aiFeedback.getOverallFeedback())
             .tips(aiFeedback.getTips())
             .evaluatedAt(LocalDateTime.now())
             .build();
+        // AI 대신 기본값이 들어간 결과는 캐싱하지 않음 (다음 요청에서 다시 평가)
+        if (!aiExpression.fallback() && !aiFeedback.isFallback()) {
+            evaluationResultCache.put(digest, response);
+        }
+        return new EvaluationOutcome(response, false, portfolio.getAiScore(), digest);
+    }
+    
+    /**
+     * 캐시된 평가 결과 조회 (권한 체크 포함)
+     * 콘텐츠가 마지막 평가 이후 바뀌지 않았으면 결과 반환 → 평가 요청 없이 즉시 응답
+     */
+    public Optional<EvaluationResponse> findCachedEvaluation(Long portfolioId, Long memberId) {
+        Portfolio portfolio = findOwnedPortfolio(portfolioId, memberId);
+        String digest = currentDigest(portfolio);
+        Optional<EvaluationResponse> cached = evaluationResultCache.get(digest);
+        cached.ifPresent(response -> {
+            saveScore(portfolio, response.getTotalScore());
+            evaluationHistoryService.record(portfolio, digest, response);
+        });
+        return cached;
+    }
+    
+    /**
+     * 가장 최근 평가 결과 조회 (권한 체크 포함, 평가 / LLM 호출 없음)
+     * @return 평가 기록이 없으면 empty
+     */
+    public Optional<LatestEvaluationResponse> getLatestEvaluation(Long portfolioId, Long memberId) {
+        Portfolio portfolio = findOwnedPortfolio(portfolioId, memberId);
+        return evaluationHistoryService.findLatest(portfolioId)
+            .map(latest -> LatestEvaluationResponse.builder()
+                .evaluationId(latest.evaluationId())
+                .evaluation(latest.response())
+                .contentChanged(!latest.contentDigest().equals(currentDigest(portfolio)))
+                .build());
+    }
+    
+    /**
+     * 평가 점수 추이 (권한 체크 포함, 최신순)
+     */
+    public EvaluationHistoryResponse getEvaluationHistory(Long portfolioId, Long memberId, int page, int size) {
+        findOwnedPortfolio(portfolioId, memberId);
+        int pageSize = Math.min(Math.max(size, 1), MAX_HISTORY_PAGE_SIZE);
+        Slice<EvaluationHistoryItem> history = evaluationHistoryService.findHistory(portfolioId, Math.max(page, 0), pageSize);
+        return EvaluationHistoryResponse.builder()
+            .items(history.getContent())
+            .page(history.getNumber())
+            .size(history.getSize())
+            .hasNext(history.hasNext())
+            .build();
+    }
+    
+    /**
+     * 현재 콘텐츠 다이제스트
+     */
+    private String currentDigest(Portfolio portfolio) {
+        PortfolioData data = parseData(portfolio.getData());
+        List<Troubleshooting> troubleshootings = troubleshootingRepository.findByPortfolioIdOrderByCreatedAtDesc(portfolio.getId());
+        return evaluationDigest.digest(data, troubleshootings,
+            portfolio.getShowContributionGraph(), portfolio.getContributionGraphSnapshot());
+    }
+    
+    /**
+     * AI 점수 저장 (캐시 결과는 같은 콘텐츠의 다른 포트폴리오 것일 수 있으므로 다를 때만 저장)
+     */
+    private Portfolio saveScore(Portfolio portfolio, int totalScore) {
+        if (Integer.valueOf(totalScore).equals(portfolio.getAiScore())) {
+            return portfolio;
+        }
+        portfolio.setAiScore(totalScore);
+        log.info("Portfolio {} AI score saved: {}", portfolio.getId(), totalScore);
+        return portfolioRepository.save(portfolio);
+    }
+    
+    private ScoreBreakdown toBreakdown(ScoreResult completeness, ScoreResult technical, ScoreResult troubleshooting,
+                                       ScoreResult expression, ScoreResult activity) {
+        return ScoreBreakdown.builder()
+            .completeness(ScoreDetail.of(completeness))
+            .technical(ScoreDetail.of(technical))
+            .troubleshooting(ScoreDetail.of(troubleshooting))
+            .expression(ScoreDetail.of(expression))
+            .activity(ScoreDetail.of(activity))
+            .build();
+    }
+    
+    /**
+     * 한 번의 평가에서 병렬로 실행하는 단계 묶음
+     * 단계가 하나라도 실패하면 나머지 단계를 취소(스레드 인터럽트 → 진행 중인 LLM 호출 중단)하고,
+     * 어느 단계를 기다리던 중이든 처음 실패한 단계의 예외를 전달한다.
+     */
+    private final class StageGroup {
+        
+        private final StageTimer timer;
+        private final List<CompletableFuture<?>> stages = new CopyOnWriteArrayList<>();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        
+        private StageGroup(StageTimer timer) {
+            this.timer = timer;
+        }
+        
+        /**
+         * 단계를 가상 스레드에서 실행하고 소요 시간 기록
+         */
+        <T> CompletableFuture<T> run(String stage, Supplier<T> task) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            Future<?> execution = stageExecutor.submit(() -> {
+                try {
+                    result.complete(timer.time(stage, task));
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+            result.whenComplete((value, error) -> {
+                if (result.isCancelled()) {
+                    execution.cancel(true);
+                } else if (error != null && failure.compareAndSet(null, error)) {
+                    log.warn("Evaluation stage {} failed, cancelling remaining stages", stage);
+                    cancelAll();
+                }
+            });
+            stages.add(result);
+            if (failure.get() != null) {
+                result.cancel(true);
+            }
+            return result;
+        }
+        
+        /**
+         * 단계 결과 대기 (단계에서 발생한 예외는 그대로 전달)
+         */
+        <T> T await(CompletableFuture<T> future) {
+            try {
+                return future.join();
+            } catch (CompletionException | CancellationException e) {
+                cancelAll();
+                Throwable cause = failure.get() != null ? failure.get()
+                    : e instanceof CompletionException ? e.getCause() : e;
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new RuntimeException("포트폴리오 평가 중 오류가 발생했습니다", cause);
+            }
+        }
+        
+        private void cancelAll() {
+            stages.forEach(stage -> stage.cancel(true));
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        stageExecutor.shutdown();
+    }
+    
+    private Portfolio findOwnedPortfolio(Long portfolioId, Long memberId) {
+        Portfolio portfolio = portfolioRepository.findById(portfolioId)
+            .orElseThrow(() -> new RuntimeException("포트폴리오를 찾을 수 없습니다"));
+        
+        // 권한 체크 (본인 포트폴리오만 평가 가능)
+        if (!portfolio.getMember().getId().equals(memberId)) {
+            throw new RuntimeException("본인의 포트폴리오만 평가할 수 있습니다");
+        }
+        return portfolio;
     }
     
     /**
@@ -0,0 +1,13 @@
+package com.portfolio.builder.ai.application;
+
+/**
+ * 평가 입력 섹션 (섹션별 다이제스트 / 부분 재평가 단위)
+ */
+public enum PortfolioSection {
+    PROFILE,          // 이름, 연락처, 자기소개
+    SKILLS,           // 보유 스킬 / 숙련도
+    PROJECTS,         // 프로젝트
+    EDUCATION,        // 학력, 경력, 자격증
+    TROUBLESHOOTING,  // 트러블슈팅 (최신순)
+    ACTIVITY          // GitHub 잔디 표시 여부 / 스냅샷
+}
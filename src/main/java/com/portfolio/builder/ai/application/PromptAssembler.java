@@ -0,0 +1,183 @@
+package com.portfolio.builder.ai.application;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * 토큰 예산 기반 프롬프트 조립
+ * - 고정 문구(지시문 / 응답 형식)는 항상 포함
+ * - 섹션마다 토큰 상한이 있고, 남은 전체 예산은 우선순위 순으로 배분
+ * - 넘치는 섹션은 문장 / 항목 단위로 앞에서부터 채우고, 첫 단위도 넘치면 글자 수로 자름
+ * - 출력 순서는 추가한 순서 그대로 (우선순위는 예산 배분에만 사용)
+ * 입력이 같으면 항상 같은 프롬프트가 만들어진다.
+ */
+final class PromptAssembler {
+
+    private static final int MIN_SECTION_TOKENS = 8;  // 본문에 이보다 적게 남으면 섹션 생략
+    private static final String ELLIPSIS = "...";
+
+    private final int budgetTokens;
+    private final List<Part> parts = new ArrayList<>();
+
+    PromptAssembler(int budgetTokens) {
+        this.budgetTokens = budgetTokens;
+    }
+
+    /**
+     * 예상 토큰 수 (한글 위주 텍스트 기준 2자당 1토큰)
+     */
+    static int estimateTokens(String text) {
+        return text == null ? 0 : (text.length() + 1) / 2;
+    }
+
+    /**
+     * 항상 포함되는 문구
+     */
+    PromptAssembler fixed(String text) {
+        parts.add(new Part(null, 0, 0, null, text, List.of(), "", ""));
+        return this;
+    }
+
+    /**
+     * 자유 텍스트 섹션 (문장 단위로 줄임)
+     * @param heading 섹션 제목 (같은 제목의 섹션이 연속되면 한 번만 출력, null이면 없음)
+     * @param prefix / suffix 본문 앞뒤 고정 문구
+     */
+    PromptAssembler text(String name, int priority, int maxTokens,
+                         String heading, String prefix, String body, String suffix) {
+        List<String> sentences = body == null || body.isBlank()
+                ? List.of()
+                : Arrays.stream(body.trim().split("(?<=[.!?。])\\s+|\\s*\\n+\\s*"))
+                        .filter(s -> !s.isBlank())
+                        .toList();
+        parts.add(new Part(name, priority, maxTokens, heading, prefix, sentences, " ", suffix));
+        return this;
+    }
+
+    /**
+     * 목록 섹션 (항목 단위로 줄임)
+     */
+    PromptAssembler items(String name, int priority, int maxTokens,
+                          String heading, String prefix, List<String> items, String separator, String suffix) {
+        List<String> values = items == null ? List.of() : items.stream()
+                .filter(s -> s != null && !s.isBlank())
+                .toList();
+        parts.add(new Part(name, priority, maxTokens, heading, prefix, values, separator, suffix));
+        return this;
+    }
+
+    AssembledPrompt assemble() {
+        int remaining = budgetTokens;
+        for (Part part : parts) {
+            if (part.isFixed()) {
+                remaining -= estimateTokens(part.prefix());
+            }
+        }
+
+        // 우선순위 순으로 예산 배분 (같으면 추가한 순서)
+        List<Integer> byPriority = IntStream.range(0, parts.size()).boxed()
+                .filter(i -> !parts.get(i).isFixed() && !parts.get(i).units().isEmpty())
+                .sorted(Comparator.comparingInt(i -> parts.get(i).priority()))
+                .toList();
+        String[] bodies = new String[parts.size()];
+        Map<String, Integer> sectionTokens = new LinkedHashMap<>();
+        List<String> trimmed = new ArrayList<>();
+        List<String> dropped = new ArrayList<>();
+        Set<String> countedHeadings = new HashSet<>();
+
+        for (int index : byPriority) {
+            Part part = parts.get(index);
+            boolean newHeading = part.heading() != null && !countedHeadings.contains(part.heading());
+            int overhead = estimateTokens(part.prefix()) + estimateTokens(part.suffix())
+                    + (newHeading ? estimateTokens(part.heading()) : 0);
+            int allowed = Math.min(part.maxTokens(), remaining) - overhead;
+            if (allowed < MIN_SECTION_TOKENS) {
+                dropped.add(part.name());
+                continue;
+            }
+            String full = String.join(part.separator(), part.units());
+            boolean fits = estimateTokens(full) <= allowed;
+            String body = fits ? full : fit(part, allowed);
+            if (!fits) {
+                trimmed.add(part.name());
+            }
+            int cost = overhead + estimateTokens(body);
+            remaining -= cost;
+            bodies[index] = body;
+            sectionTokens.put(part.name(), cost);
+            if (newHeading) {
+                countedHeadings.add(part.heading());
+            }
+        }
+
+        // 추가한 순서대로 출력
+        StringBuilder sb = new StringBuilder();
+        String lastHeading = null;
+        for (int i = 0; i < parts.size(); i++) {
+            Part part = parts.get(i);
+            if (part.isFixed()) {
+                sb.append(part.prefix());
+                lastHeading = null;
+                continue;
+            }
+            String body = bodies[i];
+            if (body == null) {
+                continue;
+            }
+            if (part.heading() != null && !part.heading().equals(lastHeading)) {
+                sb.append(part.heading());
+            }
+            sb.append(part.prefix()).append(body).append(part.suffix());
+            lastHeading = part.heading();
+        }
+        String text = sb.toString();
+        return new AssembledPrompt(text, estimateTokens(text), sectionTokens, trimmed, dropped);
+    }
+
+    /**
+     * 앞에서부터 들어가는 만큼만 단위를 채움 (첫 단위가 넘치면 글자 수로 자름)
+     */
+    private String fit(Part part, int allowedTokens) {
+        int maxChars = allowedTokens * 2;
+        StringBuilder sb = new StringBuilder();
+        for (String unit : part.units()) {
+            int length = sb.isEmpty() ? unit.length() : sb.length() + part.separator().length() + unit.length();
+            if (length + ELLIPSIS.length() > maxChars) {
+                break;
+            }
+            if (!sb.isEmpty()) {
+                sb.append(part.separator());
+            }
+            sb.append(unit);
+        }
+        if (sb.isEmpty()) {
+            String first = part.units().get(0);
+            return first.substring(0, Math.max(0, maxChars - ELLIPSIS.length())) + ELLIPSIS;
+        }
+        return sb.append(ELLIPSIS).toString();
+    }
+
+    private record Part(String name, int priority, int maxTokens, String heading,
+                        String prefix, List<String> units, String separator, String suffix) {
+        boolean isFixed() {
+            return name == null;
+        }
+    }
+
+    /**
+     * 조립 결과
+     * @param tokens 프롬프트 전체 예상 토큰 수
+     * @param sectionTokens 포함된 섹션별 토큰 수 (제목 / 앞뒤 문구 포함)
+     * @param trimmed 예산 때문에 줄어든 섹션
+     * @param dropped 예산이 부족해 빠진 섹션
+     */
+    record AssembledPrompt(String text, int tokens, Map<String, Integer> sectionTokens,
+                           List<String> trimmed, List<String> dropped) {}
+}
@@ -46,6 +46,28 @@ public class RuleBasedScorer {
         "kubernetes", "jenkins", "terraform", "mongodb", "postgresql", "ansible"
     );
     
+    // 트러블슈팅 기술 키워드 (에러명 + 기술명, 한 번의 스캔으로 확인)
+    private static final KeywordMatcher<String> TECHNICAL_KEYWORDS = KeywordMatcher.<String>builder()
+        .add("error", ERROR_PATTERNS)
+        .add("tech", TECH_PATTERNS)
+        .build();
+    
+    // 기술 스택 카테고리 키워드
+    private static final KeywordMatcher<String> TECH_CATEGORIES = KeywordMatcher.<String>builder()
+        .add("Frontend", List.of("react", "vue", "angular", "javascript", "typescript", "html", "css", "next", "tailwind", "sass", "jquery", "svelte"))
+        .add("Backend", List.of("spring", "boot", "security", "validation", "java", "mybatis", "thymeleaf", "lombok", "querydsl", "jdbc", "c++", "c#", "node", "python", "django", "express", "flask", "nestjs", "go", "rust", "php", "ruby", "kotlin"))
+        .add("Database", List.of("mysql", "oracle", "postgresql", "mongodb", "redis", "mariadb", "sqlite", "mssql", "dynamodb", "elasticsearch"))
+        .add("DevOps", List.of("docker", "kubernetes", "aws", "jenkins", "git", "linux", "nginx", "gcp", "azure", "ci", "cd", "terraform", "github", "ansible"))
+        .build();
+    
+    // 자기소개 구체성 키워드 (3개 이상 포함 시 구체적인 소개로 판단)
+    private static final KeywordMatcher<String> SPECIFIC_WORDS = KeywordMatcher.<String>builder()
+        .add("specific", List.of(
+            "경험", "개발", "프로젝트", "학습", "성장", "목표", "관심", "열정",
+            "팀", "협업", "문제", "해결", "기술", "도전", "역량", "성과"
+        ))
+        .build();
+    
     /**
      * 완성도 점수 (30점 만점)
      * - 이름: 3점
@@ -272,8 +294,7 @@ public class RuleBasedScorer {
         // 기술 키워드 포함 (5점) - NEW
         int techKeywordCount = 0;
         for (Troubleshooting t : troubleshootings) {
-            String allText = (t.getProblem() + " " + t.getCause() + " " + t.getSolution()).toLowerCase();
-            if (hasTechnicalKeywords(allText)) {
+            if (hasTechnicalKeywords(t.getProblem(), t.getCause(), t.getSolution())) {
                 techKeywordCount++;
             }
         }
@@ -433,41 +454,22 @@ public class RuleBasedScorer {
     
     /**
      * 기술 키워드 포함 여부 확인 (에러명, 기술명)
+     * 비어 있는 항목은 기존 문자열 연결 방식과 같이 "null"로 검사한다. (ERROR_PATTERNS의 null과 일치, 점수 유지)
      */
-    private boolean hasTechnicalKeywords(String text) {
-        if (text == null) return false;
-        String lower = text.toLowerCase();
-        
-        boolean hasError = ERROR_PATTERNS.stream().anyMatch(lower::contains);
-        boolean hasTech = TECH_PATTERNS.stream().anyMatch(lower::contains);
-        
-        return hasError || hasTech;
+    static boolean hasTechnicalKeywords(String... texts) {
+        for (String text : texts) {
+            if (TECHNICAL_KEYWORDS.containsAny(String.valueOf(text))) {
+                return true;
+            }
+        }
+        return false;
     }
     
     /**
      * 기술 스택을 카테고리로 분류
      */
-    private Set<String> categorizeTechStack(List<String> skills) {
-        Set<String> categories = new HashSet<>();
-        
-        Map<String, List<String>> techMap = Map.of(
-            "Frontend", List.of("react", "vue", "angular", "javascript", "typescript", "html", "css", "next", "tailwind", "sass", "jquery", "svelte"),
-            "Backend", List.of("spring", "boot", "security", "validation", "java", "mybatis", "thymeleaf", "lombok", "querydsl", "JDBC", "c++", "c#", "node", "python", "django", "express", "flask", "nestjs", "go", "rust", "php", "ruby", "kotlin"),
-            "Database", List.of("mysql", "oracle", "postgresql", "mongodb", "redis", "mariadb", "sqlite", "mssql", "dynamodb", "elasticsearch"),
-            "DevOps", List.of("docker", "kubernetes", "aws", "jenkins", "git", "linux", "nginx", "gcp", "azure", "ci", "cd", "terraform", "github", "ansible")
-        );
-        
-        if (skills == null) return categories;
-        
-        for (String skill : skills) {
-            String lower = skill.toLowerCase();
-            for (Map.Entry<String, List<String>> entry : techMap.entrySet()) {
-                if (entry.getValue().stream().anyMatch(lower::contains)) {
-                    categories.add(entry.getKey());
-                }
-            }
-        }
-        return categories;
+    static Set<String> categorizeTechStack(List<String> skills) {
+        return TECH_CATEGORIES.matchGroups(skills);
     }
     
     /**
@@ -486,19 +488,14 @@ public class RuleBasedScorer {
     /**
      * 자기소개에 구체적인 키워드가 있는지 확인
      */
-    private boolean containsSpecificWords(String text) {
-        List<String> specificWords = List.of(
-            "경험", "개발", "프로젝트", "학습", "성장", "목표", "관심", "열정",
-            "팀", "협업", "문제", "해결", "기술", "도전", "역량", "성과"
-        );
-        String lower = text.toLowerCase();
-        return specificWords.stream().filter(lower::contains).count() >= 3;
+    static boolean containsSpecificWords(String text) {
+        return SPECIFIC_WORDS.countDistinctKeywords(text) >= 3;
     }
     
     /**
      * GitHub 잔디 스냅샷에서 총 기여도 파싱
      */
-    private int parseContributions(String snapshotJson) throws Exception {
+    int parseContributions(String snapshotJson) throws Exception {
         JsonNode root = objectMapper.readTree(snapshotJson);
         JsonNode weeks = root.get("weeks");
         
@@ -0,0 +1,85 @@
+package com.portfolio.builder.ai.application;
+
+/**
+ * 64비트 SimHash (텍스트 유사도 지문)
+ * 내용이 조금만 바뀐 텍스트는 지문의 해밍 거리가 작다 → 오타 수정 수준의 변경 감지용
+ * - 공백 정리 / 소문자 변환 후 글자 3-gram 단위로 투표 (한글은 띄어쓰기가 불규칙해 단어 대신 글자 단위)
+ */
+final class SimHash {
+
+    private static final int SHINGLE = 3;
+
+    private SimHash() {
+    }
+
+    /**
+     * 텍스트 지문 (빈 텍스트는 0)
+     */
+    static long fingerprint(CharSequence text) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) return 0L;
+        if (normalized.length() < SHINGLE) return mix(hash(normalized, 0, normalized.length()));
+
+        int[] votes = new int[64];
+        for (int i = 0; i + SHINGLE <= normalized.length(); i++) {
+            long h = mix(hash(normalized, i, i + SHINGLE));
+            for (int bit = 0; bit < 64; bit++) {
+                votes[bit] += ((h >>> bit) & 1L) != 0 ? 1 : -1;
+            }
+        }
+        long fingerprint = 0L;
+        for (int bit = 0; bit < 64; bit++) {
+            if (votes[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    /**
+     * 해밍 거리 (다른 비트 수, 0~64)
+     */
+    static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    private static String normalize(CharSequence text) {
+        if (text == null) return "";
+        StringBuilder sb = new StringBuilder(text.length());
+        boolean space = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = sb.length() > 0;
+                continue;
+            }
+            if (space) {
+                sb.append(' ');
+                space = false;
+            }
+            sb.append(Character.toLowerCase(c));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * FNV-1a 64비트
+     */
+    private static long hash(String text, int from, int to) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = from; i < to; i++) {
+            h ^= text.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    /**
+     * 비트 분산 (splitmix64 finalizer) - FNV는 상위 비트 편향이 있어 투표 전에 섞음
+     */
+    private static long mix(long h) {
+        h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+        return h ^ (h >>> 31);
+    }
+}
@@ -0,0 +1,42 @@
+package com.portfolio.builder.ai.application;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 평가 단계별 소요 시간 측정 (단계는 여러 스레드에서 동시에 기록될 수 있음)
+ */
+class StageTimer {
+
+    private final long startedAt = System.nanoTime();
+    private final Map<String, Long> elapsedMillis = new LinkedHashMap<>();
+
+    <T> T time(String stage, Supplier<T> task) {
+        long start = System.nanoTime();
+        try {
+            return task.get();
+        } finally {
+            record(stage, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    long totalMillis() {
+        return (System.nanoTime() - startedAt) / 1_000_000;
+    }
+
+    synchronized Map<String, Long> snapshot() {
+        return new LinkedHashMap<>(elapsedMillis);
+    }
+
+    private synchronized void record(String stage, long millis) {
+        elapsedMillis.put(stage, millis);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        snapshot().forEach((stage, millis) -> sb.append(stage).append('=').append(millis).append("ms, "));
+        return sb.append("total=").append(totalMillis()).append("ms").toString();
+    }
+}
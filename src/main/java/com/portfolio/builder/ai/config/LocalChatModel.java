@@ -0,0 +1,231 @@
+package com.portfolio.builder.ai.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * OpenAI 대신 쓰는 로컬 ChatModel (local-llm 프로필)
+ * - 같은 프롬프트 → 항상 같은 응답 (프롬프트 SHA-256 기반)
+ * - 표현력 평가 / 피드백 프롬프트 각각의 응답 형식(JSON)을 지킴
+ * - 지연 시간 분포(기본 + 지터 + 느린 꼬리)와 실패 / 무응답 주입 설정 가능
+ * 비용 없이 부하 테스트, 풀 크기 산정, 타임아웃 / 폴백 동작 확인용
+ */
+@Component
+@Primary
+@Profile("local-llm")
+@Slf4j
+public class LocalChatModel implements ChatModel {
+
+    private static final int STREAM_CHUNK_SIZE = 8;  // 스트리밍 조각 크기 (글자)
+    private static final long HANG_MS = 300_000;     // 무응답 주입 시 대기 시간
+
+    private static final List<String> EXPRESSION_SECTIONS = List.of("introduction", "projects", "troubleshooting");
+
+    private static final List<String> EXPRESSION_FEEDBACKS = List.of(
+            "경험이 구체적으로 드러나 읽기 쉽습니다",
+            "프로젝트 설명에 수치를 더하면 설득력이 높아집니다",
+            "기술 용어를 적절히 사용했지만 본인의 역할이 잘 보이지 않습니다",
+            "문장이 명확하고 핵심이 잘 정리되어 있습니다",
+            "추상적인 표현이 많아 구체적인 사례를 보강하면 좋겠습니다"
+    );
+
+    private static final List<String> OVERALL_FEEDBACKS = List.of(
+            "전반적으로 잘 구성된 포트폴리오입니다. 프로젝트마다 본인의 기여를 조금 더 드러내면 좋겠습니다.",
+            "기본 틀이 탄탄합니다. 트러블슈팅 사례를 보강하면 문제 해결 능력이 더 잘 전달될 거예요.",
+            "기술 스택이 다양하게 드러나 있습니다. 자기소개에 지원 동기와 강점을 구체적으로 적어보세요.",
+            "성실하게 작성된 포트폴리오입니다. 프로젝트 성과를 수치로 표현하면 더욱 좋아질 거예요."
+    );
+
+    private static final List<String> TIPS = List.of(
+            "프로젝트 설명에 본인의 역할과 기여도를 명시해보세요",
+            "트러블슈팅 사례에 원인 분석 과정을 단계별로 적어보세요",
+            "자기소개에 지원 분야와 강점을 한 문장으로 정리해보세요",
+            "프로젝트 성과를 응답 시간, 사용자 수 같은 수치로 표현해보세요",
+            "주요 기술을 선택한 이유를 함께 적어보세요",
+            "GitHub 저장소 링크와 실행 화면을 추가해보세요"
+    );
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final long latencyMs;
+    private final long jitterMs;
+    private final double slowRate;
+    private final long slowLatencyMs;
+    private final double failureRate;
+    private final double hangRate;
+
+    /**
+     * @param latencyMs 기본 응답 시간
+     * @param jitterMs 기본 응답 시간에 더해지는 균등 분포 지터 (0 ~ jitterMs)
+     * @param slowRate 느린 응답 비율 (0~1, p99 꼬리 재현)
+     * @param slowLatencyMs 느린 응답 시간
+     * @param failureRate 예외 발생 비율 (0~1)
+     * @param hangRate 응답하지 않는 호출 비율 (0~1, 호출 제한 시간 확인용)
+     */
+    public LocalChatModel(
+            @Value("${ai.local-llm.latency-ms:800}") long latencyMs,
+            @Value("${ai.local-llm.jitter-ms:400}") long jitterMs,
+            @Value("${ai.local-llm.slow-rate:0.05}") double slowRate,
+            @Value("${ai.local-llm.slow-latency-ms:8000}") long slowLatencyMs,
+            @Value("${ai.local-llm.failure-rate:0.0}") double failureRate,
+            @Value("${ai.local-llm.hang-rate:0.0}") double hangRate) {
+        this.latencyMs = latencyMs;
+        this.jitterMs = jitterMs;
+        this.slowRate = slowRate;
+        this.slowLatencyMs = slowLatencyMs;
+        this.failureRate = failureRate;
+        this.hangRate = hangRate;
+        log.info("Local ChatModel enabled - latency: {}ms (+0~{}ms), slow: {} @ {}ms, failure: {}, hang: {}",
+                latencyMs, jitterMs, slowRate, slowLatencyMs, failureRate, hangRate);
+    }
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        String content = respond(prompt.getContents());
+        Outcome outcome = nextOutcome();
+        sleep(outcome.latencyMs());
+        if (outcome.fail()) {
+            throw new IllegalStateException("로컬 LLM 실패 주입");
+        }
+        return toResponse(content);
+    }
+
+    /**
+     * 응답을 일정 크기 조각으로 나눠 지연 시간에 걸쳐 전달
+     * 첫 조각까지 전체 지연의 1/3, 나머지를 조각 사이에 분배
+     */
+    @Override
+    public Flux<ChatResponse> stream(Prompt prompt) {
+        String content = respond(prompt.getContents());
+        Outcome outcome = nextOutcome();
+        List<String> chunks = split(content);
+
+        long firstChunkMs = outcome.latencyMs() / 3;
+        long perChunkMs = Math.max(1, (outcome.latencyMs() - firstChunkMs) / chunks.size());
+        Flux<String> body = outcome.fail()
+                ? Flux.fromIterable(chunks.subList(0, chunks.size() / 2))
+                        .concatWith(Flux.error(new IllegalStateException("로컬 LLM 스트리밍 실패 주입")))
+                : Flux.fromIterable(chunks);
+
+        return body
+                .delayElements(Duration.ofMillis(perChunkMs))
+                .delaySubscription(Duration.ofMillis(firstChunkMs))
+                .map(this::toResponse);
+    }
+
+    /**
+     * 프롬프트 종류별 응답 생성 (프롬프트가 같으면 응답도 같음)
+     */
+    private String respond(String promptText) {
+        long seed = seed(promptText);
+        try {
+            if (promptText.contains("표현력을 0~20점으로 평가")) {
+                // 섹션별 평가 요청이면 요청한 섹션마다 {"score", "feedback"}
+                Map<String, Object> body = new LinkedHashMap<>();
+                for (String section : EXPRESSION_SECTIONS) {
+                    if (promptText.contains("\"" + section + "\":")) {
+                        long sectionSeed = seed(promptText + section);
+                        body.put(section, expressionScore(sectionSeed));
+                    }
+                }
+                return objectMapper.writeValueAsString(body.isEmpty() ? expressionScore(seed) : body);
+            }
+            if (promptText.contains("overallFeedback")) {
+                List<String> tips = new ArrayList<>(3);
+                int offset = (int) Math.floorMod(seed >>> 16, (long) TIPS.size());
+                for (int i = 0; i < 3; i++) {
+                    tips.add(TIPS.get((offset + i * 2) % TIPS.size()));
+                }
+                Map<String, Object> body = new LinkedHashMap<>();
+                body.put("overallFeedback", pick(OVERALL_FEEDBACKS, seed));
+                body.put("tips", tips);
+                return "```json\n" + objectMapper.writeValueAsString(body) + "\n```";
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("로컬 LLM 응답 생성 실패", e);
+        }
+        return "로컬 LLM 응답입니다.";
+    }
+
+    private Map<String, Object> expressionScore(long seed) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("score", 8 + (int) Math.floorMod(seed, 11L));  // 8~18점
+        body.put("feedback", pick(EXPRESSION_FEEDBACKS, seed >>> 8));
+        return body;
+    }
+
+    /**
+     * 이번 호출의 지연 시간 / 실패 여부 결정 (호출마다 무작위)
+     */
+    private Outcome nextOutcome() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextDouble() < hangRate) {
+            return new Outcome(HANG_MS, false);
+        }
+        long latency = random.nextDouble() < slowRate
+                ? slowLatencyMs
+                : latencyMs + (jitterMs > 0 ? random.nextLong(jitterMs + 1) : 0);
+        return new Outcome(latency, random.nextDouble() < failureRate);
+    }
+
+    private record Outcome(long latencyMs, boolean fail) {}
+
+    private ChatResponse toResponse(String text) {
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(text))));
+    }
+
+    private List<String> split(String content) {
+        List<String> chunks = new ArrayList<>();
+        for (int i = 0; i < content.length(); i += STREAM_CHUNK_SIZE) {
+            chunks.add(content.substring(i, Math.min(content.length(), i + STREAM_CHUNK_SIZE)));
+        }
+        return chunks;
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            // 호출 제한 시간 초과로 취소된 경우
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("로컬 LLM 호출이 취소되었습니다", e);
+        }
+    }
+
+    private static String pick(List<String> values, long seed) {
+        return values.get((int) Math.floorMod(seed, (long) values.size()));
+    }
+
+    private static long seed(String text) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+            long seed = 0;
+            for (int i = 0; i < 8; i++) {
+                seed = (seed << 8) | (hash[i] & 0xff);
+            }
+            return seed;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
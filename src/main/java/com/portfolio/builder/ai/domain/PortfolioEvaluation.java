@@ -0,0 +1,58 @@
+package com.portfolio.builder.ai.domain;
+
+import com.portfolio.builder.portfolio.domain.Portfolio;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포트폴리오 AI 평가 기록
+ * 항목별 점수는 컬럼으로 (점수 추이 조회 시 결과 JSON을 읽지 않음), 세부 내용 / 피드백 / 팁은 평가 응답 JSON 그대로 저장
+ */
+@Entity
+@Table(name = "TB_PORTFOLIO_EVALUATION",
+        indexes = @Index(name = "IDX_PORTFOLIO_EVALUATION_PF", columnList = "portfolio_id, evaluated_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PortfolioEvaluation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "portfolio_id", nullable = false)
+    private Portfolio portfolio;
+
+    @Column(nullable = false)
+    private Integer totalScore;
+
+    @Column(nullable = false)
+    private Integer completenessScore;
+
+    @Column(nullable = false)
+    private Integer technicalScore;
+
+    @Column(nullable = false)
+    private Integer troubleshootingScore;
+
+    @Column(nullable = false)
+    private Integer expressionScore;
+
+    @Column(nullable = false)
+    private Integer activityScore;
+
+    @Column(nullable = false, length = 64)
+    private String contentDigest;  // 평가 당시 콘텐츠 다이제스트 (EvaluationDigest)
+
+    @Lob
+    @Column(columnDefinition = "CLOB", nullable = false)
+    private String result;  // EvaluationResponse JSON
+
+    @Column(nullable = false)
+    private LocalDateTime evaluatedAt;
+}
@@ -0,0 +1,39 @@
+package com.portfolio.builder.ai.domain;
+
+import com.portfolio.builder.ai.dto.EvaluationHistoryItem;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface PortfolioEvaluationRepository extends JpaRepository<PortfolioEvaluation, Long> {
+
+    /**
+     * 포트폴리오의 가장 최근 평가
+     */
+    Optional<PortfolioEvaluation> findFirstByPortfolioIdOrderByEvaluatedAtDescIdDesc(Long portfolioId);
+
+    /**
+     * 평가 점수 추이 (최신순, 결과 JSON 제외)
+     */
+    @Query("""
+        SELECT new com.portfolio.builder.ai.dto.EvaluationHistoryItem(
+            e.id, e.totalScore, e.completenessScore, e.technicalScore, e.troubleshootingScore,
+            e.expressionScore, e.activityScore, e.evaluatedAt)
+        FROM PortfolioEvaluation e
+        WHERE e.portfolio.id = :portfolioId
+        ORDER BY e.evaluatedAt DESC, e.id DESC
+        """)
+    Slice<EvaluationHistoryItem> findHistory(@Param("portfolioId") Long portfolioId, Pageable pageable);
+
+    /**
+     * 특정 포트폴리오의 평가 기록 삭제 (포트폴리오 삭제용)
+     */
+    @Modifying
+    @Query("DELETE FROM PortfolioEvaluation e WHERE e.portfolio.id = :portfolioId")
+    int deleteAllByPortfolioId(@Param("portfolioId") Long portfolioId);
+}
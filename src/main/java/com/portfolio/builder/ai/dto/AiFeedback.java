@@ -1,6 +1,6 @@
 package com.portfolio.builder.ai.dto;
 
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -8,8 +8,15 @@ import java.util.List;
 
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 public class AiFeedback {
     private String overallFeedback;  // 전체 피드백
     private List<String> tips;       // 개선 팁 목록
+    
+    @JsonIgnore
+    private boolean fallback;        // AI 실패로 기본 피드백 사용
+    
+    public AiFeedback(String overallFeedback, List<String> tips) {
+        this.overallFeedback = overallFeedback;
+        this.tips = tips;
+    }
 }
@@ -0,0 +1,18 @@
+package com.portfolio.builder.ai.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CohortEvaluationRequest {
+    @NotBlank
+    private String branch;     // 지점: 종로, 강남
+    @NotBlank
+    private String classroom;  // 강의실
+    @NotBlank
+    private String cohort;     // 기수
+}
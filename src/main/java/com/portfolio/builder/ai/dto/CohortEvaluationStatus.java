@@ -0,0 +1,28 @@
+package com.portfolio.builder.ai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CohortEvaluationStatus {
+    private String batchId;
+    private String branch;
+    private String classroom;
+    private String cohort;
+    private EvaluationJobStatus status;  // QUEUED, RUNNING, COMPLETED, FAILED
+    private int total;                   // 대상 포트폴리오 수
+    private int evaluated;               // AI 평가 완료
+    private int skipped;                 // 콘텐츠 변경 없음 (이전 결과 재사용)
+    private int failed;                  // 평가 실패
+    private int scoresUpdated;           // aiScore 갱신 수
+    private Long requestedBy;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
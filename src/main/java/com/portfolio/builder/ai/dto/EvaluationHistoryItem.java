@@ -0,0 +1,23 @@
+package com.portfolio.builder.ai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EvaluationHistoryItem {
+    private Long evaluationId;
+    private Integer totalScore;
+    private Integer completeness;
+    private Integer technical;
+    private Integer troubleshooting;
+    private Integer expression;
+    private Integer activity;
+    private LocalDateTime evaluatedAt;
+}
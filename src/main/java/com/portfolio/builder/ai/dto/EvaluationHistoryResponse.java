@@ -0,0 +1,19 @@
+package com.portfolio.builder.ai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EvaluationHistoryResponse {
+    private List<EvaluationHistoryItem> items;  // 최신순
+    private int page;
+    private int size;
+    private boolean hasNext;                    // 다음 페이지 존재 여부 (전체 개수는 세지 않음)
+}
@@ -0,0 +1,22 @@
+package com.portfolio.builder.ai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EvaluationJobResponse {
+    private String jobId;                      // 평가 작업 ID
+    private Long portfolioId;
+    private EvaluationJobStatus status;        // QUEUED, RUNNING, COMPLETED, FAILED
+    private EvaluationResponse result;         // 완료 시 평가 결과
+    private String errorMessage;               // 실패 사유
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,15 @@
+package com.portfolio.builder.ai.dto;
+
+/**
+ * 평가 작업 상태
+ */
+public enum EvaluationJobStatus {
+    QUEUED,     // 대기 중
+    RUNNING,    // 평가 중
+    COMPLETED,  // 완료 (result 포함)
+    FAILED;     // 실패 (errorMessage 포함)
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
@@ -0,0 +1,17 @@
+package com.portfolio.builder.ai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스트리밍 피드백 조각
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeedbackDelta {
+    private String field;   // overallFeedback, tips
+    private Integer index;  // tips 항목 순서 (overallFeedback은 null)
+    private String text;    // 이번에 추가된 텍스트
+}
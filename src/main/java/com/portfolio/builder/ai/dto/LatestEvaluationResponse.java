@@ -0,0 +1,16 @@
+package com.portfolio.builder.ai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LatestEvaluationResponse {
+    private Long evaluationId;
+    private EvaluationResponse evaluation;
+    private boolean contentChanged;  // 평가 이후 포트폴리오 내용이 바뀌었는지 (다시 평가 안내용)
+}
@@ -1,15 +1,32 @@
 package com.portfolio.builder.ai.presentation;
 
+import com.portfolio.builder.ai.application.CohortEvaluationService;
+import com.portfolio.builder.ai.application.EvaluationJobService;
 import com.portfolio.builder.ai.application.PortfolioEvaluationService;
+import com.portfolio.builder.ai.dto.CohortEvaluationRequest;
+import com.portfolio.builder.ai.dto.CohortEvaluationStatus;
+import com.portfolio.builder.ai.dto.EvaluationJobResponse;
+import com.portfolio.builder.ai.dto.EvaluationHistoryResponse;
+import com.portfolio.builder.ai.dto.EvaluationJobStatus;
 import com.portfolio.builder.ai.dto.EvaluationResponse;
+import com.portfolio.builder.ai.dto.LatestEvaluationResponse;
+import com.portfolio.builder.global.ratelimit.RateLimitExceededException;
 import com.portfolio.builder.global.ratelimit.RateLimitExceededResponse;
 import com.portfolio.builder.global.ratelimit.RateLimitService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/portfolios")
@@ -18,11 +35,13 @@ import org.springframework.web.bind.annotation.*;
 public class EvaluationController {
     
     private final PortfolioEvaluationService evaluationService;
+    private final EvaluationJobService evaluationJobService;
+    private final CohortEvaluationService cohortEvaluationService;
     private final RateLimitService rateLimitService;
     
     /**
-     * 포트폴리오 AI 평가 요청
-     * POST /api/portfolios/{id}/evaluate
+     * 포트폴리오 AI 평가 요청 (작업 등록 후 즉시 반환)
+     * POST /api/portfolios/{id}/evaluate → 202 + 작업 ID
      * Rate Limit: 1일 3회
      */
     @PostMapping("/{id}/evaluate")
@@ -30,27 +49,162 @@ public class EvaluationController {
             @PathVariable("id") Long id,
             @AuthenticationPrincipal Long memberId) {
         
-        // Rate Limit 체크
-        if (!rateLimitService.isAllowed(memberId)) {
-            log.warn("Rate limit exceeded - memberId: {}, portfolioId: {}", memberId, id);
-            
-            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
-                .body(RateLimitExceededResponse.builder()
-                    .message("일일 AI 평가 횟수(3회)를 초과했습니다. 내일 다시 시도해주세요.")
-                    .dailyLimit(3)
-                    .used(3)
-                    .remaining(0)
-                    .build());
+        // 콘텐츠가 바뀌지 않았으면 횟수 차감 없이 이전 결과 반환 (권한 체크 포함)
+        Optional<EvaluationResponse> cached = evaluationService.findCachedEvaluation(id, memberId);
+        if (cached.isPresent()) {
+            return ResponseEntity.ok(cachedJob(id, cached.get()));
         }
         
-        log.info("Portfolio evaluation requested - portfolioId: {}, memberId: {}, remaining: {}", 
-            id, memberId, rateLimitService.getRemainingCount(memberId));
+        log.info("Portfolio evaluation requested - portfolioId: {}, memberId: {}", id, memberId);
+        
+        // 진행 중인 작업이 있으면 횟수 차감 없이 그 작업 반환 (차감 / 반환은 작업 등록과 함께 처리)
+        try {
+            EvaluationJobResponse job = evaluationJobService.submit(id, memberId);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+        } catch (RateLimitExceededException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(rateLimitExceeded());
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(queueFull());
+        }
+    }
+    
+    /**
+     * 포트폴리오 AI 평가 스트리밍 (SSE)
+     * POST /api/portfolios/{id}/evaluate/stream
+     * 이벤트: status → ruleScores (규칙 점수) → scores (AI 표현력 반영) → feedback (피드백 조각) → status (완료)
+     * AI 피드백 실패 시 feedbackFallback (기본 피드백, 이전 feedback 조각은 버림)
+     * Rate Limit: evaluate와 공유
+     */
+    @PostMapping(value = "/{id}/evaluate/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> evaluateStream(
+            @PathVariable("id") Long id,
+            @AuthenticationPrincipal Long memberId) {
         
-        EvaluationResponse response = evaluationService.evaluate(id, memberId);
+        // 콘텐츠가 바뀌지 않았으면 횟수 차감 없이 이전 결과 반환 (권한 체크 포함)
+        Optional<EvaluationResponse> cached = evaluationService.findCachedEvaluation(id, memberId);
+        if (cached.isPresent()) {
+            return ResponseEntity.ok(evaluationJobService.completed(cachedJob(id, cached.get())));
+        }
         
-        log.info("Portfolio evaluation completed - portfolioId: {}, totalScore: {}", id, response.getTotalScore());
+        log.info("Portfolio evaluation stream requested - portfolioId: {}, memberId: {}", id, memberId);
         
-        return ResponseEntity.ok(response);
+        // 진행 중인 작업이 있으면 횟수 차감 없이 합류
+        try {
+            return ResponseEntity.ok(evaluationJobService.submitAndSubscribe(id, memberId));
+        } catch (RateLimitExceededException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(errorEmitter(rateLimitExceeded()));
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorEmitter(queueFull()));
+        }
+    }
+    
+    /**
+     * 평가 작업 상태 조회 (폴링)
+     * GET /api/portfolios/evaluate/jobs/{jobId}
+     */
+    @GetMapping("/evaluate/jobs/{jobId}")
+    public ResponseEntity<EvaluationJobResponse> getJob(
+            @PathVariable("jobId") String jobId,
+            @AuthenticationPrincipal Long memberId) {
+        return ResponseEntity.ok(evaluationJobService.getJob(jobId, memberId));
+    }
+    
+    /**
+     * 평가 작업 상태 구독 (SSE, 완료 시 결과 포함 후 종료)
+     * GET /api/portfolios/evaluate/jobs/{jobId}/events
+     */
+    @GetMapping(value = "/evaluate/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeJob(
+            @PathVariable("jobId") String jobId,
+            @AuthenticationPrincipal Long memberId) {
+        return evaluationJobService.subscribe(jobId, memberId);
+    }
+    
+    /**
+     * 반 일괄 AI 평가 시작 (운영팀/강사)
+     * POST /api/portfolios/evaluate/cohort → 202 + 진행 상황
+     */
+    @PostMapping("/evaluate/cohort")
+    public ResponseEntity<CohortEvaluationStatus> evaluateCohort(
+            @AuthenticationPrincipal Long memberId,
+            @Valid @RequestBody CohortEvaluationRequest request) {
+        log.info("Cohort evaluation requested - memberId: {}, branch: {}, classroom: {}, cohort: {}",
+            memberId, request.getBranch(), request.getClassroom(), request.getCohort());
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+            .body(cohortEvaluationService.start(memberId, request.getBranch(), request.getClassroom(), request.getCohort()));
+    }
+    
+    /**
+     * 반 일괄 AI 평가 진행 상황
+     * GET /api/portfolios/evaluate/cohort/{batchId}
+     */
+    @GetMapping("/evaluate/cohort/{batchId}")
+    public ResponseEntity<CohortEvaluationStatus> getCohortEvaluation(
+            @PathVariable("batchId") String batchId,
+            @AuthenticationPrincipal Long memberId) {
+        return ResponseEntity.ok(cohortEvaluationService.getStatus(memberId, batchId));
+    }
+    
+    /**
+     * 최근 평가 결과 조회 (다시 평가하지 않음, 횟수 차감 없음)
+     * GET /api/portfolios/{id}/evaluation/latest → 평가 기록이 없으면 204
+     */
+    @GetMapping("/{id}/evaluation/latest")
+    public ResponseEntity<LatestEvaluationResponse> getLatestEvaluation(
+            @PathVariable("id") Long id,
+            @AuthenticationPrincipal Long memberId) {
+        return evaluationService.getLatestEvaluation(id, memberId)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+    
+    /**
+     * 평가 점수 추이 (최신순, 페이지 단위)
+     * GET /api/portfolios/{id}/evaluation/history?page=0&size=20
+     */
+    @GetMapping("/{id}/evaluation/history")
+    public ResponseEntity<EvaluationHistoryResponse> getEvaluationHistory(
+            @PathVariable("id") Long id,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @AuthenticationPrincipal Long memberId) {
+        return ResponseEntity.ok(evaluationService.getEvaluationHistory(id, memberId, page, size));
+    }
+    
+    private EvaluationJobResponse cachedJob(Long portfolioId, EvaluationResponse result) {
+        return EvaluationJobResponse.builder()
+            .portfolioId(portfolioId)
+            .status(EvaluationJobStatus.COMPLETED)
+            .result(result)
+            .completedAt(result.getEvaluatedAt())
+            .build();
+    }
+    
+    private Map<String, String> queueFull() {
+        return Map.of("message", "평가 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+    }
+    
+    /**
+     * error 이벤트 한 건을 보내고 닫는 SSE
+     */
+    private SseEmitter errorEmitter(Object data) {
+        SseEmitter emitter = new SseEmitter();
+        try {
+            emitter.send(SseEmitter.event().name("error").data(data));
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+    
+    private RateLimitExceededResponse rateLimitExceeded() {
+        return RateLimitExceededResponse.builder()
+            .message("일일 AI 평가 횟수(3회)를 초과했습니다. 내일 다시 시도해주세요.")
+            .dailyLimit(3)
+            .used(3)
+            .remaining(0)
+            .build();
     }
     
     /**
@@ -0,0 +1,183 @@
+package com.portfolio.builder.github.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * GitHub API 응답 캐시 (회원 + API별, Redis)
+ * - TTL 이내: GitHub 호출 없이 캐시 응답 (hit)
+ * - TTL 이후: 저장된 ETag로 If-None-Match 재검증 → 304면 캐시 응답 재사용 (revalidated, GitHub 요청 한도 차감 없음)
+ * - 200이면 새 응답 저장 (miss), 호출 실패 시 이전 응답이 있으면 그대로 사용 (staleOnError)
+ * - GraphQL(잔디)은 POST라 ETag가 없어 TTL만 적용
+ * TTL은 github.cache.{api}-ttl-seconds로 조정, Redis 장애 시 캐시 없이 동작
+ */
+@Component
+@Slf4j
+public class GithubApiCache {
+
+    private static final String CACHE_PREFIX = "github:cache:";
+    private static final Duration RETENTION = Duration.ofDays(7);  // TTL이 지나도 ETag 재검증용으로 보관
+    private static final int MAX_BODY_LENGTH = 512 * 1024;         // 큰 README는 캐싱하지 않음
+
+    /**
+     * 캐싱 대상 API
+     * @param revalidatable ETag 재검증 가능 여부 (REST GET만)
+     */
+    public enum Endpoint {
+        REPOS(true),
+        LANGUAGES(true),
+        README(true),
+        REPOSITORY(true),
+        CONTRIBUTIONS(false);
+
+        private final boolean revalidatable;
+
+        Endpoint(boolean revalidatable) {
+            this.revalidatable = revalidatable;
+        }
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<Endpoint, Duration> ttls = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+
+    public GithubApiCache(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${github.cache.repos-ttl-seconds:300}") long reposTtlSeconds,
+            @Value("${github.cache.languages-ttl-seconds:3600}") long languagesTtlSeconds,
+            @Value("${github.cache.readme-ttl-seconds:1800}") long readmeTtlSeconds,
+            @Value("${github.cache.repository-ttl-seconds:600}") long repositoryTtlSeconds,
+            @Value("${github.cache.contributions-ttl-seconds:1800}") long contributionsTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        ttls.put(Endpoint.REPOS, Duration.ofSeconds(reposTtlSeconds));
+        ttls.put(Endpoint.LANGUAGES, Duration.ofSeconds(languagesTtlSeconds));
+        ttls.put(Endpoint.README, Duration.ofSeconds(readmeTtlSeconds));
+        ttls.put(Endpoint.REPOSITORY, Duration.ofSeconds(repositoryTtlSeconds));
+        ttls.put(Endpoint.CONTRIBUTIONS, Duration.ofSeconds(contributionsTtlSeconds));
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats());
+        }
+    }
+
+    /**
+     * 캐시를 거쳐 GitHub 응답 본문 조회
+     * @param resource 회원 안에서 응답을 구분하는 값 (저장소 이름 등, 없으면 null)
+     * @param call GitHub 호출 (인자: If-None-Match로 보낼 ETag, 없으면 null)
+     * @return 응답 본문 (캐시 또는 GitHub)
+     */
+    public String fetch(Endpoint endpoint, Long memberId, String resource, Function<String, ResponseEntity<String>> call) {
+        EndpointStats endpointStats = stats.get(endpoint);
+        String key = cacheKey(endpoint, memberId, resource);
+        CachedResponse cached = get(key);
+        long now = System.currentTimeMillis();
+
+        if (cached != null && now - cached.fetchedAt() < ttls.get(endpoint).toMillis()) {
+            endpointStats.hits.increment();
+            return cached.body();
+        }
+
+        String etag = cached != null && endpoint.revalidatable ? cached.etag() : null;
+        ResponseEntity<String> response;
+        try {
+            response = call.apply(etag);
+        } catch (RuntimeException e) {
+            if (cached != null) {
+                endpointStats.staleOnError.increment();
+                log.warn("GitHub {} call failed, serving cached response - memberId: {}: {}", endpoint, memberId, e.getMessage());
+                return cached.body();
+            }
+            endpointStats.errors.increment();
+            throw e;
+        }
+
+        if (response.getStatusCode().value() == HttpStatus.NOT_MODIFIED.value() && cached != null) {
+            endpointStats.revalidated.increment();
+            put(key, new CachedResponse(cached.etag(), cached.body(), now));
+            return cached.body();
+        }
+
+        endpointStats.misses.increment();
+        String body = response.getBody();
+        if (response.getStatusCode().is2xxSuccessful() && body != null && body.length() <= MAX_BODY_LENGTH) {
+            put(key, new CachedResponse(response.getHeaders().getETag(), body, now));
+        }
+        return body;
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        stats.forEach((endpoint, endpointStats) -> {
+            Map<String, Object> snapshot = endpointStats.snapshot();
+            snapshot.put("ttlSeconds", ttls.get(endpoint).toSeconds());
+            metrics.put(endpoint.name().toLowerCase(), snapshot);
+        });
+        return metrics;
+    }
+
+    private String cacheKey(Endpoint endpoint, Long memberId, String resource) {
+        String key = CACHE_PREFIX + endpoint.name().toLowerCase() + ":" + memberId;
+        return resource != null ? key + ":" + resource : key;
+    }
+
+    private CachedResponse get(String key) {
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+            return value != null ? objectMapper.readValue(value, CachedResponse.class) : null;
+        } catch (Exception e) {
+            log.warn("GitHub cache get failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void put(String key, CachedResponse response) {
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(response), RETENTION);
+        } catch (Exception e) {
+            log.warn("GitHub cache set failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 저장된 응답
+     * @param fetchedAt 마지막으로 GitHub에서 확인한 시각 (epoch ms, 304 재검증 시 갱신)
+     */
+    record CachedResponse(String etag, String body, long fetchedAt) {}
+
+    private static class EndpointStats {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder revalidated = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder staleOnError = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        Map<String, Object> snapshot() {
+            long hitCount = hits.sum();
+            long revalidatedCount = revalidated.sum();
+            long total = hitCount + revalidatedCount + misses.sum() + staleOnError.sum() + errors.sum();
+            Map<String, Object> snapshot = new LinkedHashMap<>();
+            snapshot.put("hits", hitCount);
+            snapshot.put("revalidated", revalidatedCount);
+            snapshot.put("misses", misses.sum());
+            snapshot.put("staleOnError", staleOnError.sum());
+            snapshot.put("errors", errors.sum());
+            // GitHub 본문 전송 없이 응답한 비율 (hit + 304)
+            snapshot.put("cacheRate", total == 0 ? 0.0 : Math.round((hitCount + revalidatedCount) * 1000.0 / total) / 1000.0);
+            return snapshot;
+        }
+    }
+}
@@ -1,46 +1,72 @@
 package com.portfolio.builder.github.application;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.builder.github.application.GithubApiCache.Endpoint;
 import com.portfolio.builder.member.application.AuthService;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class GithubService {
 
     private final AuthService authService;
+    private final GithubApiCache githubApiCache;
+    private final ObjectMapper objectMapper;
     private final RestTemplate restTemplate = new RestTemplate();
 
+    /**
+     * 저장소별 언어 동시 조회 (가상 스레드, 동시 GitHub 호출 수는 fanoutLimiter로 제한)
+     */
+    private final ExecutorService fanoutExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore fanoutLimiter;
+    private final long callTimeoutMs;
+    private final long batchTimeoutMs;
+
+    private static final MediaType README_MEDIA_TYPE = MediaType.parseMediaType("application/vnd.github.raw");
+
+    public GithubService(
+            AuthService authService,
+            GithubApiCache githubApiCache,
+            ObjectMapper objectMapper,
+            @Value("${github.fanout.max-concurrency:8}") int maxConcurrency,
+            @Value("${github.fanout.call-timeout-ms:3000}") long callTimeoutMs,
+            @Value("${github.fanout.batch-timeout-ms:10000}") long batchTimeoutMs) {
+        this.authService = authService;
+        this.githubApiCache = githubApiCache;
+        this.objectMapper = objectMapper;
+        this.fanoutLimiter = new Semaphore(maxConcurrency);
+        this.callTimeoutMs = callTimeoutMs;
+        this.batchTimeoutMs = batchTimeoutMs;
+    }
+
     public List<Map<String, Object>> getRepositories(Long memberId) {
         String accessToken = authService.getGithubAccessToken(memberId);
         String username = authService.getGithubUsername(memberId);
         
         String url = "https://api.github.com/users/" + username + "/repos?sort=updated&per_page=100";
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(accessToken);
-        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
-        headers.set("X-GitHub-Api-Version", "2022-11-28");
-
-        HttpEntity<Void> request = new HttpEntity<>(headers);
-
         try {
-            ResponseEntity<List<Map<String, Object>>> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    request,
-                    new ParameterizedTypeReference<List<Map<String, Object>>>() {}
-            );
-
-            List<Map<String, Object>> repos = response.getBody();
+            String body = githubApiCache.fetch(Endpoint.REPOS, memberId, null,
+                    etag -> get(url, accessToken, MediaType.APPLICATION_JSON, etag));
+            List<Map<String, Object>> repos = parse(body, new TypeReference<List<Map<String, Object>>>() {});
             if (repos == null) {
                 return Collections.emptyList();
             }
@@ -74,53 +100,99 @@ public class GithubService {
     public Map<String, Integer> getLanguages(Long memberId, String repoName) {
         String accessToken = authService.getGithubAccessToken(memberId);
         String username = authService.getGithubUsername(memberId);
-        
-        String url = "https://api.github.com/repos/" + username + "/" + repoName + "/languages";
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(accessToken);
-        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
-        headers.set("X-GitHub-Api-Version", "2022-11-28");
-
-        HttpEntity<Void> request = new HttpEntity<>(headers);
 
         try {
-            ResponseEntity<Map<String, Integer>> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    request,
-                    new ParameterizedTypeReference<Map<String, Integer>>() {}
-            );
-
-            return response.getBody();
+            return fetchLanguages(memberId, username, accessToken, repoName);
         } catch (Exception e) {
             log.error("Failed to fetch repository languages: ", e);
             return Collections.emptyMap();
         }
     }
 
-    public String getReadme(Long memberId, String repoName) {
+    /**
+     * 저장소 목록 + 저장소별 언어 (프로젝트 선택 화면용, 저장소마다 languages 호출하던 것을 한 번에)
+     * - 언어는 가상 스레드에서 동시에 조회, 동시 GitHub 호출 수는 github.fanout.max-concurrency로 제한
+     * - 호출별 시간 제한(call-timeout-ms) + 전체 시간 제한(batch-timeout-ms)
+     * - 일부 저장소 실패 시 해당 저장소만 languages 없이 languagesError와 함께 반환 (전체는 성공)
+     */
+    public Map<String, Object> getRepositoriesWithLanguages(Long memberId) {
+        List<Map<String, Object>> repos = getRepositories(memberId);
         String accessToken = authService.getGithubAccessToken(memberId);
         String username = authService.getGithubUsername(memberId);
-        
-        String url = "https://api.github.com/repos/" + username + "/" + repoName + "/readme";
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(accessToken);
-        headers.setAccept(List.of(MediaType.parseMediaType("application/vnd.github.raw")));
-        headers.set("X-GitHub-Api-Version", "2022-11-28");
+        List<Future<Map<String, Integer>>> futures = new ArrayList<>(repos.size());
+        for (Map<String, Object> repo : repos) {
+            String repoName = String.valueOf(repo.get("name"));
+            futures.add(fanoutExecutor.submit(() -> withLimit(() -> fetchLanguages(memberId, username, accessToken, repoName))));
+        }
 
-        HttpEntity<Void> request = new HttpEntity<>(headers);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchTimeoutMs);
+        List<String> failed = new ArrayList<>();
+        for (int i = 0; i < repos.size(); i++) {
+            Map<String, Object> repo = repos.get(i);
+            Future<Map<String, Integer>> future = futures.get(i);
+            try {
+                Map<String, Integer> languages = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                repo.put("languages", languages != null ? languages : Collections.emptyMap());
+            } catch (Exception e) {
+                future.cancel(true);
+                boolean timedOut = e instanceof TimeoutException || e.getCause() instanceof TimeoutException;
+                repo.put("languages", null);
+                repo.put("languagesError", timedOut ? "timeout" : "failed");
+                failed.add(String.valueOf(repo.get("name")));
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        if (!failed.isEmpty()) {
+            log.warn("Failed to fetch languages for {}/{} repositories - memberId: {}, repos: {}",
+                    failed.size(), repos.size(), memberId, failed);
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("repositories", repos);
+        result.put("failed", failed);
+        return result;
+    }
+
+    private Map<String, Integer> fetchLanguages(Long memberId, String username, String accessToken, String repoName) throws IOException {
+        String url = "https://api.github.com/repos/" + username + "/" + repoName + "/languages";
+        String body = githubApiCache.fetch(Endpoint.LANGUAGES, memberId, repoName,
+                etag -> get(url, accessToken, MediaType.APPLICATION_JSON, etag));
+        return parse(body, new TypeReference<Map<String, Integer>>() {});
+    }
 
+    /**
+     * 동시 호출 수 제한 + 호출별 시간 제한 (초과 시 호출 스레드를 인터럽트해 연결을 끊음)
+     */
+    private <T> T withLimit(Callable<T> call) throws Exception {
+        fanoutLimiter.acquire();
         try {
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    request,
-                    String.class
-            );
+            Future<T> future = fanoutExecutor.submit(call);
+            try {
+                return future.get(callTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException | InterruptedException e) {
+                future.cancel(true);
+                throw e;
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof Exception cause ? cause : e;
+            }
+        } finally {
+            fanoutLimiter.release();
+        }
+    }
+
+    public String getReadme(Long memberId, String repoName) {
+        String accessToken = authService.getGithubAccessToken(memberId);
+        String username = authService.getGithubUsername(memberId);
+        
+        String url = "https://api.github.com/repos/" + username + "/" + repoName + "/readme";
 
-            return response.getBody();
+        try {
+            return githubApiCache.fetch(Endpoint.README, memberId, repoName,
+                    etag -> get(url, accessToken, README_MEDIA_TYPE, etag));
         } catch (Exception e) {
             log.warn("README not found for repo {}: {}", repoName, e.getMessage());
             return null;
@@ -133,32 +205,33 @@ public class GithubService {
         
         String url = "https://api.github.com/repos/" + username + "/" + repoName;
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(accessToken);
-        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
-        headers.set("X-GitHub-Api-Version", "2022-11-28");
-
-        HttpEntity<Void> request = new HttpEntity<>(headers);
+        // 언어 정보는 저장소 정보와 동시에 조회
+        Future<Map<String, Integer>> languagesFuture = fanoutExecutor.submit(
+                () -> withLimit(() -> fetchLanguages(memberId, username, accessToken, repoName)));
 
         try {
-            ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    request,
-                    new ParameterizedTypeReference<Map<String, Object>>() {}
-            );
-
-            Map<String, Object> repo = response.getBody();
+            String body = githubApiCache.fetch(Endpoint.REPOSITORY, memberId, repoName,
+                    etag -> get(url, accessToken, MediaType.APPLICATION_JSON, etag));
+            Map<String, Object> repo = parse(body, new TypeReference<Map<String, Object>>() {});
             if (repo == null) {
+                languagesFuture.cancel(true);
                 return Collections.emptyMap();
             }
 
-            // 언어 정보 추가
-            Map<String, Integer> languages = getLanguages(memberId, repoName);
-            repo.put("languages", languages);
+            // 언어 정보 추가 (실패해도 저장소 정보는 반환)
+            Map<String, Integer> languages;
+            try {
+                languages = languagesFuture.get(callTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (Exception e) {
+                languagesFuture.cancel(true);
+                log.warn("Failed to fetch repository languages for {}: {}", repoName, e.getMessage());
+                languages = null;
+            }
+            repo.put("languages", languages != null ? languages : Collections.emptyMap());
 
             return repo;
         } catch (Exception e) {
+            languagesFuture.cancel(true);
             log.error("Failed to fetch repository details: ", e);
             throw new RuntimeException("Failed to fetch repository details");
         }
@@ -209,15 +282,16 @@ public class GithubService {
         HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
 
         try {
-            ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
-                    graphqlUrl,
-                    HttpMethod.POST,
-                    request,
-                    new ParameterizedTypeReference<Map<String, Object>>() {}
-            );
-
-            Map<String, Object> body = response.getBody();
-            log.info("GraphQL response body: {}", body);
+            // GraphQL은 ETag가 없어 TTL 동안만 캐시 사용 (오류 응답은 저장하지 않음)
+            String raw = githubApiCache.fetch(Endpoint.CONTRIBUTIONS, memberId, null, etag -> {
+                ResponseEntity<String> response = restTemplate.exchange(graphqlUrl, HttpMethod.POST, request, String.class);
+                if (response.getBody() == null || hasGraphqlErrors(response.getBody())) {
+                    throw new IllegalStateException("GraphQL error: " + response.getBody());
+                }
+                return response;
+            });
+            Map<String, Object> body = parse(raw, new TypeReference<Map<String, Object>>() {});
+            log.debug("GraphQL response body: {}", body);
             
             if (body == null || body.containsKey("errors")) {
                 log.error("GraphQL error: {}", body);
@@ -252,4 +326,35 @@ public class GithubService {
             return Collections.emptyMap();
         }
     }
+
+    /**
+     * GitHub REST GET (ETag가 있으면 If-None-Match로 재검증 → 변경 없으면 304)
+     */
+    private ResponseEntity<String> get(String url, String accessToken, MediaType accept, String etag) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(accessToken);
+        headers.setAccept(List.of(accept));
+        headers.set("X-GitHub-Api-Version", "2022-11-28");
+        if (etag != null) {
+            headers.setIfNoneMatch(etag);
+        }
+        return restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+
+    private boolean hasGraphqlErrors(String body) {
+        try {
+            return objectMapper.readTree(body).has("errors");
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    private <T> T parse(String body, TypeReference<T> type) throws IOException {
+        return body != null ? objectMapper.readValue(body, type) : null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fanoutExecutor.shutdown();
+    }
 }
@@ -23,6 +23,16 @@ public class GithubController {
         return ResponseEntity.ok(githubService.getRepositories(memberId));
     }
 
+    /**
+     * 저장소 목록 + 저장소별 언어 (한 번의 요청으로)
+     * GET /api/github/repos-with-languages → { repositories: [...], failed: [언어 조회에 실패한 저장소] }
+     */
+    @GetMapping("/repos-with-languages")
+    public ResponseEntity<Map<String, Object>> getRepositoriesWithLanguages(
+            @RequestAttribute(name = "memberId") Long memberId) {
+        return ResponseEntity.ok(githubService.getRepositoriesWithLanguages(memberId));
+    }
+
     @GetMapping("/repos/{repoName}/languages")
     public ResponseEntity<Map<String, Integer>> getLanguages(
             @RequestAttribute(name = "memberId") Long memberId,
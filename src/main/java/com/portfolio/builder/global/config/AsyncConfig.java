@@ -0,0 +1,13 @@
+package com.portfolio.builder.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * 비동기 실행 설정
+ * @Async 메서드는 Spring Boot가 자동 설정한 applicationTaskExecutor에서 실행됨
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
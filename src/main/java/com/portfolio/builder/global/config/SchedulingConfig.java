@@ -0,0 +1,12 @@
+package com.portfolio.builder.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 (@Scheduled 배치 작업)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
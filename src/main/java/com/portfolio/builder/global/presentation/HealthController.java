@@ -1,6 +1,13 @@
 package com.portfolio.builder.global.presentation;
 
+import com.portfolio.builder.ai.application.LlmCallGuard;
+import com.portfolio.builder.ai.application.LlmTokenMetrics;
+import com.portfolio.builder.ai.application.NearDuplicateExpressionCache;
+import com.portfolio.builder.github.application.GithubApiCache;
+import com.portfolio.builder.quiz.service.QuizContentLoader;
+import com.portfolio.builder.quiz.service.QuizStatsCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -16,17 +23,28 @@ import java.util.Map;
 public class HealthController {
 
     private final DataSource dataSource;
+    private final QuizContentLoader quizContentLoader;
+    private final QuizStatsCache quizStatsCache;
+    private final LlmCallGuard llmCallGuard;
+    private final LlmTokenMetrics llmTokenMetrics;
+    private final NearDuplicateExpressionCache nearDuplicateExpressionCache;
+    private final GithubApiCache githubApiCache;
 
     /**
      * ALB 헬스체크용 - 단순 응답
      * Target Group 헬스체크 경로: /health
+     * 퀴즈 콘텐츠 동기화가 끝나기 전(또는 실패 시)에는 503 → 트래픽을 받지 않음
      */
     @GetMapping("/health")
     public ResponseEntity<Map<String, Object>> healthCheck() {
+        boolean ready = quizContentLoader.isReady();
         Map<String, Object> health = new HashMap<>();
-        health.put("status", "UP");
+        health.put("status", ready ? "UP" : "OUT_OF_SERVICE");
+        health.put("quizContent", quizContentLoader.getStatus());
         health.put("timestamp", LocalDateTime.now());
-        return ResponseEntity.ok(health);
+        return ready
+            ? ResponseEntity.ok(health)
+            : ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(health);
     }
 
     /**
@@ -49,6 +67,24 @@ public class HealthController {
             health.put("status", "DOWN");
         }
         health.put("database", db);
+
+        // 퀴즈 콘텐츠 동기화 상태 (시작 후 비동기 진행)
+        health.put("quizContent", quizContentLoader.getStatus());
+
+        // 퀴즈 통계 캐시 적중률 (인스턴스별)
+        health.put("quizStatsCache", quizStatsCache.getMetrics());
+
+        // LLM 호출 현황 (서킷 상태 / 거부 / 지연)
+        health.put("llm", llmCallGuard.getMetrics());
+
+        // LLM 호출별 프롬프트 / 응답 토큰
+        health.put("llmTokens", llmTokenMetrics.getMetrics());
+
+        // 표현력 평가 유사 콘텐츠 재사용 적중률 (해밍 거리 분포 포함)
+        health.put("expressionNearDuplicate", nearDuplicateExpressionCache.getMetrics());
+
+        // GitHub API 캐시 (API별 hit / 304 재검증 / miss)
+        health.put("githubCache", githubApiCache.getMetrics());
         
         return ResponseEntity.ok(health);
     }
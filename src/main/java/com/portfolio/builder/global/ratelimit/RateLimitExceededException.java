@@ -0,0 +1,11 @@
+package com.portfolio.builder.global.ratelimit;
+
+/**
+ * 호출 횟수 제한 초과 (횟수 차감과 작업 등록을 한 번에 처리하는 곳에서 사용)
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    public RateLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -60,6 +60,23 @@ public class RateLimitService {
         }
     }
     
+    /**
+     * 차감한 횟수 되돌리기 (요청이 실행되지 못한 경우)
+     * @param memberId 회원 ID
+     */
+    public void refund(Long memberId) {
+        String key = buildKey(memberId);
+        
+        try {
+            Long count = redisTemplate.opsForValue().decrement(key);
+            if (count != null && count < 0) {
+                redisTemplate.delete(key);
+            }
+        } catch (Exception e) {
+            log.error("Redis error while refunding rate limit - memberId: {}, {}", memberId, e.getMessage());
+        }
+    }
+    
     /**
      * 남은 호출 횟수 조회
      * @param memberId 회원 ID
@@ -6,6 +6,7 @@ import com.portfolio.builder.member.domain.MemberRepository;
 import com.portfolio.builder.member.dto.MemberResponse;
 import com.portfolio.builder.member.dto.ProfileUpdateRequest;
 import com.portfolio.builder.member.dto.TokenResponse;
+import com.portfolio.builder.quiz.service.BadgeRarityService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
@@ -26,11 +27,14 @@ public class AuthService {
 
     private final MemberRepository memberRepository;
     private final JwtTokenProvider jwtTokenProvider;
+    private final BadgeRarityService badgeRarityService;
     private final RestTemplate restTemplate;
     
-    public AuthService(MemberRepository memberRepository, JwtTokenProvider jwtTokenProvider) {
+    public AuthService(MemberRepository memberRepository, JwtTokenProvider jwtTokenProvider,
+                       BadgeRarityService badgeRarityService) {
         this.memberRepository = memberRepository;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.badgeRarityService = badgeRarityService;
         
         // 타임아웃 설정
         SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
@@ -219,6 +223,8 @@ public class AuthService {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new RuntimeException("Member not found"));
         
+        boolean wasStudent = "수강생".equals(member.getPosition());
+        
         // 유효성 검사
         if (!isValidPosition(request.getPosition())) {
             throw new IllegalArgumentException("유효하지 않은 직급입니다. (운영팀, 강사, 수강생 중 선택)");
@@ -259,6 +265,11 @@ public class AuthService {
         }
         
         Member updatedMember = memberRepository.save(member);
+        
+        // 수강생 수 변동 시 희귀 배지 기준 재평가
+        if (wasStudent != "수강생".equals(updatedMember.getPosition())) {
+            badgeRarityService.onStudentPopulationChanged();
+        }
         return MemberResponse.from(updatedMember);
     }
     
@@ -6,6 +6,7 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.portfolio.builder.ai.application.EvaluationHistoryService;
 import com.portfolio.builder.comment.domain.Comment;
 import com.portfolio.builder.comment.domain.CommentRepository;
 import com.portfolio.builder.feedback.domain.Feedback;
@@ -20,6 +21,7 @@ import com.portfolio.builder.portfolio.domain.Portfolio;
 import com.portfolio.builder.portfolio.domain.PortfolioLikeRepository;
 import com.portfolio.builder.portfolio.domain.PortfolioRepository;
 import com.portfolio.builder.portfolio.domain.TroubleshootingRepository;
+import com.portfolio.builder.quiz.service.BadgeRarityService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -39,6 +41,8 @@ public class MyPageService {
     private final CommentRepository commentRepository;
     private final FeedbackRepository feedbackRepository;
     private final TroubleshootingRepository troubleshootingRepository;
+    private final BadgeRarityService badgeRarityService;
+    private final EvaluationHistoryService evaluationHistoryService;
 
     /**
      * 좋아요한 포트폴리오 목록 조회
@@ -172,13 +176,22 @@ public class MyPageService {
             portfolioLikeRepository.deleteAllByPortfolio(portfolio);
             // 트러블슈팅 삭제
             troubleshootingRepository.deleteAllByPortfolio(portfolio);
+            // AI 평가 기록 삭제
+            evaluationHistoryService.deleteAll(portfolio.getId());
             // 포트폴리오 삭제
             portfolioRepository.delete(portfolio);
         }
         log.info("포트폴리오 {} 개 삭제 완료", myPortfolios.size());
 
-        // 5. 회원 삭제
+        // 5. 희귀 배지 인덱스 정리
+        badgeRarityService.onMemberRemoved(memberId);
+
+        // 6. 회원 삭제
         memberRepository.delete(member);
         log.info("회원 탈퇴 완료 - memberId: {}", memberId);
+
+        if ("수강생".equals(member.getPosition())) {
+            badgeRarityService.onStudentPopulationChanged();
+        }
     }
 }
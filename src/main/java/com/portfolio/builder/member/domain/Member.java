@@ -5,7 +5,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "TB_MEMBER_PF")
+@Table(name = "TB_MEMBER_PF", indexes = {
+        // 반별 랭킹 파티션 (position, branch, classroom, cohort)
+        @Index(name = "IDX_MEMBER_PF_CLASS", columnList = "position, branch, classroom, cohort")
+})
 @Getter
 @Setter
 @NoArgsConstructor
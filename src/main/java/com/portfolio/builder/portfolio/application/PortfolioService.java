@@ -2,6 +2,7 @@ package com.portfolio.builder.portfolio.application;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.builder.ai.application.EvaluationHistoryService;
 import com.portfolio.builder.comment.domain.CommentRepository;
 import com.portfolio.builder.feedback.domain.FeedbackRepository;
 import com.portfolio.builder.member.domain.Member;
@@ -36,6 +37,7 @@ public class PortfolioService {
     private final MemberRepository memberRepository;
     private final BadgeRepository badgeRepository;
     private final BadgeService badgeService;
+    private final EvaluationHistoryService evaluationHistoryService;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     public PortfolioResponse createPortfolio(Long memberId, PortfolioRequest request) {
@@ -141,6 +143,9 @@ public class PortfolioService {
         // 관련 좋아요 삭제
         portfolioLikeRepository.deleteAllByPortfolio(portfolio);
         
+        // AI 평가 기록 삭제
+        evaluationHistoryService.deleteAll(portfolioId);
+        
         portfolioRepository.delete(portfolio);
     }
 
@@ -339,7 +344,7 @@ public class PortfolioService {
     /**
      * 포트폴리오 데이터에서 개인정보 마스킹
      */
-    private String maskPersonalInfo(String dataJson) {
+    String maskPersonalInfo(String dataJson) {
         if (dataJson == null || dataJson.isEmpty()) {
             return dataJson;
         }
@@ -50,6 +50,10 @@ public interface PortfolioRepository extends JpaRepository<Portfolio, Long> {
     @Query("SELECT p FROM Portfolio p JOIN FETCH p.member m WHERE m.branch = :branch AND m.classroom = :classroom AND m.cohort = :cohort ORDER BY p.createdAt DESC")
     List<Portfolio> findByMemberBranchAndClassroomAndCohort(@Param("branch") String branch, @Param("classroom") String classroom, @Param("cohort") String cohort);
 
+    // 반(지점/강의실/기수) 포트폴리오 ID (일괄 평가용)
+    @Query("SELECT p.id FROM Portfolio p JOIN p.member m WHERE m.branch = :branch AND m.classroom = :classroom AND m.cohort = :cohort ORDER BY p.id")
+    List<Long> findIdsByMemberBranchAndClassroomAndCohort(@Param("branch") String branch, @Param("classroom") String classroom, @Param("cohort") String cohort);
+
     // 특정 회원의 공개된 포트폴리오
     @Query("SELECT p FROM Portfolio p JOIN FETCH p.member m WHERE m.id = :memberId AND p.isPublic = true ORDER BY p.createdAt DESC")
     List<Portfolio> findPublicByMemberId(@Param("memberId") Long memberId);
@@ -7,7 +7,9 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "TB_BADGE")
+@Table(name = "TB_BADGE",
+        uniqueConstraints = @UniqueConstraint(name = "UK_BADGE_MEMBER_BADGE", columnNames = {"member_id", "badge_id"}),
+        indexes = @Index(name = "IDX_BADGE_BADGE_ID", columnList = "badge_id"))
 @Getter
 @Setter
 @NoArgsConstructor
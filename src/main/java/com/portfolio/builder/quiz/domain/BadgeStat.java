@@ -0,0 +1,28 @@
+package com.portfolio.builder.quiz.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 배지별 획득자 수 (희귀 배지 인덱스)
+ * 배지 부여 / 수강생 수 변동 시 증분 갱신
+ */
+@Entity
+@Table(name = "TB_BADGE_STAT")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BadgeStat {
+
+    @Id
+    @Column(length = 50)
+    private String badgeId;  // 배지 식별자 (TB_BADGE.badge_id)
+
+    @Column(nullable = false)
+    private Long holderCount;  // 획득자 수
+
+    @Column(nullable = false)
+    private Boolean rare;  // 희귀 배지 여부 (획득률 10% 미만)
+}
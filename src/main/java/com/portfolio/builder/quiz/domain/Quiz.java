@@ -39,4 +39,17 @@ public class Quiz {
 
     @Column(nullable = false, length = 2000)
     private String explanation;
+
+    // 콘텐츠 팩 동기화용 키 ({팩}:{id 또는 카테고리+문제 해시}), 관리자 등록 문제는 null
+    @Column(unique = true, length = 200)
+    private String contentKey;
+
+    // 문제 내용 체크섬 (SHA-256) - 바뀐 문제만 갱신
+    @Column(length = 64)
+    private String checksum;
+
+    // 출제 여부 - 콘텐츠 팩에서 빠진 문제는 삭제 대신 비활성화 (풀이 기록 보존)
+    @Builder.Default
+    @Column(nullable = false)
+    private Boolean active = true;
 }
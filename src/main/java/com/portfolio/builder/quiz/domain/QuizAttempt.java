@@ -8,7 +8,12 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "TB_QUIZ_ATTEMPT")
+@Table(name = "TB_QUIZ_ATTEMPT", indexes = {
+        // 반별 랭킹: 파티션 회원 → 회원별 시도 조회
+        @Index(name = "IDX_QUIZ_ATTEMPT_MEMBER_DATE", columnList = "member_id, attempt_date"),
+        // 오늘/이번 주 랭킹
+        @Index(name = "IDX_QUIZ_ATTEMPT_DATE", columnList = "attempt_date")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,47 @@
+package com.portfolio.builder.quiz.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 보존 기간이 지난 퀴즈 시도 원본 (압축 cold 테이블)
+ * TB_QUIZ_ATTEMPT와 같은 컬럼, 같은 id. 회원별 고유 문제 수 계산에만 사용
+ */
+@Entity
+@Table(name = "TB_QUIZ_ATTEMPT_ARCHIVE", indexes = {
+        @Index(name = "IDX_QUIZ_ATTEMPT_ARCHIVE_MEMBER", columnList = "member_id")
+})
+@Getter
+@NoArgsConstructor
+public class QuizAttemptArchive {
+
+    @Id
+    private Long id;  // TB_QUIZ_ATTEMPT.id 그대로
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "quiz_id", nullable = false)
+    private Long quizId;
+
+    @Column(nullable = false)
+    private Integer userAnswer;
+
+    @Column(nullable = false)
+    private Boolean isCorrect;
+
+    @Column(nullable = false)
+    private LocalDate attemptDate;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private Boolean isReviewMode;
+
+    @Column(nullable = false, length = 20)
+    private String quizType;
+}
@@ -0,0 +1,59 @@
+package com.portfolio.builder.quiz.domain;
+
+import com.portfolio.builder.member.domain.Member;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 퀴즈 시도 일별 롤업 (회원/카테고리/퀴즈타입/날짜)
+ * 마감된 달의 TB_QUIZ_ATTEMPT를 월 단위로 접어 넣는다. 랭킹/통계는 롤업 + 이후 원본(hot)을 합산한다.
+ */
+@Entity
+@Table(name = "TB_QUIZ_ATTEMPT_DAILY",
+        uniqueConstraints = @UniqueConstraint(name = "UK_QUIZ_ATTEMPT_DAILY",
+                columnNames = {"member_id", "category", "quiz_type", "attempt_date"}),
+        indexes = @Index(name = "IDX_QUIZ_ATTEMPT_DAILY_DATE", columnList = "attempt_date"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizAttemptDaily {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false)
+    private Member member;
+
+    @Column(nullable = false, length = 50)
+    private String category;
+
+    @Column(nullable = false, length = 20)
+    private String quizType;
+
+    @Column(nullable = false)
+    private LocalDate attemptDate;
+
+    @Column(nullable = false)
+    private Integer attemptCount;  // 전체 시도 수
+
+    @Column(nullable = false)
+    private Integer correctCount;  // 정답 수 (복습 모드 제외)
+
+    @Column(nullable = false)
+    private Integer wrongCount;  // 오답 수 (복습 모드 제외)
+
+    @Column(nullable = false)
+    private Integer reviewCount;  // 복습 모드 시도 수
+
+    @Column(nullable = false)
+    private Integer earlyBirdCount;  // 06~09시 시도 수
+
+    @Column(nullable = false)
+    private Integer nightOwlCount;  // 22~02시 시도 수
+}
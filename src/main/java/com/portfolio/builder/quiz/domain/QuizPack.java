@@ -0,0 +1,36 @@
+package com.portfolio.builder.quiz.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 퀴즈 콘텐츠 팩 동기화 이력
+ * 팩 파일 체크섬이 같으면 문제 단위 비교 없이 건너뜀
+ */
+@Entity
+@Table(name = "TB_QUIZ_PACK")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizPack {
+
+    @Id
+    @Column(length = 100)
+    private String name;  // 팩 이름 (예: interview_quiz)
+
+    @Column(length = 50)
+    private String version;  // 팩 파일의 version 값 (없으면 null)
+
+    @Column(nullable = false, length = 64)
+    private String checksum;  // 팩 파일 전체 체크섬 (SHA-256)
+
+    @Column(nullable = false)
+    private Integer quizCount;  // 팩에 포함된 문제 수
+
+    @Column(nullable = false)
+    private LocalDateTime syncedAt;
+}
@@ -0,0 +1,56 @@
+package com.portfolio.builder.quiz.domain;
+
+import com.portfolio.builder.member.domain.Member;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 회원/문제별 복습 일정 (SM-2 간격 반복)
+ * 제출할 때마다 간격·난이도 계수·다음 복습일을 갱신하고,
+ * 복습 세션은 (member_id, due_at) 인덱스에서 복습일 순으로 필요한 개수만 가져온다.
+ */
+@Entity
+@Table(name = "TB_QUIZ_REVIEW_STATE",
+        uniqueConstraints = @UniqueConstraint(name = "UK_QUIZ_REVIEW_STATE", columnNames = {"member_id", "quiz_id"}),
+        indexes = @Index(name = "IDX_QUIZ_REVIEW_DUE", columnList = "member_id, due_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizReviewState {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false)
+    private Member member;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "quiz_id", nullable = false)
+    private Quiz quiz;
+
+    @Column(nullable = false, length = 20)
+    private String quizType;  // INTERVIEW: 면접 대비, PRACTICE: 수업 복습
+
+    @Column(nullable = false)
+    private Integer repetitions;  // 연속 정답 횟수 (오답 시 0)
+
+    @Column(nullable = false)
+    private Integer intervalDays;  // 현재 복습 간격 (일)
+
+    @Column(nullable = false)
+    private Double easeFactor;  // 난이도 계수 (최소 1.3)
+
+    @Column(name = "due_at", nullable = false)
+    private LocalDate dueAt;  // 다음 복습일
+
+    @Column(nullable = false)
+    private Integer wrongCount;  // 오답 횟수 (복습 모드 제외, 오답 다시 풀기 대상 판별)
+
+    private LocalDate lastReviewedAt;  // 마지막 풀이 날짜
+}
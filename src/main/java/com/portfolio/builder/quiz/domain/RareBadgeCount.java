@@ -0,0 +1,32 @@
+package com.portfolio.builder.quiz.domain;
+
+import com.portfolio.builder.member.domain.Member;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 회원별 희귀 배지 보유 수 (희귀 배지 랭킹 인덱스)
+ * 배지를 하나라도 보유한 회원마다 한 행 (0개 포함)
+ */
+@Entity
+@Table(name = "TB_RARE_BADGE_COUNT", indexes = {
+        @Index(name = "IDX_RARE_BADGE_COUNT", columnList = "rare_count")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RareBadgeCount {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false, unique = true)
+    private Member member;
+
+    @Column(nullable = false)
+    private Integer rareCount;  // 보유 중인 희귀 배지 수
+}
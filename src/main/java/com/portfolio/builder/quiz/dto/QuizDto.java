@@ -16,6 +16,7 @@ public class QuizDto {
         private String type;  // OX, MULTIPLE
         private String question;
         private List<String> options;  // 객관식 보기 (OX는 null)
+        private String sessionId;  // 출제 세션 ID (제출 시 함께 전달, 복습 문제는 null)
     }
 
     @Getter
@@ -42,6 +43,7 @@ public class QuizDto {
         private Integer userAnswer;  // OX: 0=X, 1=O / 객관식: 0~3
         private Boolean isReviewMode = false;  // 복습 모드 여부
         private String quizType = "INTERVIEW";  // INTERVIEW: 면접 대비, PRACTICE: 수업 복습
+        private String sessionId;  // 출제 세션 ID (있으면 세션 기준으로 채점)
     }
 
     @Getter
@@ -200,6 +202,21 @@ public class QuizDto {
         private List<BadgeResponse> recentBadges;
     }
 
+    // ===== 출제 세션 =====
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class QuizSessionResult {
+        private String sessionId;
+        private String quizType;
+        private int totalCount;     // 출제 문제 수
+        private int answeredCount;  // 제출한 문제 수
+        private int correctCount;   // 맞은 문제 수
+        private List<SubmitResponse> results;  // 출제 순서대로 (제출한 문제만)
+    }
+
     // ===== Phase 2: 복습 모드 =====
     @Getter
     @Setter
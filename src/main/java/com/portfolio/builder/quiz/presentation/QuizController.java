@@ -3,6 +3,7 @@ package com.portfolio.builder.quiz.presentation;
 import com.portfolio.builder.quiz.dto.QuizDto.*;
 import com.portfolio.builder.quiz.service.BadgeService;
 import com.portfolio.builder.quiz.service.QuizService;
+import com.portfolio.builder.quiz.service.QuizSessionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -16,6 +17,7 @@ public class QuizController {
 
     private final QuizService quizService;
     private final BadgeService badgeService;
+    private final QuizSessionService quizSessionService;
 
     /**
      * 카테고리 목록 조회
@@ -65,6 +67,12 @@ public class QuizController {
     public ResponseEntity<SubmitResponse> submitAnswer(
             @RequestAttribute("memberId") Long memberId,
             @RequestBody SubmitRequest request) {
+        // 출제 세션으로 채점 (저장과 배지 체크까지 포함, 새 배지는 응답에 포함)
+        if (request.getSessionId() != null) {
+            return ResponseEntity.ok(quizSessionService.submit(memberId, request));
+        }
+
+        // 세션 없는 제출은 복습 모드(풀어 본 문제)만 허용
         SubmitResponse response = quizService.submitAnswer(memberId, request);
         // 퀴즈 제출 후 배지 자동 체크 및 새 배지 정보 포함
         var newBadges = badgeService.checkAndAwardBadges(memberId);
@@ -72,6 +80,16 @@ public class QuizController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 출제 세션 결과 조회
+     */
+    @GetMapping("/sessions/{sessionId}")
+    public ResponseEntity<QuizSessionResult> getSessionResult(
+            @RequestAttribute("memberId") Long memberId,
+            @PathVariable("sessionId") String sessionId) {
+        return ResponseEntity.ok(quizSessionService.getResult(memberId, sessionId));
+    }
+
     /**
      * 사용자 통계 조회
      */
@@ -2,9 +2,11 @@ package com.portfolio.builder.quiz.repository;
 
 import com.portfolio.builder.quiz.domain.Badge;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +18,18 @@ public interface BadgeRepository extends JpaRepository<Badge, Long> {
     // 특정 배지 보유 여부
     boolean existsByMemberIdAndBadgeId(Long memberId, String badgeId);
 
+    // 배지가 없을 때만 부여 (동시 제출 시 UK_BADGE_MEMBER_BADGE 충돌은 오류 없이 0건 처리)
+    @Modifying
+    @Query(value = """
+        INSERT /*+ IGNORE_ROW_ON_DUPKEY_INDEX(TB_BADGE (member_id, badge_id)) */
+        INTO TB_BADGE (member_id, badge_id, earned_at)
+        SELECT :memberId, :badgeId, :earnedAt FROM DUAL
+        WHERE NOT EXISTS (SELECT 1 FROM TB_BADGE WHERE member_id = :memberId AND badge_id = :badgeId)
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("memberId") Long memberId,
+                       @Param("badgeId") String badgeId,
+                       @Param("earnedAt") LocalDateTime earnedAt);
+
     // 특정 배지 조회
     Optional<Badge> findByMemberIdAndBadgeId(Long memberId, String badgeId);
 
@@ -39,17 +53,35 @@ public interface BadgeRepository extends JpaRepository<Badge, Long> {
         """)
     List<Object[]> findTopByBadgeCount();
 
+    // 👑 배지 컬렉터 랭킹 - 같은 반 (position=수강생, branch, classroom, cohort 파티션만 집계)
+    @Query("""
+        SELECT m.id, m.name, m.avatarUrl, COUNT(b) as badgeCount,
+               m.position, m.branch, m.classroom, m.cohort
+        FROM Badge b JOIN b.member m
+        WHERE m.position = '수강생'
+          AND m.branch = :branch
+          AND (m.classroom = :classroom OR (m.classroom IS NULL AND :classroom IS NULL))
+          AND (m.cohort = :cohort OR (m.cohort IS NULL AND :cohort IS NULL))
+        GROUP BY m.id, m.name, m.avatarUrl, m.position, m.branch, m.classroom, m.cohort
+        ORDER BY badgeCount DESC
+        """)
+    List<Object[]> findTopByBadgeCountInClass(@Param("branch") String branch,
+                                              @Param("classroom") String classroom,
+                                              @Param("cohort") String cohort);
+
     // 배지별 획득자 수 (희귀 배지 계산용)
     @Query("SELECT b.badgeId, COUNT(b) FROM Badge b GROUP BY b.badgeId")
     List<Object[]> countByBadgeIdGrouped();
 
-    // 특정 배지 보유자 목록 (희귀 배지 랭킹용)
-    @Query("""
-        SELECT b.member.id, b.member.name, b.member.avatarUrl, b.badgeId,
-               b.member.position, b.member.branch, b.member.classroom, b.member.cohort
-        FROM Badge b
-        WHERE b.badgeId IN :rareBadgeIds
-        ORDER BY b.earnedAt ASC
-        """)
-    List<Object[]> findMembersWithRareBadges(@Param("rareBadgeIds") List<String> rareBadgeIds);
+    // 회원이 보유한 배지 ID 목록 (회원 삭제 시 희귀 배지 인덱스 정리용)
+    @Query("SELECT b.badgeId FROM Badge b WHERE b.member.id = :memberId")
+    List<String> findBadgeIdsByMemberId(@Param("memberId") Long memberId);
+
+    // 배지 보유 회원 ID 목록 (희귀 배지 인덱스 재구축용)
+    @Query("SELECT DISTINCT b.member.id FROM Badge b")
+    List<Long> findDistinctMemberIds();
+
+    // 회원별 희귀 배지 보유 수 (희귀 배지 인덱스 재구축용)
+    @Query("SELECT b.member.id, COUNT(b) FROM Badge b WHERE b.badgeId IN :rareBadgeIds GROUP BY b.member.id")
+    List<Object[]> countRareBadgesGroupedByMember(@Param("rareBadgeIds") List<String> rareBadgeIds);
 }
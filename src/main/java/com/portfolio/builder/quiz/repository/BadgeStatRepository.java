@@ -0,0 +1,41 @@
+package com.portfolio.builder.quiz.repository;
+
+import com.portfolio.builder.quiz.domain.BadgeStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BadgeStatRepository extends JpaRepository<BadgeStat, String> {
+
+    // 획득자 수 1 증가 (원자적)
+    @Modifying
+    @Query("UPDATE BadgeStat s SET s.holderCount = s.holderCount + 1 WHERE s.badgeId = :badgeId")
+    int incrementHolderCount(@Param("badgeId") String badgeId);
+
+    // 획득자 수 1 감소 (원자적, 회원 삭제 시)
+    @Modifying
+    @Query("UPDATE BadgeStat s SET s.holderCount = s.holderCount - 1 WHERE s.badgeId = :badgeId AND s.holderCount > 0")
+    int decrementHolderCount(@Param("badgeId") String badgeId);
+
+    // 현재 획득자 수 / 희귀 여부 (증감 직후 행 잠금 상태에서 조회 - 영속성 컨텍스트 캐시를 거치지 않음)
+    @Query("SELECT s.holderCount FROM BadgeStat s WHERE s.badgeId = :badgeId")
+    Long findHolderCount(@Param("badgeId") String badgeId);
+
+    @Query("SELECT s.rare FROM BadgeStat s WHERE s.badgeId = :badgeId")
+    Boolean findRare(@Param("badgeId") String badgeId);
+
+    // 통계 행이 없을 때만 생성 (획득자 0명 → 희귀)
+    @Modifying
+    @Query(value = """
+        INSERT INTO TB_BADGE_STAT (badge_id, holder_count, rare)
+        SELECT :badgeId, 0, 1 FROM DUAL
+        WHERE NOT EXISTS (SELECT 1 FROM TB_BADGE_STAT WHERE badge_id = :badgeId)
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("badgeId") String badgeId);
+
+    // 희귀 여부 전환 - 실제로 바뀐 경우에만 1 반환 (동시 전환 중복 방지)
+    @Modifying
+    @Query("UPDATE BadgeStat s SET s.rare = :rare WHERE s.badgeId = :badgeId AND s.rare <> :rare")
+    int updateRare(@Param("badgeId") String badgeId, @Param("rare") boolean rare);
+}
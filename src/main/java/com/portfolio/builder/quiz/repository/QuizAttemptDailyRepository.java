@@ -0,0 +1,14 @@
+package com.portfolio.builder.quiz.repository;
+
+import com.portfolio.builder.quiz.domain.QuizAttemptDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDate;
+
+public interface QuizAttemptDailyRepository extends JpaRepository<QuizAttemptDaily, Long> {
+
+    // 롤업된 마지막 날짜 (이후 날짜만 TB_QUIZ_ATTEMPT에서 집계)
+    @Query("SELECT MAX(d.attemptDate) FROM QuizAttemptDaily d")
+    LocalDate findMaxAttemptDate();
+}
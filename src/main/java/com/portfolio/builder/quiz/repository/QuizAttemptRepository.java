@@ -1,13 +1,23 @@
 package com.portfolio.builder.quiz.repository;
 
 import com.portfolio.builder.quiz.domain.QuizAttempt;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
+/**
+ * TB_QUIZ_ATTEMPT는 attempt_date 월 단위 파티션 (hot)
+ * - 지난달까지의 시도는 TB_QUIZ_ATTEMPT_DAILY로 롤업되고, 롤업된 마지막 날짜 이후만 hot에서 집계한다
+ * - 보존 기간이 지난 원본은 TB_QUIZ_ATTEMPT_ARCHIVE로 이동 (고유 문제 수, 오답 목록, 복습 샘플링은 hot + archive로 조회)
+ * - 회원 단위 누적 조회는 hot만 읽으면 아카이브 후 값이 줄어드므로 반드시 롤업 또는 아카이브를 합친다
+ */
 public interface QuizAttemptRepository extends JpaRepository<QuizAttempt, Long> {
 
     // 특정 날짜에 사용자가 푼 문제 수 (전체)
@@ -22,85 +32,295 @@ public interface QuizAttemptRepository extends JpaRepository<QuizAttempt, Long>
     // 특정 날짜에 사용자가 푼 문제 목록
     List<QuizAttempt> findByMemberIdAndAttemptDate(Long memberId, LocalDate attemptDate);
 
-    // 사용자가 특정 카테고리에서 푼 고유 문제 수 (복습 모드 제외)
-    @Query("SELECT COUNT(DISTINCT qa.quiz.id) FROM QuizAttempt qa WHERE qa.member.id = :memberId AND qa.quiz.category = :category AND (qa.isReviewMode = false OR qa.isReviewMode IS NULL)")
+    // 사용자가 특정 카테고리에서 푼 고유 문제 수 (복습 모드 제외, 아카이브 포함)
+    @Query(value = """
+        SELECT COUNT(DISTINCT t.quiz_id)
+        FROM (
+            SELECT qa.quiz_id FROM TB_QUIZ_ATTEMPT qa
+            WHERE qa.member_id = :memberId AND (qa.is_review_mode = 0 OR qa.is_review_mode IS NULL)
+            UNION ALL
+            SELECT a.quiz_id FROM TB_QUIZ_ATTEMPT_ARCHIVE a
+            WHERE a.member_id = :memberId AND (a.is_review_mode = 0 OR a.is_review_mode IS NULL)
+        ) t JOIN TB_QUIZ q ON q.id = t.quiz_id
+        WHERE q.category = :category
+        """, nativeQuery = true)
     Long countByMemberIdAndCategory(@Param("memberId") Long memberId, @Param("category") String category);
 
-    // 사용자가 특정 카테고리에서 맞은 고유 문제 수 (복습 모드 제외)
-    @Query("SELECT COUNT(DISTINCT qa.quiz.id) FROM QuizAttempt qa WHERE qa.member.id = :memberId AND qa.quiz.category = :category AND qa.isCorrect = true AND (qa.isReviewMode = false OR qa.isReviewMode IS NULL)")
+    // 사용자가 특정 카테고리에서 맞은 고유 문제 수 (복습 모드 제외, 아카이브 포함)
+    @Query(value = """
+        SELECT COUNT(DISTINCT t.quiz_id)
+        FROM (
+            SELECT qa.quiz_id FROM TB_QUIZ_ATTEMPT qa
+            WHERE qa.member_id = :memberId AND qa.is_correct = 1 AND (qa.is_review_mode = 0 OR qa.is_review_mode IS NULL)
+            UNION ALL
+            SELECT a.quiz_id FROM TB_QUIZ_ATTEMPT_ARCHIVE a
+            WHERE a.member_id = :memberId AND a.is_correct = 1 AND (a.is_review_mode = 0 OR a.is_review_mode IS NULL)
+        ) t JOIN TB_QUIZ q ON q.id = t.quiz_id
+        WHERE q.category = :category
+        """, nativeQuery = true)
     Long countCorrectByMemberIdAndCategory(@Param("memberId") Long memberId, @Param("category") String category);
 
-    // 사용자가 틀린 문제 목록 (오답 노트용 - 복습 모드 제외, 면접 대비용 기본)
-    @Query("SELECT qa FROM QuizAttempt qa JOIN FETCH qa.quiz WHERE qa.member.id = :memberId AND qa.isCorrect = false AND (qa.isReviewMode = false OR qa.isReviewMode IS NULL) AND qa.quizType = 'INTERVIEW' ORDER BY qa.createdAt DESC")
-    List<QuizAttempt> findWrongAnswersByMemberId(@Param("memberId") Long memberId);
+    // 사용자가 틀린 문제 목록 (오답 노트용 - 복습 모드 제외, 면접 대비용 기본, 아카이브 포함)
+    // [attemptId, quizId, category, type, question, options, userAnswer, answer, explanation, attemptDate]
+    @Query(value = """
+        SELECT t.id, q.id, q.category, q.type, q.question, q.options, t.user_answer, q.answer, q.explanation, t.attempt_date
+        FROM (
+            SELECT qa.id, qa.quiz_id, qa.user_answer, qa.attempt_date, qa.created_at FROM TB_QUIZ_ATTEMPT qa
+            WHERE qa.member_id = :memberId AND qa.is_correct = 0 AND (qa.is_review_mode = 0 OR qa.is_review_mode IS NULL)
+              AND qa.quiz_type = 'INTERVIEW'
+            UNION ALL
+            SELECT a.id, a.quiz_id, a.user_answer, a.attempt_date, a.created_at FROM TB_QUIZ_ATTEMPT_ARCHIVE a
+            WHERE a.member_id = :memberId AND a.is_correct = 0 AND (a.is_review_mode = 0 OR a.is_review_mode IS NULL)
+              AND a.quiz_type = 'INTERVIEW'
+        ) t JOIN TB_QUIZ q ON q.id = t.quiz_id
+        ORDER BY t.created_at DESC, t.id DESC
+        """, nativeQuery = true)
+    List<Object[]> findWrongAnswersByMemberId(@Param("memberId") Long memberId);
 
-    // 사용자가 틀린 문제 목록 (오답 노트용 - 퀴즈타입별)
-    @Query("SELECT qa FROM QuizAttempt qa JOIN FETCH qa.quiz WHERE qa.member.id = :memberId AND qa.isCorrect = false AND (qa.isReviewMode = false OR qa.isReviewMode IS NULL) AND qa.quizType = :quizType ORDER BY qa.createdAt DESC")
-    List<QuizAttempt> findWrongAnswersByMemberIdAndQuizType(@Param("memberId") Long memberId, @Param("quizType") String quizType);
+    // 사용자가 틀린 문제 목록 (오답 노트용 - 퀴즈타입별, 아카이브 포함)
+    @Query(value = """
+        SELECT t.id, q.id, q.category, q.type, q.question, q.options, t.user_answer, q.answer, q.explanation, t.attempt_date
+        FROM (
+            SELECT qa.id, qa.quiz_id, qa.user_answer, qa.attempt_date, qa.created_at FROM TB_QUIZ_ATTEMPT qa
+            WHERE qa.member_id = :memberId AND qa.is_correct = 0 AND (qa.is_review_mode = 0 OR qa.is_review_mode IS NULL)
+              AND qa.quiz_type = :quizType
+            UNION ALL
+            SELECT a.id, a.quiz_id, a.user_answer, a.attempt_date, a.created_at FROM TB_QUIZ_ATTEMPT_ARCHIVE a
+            WHERE a.member_id = :memberId AND a.is_correct = 0 AND (a.is_review_mode = 0 OR a.is_review_mode IS NULL)
+              AND a.quiz_type = :quizType
+        ) t JOIN TB_QUIZ q ON q.id = t.quiz_id
+        ORDER BY t.created_at DESC, t.id DESC
+        """, nativeQuery = true)
+    List<Object[]> findWrongAnswersByMemberIdAndQuizType(@Param("memberId") Long memberId, @Param("quizType") String quizType);
 
     // 특정 날짜에 사용자가 푼 문제 ID 목록
     @Query("SELECT qa.quiz.id FROM QuizAttempt qa WHERE qa.member.id = :memberId AND qa.attemptDate = :date")
     List<Long> findQuizIdsByMemberIdAndDate(@Param("memberId") Long memberId, @Param("date") LocalDate date);
 
-    // 카테고리별 오답 수 조회 (복습 모드 제외, 면접 대비용 기본)
-    @Query("SELECT qa.quiz.category, COUNT(qa) FROM QuizAttempt qa WHERE qa.member.id = :memberId AND qa.isCorrect = false AND (qa.isReviewMode = false OR qa.isReviewMode IS NULL) AND qa.quizType = 'INTERVIEW' GROUP BY qa.quiz.category")
+    // 카테고리별 오답 수 조회 (복습 모드 제외, 면접 대비용 기본, 롤업 + 미집계 구간)
+    @Query(value = """
+        SELECT t.category, SUM(t.cnt)
+        FROM (
+            SELECT d.category, d.wrong_count AS cnt FROM TB_QUIZ_ATTEMPT_DAILY d
+            WHERE d.member_id = :memberId AND d.quiz_type = 'INTERVIEW' AND d.wrong_count > 0
+            UNION ALL
+            SELECT q.category, 1 FROM TB_QUIZ_ATTEMPT qa JOIN TB_QUIZ q ON q.id = qa.quiz_id
+            WHERE qa.member_id = :memberId AND qa.is_correct = 0 AND (qa.is_review_mode = 0 OR qa.is_review_mode IS NULL)
+              AND qa.quiz_type = 'INTERVIEW'
+              AND qa.attempt_date >= (SELECT NVL(MAX(rd.attempt_date) + 1, DATE '1970-01-01') FROM TB_QUIZ_ATTEMPT_DAILY rd)
+        ) t
+        GROUP BY t.category
+        """, nativeQuery = true)
     List<Object[]> countWrongByMemberIdGroupByCategory(@Param("memberId") Long memberId);
 
-    // 카테고리별 오답 수 조회 (퀴즈타입별)
-    @Query("SELECT qa.quiz.category, COUNT(qa) FROM QuizAttempt qa WHERE qa.member.id = :memberId AND qa.isCorrect = false AND (qa.isReviewMode = false OR qa.isReviewMode IS NULL) AND qa.quizType = :quizType GROUP BY qa.quiz.category")
+    // 카테고리별 오답 수 조회 (퀴즈타입별, 롤업 + 미집계 구간)
+    @Query(value = """
+        SELECT t.category, SUM(t.cnt)
+        FROM (
+            SELECT d.category, d.wrong_count AS cnt FROM TB_QUIZ_ATTEMPT_DAILY d
+            WHERE d.member_id = :memberId AND d.quiz_type = :quizType AND d.wrong_count > 0
+            UNION ALL
+            SELECT q.category, 1 FROM TB_QUIZ_ATTEMPT qa JOIN TB_QUIZ q ON q.id = qa.quiz_id
+            WHERE qa.member_id = :memberId AND qa.is_correct = 0 AND (qa.is_review_mode = 0 OR qa.is_review_mode IS NULL)
+              AND qa.quiz_type = :quizType
+              AND qa.attempt_date >= (SELECT NVL(MAX(rd.attempt_date) + 1, DATE '1970-01-01') FROM TB_QUIZ_ATTEMPT_DAILY rd)
+        ) t
+        GROUP BY t.category
+        """, nativeQuery = true)
     List<Object[]> countWrongByMemberIdGroupByCategoryAndQuizType(@Param("memberId") Long memberId, @Param("quizType") String quizType);
 
-    // 특정 카테고리의 오답 목록 (복습 모드 제외, 면접 대비용 기본)
-    @Query("SELECT qa FROM QuizAttempt qa JOIN FETCH qa.quiz WHERE qa.member.id = :memberId AND qa.isCorrect = false AND qa.quiz.category = :category AND (qa.isReviewMode = false OR qa.isReviewMode IS NULL) AND qa.quizType = 'INTERVIEW' ORDER BY qa.createdAt DESC")
-    List<QuizAttempt> findWrongAnswersByMemberIdAndCategory(@Param("memberId") Long memberId, @Param("category") String category);
+    // 특정 카테고리의 오답 목록 (복습 모드 제외, 면접 대비용 기본, 아카이브 포함)
+    @Query(value = """
+        SELECT t.id, q.id, q.category, q.type, q.question, q.options, t.user_answer, q.answer, q.explanation, t.attempt_date
+        FROM (
+            SELECT qa.id, qa.quiz_id, qa.user_answer, qa.attempt_date, qa.created_at FROM TB_QUIZ_ATTEMPT qa
+            WHERE qa.member_id = :memberId AND qa.is_correct = 0 AND (qa.is_review_mode = 0 OR qa.is_review_mode IS NULL)
+              AND qa.quiz_type = 'INTERVIEW'
+            UNION ALL
+            SELECT a.id, a.quiz_id, a.user_answer, a.attempt_date, a.created_at FROM TB_QUIZ_ATTEMPT_ARCHIVE a
+            WHERE a.member_id = :memberId AND a.is_correct = 0 AND (a.is_review_mode = 0 OR a.is_review_mode IS NULL)
+              AND a.quiz_type = 'INTERVIEW'
+        ) t JOIN TB_QUIZ q ON q.id = t.quiz_id
+        WHERE q.category = :category
+        ORDER BY t.created_at DESC, t.id DESC
+        """, nativeQuery = true)
+    List<Object[]> findWrongAnswersByMemberIdAndCategory(@Param("memberId") Long memberId, @Param("category") String category);
 
-    // 특정 카테고리의 오답 목록 (퀴즈타입별)
-    @Query("SELECT qa FROM QuizAttempt qa JOIN FETCH qa.quiz WHERE qa.member.id = :memberId AND qa.isCorrect = false AND qa.quiz.category = :category AND (qa.isReviewMode = false OR qa.isReviewMode IS NULL) AND qa.quizType = :quizType ORDER BY qa.createdAt DESC")
-    List<QuizAttempt> findWrongAnswersByMemberIdAndCategoryAndQuizType(@Param("memberId") Long memberId, @Param("category") String category, @Param("quizType") String quizType);
+    // 특정 카테고리의 오답 목록 (퀴즈타입별, 아카이브 포함)
+    @Query(value = """
+        SELECT t.id, q.id, q.category, q.type, q.question, q.options, t.user_answer, q.answer, q.explanation, t.attempt_date
+        FROM (
+            SELECT qa.id, qa.quiz_id, qa.user_answer, qa.attempt_date, qa.created_at FROM TB_QUIZ_ATTEMPT qa
+            WHERE qa.member_id = :memberId AND qa.is_correct = 0 AND (qa.is_review_mode = 0 OR qa.is_review_mode IS NULL)
+              AND qa.quiz_type = :quizType
+            UNION ALL
+            SELECT a.id, a.quiz_id, a.user_answer, a.attempt_date, a.created_at FROM TB_QUIZ_ATTEMPT_ARCHIVE a
+            WHERE a.member_id = :memberId AND a.is_correct = 0 AND (a.is_review_mode = 0 OR a.is_review_mode IS NULL)
+              AND a.quiz_type = :quizType
+        ) t JOIN TB_QUIZ q ON q.id = t.quiz_id
+        WHERE q.category = :category
+        ORDER BY t.created_at DESC, t.id DESC
+        """, nativeQuery = true)
+    List<Object[]> findWrongAnswersByMemberIdAndCategoryAndQuizType(@Param("memberId") Long memberId, @Param("category") String category, @Param("quizType") String quizType);
 
-    // 사용자가 특정 퀴즈를 풀었는지 확인
-    boolean existsByMemberIdAndQuizId(Long memberId, Long quizId);
+    // 사용자가 특정 퀴즈를 푼 횟수 (아카이브 포함, 각 테이블에서 1건만 확인)
+    @Query(value = """
+        SELECT COUNT(*)
+        FROM (
+            SELECT 1 AS hit FROM TB_QUIZ_ATTEMPT qa WHERE qa.member_id = :memberId AND qa.quiz_id = :quizId AND ROWNUM = 1
+            UNION ALL
+            SELECT 1 AS hit FROM TB_QUIZ_ATTEMPT_ARCHIVE a WHERE a.member_id = :memberId AND a.quiz_id = :quizId AND ROWNUM = 1
+        ) t
+        """, nativeQuery = true)
+    Long countHitsByMemberIdAndQuizId(@Param("memberId") Long memberId, @Param("quizId") Long quizId);
 
-    // 사용자가 푼 모든 문제 (복습용) - 카테고리 필터 가능
-    @Query("SELECT qa FROM QuizAttempt qa JOIN FETCH qa.quiz WHERE qa.member.id = :memberId ORDER BY qa.createdAt DESC")
-    List<QuizAttempt> findAllSolvedByMemberId(@Param("memberId") Long memberId);
+    // 사용자가 특정 퀴즈를 풀었는지 확인 (아카이브 포함)
+    default boolean existsByMemberIdAndQuizId(Long memberId, Long quizId) {
+        return countHitsByMemberIdAndQuizId(memberId, quizId) > 0;
+    }
 
-    @Query("SELECT qa FROM QuizAttempt qa JOIN FETCH qa.quiz WHERE qa.member.id = :memberId AND qa.quiz.category = :category ORDER BY qa.createdAt DESC")
-    List<QuizAttempt> findAllSolvedByMemberIdAndCategory(@Param("memberId") Long memberId, @Param("category") String category);
+    // 복습 세션 샘플링용 - 푼 문제 ID를 fetch size 단위로 스트리밍 (트랜잭션 안에서 닫아야 함, 아카이브 포함)
+    // 네이티브 쿼리라 DB에 따라 Long/BigDecimal로 오므로 Number로 받는다
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(value = """
+        SELECT DISTINCT t.quiz_id
+        FROM (
+            SELECT qa.quiz_id FROM TB_QUIZ_ATTEMPT qa WHERE qa.member_id = :memberId
+            UNION ALL
+            SELECT a.quiz_id FROM TB_QUIZ_ATTEMPT_ARCHIVE a WHERE a.member_id = :memberId
+        ) t
+        """, nativeQuery = true)
+    Stream<Number> streamSolvedQuizIds(@Param("memberId") Long memberId);
 
-    // 사용자가 맞은 문제만 (복습용)
-    @Query("SELECT qa FROM QuizAttempt qa JOIN FETCH qa.quiz WHERE qa.member.id = :memberId AND qa.isCorrect = true ORDER BY qa.createdAt DESC")
-    List<QuizAttempt> findCorrectAnswersByMemberId(@Param("memberId") Long memberId);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(value = """
+        SELECT DISTINCT t.quiz_id
+        FROM (
+            SELECT qa.quiz_id FROM TB_QUIZ_ATTEMPT qa WHERE qa.member_id = :memberId
+            UNION ALL
+            SELECT a.quiz_id FROM TB_QUIZ_ATTEMPT_ARCHIVE a WHERE a.member_id = :memberId
+        ) t JOIN TB_QUIZ q ON q.id = t.quiz_id
+        WHERE q.category = :category
+        """, nativeQuery = true)
+    Stream<Number> streamSolvedQuizIdsByCategory(@Param("memberId") Long memberId, @Param("category") String category);
 
-    @Query("SELECT qa FROM QuizAttempt qa JOIN FETCH qa.quiz WHERE qa.member.id = :memberId AND qa.isCorrect = true AND qa.quiz.category = :category ORDER BY qa.createdAt DESC")
-    List<QuizAttempt> findCorrectAnswersByMemberIdAndCategory(@Param("memberId") Long memberId, @Param("category") String category);
+    // 맞은 문제 ID
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(value = """
+        SELECT DISTINCT t.quiz_id
+        FROM (
+            SELECT qa.quiz_id FROM TB_QUIZ_ATTEMPT qa WHERE qa.member_id = :memberId AND qa.is_correct = 1
+            UNION ALL
+            SELECT a.quiz_id FROM TB_QUIZ_ATTEMPT_ARCHIVE a WHERE a.member_id = :memberId AND a.is_correct = 1
+        ) t
+        """, nativeQuery = true)
+    Stream<Number> streamCorrectQuizIds(@Param("memberId") Long memberId);
 
-    // 카테고리별 푼 문제 수 조회 (복습 모드 UI용)
-    @Query("SELECT qa.quiz.category, COUNT(DISTINCT qa.quiz.id) FROM QuizAttempt qa WHERE qa.member.id = :memberId GROUP BY qa.quiz.category")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(value = """
+        SELECT DISTINCT t.quiz_id
+        FROM (
+            SELECT qa.quiz_id FROM TB_QUIZ_ATTEMPT qa WHERE qa.member_id = :memberId AND qa.is_correct = 1
+            UNION ALL
+            SELECT a.quiz_id FROM TB_QUIZ_ATTEMPT_ARCHIVE a WHERE a.member_id = :memberId AND a.is_correct = 1
+        ) t JOIN TB_QUIZ q ON q.id = t.quiz_id
+        WHERE q.category = :category
+        """, nativeQuery = true)
+    Stream<Number> streamCorrectQuizIdsByCategory(@Param("memberId") Long memberId, @Param("category") String category);
+
+    // 틀린 문제 ID (복습 모드 제외, 퀴즈타입별)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(value = """
+        SELECT DISTINCT t.quiz_id
+        FROM (
+            SELECT qa.quiz_id FROM TB_QUIZ_ATTEMPT qa
+            WHERE qa.member_id = :memberId AND qa.is_correct = 0 AND (qa.is_review_mode = 0 OR qa.is_review_mode IS NULL)
+              AND qa.quiz_type = :quizType
+            UNION ALL
+            SELECT a.quiz_id FROM TB_QUIZ_ATTEMPT_ARCHIVE a
+            WHERE a.member_id = :memberId AND a.is_correct = 0 AND (a.is_review_mode = 0 OR a.is_review_mode IS NULL)
+              AND a.quiz_type = :quizType
+        ) t
+        """, nativeQuery = true)
+    Stream<Number> streamWrongQuizIds(@Param("memberId") Long memberId, @Param("quizType") String quizType);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(value = """
+        SELECT DISTINCT t.quiz_id
+        FROM (
+            SELECT qa.quiz_id FROM TB_QUIZ_ATTEMPT qa
+            WHERE qa.member_id = :memberId AND qa.is_correct = 0 AND (qa.is_review_mode = 0 OR qa.is_review_mode IS NULL)
+              AND qa.quiz_type = :quizType
+            UNION ALL
+            SELECT a.quiz_id FROM TB_QUIZ_ATTEMPT_ARCHIVE a
+            WHERE a.member_id = :memberId AND a.is_correct = 0 AND (a.is_review_mode = 0 OR a.is_review_mode IS NULL)
+              AND a.quiz_type = :quizType
+        ) t JOIN TB_QUIZ q ON q.id = t.quiz_id
+        WHERE q.category = :category
+        """, nativeQuery = true)
+    Stream<Number> streamWrongQuizIdsByCategory(@Param("memberId") Long memberId, @Param("category") String category, @Param("quizType") String quizType);
+
+    // 카테고리별 푼 문제 수 조회 (복습 모드 UI용, 아카이브 포함)
+    @Query(value = """
+        SELECT q.category, COUNT(DISTINCT t.quiz_id)
+        FROM (
+            SELECT qa.quiz_id FROM TB_QUIZ_ATTEMPT qa WHERE qa.member_id = :memberId
+            UNION ALL
+            SELECT a.quiz_id FROM TB_QUIZ_ATTEMPT_ARCHIVE a WHERE a.member_id = :memberId
+        ) t JOIN TB_QUIZ q ON q.id = t.quiz_id
+        GROUP BY q.category
+        """, nativeQuery = true)
     List<Object[]> countSolvedByMemberIdGroupByCategory(@Param("memberId") Long memberId);
 
-    // 복습 모드로 푼 문제 수 (배지용) - 오답노트 복습
-    @Query("SELECT COUNT(qa) FROM QuizAttempt qa WHERE qa.member.id = :memberId AND qa.isReviewMode = true")
+    // 복습 모드로 푼 문제 수 (배지용) - 오답노트 복습 (롤업 + 미집계 구간)
+    @Query(value = """
+        SELECT (SELECT NVL(SUM(d.review_count), 0) FROM TB_QUIZ_ATTEMPT_DAILY d WHERE d.member_id = :memberId)
+             + (SELECT COUNT(*) FROM TB_QUIZ_ATTEMPT qa
+                WHERE qa.member_id = :memberId AND qa.is_review_mode = 1
+                  AND qa.attempt_date >= (SELECT NVL(MAX(rd.attempt_date) + 1, DATE '1970-01-01') FROM TB_QUIZ_ATTEMPT_DAILY rd))
+        FROM DUAL
+        """, nativeQuery = true)
     Long countReviewModeByMemberId(@Param("memberId") Long memberId);
     
-    // 수업 복습(PRACTICE) 모드로 푼 문제 수 (배지용)
-    @Query("SELECT COUNT(qa) FROM QuizAttempt qa WHERE qa.member.id = :memberId AND qa.quizType = 'PRACTICE' AND (qa.isReviewMode = false OR qa.isReviewMode IS NULL)")
+    // 수업 복습(PRACTICE) 모드로 푼 문제 수 (배지용, 롤업 + 미집계 구간)
+    @Query(value = """
+        SELECT (SELECT NVL(SUM(d.attempt_count - d.review_count), 0) FROM TB_QUIZ_ATTEMPT_DAILY d
+                WHERE d.member_id = :memberId AND d.quiz_type = 'PRACTICE')
+             + (SELECT COUNT(*) FROM TB_QUIZ_ATTEMPT qa
+                WHERE qa.member_id = :memberId AND qa.quiz_type = 'PRACTICE' AND (qa.is_review_mode = 0 OR qa.is_review_mode IS NULL)
+                  AND qa.attempt_date >= (SELECT NVL(MAX(rd.attempt_date) + 1, DATE '1970-01-01') FROM TB_QUIZ_ATTEMPT_DAILY rd))
+        FROM DUAL
+        """, nativeQuery = true)
     Long countPracticeModeByMemberId(@Param("memberId") Long memberId);
     
-    // 전체 복습 문제 수 (배지용) - 수업복습(PRACTICE) + 면접대비 복습모드(isReviewMode=true) 합산
-    @Query("SELECT COUNT(qa) FROM QuizAttempt qa WHERE qa.member.id = :memberId AND (qa.quizType = 'PRACTICE' OR qa.isReviewMode = true)")
+    // 전체 복습 문제 수 (배지용) - 수업복습(PRACTICE) + 면접대비 복습모드(isReviewMode=true) 합산 (롤업 + 미집계 구간)
+    @Query(value = """
+        SELECT (SELECT NVL(SUM(CASE WHEN d.quiz_type = 'PRACTICE' THEN d.attempt_count ELSE d.review_count END), 0)
+                FROM TB_QUIZ_ATTEMPT_DAILY d WHERE d.member_id = :memberId)
+             + (SELECT COUNT(*) FROM TB_QUIZ_ATTEMPT qa
+                WHERE qa.member_id = :memberId AND (qa.quiz_type = 'PRACTICE' OR qa.is_review_mode = 1)
+                  AND qa.attempt_date >= (SELECT NVL(MAX(rd.attempt_date) + 1, DATE '1970-01-01') FROM TB_QUIZ_ATTEMPT_DAILY rd))
+        FROM DUAL
+        """, nativeQuery = true)
     Long countAllReviewByMemberId(@Param("memberId") Long memberId);
 
-    // 복습 횟수 랜킹 (복습 횟수 내림차순)
-    @Query("""
-        SELECT qa.member.id, qa.member.name, qa.member.avatarUrl, COUNT(qa) as reviewCount,
-               qa.member.position, qa.member.branch, qa.member.classroom, qa.member.cohort
-        FROM QuizAttempt qa
-        WHERE qa.isReviewMode = true
-        GROUP BY qa.member.id, qa.member.name, qa.member.avatarUrl,
-                 qa.member.position, qa.member.branch, qa.member.classroom, qa.member.cohort
-        ORDER BY reviewCount DESC
-        """)
+    // 복습 횟수 랜킹 (복습 횟수 내림차순, 롤업 + 미집계 구간)
+    @Query(value = """
+        SELECT m.id, m.name, m.avatar_url, t.cnt AS reviewCount,
+               m.position, m.branch, m.classroom, m.cohort
+        FROM (
+            SELECT u.member_id, SUM(u.cnt) AS cnt
+            FROM (
+                SELECT d.member_id, d.review_count AS cnt FROM TB_QUIZ_ATTEMPT_DAILY d WHERE d.review_count > 0
+                UNION ALL
+                SELECT qa.member_id, 1 FROM TB_QUIZ_ATTEMPT qa
+                WHERE qa.is_review_mode = 1
+                  AND qa.attempt_date >= (SELECT NVL(MAX(rd.attempt_date) + 1, DATE '1970-01-01') FROM TB_QUIZ_ATTEMPT_DAILY rd)
+            ) u
+            GROUP BY u.member_id
+        ) t JOIN TB_MEMBER_PF m ON m.id = t.member_id
+        ORDER BY t.cnt DESC
+        """, nativeQuery = true)
     List<Object[]> findTopByReviewCount();
 
     // 특정 날짜에 사용자가 맞은 문제 수 (복습 모드 제외 - 완벽한 하루 배지용)
@@ -109,28 +329,42 @@ public interface QuizAttemptRepository extends JpaRepository<QuizAttempt, Long>
 
     // ===== 랭킹용 쿼리 =====
 
-    // 🌅 얼리버드 랭킹 (아침 6~9시 풀이 횟수)
-    @Query("""
-        SELECT qa.member.id, qa.member.name, qa.member.avatarUrl, COUNT(qa) as earlyCount,
-               qa.member.position, qa.member.branch, qa.member.classroom, qa.member.cohort
-        FROM QuizAttempt qa
-        WHERE EXTRACT(HOUR FROM qa.createdAt) >= 6 AND EXTRACT(HOUR FROM qa.createdAt) < 9
-        GROUP BY qa.member.id, qa.member.name, qa.member.avatarUrl,
-                 qa.member.position, qa.member.branch, qa.member.classroom, qa.member.cohort
-        ORDER BY earlyCount DESC
-        """)
+    // 🌅 얼리버드 랭킹 (아침 6~9시 풀이 횟수, 롤업 + 미집계 구간)
+    @Query(value = """
+        SELECT m.id, m.name, m.avatar_url, t.cnt AS earlyCount,
+               m.position, m.branch, m.classroom, m.cohort
+        FROM (
+            SELECT u.member_id, SUM(u.cnt) AS cnt
+            FROM (
+                SELECT d.member_id, d.early_bird_count AS cnt FROM TB_QUIZ_ATTEMPT_DAILY d WHERE d.early_bird_count > 0
+                UNION ALL
+                SELECT qa.member_id, 1 FROM TB_QUIZ_ATTEMPT qa
+                WHERE EXTRACT(HOUR FROM qa.created_at) >= 6 AND EXTRACT(HOUR FROM qa.created_at) < 9
+                  AND qa.attempt_date >= (SELECT NVL(MAX(rd.attempt_date) + 1, DATE '1970-01-01') FROM TB_QUIZ_ATTEMPT_DAILY rd)
+            ) u
+            GROUP BY u.member_id
+        ) t JOIN TB_MEMBER_PF m ON m.id = t.member_id
+        ORDER BY t.cnt DESC
+        """, nativeQuery = true)
     List<Object[]> findTopByEarlyBird();
 
-    // 🦉 올빼미 랭킹 (밤 22시~새벽 2시 풀이 횟수)
-    @Query("""
-        SELECT qa.member.id, qa.member.name, qa.member.avatarUrl, COUNT(qa) as nightCount,
-               qa.member.position, qa.member.branch, qa.member.classroom, qa.member.cohort
-        FROM QuizAttempt qa
-        WHERE (EXTRACT(HOUR FROM qa.createdAt) >= 22 OR EXTRACT(HOUR FROM qa.createdAt) < 2)
-        GROUP BY qa.member.id, qa.member.name, qa.member.avatarUrl,
-                 qa.member.position, qa.member.branch, qa.member.classroom, qa.member.cohort
-        ORDER BY nightCount DESC
-        """)
+    // 🦉 올빼미 랭킹 (밤 22시~새벽 2시 풀이 횟수, 롤업 + 미집계 구간)
+    @Query(value = """
+        SELECT m.id, m.name, m.avatar_url, t.cnt AS nightCount,
+               m.position, m.branch, m.classroom, m.cohort
+        FROM (
+            SELECT u.member_id, SUM(u.cnt) AS cnt
+            FROM (
+                SELECT d.member_id, d.night_owl_count AS cnt FROM TB_QUIZ_ATTEMPT_DAILY d WHERE d.night_owl_count > 0
+                UNION ALL
+                SELECT qa.member_id, 1 FROM TB_QUIZ_ATTEMPT qa
+                WHERE (EXTRACT(HOUR FROM qa.created_at) >= 22 OR EXTRACT(HOUR FROM qa.created_at) < 2)
+                  AND qa.attempt_date >= (SELECT NVL(MAX(rd.attempt_date) + 1, DATE '1970-01-01') FROM TB_QUIZ_ATTEMPT_DAILY rd)
+            ) u
+            GROUP BY u.member_id
+        ) t JOIN TB_MEMBER_PF m ON m.id = t.member_id
+        ORDER BY t.cnt DESC
+        """, nativeQuery = true)
     List<Object[]> findTopByNightOwl();
 
     // 🔥 오늘의 챔피언 (오늘 풀이 횟수 - 학습+복습)
@@ -156,4 +390,118 @@ public interface QuizAttemptRepository extends JpaRepository<QuizAttempt, Long>
         ORDER BY weekCount DESC
         """)
     List<Object[]> findTopByThisWeek(@Param("weekStart") LocalDate weekStart, @Param("weekEnd") LocalDate weekEnd);
+
+    // ===== 반별 랭킹용 쿼리 (position=수강생, branch, classroom, cohort 파티션만 집계) =====
+
+    // 복습 횟수 랭킹 - 같은 반
+    @Query(value = """
+        SELECT m.id, m.name, m.avatar_url, t.cnt AS reviewCount,
+               m.position, m.branch, m.classroom, m.cohort
+        FROM (
+            SELECT u.member_id, SUM(u.cnt) AS cnt
+            FROM (
+                SELECT d.member_id, d.review_count AS cnt FROM TB_QUIZ_ATTEMPT_DAILY d WHERE d.review_count > 0
+                UNION ALL
+                SELECT qa.member_id, 1 FROM TB_QUIZ_ATTEMPT qa
+                WHERE qa.is_review_mode = 1
+                  AND qa.attempt_date >= (SELECT NVL(MAX(rd.attempt_date) + 1, DATE '1970-01-01') FROM TB_QUIZ_ATTEMPT_DAILY rd)
+            ) u
+            GROUP BY u.member_id
+        ) t JOIN TB_MEMBER_PF m ON m.id = t.member_id
+        WHERE m.position = '수강생'
+          AND m.branch = :branch
+          AND (m.classroom = :classroom OR (m.classroom IS NULL AND :classroom IS NULL))
+          AND (m.cohort = :cohort OR (m.cohort IS NULL AND :cohort IS NULL))
+        ORDER BY t.cnt DESC
+        """, nativeQuery = true)
+    List<Object[]> findTopByReviewCountInClass(@Param("branch") String branch,
+                                               @Param("classroom") String classroom,
+                                               @Param("cohort") String cohort);
+
+    // 🌅 얼리버드 랭킹 - 같은 반
+    @Query(value = """
+        SELECT m.id, m.name, m.avatar_url, t.cnt AS earlyCount,
+               m.position, m.branch, m.classroom, m.cohort
+        FROM (
+            SELECT u.member_id, SUM(u.cnt) AS cnt
+            FROM (
+                SELECT d.member_id, d.early_bird_count AS cnt FROM TB_QUIZ_ATTEMPT_DAILY d WHERE d.early_bird_count > 0
+                UNION ALL
+                SELECT qa.member_id, 1 FROM TB_QUIZ_ATTEMPT qa
+                WHERE EXTRACT(HOUR FROM qa.created_at) >= 6 AND EXTRACT(HOUR FROM qa.created_at) < 9
+                  AND qa.attempt_date >= (SELECT NVL(MAX(rd.attempt_date) + 1, DATE '1970-01-01') FROM TB_QUIZ_ATTEMPT_DAILY rd)
+            ) u
+            GROUP BY u.member_id
+        ) t JOIN TB_MEMBER_PF m ON m.id = t.member_id
+        WHERE m.position = '수강생'
+          AND m.branch = :branch
+          AND (m.classroom = :classroom OR (m.classroom IS NULL AND :classroom IS NULL))
+          AND (m.cohort = :cohort OR (m.cohort IS NULL AND :cohort IS NULL))
+        ORDER BY t.cnt DESC
+        """, nativeQuery = true)
+    List<Object[]> findTopByEarlyBirdInClass(@Param("branch") String branch,
+                                             @Param("classroom") String classroom,
+                                             @Param("cohort") String cohort);
+
+    // 🦉 올빼미 랭킹 - 같은 반
+    @Query(value = """
+        SELECT m.id, m.name, m.avatar_url, t.cnt AS nightCount,
+               m.position, m.branch, m.classroom, m.cohort
+        FROM (
+            SELECT u.member_id, SUM(u.cnt) AS cnt
+            FROM (
+                SELECT d.member_id, d.night_owl_count AS cnt FROM TB_QUIZ_ATTEMPT_DAILY d WHERE d.night_owl_count > 0
+                UNION ALL
+                SELECT qa.member_id, 1 FROM TB_QUIZ_ATTEMPT qa
+                WHERE (EXTRACT(HOUR FROM qa.created_at) >= 22 OR EXTRACT(HOUR FROM qa.created_at) < 2)
+                  AND qa.attempt_date >= (SELECT NVL(MAX(rd.attempt_date) + 1, DATE '1970-01-01') FROM TB_QUIZ_ATTEMPT_DAILY rd)
+            ) u
+            GROUP BY u.member_id
+        ) t JOIN TB_MEMBER_PF m ON m.id = t.member_id
+        WHERE m.position = '수강생'
+          AND m.branch = :branch
+          AND (m.classroom = :classroom OR (m.classroom IS NULL AND :classroom IS NULL))
+          AND (m.cohort = :cohort OR (m.cohort IS NULL AND :cohort IS NULL))
+        ORDER BY t.cnt DESC
+        """, nativeQuery = true)
+    List<Object[]> findTopByNightOwlInClass(@Param("branch") String branch,
+                                            @Param("classroom") String classroom,
+                                            @Param("cohort") String cohort);
+
+    // 🔥 오늘의 챔피언 - 같은 반
+    @Query("""
+        SELECT m.id, m.name, m.avatarUrl, COUNT(qa) as todayCount,
+               m.position, m.branch, m.classroom, m.cohort
+        FROM QuizAttempt qa JOIN qa.member m
+        WHERE qa.attemptDate = :today
+          AND m.position = '수강생'
+          AND m.branch = :branch
+          AND (m.classroom = :classroom OR (m.classroom IS NULL AND :classroom IS NULL))
+          AND (m.cohort = :cohort OR (m.cohort IS NULL AND :cohort IS NULL))
+        GROUP BY m.id, m.name, m.avatarUrl, m.position, m.branch, m.classroom, m.cohort
+        ORDER BY todayCount DESC
+        """)
+    List<Object[]> findTopByTodayInClass(@Param("today") LocalDate today,
+                                         @Param("branch") String branch,
+                                         @Param("classroom") String classroom,
+                                         @Param("cohort") String cohort);
+
+    // 📅 이번 주 MVP - 같은 반
+    @Query("""
+        SELECT m.id, m.name, m.avatarUrl, COUNT(qa) as weekCount,
+               m.position, m.branch, m.classroom, m.cohort
+        FROM QuizAttempt qa JOIN qa.member m
+        WHERE qa.attemptDate >= :weekStart AND qa.attemptDate <= :weekEnd
+          AND m.position = '수강생'
+          AND m.branch = :branch
+          AND (m.classroom = :classroom OR (m.classroom IS NULL AND :classroom IS NULL))
+          AND (m.cohort = :cohort OR (m.cohort IS NULL AND :cohort IS NULL))
+        GROUP BY m.id, m.name, m.avatarUrl, m.position, m.branch, m.classroom, m.cohort
+        ORDER BY weekCount DESC
+        """)
+    List<Object[]> findTopByThisWeekInClass(@Param("weekStart") LocalDate weekStart,
+                                            @Param("weekEnd") LocalDate weekEnd,
+                                            @Param("branch") String branch,
+                                            @Param("classroom") String classroom,
+                                            @Param("cohort") String cohort);
 }
@@ -0,0 +1,7 @@
+package com.portfolio.builder.quiz.repository;
+
+import com.portfolio.builder.quiz.domain.QuizPack;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface QuizPackRepository extends JpaRepository<QuizPack, String> {
+}
@@ -0,0 +1,94 @@
+package com.portfolio.builder.quiz.repository;
+
+import com.portfolio.builder.quiz.domain.QuizReviewState;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface QuizReviewStateRepository extends JpaRepository<QuizReviewState, Long> {
+
+    // 제출 반영용 (같은 문제 동시 제출 시 직렬화)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM QuizReviewState s WHERE s.member.id = :memberId AND s.quiz.id = :quizId")
+    Optional<QuizReviewState> findForUpdate(@Param("memberId") Long memberId, @Param("quizId") Long quizId);
+
+    // 복습 일정이 없을 때만 생성 (오늘 복습 대상으로 시작)
+    @Modifying
+    @Query(value = """
+        INSERT INTO TB_QUIZ_REVIEW_STATE (member_id, quiz_id, quiz_type, repetitions, interval_days, ease_factor, due_at, wrong_count)
+        SELECT :memberId, :quizId, :quizType, 0, 0, 2.5, :today, 0 FROM DUAL
+        WHERE NOT EXISTS (SELECT 1 FROM TB_QUIZ_REVIEW_STATE WHERE member_id = :memberId AND quiz_id = :quizId)
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("memberId") Long memberId,
+                       @Param("quizId") Long quizId,
+                       @Param("quizType") String quizType,
+                       @Param("today") LocalDate today);
+
+    // 기존 풀이 기록으로 복습 일정 일괄 생성 (최초 1회, 아카이브 포함)
+    @Modifying
+    @Query(value = """
+        INSERT INTO TB_QUIZ_REVIEW_STATE (member_id, quiz_id, quiz_type, repetitions, interval_days, ease_factor, due_at, wrong_count, last_reviewed_at)
+        SELECT qa.member_id, qa.quiz_id, MAX(qa.quiz_type), 0, 1, 2.5, MAX(qa.attempt_date) + 1,
+               SUM(CASE WHEN qa.is_correct = 0 AND (qa.is_review_mode = 0 OR qa.is_review_mode IS NULL) THEN 1 ELSE 0 END),
+               MAX(qa.attempt_date)
+        FROM (
+            SELECT h.member_id, h.quiz_id, h.quiz_type, h.attempt_date, h.is_correct, h.is_review_mode FROM TB_QUIZ_ATTEMPT h
+            UNION ALL
+            SELECT a.member_id, a.quiz_id, a.quiz_type, a.attempt_date, a.is_correct, a.is_review_mode FROM TB_QUIZ_ATTEMPT_ARCHIVE a
+        ) qa
+        GROUP BY qa.member_id, qa.quiz_id
+        """, nativeQuery = true)
+    int backfillFromAttempts();
+
+    // 복습할 문제 (복습일 도래, 오래된 순)
+    @Query("""
+        SELECT s FROM QuizReviewState s JOIN FETCH s.quiz q
+        WHERE s.member.id = :memberId AND s.dueAt <= :today AND s.quizType = :quizType AND q.active = true
+        ORDER BY s.dueAt ASC, s.id ASC
+        """)
+    List<QuizReviewState> findDue(@Param("memberId") Long memberId,
+                                  @Param("today") LocalDate today,
+                                  @Param("quizType") String quizType,
+                                  Pageable pageable);
+
+    @Query("""
+        SELECT s FROM QuizReviewState s JOIN FETCH s.quiz q
+        WHERE s.member.id = :memberId AND s.dueAt <= :today AND s.quizType = :quizType AND q.category = :category
+        AND q.active = true
+        ORDER BY s.dueAt ASC, s.id ASC
+        """)
+    List<QuizReviewState> findDueByCategory(@Param("memberId") Long memberId,
+                                            @Param("today") LocalDate today,
+                                            @Param("quizType") String quizType,
+                                            @Param("category") String category,
+                                            Pageable pageable);
+
+    // 오답 다시 풀기 (틀린 적 있는 문제, 복습일 빠른 순)
+    @Query("""
+        SELECT s FROM QuizReviewState s JOIN FETCH s.quiz q
+        WHERE s.member.id = :memberId AND s.wrongCount > 0 AND s.quizType = :quizType AND q.active = true
+        ORDER BY s.dueAt ASC, s.id ASC
+        """)
+    List<QuizReviewState> findWrong(@Param("memberId") Long memberId,
+                                    @Param("quizType") String quizType,
+                                    Pageable pageable);
+
+    @Query("""
+        SELECT s FROM QuizReviewState s JOIN FETCH s.quiz q
+        WHERE s.member.id = :memberId AND s.wrongCount > 0 AND s.quizType = :quizType AND q.category = :category
+        AND q.active = true
+        ORDER BY s.dueAt ASC, s.id ASC
+        """)
+    List<QuizReviewState> findWrongByCategory(@Param("memberId") Long memberId,
+                                              @Param("quizType") String quizType,
+                                              @Param("category") String category,
+                                              Pageable pageable);
+}
@@ -2,9 +2,11 @@ package com.portfolio.builder.quiz.repository;
 
 import com.portfolio.builder.quiz.domain.QuizStreak;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +14,39 @@ public interface QuizStreakRepository extends JpaRepository<QuizStreak, Long> {
 
     Optional<QuizStreak> findByMemberId(Long memberId);
 
+    // 풀이 1건 반영 (단일 UPDATE - 행 잠금만으로 원자적, 갱신 유실 없음)
+    // SET 절의 모든 식은 갱신 전 값을 기준으로 평가됨
+    @Modifying
+    @Query("""
+        UPDATE QuizStreak qs SET
+            qs.currentStreak = CASE
+                WHEN qs.lastStudyDate = :yesterday THEN qs.currentStreak + 1
+                WHEN qs.lastStudyDate < :yesterday THEN 1
+                ELSE qs.currentStreak END,
+            qs.maxStreak = CASE
+                WHEN qs.lastStudyDate = :yesterday AND qs.currentStreak + 1 > qs.maxStreak THEN qs.currentStreak + 1
+                WHEN qs.lastStudyDate < :yesterday AND qs.maxStreak < 1 THEN 1
+                WHEN qs.lastStudyDate > :yesterday AND qs.currentStreak > qs.maxStreak THEN qs.currentStreak
+                ELSE qs.maxStreak END,
+            qs.lastStudyDate = :today,
+            qs.totalQuizCount = qs.totalQuizCount + 1,
+            qs.correctCount = qs.correctCount + :correctDelta
+        WHERE qs.member.id = :memberId
+        """)
+    int applyAttempt(@Param("memberId") Long memberId,
+                     @Param("today") LocalDate today,
+                     @Param("yesterday") LocalDate yesterday,
+                     @Param("correctDelta") int correctDelta);
+
+    // 스트릭 행이 없을 때만 빈 행 생성 (어제 학습한 것으로 두어 첫 풀이 시 스트릭 1)
+    @Modifying
+    @Query(value = """
+        INSERT INTO TB_QUIZ_STREAK (member_id, current_streak, max_streak, last_study_date, total_quiz_count, correct_count)
+        SELECT :memberId, 0, 0, :yesterday, 0, 0 FROM DUAL
+        WHERE NOT EXISTS (SELECT 1 FROM TB_QUIZ_STREAK WHERE member_id = :memberId)
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("memberId") Long memberId, @Param("yesterday") LocalDate yesterday);
+
     // 스트릭 랭킹 (연속 학습일 기준)
     @Query("SELECT qs FROM QuizStreak qs JOIN FETCH qs.member m ORDER BY qs.currentStreak DESC")
     List<QuizStreak> findTopByCurrentStreak();
@@ -27,4 +62,47 @@ public interface QuizStreakRepository extends JpaRepository<QuizStreak, Long> {
         ORDER BY (qs.correctCount * 1.0 / qs.totalQuizCount) DESC
         """)
     List<QuizStreak> findTopByAccuracy(@Param("minQuizCount") int minQuizCount);
+
+    // ===== 반별 랭킹 (position=수강생, branch, classroom, cohort 파티션만 조회) =====
+
+    // 스트릭 랭킹 - 같은 반
+    @Query("""
+        SELECT qs FROM QuizStreak qs JOIN FETCH qs.member m
+        WHERE m.position = '수강생'
+          AND m.branch = :branch
+          AND (m.classroom = :classroom OR (m.classroom IS NULL AND :classroom IS NULL))
+          AND (m.cohort = :cohort OR (m.cohort IS NULL AND :cohort IS NULL))
+        ORDER BY qs.currentStreak DESC
+        """)
+    List<QuizStreak> findTopByCurrentStreakInClass(@Param("branch") String branch,
+                                                  @Param("classroom") String classroom,
+                                                  @Param("cohort") String cohort);
+
+    // 총 문제 수 랭킹 - 같은 반
+    @Query("""
+        SELECT qs FROM QuizStreak qs JOIN FETCH qs.member m
+        WHERE m.position = '수강생'
+          AND m.branch = :branch
+          AND (m.classroom = :classroom OR (m.classroom IS NULL AND :classroom IS NULL))
+          AND (m.cohort = :cohort OR (m.cohort IS NULL AND :cohort IS NULL))
+        ORDER BY qs.totalQuizCount DESC
+        """)
+    List<QuizStreak> findTopByTotalQuizCountInClass(@Param("branch") String branch,
+                                                   @Param("classroom") String classroom,
+                                                   @Param("cohort") String cohort);
+
+    // 정답률 랭킹 - 같은 반 (최소 문제 수 이상)
+    @Query("""
+        SELECT qs FROM QuizStreak qs JOIN FETCH qs.member m
+        WHERE qs.totalQuizCount >= :minQuizCount
+          AND m.position = '수강생'
+          AND m.branch = :branch
+          AND (m.classroom = :classroom OR (m.classroom IS NULL AND :classroom IS NULL))
+          AND (m.cohort = :cohort OR (m.cohort IS NULL AND :cohort IS NULL))
+        ORDER BY (qs.correctCount * 1.0 / qs.totalQuizCount) DESC
+        """)
+    List<QuizStreak> findTopByAccuracyInClass(@Param("minQuizCount") int minQuizCount,
+                                             @Param("branch") String branch,
+                                             @Param("classroom") String classroom,
+                                             @Param("cohort") String cohort);
 }
@@ -0,0 +1,80 @@
+package com.portfolio.builder.quiz.repository;
+
+import com.portfolio.builder.quiz.domain.RareBadgeCount;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface RareBadgeCountRepository extends JpaRepository<RareBadgeCount, Long> {
+
+    Optional<RareBadgeCount> findByMemberId(Long memberId);
+
+    void deleteByMemberId(Long memberId);
+
+    // 회원 행이 없을 때만 생성 (희귀 배지 0개)
+    @Modifying
+    @Query(value = """
+        INSERT INTO TB_RARE_BADGE_COUNT (member_id, rare_count)
+        SELECT :memberId, 0 FROM DUAL
+        WHERE NOT EXISTS (SELECT 1 FROM TB_RARE_BADGE_COUNT WHERE member_id = :memberId)
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("memberId") Long memberId);
+
+    // 특정 회원의 희귀 배지 수 증감
+    @Modifying
+    @Query("UPDATE RareBadgeCount r SET r.rareCount = r.rareCount + :delta WHERE r.member.id = :memberId")
+    int addRareCount(@Param("memberId") Long memberId, @Param("delta") int delta);
+
+    // 특정 배지 보유자 전체의 희귀 배지 수 증감 (배지 희귀 여부 전환 시)
+    @Modifying
+    @Query("""
+        UPDATE RareBadgeCount r SET r.rareCount = r.rareCount + :delta
+        WHERE r.member.id IN (SELECT b.member.id FROM Badge b WHERE b.badgeId = :badgeId)
+        """)
+    int addRareCountForBadgeHolders(@Param("badgeId") String badgeId, @Param("delta") int delta);
+
+    // ⭐ 희귀 배지 랭킹 상위 N명
+    @Query("""
+        SELECT r FROM RareBadgeCount r JOIN FETCH r.member m
+        WHERE r.rareCount > 0
+        ORDER BY r.rareCount DESC, m.id ASC
+        """)
+    List<RareBadgeCount> findTopByRareCount(Pageable pageable);
+
+    // ⭐ 희귀 배지 랭킹 상위 N명 - 같은 반
+    @Query("""
+        SELECT r FROM RareBadgeCount r JOIN FETCH r.member m
+        WHERE r.rareCount > 0
+          AND m.position = '수강생'
+          AND m.branch = :branch
+          AND (m.classroom = :classroom OR (m.classroom IS NULL AND :classroom IS NULL))
+          AND (m.cohort = :cohort OR (m.cohort IS NULL AND :cohort IS NULL))
+        ORDER BY r.rareCount DESC, m.id ASC
+        """)
+    List<RareBadgeCount> findTopByRareCountInClass(@Param("branch") String branch,
+                                                   @Param("classroom") String classroom,
+                                                   @Param("cohort") String cohort,
+                                                   Pageable pageable);
+
+    // 나보다 희귀 배지가 많은 회원 수 (내 순위 계산용)
+    long countByRareCountGreaterThan(Integer rareCount);
+
+    // 나보다 희귀 배지가 많은 회원 수 - 같은 반
+    @Query("""
+        SELECT COUNT(r) FROM RareBadgeCount r JOIN r.member m
+        WHERE r.rareCount > :rareCount
+          AND m.position = '수강생'
+          AND m.branch = :branch
+          AND (m.classroom = :classroom OR (m.classroom IS NULL AND :classroom IS NULL))
+          AND (m.cohort = :cohort OR (m.cohort IS NULL AND :cohort IS NULL))
+        """)
+    long countByRareCountGreaterThanInClass(@Param("rareCount") Integer rareCount,
+                                            @Param("branch") String branch,
+                                            @Param("classroom") String classroom,
+                                            @Param("cohort") String cohort);
+}
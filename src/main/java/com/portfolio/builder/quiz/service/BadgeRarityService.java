@@ -0,0 +1,241 @@
+package com.portfolio.builder.quiz.service;
+
+import com.portfolio.builder.member.domain.Member;
+import com.portfolio.builder.member.domain.MemberRepository;
+import com.portfolio.builder.quiz.domain.BadgeStat;
+import com.portfolio.builder.quiz.domain.RareBadgeCount;
+import com.portfolio.builder.quiz.repository.BadgeRepository;
+import com.portfolio.builder.quiz.repository.BadgeStatRepository;
+import com.portfolio.builder.quiz.repository.RareBadgeCountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 희귀 배지 인덱스 관리
+ * - 배지별 획득자 수 (TB_BADGE_STAT)
+ * - 회원별 희귀 배지 보유 수 (TB_RARE_BADGE_COUNT)
+ * 배지 부여 / 수강생 수 변동 시 증분 갱신하고, 희귀 여부가 바뀐 배지만 보유자 카운트를 조정한다.
+ * 증감은 원자적 UPDATE로 하고 행 생성은 별도 트랜잭션에서 해, 동시 부여가 제출 트랜잭션을 롤백시키지 않는다.
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class BadgeRarityService {
+
+    private static final String STUDENT_POSITION = "수강생";
+    private static final double RARE_RATE_THRESHOLD = 10.0;  // 획득률 10% 미만 → 희귀 배지
+    private static final String LOCK_KEY = "lock:badge:rarity-rebuild";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+
+    private final BadgeRepository badgeRepository;
+    private final BadgeStatRepository badgeStatRepository;
+    private final RareBadgeCountRepository rareBadgeCountRepository;
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate requiresNewTransaction;
+    private final StringRedisTemplate redisTemplate;
+
+    public BadgeRarityService(BadgeRepository badgeRepository,
+                              BadgeStatRepository badgeStatRepository,
+                              RareBadgeCountRepository rareBadgeCountRepository,
+                              MemberRepository memberRepository,
+                              PlatformTransactionManager transactionManager,
+                              StringRedisTemplate redisTemplate) {
+        this.badgeRepository = badgeRepository;
+        this.badgeStatRepository = badgeStatRepository;
+        this.rareBadgeCountRepository = rareBadgeCountRepository;
+        this.memberRepository = memberRepository;
+        this.redisTemplate = redisTemplate;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 애플리케이션 시작 후 인덱스가 비어 있으면 TB_BADGE 기준으로 구축
+     * - 롤링 배포 중 여러 인스턴스가 동시에 재구축하지 않도록 Redis 락을 잡은 인스턴스만 실행
+     * - 락 해제 전에 커밋하고, 락을 잡은 뒤 다시 확인해 이미 구축된 인덱스는 건드리지 않음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void initIndex() {
+        if (badgeStatRepository.count() > 0) {
+            return;
+        }
+        if (!acquireLock()) {
+            log.info("Rare badge index is being rebuilt on another instance");
+            return;
+        }
+
+        try {
+            requiresNewTransaction.executeWithoutResult(status -> {
+                if (badgeStatRepository.count() == 0) {
+                    rebuildIndex();
+                }
+            });
+        } finally {
+            releaseLock();
+        }
+    }
+
+    /**
+     * 배지 부여 시 호출 (TB_BADGE 저장 이후)
+     */
+    @Transactional
+    public void onBadgeAwarded(Member member, String badgeId) {
+        // 인덱스 행 생성 (별도 트랜잭션 - 동시 생성 충돌 시 먼저 만든 행 사용)
+        insertIfAbsent(() -> rareBadgeCountRepository.insertIfAbsent(member.getId()));
+        insertIfAbsent(() -> badgeStatRepository.insertIfAbsent(badgeId));
+
+        // 증가 UPDATE가 배지 통계 행을 잠그므로 같은 배지의 동시 부여는 여기서 직렬화됨
+        badgeStatRepository.incrementHolderCount(badgeId);
+        long holderCount = badgeStatRepository.findHolderCount(badgeId);
+        boolean wasRare = Boolean.TRUE.equals(badgeStatRepository.findRare(badgeId));
+        long totalStudents = countStudents();
+
+        if (wasRare) {
+            rareBadgeCountRepository.addRareCount(member.getId(), 1);
+        }
+
+        // 획득자 증가로 희귀 → 일반 전환 (신규 보유자 포함 전체 -1)
+        if (wasRare && !isRare(holderCount, totalStudents)) {
+            flipRarity(badgeId, false);
+        }
+    }
+
+    /**
+     * 수강생 수 변동 시 호출 (프로필 설정, 직급 변경, 회원 삭제)
+     * 임계값을 넘나든 배지만 보유자 카운트 조정
+     */
+    @Transactional
+    public void onStudentPopulationChanged() {
+        long totalStudents = countStudents();
+        for (BadgeStat stat : badgeStatRepository.findAll()) {
+            boolean nowRare = isRare(stat.getHolderCount(), totalStudents);
+            if (nowRare != Boolean.TRUE.equals(stat.getRare())) {
+                flipRarity(stat.getBadgeId(), nowRare);
+            }
+        }
+    }
+
+    /**
+     * 회원 삭제 시 호출 (TB_BADGE 행이 지워지기 전)
+     * 보유 배지마다 획득자 수를 줄이고 희귀 여부를 다시 계산한 뒤 인덱스 행 제거
+     */
+    @Transactional
+    public void onMemberRemoved(Long memberId) {
+        long totalStudents = countStudents();
+        for (String badgeId : badgeRepository.findBadgeIdsByMemberId(memberId)) {
+            if (badgeStatRepository.decrementHolderCount(badgeId) == 0) {
+                continue;
+            }
+            boolean nowRare = isRare(badgeStatRepository.findHolderCount(badgeId), totalStudents);
+            if (nowRare != Boolean.TRUE.equals(badgeStatRepository.findRare(badgeId))) {
+                flipRarity(badgeId, nowRare);
+            }
+        }
+        rareBadgeCountRepository.deleteByMemberId(memberId);
+    }
+
+    /**
+     * TB_BADGE 전체 기준으로 인덱스 재구축
+     */
+    @Transactional
+    public void rebuildIndex() {
+        long totalStudents = countStudents();
+
+        rareBadgeCountRepository.deleteAllInBatch();
+        badgeStatRepository.deleteAllInBatch();
+
+        List<String> rareBadgeIds = new ArrayList<>();
+        for (Object[] row : badgeRepository.countByBadgeIdGrouped()) {
+            String badgeId = (String) row[0];
+            long count = ((Number) row[1]).longValue();
+            boolean rare = isRare(count, totalStudents);
+            if (rare) {
+                rareBadgeIds.add(badgeId);
+            }
+            badgeStatRepository.save(BadgeStat.builder()
+                    .badgeId(badgeId)
+                    .holderCount(count)
+                    .rare(rare)
+                    .build());
+        }
+
+        Map<Long, Integer> rareCounts = new HashMap<>();
+        if (!rareBadgeIds.isEmpty()) {
+            for (Object[] row : badgeRepository.countRareBadgesGroupedByMember(rareBadgeIds)) {
+                rareCounts.put((Long) row[0], ((Number) row[1]).intValue());
+            }
+        }
+
+        List<Long> holderIds = badgeRepository.findDistinctMemberIds();
+        for (Long holderId : holderIds) {
+            rareBadgeCountRepository.save(RareBadgeCount.builder()
+                    .member(memberRepository.getReferenceById(holderId))
+                    .rareCount(rareCounts.getOrDefault(holderId, 0))
+                    .build());
+        }
+
+        log.info("Rare badge index rebuilt - badges: {}, rare: {}, holders: {}",
+                badgeStatRepository.count(), rareBadgeIds.size(), holderIds.size());
+    }
+
+    /**
+     * 희귀 여부 전환 - 실제로 전환된 경우에만 보유자 카운트 조정
+     */
+    private void flipRarity(String badgeId, boolean rare) {
+        if (badgeStatRepository.updateRare(badgeId, rare) == 1) {
+            int updated = rareBadgeCountRepository.addRareCountForBadgeHolders(badgeId, rare ? 1 : -1);
+            log.info("Badge {} is now {} ({} holders adjusted)", badgeId, rare ? "rare" : "common", updated);
+        }
+    }
+
+    private boolean acquireLock() {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", LOCK_TTL));
+        } catch (Exception e) {
+            // Redis 장애 시 락 없이 진행 (단일 인스턴스 기동과 동일)
+            log.warn("Redis error, rebuilding rare badge index without lock: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    private void releaseLock() {
+        try {
+            redisTemplate.delete(LOCK_KEY);
+        } catch (Exception e) {
+            log.warn("Redis error, failed to release rare badge index lock: {}", e.getMessage());
+        }
+    }
+
+    private void insertIfAbsent(Runnable insert) {
+        try {
+            requiresNewTransaction.executeWithoutResult(status -> insert.run());
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Rare badge index row already created concurrently");
+        }
+    }
+
+    private long countStudents() {
+        long totalStudents = memberRepository.countByPosition(STUDENT_POSITION);
+        return totalStudents == 0 ? 1 : totalStudents;  // 0으로 나누기 방지
+    }
+
+    private boolean isRare(long holderCount, long totalStudents) {
+        return (holderCount * 100.0) / totalStudents < RARE_RATE_THRESHOLD;
+    }
+}
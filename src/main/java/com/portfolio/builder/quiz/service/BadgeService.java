@@ -13,6 +13,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -25,6 +26,8 @@ public class BadgeService {
     private final QuizStreakRepository quizStreakRepository;
     private final QuizAttemptRepository quizAttemptRepository;
     private final MemberRepository memberRepository;
+    private final BadgeRarityService badgeRarityService;
+    private final QuizStatsCache quizStatsCache;
 
     // 배지 정의
     private static final List<BadgeDefinition> BADGE_DEFINITIONS = List.of(
@@ -142,6 +145,11 @@ public class BadgeService {
      * 배지 요약 조회
      */
     public BadgeSummary getBadgeSummary(Long memberId) {
+        return quizStatsCache.get("badge-summary", memberId, "all", BadgeSummary.class,
+                () -> loadBadgeSummary(memberId));
+    }
+
+    private BadgeSummary loadBadgeSummary(Long memberId) {
         List<Badge> recentBadges = badgeRepository.findTop5ByMemberIdOrderByEarnedAtDesc(memberId);
         long earnedCount = badgeRepository.countByMemberId(memberId);
 
@@ -184,12 +192,10 @@ public class BadgeService {
                 continue;
             }
 
-            if (checkBadgeCondition(memberId, def, streak)) {
-                Badge badge = Badge.builder()
-                        .member(member)
-                        .badgeId(def.id)
-                        .build();
-                badgeRepository.save(badge);
+            // 동시 제출로 이미 부여됐으면 0건 - 실제로 추가한 경우에만 희귀 배지 인덱스 반영
+            if (checkBadgeCondition(memberId, def, streak)
+                    && badgeRepository.insertIfAbsent(memberId, def.id, LocalDateTime.now()) == 1) {
+                badgeRarityService.onBadgeAwarded(member, def.id);
 
                 newBadges.add(BadgeResponse.builder()
                         .badgeId(def.id)
@@ -202,6 +208,11 @@ public class BadgeService {
             }
         }
 
+        // 새 배지가 있으면 통계 캐시 무효화 (커밋 후)
+        if (!newBadges.isEmpty()) {
+            quizStatsCache.invalidate(memberId);
+        }
+
         return newBadges;
     }
 
@@ -0,0 +1,164 @@
+package com.portfolio.builder.quiz.service;
+
+import com.portfolio.builder.quiz.repository.QuizAttemptDailyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * 퀴즈 시도 데이터 수명 주기 (월 1회)
+ * 1. 롤업: 마감된 달의 TB_QUIZ_ATTEMPT → TB_QUIZ_ATTEMPT_DAILY
+ * 2. 아카이브: 보존 기간(hot-months)이 지난 원본 → TB_QUIZ_ATTEMPT_ARCHIVE (압축)
+ * 월 단위로 트랜잭션을 나눠 실패해도 다음 실행에서 이어서 진행한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class QuizAttemptLifecycleService {
+
+    private static final String LOCK_KEY = "lock:quiz:attempt-lifecycle";
+    private static final Duration LOCK_TTL = Duration.ofHours(2);
+
+    private static final String DELETE_ROLLUP_SQL =
+            "DELETE FROM TB_QUIZ_ATTEMPT_DAILY WHERE attempt_date >= ? AND attempt_date < ?";
+
+    private static final String ROLLUP_SQL = """
+            INSERT INTO TB_QUIZ_ATTEMPT_DAILY (member_id, category, quiz_type, attempt_date, attempt_count,
+                                               correct_count, wrong_count, review_count, early_bird_count, night_owl_count)
+            SELECT qa.member_id, q.category, qa.quiz_type, qa.attempt_date, COUNT(*),
+                   SUM(CASE WHEN qa.is_correct = 1 AND (qa.is_review_mode = 0 OR qa.is_review_mode IS NULL) THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN qa.is_correct = 0 AND (qa.is_review_mode = 0 OR qa.is_review_mode IS NULL) THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN qa.is_review_mode = 1 THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN EXTRACT(HOUR FROM qa.created_at) >= 6 AND EXTRACT(HOUR FROM qa.created_at) < 9 THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN EXTRACT(HOUR FROM qa.created_at) >= 22 OR EXTRACT(HOUR FROM qa.created_at) < 2 THEN 1 ELSE 0 END)
+            FROM TB_QUIZ_ATTEMPT qa JOIN TB_QUIZ q ON q.id = qa.quiz_id
+            WHERE qa.attempt_date >= ? AND qa.attempt_date < ?
+            GROUP BY qa.member_id, q.category, qa.quiz_type, qa.attempt_date
+            """;
+
+    // APPEND: direct-path insert → 압축 테이블(COMPRESS BASIC)에 압축된 상태로 적재
+    private static final String ARCHIVE_SQL = """
+            INSERT /*+ APPEND */ INTO TB_QUIZ_ATTEMPT_ARCHIVE (id, member_id, quiz_id, user_answer, is_correct,
+                                                            attempt_date, created_at, is_review_mode, quiz_type)
+            SELECT id, member_id, quiz_id, user_answer, is_correct, attempt_date, created_at, is_review_mode, quiz_type
+            FROM TB_QUIZ_ATTEMPT
+            WHERE attempt_date >= ? AND attempt_date < ?
+            """;
+
+    private static final String DELETE_HOT_SQL =
+            "DELETE FROM TB_QUIZ_ATTEMPT WHERE attempt_date >= ? AND attempt_date < ?";
+
+    private final QuizAttemptDailyRepository quizAttemptDailyRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${quiz.lifecycle.hot-months:12}")
+    private int hotMonths;
+
+    /**
+     * 매월 1일 새벽 실행 (여러 인스턴스 중 하나만)
+     */
+    @Scheduled(cron = "${quiz.lifecycle.cron:0 30 3 1 * *}")
+    public void runMonthly() {
+        Boolean acquired;
+        try {
+            acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", LOCK_TTL);
+        } catch (Exception e) {
+            log.error("Redis error, skipping quiz attempt lifecycle run: {}", e.getMessage());
+            return;
+        }
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.info("Quiz attempt lifecycle already running on another instance");
+            return;
+        }
+
+        try {
+            rollupClosedMonths();
+            archiveColdMonths();
+        } finally {
+            redisTemplate.delete(LOCK_KEY);
+        }
+    }
+
+    /**
+     * 롤업되지 않은 마감 월을 한 달씩 롤업
+     */
+    public void rollupClosedMonths() {
+        LocalDate until = LocalDate.now().withDayOfMonth(1);
+        LocalDate from = findRollupStart();
+        if (from == null) {
+            return;
+        }
+
+        while (from.isBefore(until)) {
+            LocalDate start = from;
+            LocalDate end = from.withDayOfMonth(1).plusMonths(1);
+            int rows = transactionTemplate.execute(tx -> {
+                jdbcTemplate.update(DELETE_ROLLUP_SQL, Date.valueOf(start), Date.valueOf(end));
+                return jdbcTemplate.update(ROLLUP_SQL, Date.valueOf(start), Date.valueOf(end));
+            });
+            log.info("Quiz attempts rolled up - from: {}, to: {}, rows: {}", start, end, rows);
+            from = end;
+        }
+    }
+
+    /**
+     * 롤업이 끝났고 보존 기간이 지난 달의 원본을 아카이브로 이동
+     */
+    public void archiveColdMonths() {
+        LocalDate rolledUntil = findRolledUntil();
+        if (rolledUntil == null) {
+            return;  // 롤업 전 데이터는 이동하지 않음
+        }
+
+        LocalDate retentionStart = LocalDate.now().withDayOfMonth(1).minusMonths(hotMonths);
+        LocalDate until = rolledUntil.isBefore(retentionStart) ? rolledUntil : retentionStart;
+
+        LocalDate oldest = jdbcTemplate.queryForObject(
+                "SELECT MIN(attempt_date) FROM TB_QUIZ_ATTEMPT", LocalDate.class);
+        if (oldest == null) {
+            return;
+        }
+
+        LocalDate from = oldest.withDayOfMonth(1);
+        while (from.isBefore(until)) {
+            LocalDate start = from;
+            LocalDate end = from.plusMonths(1).isBefore(until) ? from.plusMonths(1) : until;
+            int moved = transactionTemplate.execute(tx -> {
+                jdbcTemplate.update(ARCHIVE_SQL, Date.valueOf(start), Date.valueOf(end));
+                return jdbcTemplate.update(DELETE_HOT_SQL, Date.valueOf(start), Date.valueOf(end));
+            });
+            log.info("Quiz attempts archived - from: {}, to: {}, rows: {}", start, end, moved);
+            from = end;
+        }
+    }
+
+    /**
+     * 롤업 시작일: 롤업된 마지막 날짜 다음 날 (롤업이 없으면 가장 오래된 시도일)
+     */
+    private LocalDate findRollupStart() {
+        LocalDate rolledUntil = findRolledUntil();
+        if (rolledUntil != null) {
+            return rolledUntil;
+        }
+        return jdbcTemplate.queryForObject("SELECT MIN(attempt_date) FROM TB_QUIZ_ATTEMPT", LocalDate.class);
+    }
+
+    /**
+     * 롤업이 끝난 경계 (이 날짜 전까지는 롤업에 반영됨, 랭킹/통계 쿼리의 hot 구간 시작과 동일)
+     */
+    private LocalDate findRolledUntil() {
+        LocalDate maxRolled = quizAttemptDailyRepository.findMaxAttemptDate();
+        return maxRolled != null ? maxRolled.plusDays(1) : null;
+    }
+}
@@ -0,0 +1,65 @@
+package com.portfolio.builder.quiz.service;
+
+import com.portfolio.builder.member.domain.Member;
+import com.portfolio.builder.member.domain.MemberRepository;
+import com.portfolio.builder.quiz.domain.Quiz;
+import com.portfolio.builder.quiz.domain.QuizAttempt;
+import com.portfolio.builder.quiz.dto.QuizDto.BadgeResponse;
+import com.portfolio.builder.quiz.repository.QuizAttemptRepository;
+import com.portfolio.builder.quiz.repository.QuizRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 세션 채점 결과 저장
+ * 시도 기록, 스트릭, 복습 일정, 배지를 제출 트랜잭션 안에서 한 번에 반영한다. (회원/문제는 조회 없이 참조만 사용)
+ * 실패하면 제출 자체가 실패하고 Redis 제출 표시/일일 카운트는 롤백 시 되돌려져 다시 제출할 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QuizAttemptWriter {
+
+    private final QuizAttemptRepository quizAttemptRepository;
+    private final QuizRepository quizRepository;
+    private final MemberRepository memberRepository;
+    private final QuizStreakRecorder quizStreakRecorder;
+    private final ReviewQueueService reviewQueueService;
+    private final QuizStatsCache quizStatsCache;
+    private final BadgeService badgeService;
+
+    /**
+     * @return 이번 풀이로 새로 획득한 배지
+     */
+    @Transactional
+    public List<BadgeResponse> persist(Long memberId, Long quizId, String quizType, Integer userAnswer,
+                                       boolean isCorrect, LocalDate attemptDate) {
+        try {
+            Member member = memberRepository.getReferenceById(memberId);
+            Quiz quiz = quizRepository.getReferenceById(quizId);
+
+            quizAttemptRepository.save(QuizAttempt.builder()
+                    .member(member)
+                    .quiz(quiz)
+                    .userAnswer(userAnswer)
+                    .isCorrect(isCorrect)
+                    .attemptDate(attemptDate)
+                    .isReviewMode(false)
+                    .quizType(quizType)
+                    .build());
+
+            quizStreakRecorder.record(memberId, isCorrect);
+            reviewQueueService.record(memberId, quiz, quizType, isCorrect, false);
+            quizStatsCache.invalidate(memberId);
+            return badgeService.checkAndAwardBadges(memberId);
+        } catch (RuntimeException e) {
+            log.error("Failed to persist quiz attempt - memberId: {}, quizId: {}", memberId, quizId, e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,376 @@
+package com.portfolio.builder.quiz.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.builder.quiz.domain.QuizPack;
+import com.portfolio.builder.quiz.repository.QuizPackRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 퀴즈 콘텐츠 팩 동기화
+ * - 애플리케이션 시작 후 비동기로 실행 (시작 시간이 콘텐츠 크기와 무관)
+ * - 팩 파일 체크섬이 그대로면 건너뛰고, 바뀐 경우 문제별 체크섬을 비교해 변경분만 MERGE
+ * - quiz.content.packs 로 추가 팩 지정 (classpath*: 패턴 가능)
+ * - 문제마다 고정 id 필수 (문구 수정은 같은 문제로 갱신), 팩에서 빠진 문제는 비활성화
+ * - 여러 인스턴스가 동시에 뜨면 Redis 락으로 한 곳에서만 동기화
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class QuizContentLoader {
+
+    public enum Status { PENDING, SYNCING, READY, FAILED }
+
+    private static final int BATCH_SIZE = 100;
+    private static final String FIELD_SEPARATOR = "\u001F";
+    private static final String LOCK_KEY = "lock:quiz:content-sync";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+    private static final long LOCK_POLL_MILLIS = 1000;
+
+    private static final String MERGE_SQL = """
+            MERGE INTO TB_QUIZ q
+            USING (SELECT ? AS content_key, ? AS category, ? AS type, ? AS quiz_type, ? AS question,
+                          ? AS options, ? AS answer, ? AS explanation, ? AS checksum FROM DUAL) s
+            ON (q.content_key = s.content_key)
+            WHEN MATCHED THEN UPDATE SET
+                q.category = s.category, q.type = s.type, q.quiz_type = s.quiz_type, q.question = s.question,
+                q.options = s.options, q.answer = s.answer, q.explanation = s.explanation, q.checksum = s.checksum,
+                q.active = 1
+            WHEN NOT MATCHED THEN INSERT (content_key, category, type, quiz_type, question, options, answer, explanation, checksum, active)
+                VALUES (s.content_key, s.category, s.type, s.quiz_type, s.question, s.options, s.answer, s.explanation, s.checksum, 1)
+            """;
+
+    // id 도입 전 (카테고리 + 문제 해시) 키로 적재된 문제를 id 키로 이전 (풀이 기록 유지)
+    private static final String REKEY_HASHED_SQL = """
+            UPDATE TB_QUIZ SET content_key = ?
+            WHERE content_key = ?
+            AND NOT EXISTS (SELECT 1 FROM TB_QUIZ k WHERE k.content_key = ?)
+            """;
+
+    // 키 도입 전 적재된 문제를 팩 문제와 연결 (카테고리 + 문제 내용 일치, 중복 적재된 경우 가장 오래된 한 건만)
+    private static final String ADOPT_LEGACY_SQL = """
+            UPDATE TB_QUIZ SET content_key = ?
+            WHERE id = (SELECT MIN(l.id) FROM TB_QUIZ l
+                        WHERE l.content_key IS NULL AND l.category = ? AND l.quiz_type = ? AND l.question = ?)
+            AND NOT EXISTS (SELECT 1 FROM TB_QUIZ k WHERE k.content_key = ?)
+            """;
+
+    // 연결되지 않고 남은 중복 사본은 비활성화 (같은 문제가 두 번 출제되지 않도록)
+    private static final String RETIRE_LEGACY_DUPLICATES_SQL = """
+            UPDATE TB_QUIZ SET active = 0
+            WHERE content_key IS NULL AND active = 1 AND category = ? AND quiz_type = ? AND question = ?
+            AND EXISTS (SELECT 1 FROM TB_QUIZ k WHERE k.content_key = ?)
+            """;
+
+    private static final String DEACTIVATE_SQL = "UPDATE TB_QUIZ SET active = 0 WHERE content_key = ?";
+
+    private final QuizPackRepository quizPackRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final ResourcePatternResolver resourceResolver = new PathMatchingResourcePatternResolver();
+
+    @Value("${quiz.content.packs:classpath:data/interview_quiz.json}")
+    private List<String> packLocations;
+
+    private volatile Status status = Status.PENDING;
+
+    /**
+     * 시작 후 백그라운드 동기화
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void syncOnStartup() {
+        syncAll();
+    }
+
+    /**
+     * 설정된 모든 팩 동기화
+     * - synchronized는 같은 JVM 안에서만 막으므로 Redis 락으로 인스턴스 간 직렬화
+     * - 락을 못 잡으면 다른 인스턴스가 끝날 때까지 기다린 뒤 진행 (끝난 팩은 체크섬 비교로 바로 건너뜀)
+     */
+    public synchronized void syncAll() {
+        status = Status.SYNCING;
+        if (!acquireLock()) {
+            status = Status.FAILED;
+            log.error("Quiz content sync lock not acquired within {}", LOCK_TTL);
+            return;
+        }
+
+        try {
+            syncPacks();
+        } finally {
+            releaseLock();
+        }
+    }
+
+    private void syncPacks() {
+        boolean failed = false;
+
+        for (String location : packLocations) {
+            try {
+                for (Resource resource : resourceResolver.getResources(location)) {
+                    syncPack(resource);
+                }
+            } catch (Exception e) {
+                log.error("Failed to sync quiz pack: {}", location, e);
+                failed = true;
+            }
+        }
+
+        status = failed ? Status.FAILED : Status.READY;
+        log.info("Quiz content sync finished - status: {}", status);
+    }
+
+    private boolean acquireLock() {
+        long deadline = System.currentTimeMillis() + LOCK_TTL.toMillis();
+        while (true) {
+            try {
+                if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", LOCK_TTL))) {
+                    return true;
+                }
+            } catch (Exception e) {
+                // Redis 장애 시 락 없이 진행 (단일 인스턴스 기동과 동일)
+                log.warn("Redis error, syncing quiz content without lock: {}", e.getMessage());
+                return true;
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                return false;
+            }
+            log.info("Quiz content sync running on another instance, waiting");
+            try {
+                Thread.sleep(LOCK_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    private void releaseLock() {
+        try {
+            redisTemplate.delete(LOCK_KEY);
+        } catch (Exception e) {
+            log.warn("Redis error, failed to release quiz content sync lock: {}", e.getMessage());
+        }
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public boolean isReady() {
+        return status == Status.READY;
+    }
+
+    private void syncPack(Resource resource) throws Exception {
+        byte[] content = resource.getContentAsByteArray();
+        String fileChecksum = sha256(content);
+
+        JsonNode root = objectMapper.readTree(content);
+        String packName = root.hasNonNull("pack") ? root.get("pack").asText() : packNameOf(resource);
+        String version = root.hasNonNull("version") ? root.get("version").asText() : null;
+
+        QuizPack existingPack = quizPackRepository.findById(packName).orElse(null);
+        if (existingPack != null && fileChecksum.equals(existingPack.getChecksum())) {
+            log.info("Quiz pack unchanged, skipping - pack: {}, version: {}", packName, existingPack.getVersion());
+            return;
+        }
+
+        JsonNode quizzesNode = root.get("quizzes");
+        if (quizzesNode == null || !quizzesNode.isArray()) {
+            throw new IllegalStateException("Invalid JSON format: 'quizzes' array not found in " + packName);
+        }
+
+        String defaultQuizType = root.hasNonNull("quizType") ? root.get("quizType").asText() : "INTERVIEW";
+        Map<String, QuizContent> contents = new LinkedHashMap<>();
+        // 파싱 실패나 중복 id를 건너뛰면 해당 문제가 비활성화되므로 팩 전체를 실패 처리
+        for (JsonNode quizNode : quizzesNode) {
+            QuizContent quiz = parseQuizNode(packName, defaultQuizType, quizNode);
+            if (contents.put(quiz.contentKey(), quiz) != null) {
+                throw new IllegalStateException("Duplicate quiz id in pack " + packName + ": " + quiz.contentKey());
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(tx -> {
+            rekeyHashedRows(contents.values());
+            adoptLegacyRows(contents.values());
+
+            Map<String, StoredQuiz> stored = findStoredQuizzes(packName);
+            List<QuizContent> changed = contents.values().stream()
+                    .filter(quiz -> {
+                        StoredQuiz row = stored.get(quiz.contentKey());
+                        return row == null || !row.active() || !quiz.checksum().equals(row.checksum());
+                    })
+                    .toList();
+            long inserted = changed.stream().filter(quiz -> !stored.containsKey(quiz.contentKey())).count();
+            List<String> removed = stored.entrySet().stream()
+                    .filter(entry -> entry.getValue().active() && !contents.containsKey(entry.getKey()))
+                    .map(Map.Entry::getKey)
+                    .toList();
+
+            jdbcTemplate.batchUpdate(MERGE_SQL, changed, BATCH_SIZE, (ps, quiz) -> {
+                ps.setString(1, quiz.contentKey());
+                ps.setString(2, quiz.category());
+                ps.setString(3, quiz.type());
+                ps.setString(4, quiz.quizType());
+                ps.setString(5, quiz.question());
+                if (quiz.options() != null) {
+                    ps.setString(6, quiz.options());
+                } else {
+                    ps.setNull(6, Types.VARCHAR);
+                }
+                ps.setInt(7, quiz.answer());
+                ps.setString(8, quiz.explanation());
+                ps.setString(9, quiz.checksum());
+            });
+
+            // 팩에서 빠진 문제는 삭제하지 않고 비활성화 (풀이 기록은 유지, 출제만 중단)
+            jdbcTemplate.batchUpdate(DEACTIVATE_SQL, removed, BATCH_SIZE, (ps, key) -> ps.setString(1, key));
+
+            QuizPack pack = existingPack != null ? existingPack : QuizPack.builder().name(packName).build();
+            pack.setVersion(version);
+            pack.setChecksum(fileChecksum);
+            pack.setQuizCount(contents.size());
+            pack.setSyncedAt(LocalDateTime.now());
+            quizPackRepository.save(pack);
+
+            log.info("Quiz pack synced - pack: {}, version: {}, total: {}, inserted: {}, updated: {}, unchanged: {}, deactivated: {}",
+                    packName, version, contents.size(), inserted, changed.size() - inserted,
+                    contents.size() - changed.size(), removed.size());
+        });
+    }
+
+    private void rekeyHashedRows(Iterable<QuizContent> contents) {
+        List<QuizContent> candidates = new ArrayList<>();
+        contents.forEach(candidates::add);
+        jdbcTemplate.batchUpdate(REKEY_HASHED_SQL, candidates, BATCH_SIZE, (ps, quiz) -> {
+            ps.setString(1, quiz.contentKey());
+            ps.setString(2, quiz.hashedKey());
+            ps.setString(3, quiz.contentKey());
+        });
+    }
+
+    private void adoptLegacyRows(Iterable<QuizContent> contents) {
+        Integer legacyCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM TB_QUIZ WHERE content_key IS NULL AND active = 1", Integer.class);
+        if (legacyCount == null || legacyCount == 0) {
+            return;
+        }
+
+        List<QuizContent> candidates = new ArrayList<>();
+        contents.forEach(candidates::add);
+        jdbcTemplate.batchUpdate(ADOPT_LEGACY_SQL, candidates, BATCH_SIZE, (ps, quiz) -> {
+            ps.setString(1, quiz.contentKey());
+            ps.setString(2, quiz.category());
+            ps.setString(3, quiz.quizType());
+            ps.setString(4, quiz.question());
+            ps.setString(5, quiz.contentKey());
+        });
+        jdbcTemplate.batchUpdate(RETIRE_LEGACY_DUPLICATES_SQL, candidates, BATCH_SIZE, (ps, quiz) -> {
+            ps.setString(1, quiz.category());
+            ps.setString(2, quiz.quizType());
+            ps.setString(3, quiz.question());
+            ps.setString(4, quiz.contentKey());
+        });
+    }
+
+    private Map<String, StoredQuiz> findStoredQuizzes(String packName) {
+        Map<String, StoredQuiz> stored = new HashMap<>();
+        jdbcTemplate.query("SELECT content_key, checksum, active FROM TB_QUIZ WHERE content_key LIKE ?",
+                (RowCallbackHandler) rs -> stored.put(rs.getString(1),
+                        new StoredQuiz(rs.getString(2), rs.getInt(3) == 1)),
+                packName + ":%");
+        return stored;
+    }
+
+    private QuizContent parseQuizNode(String packName, String defaultQuizType, JsonNode node) {
+        if (!node.hasNonNull("id") || node.get("id").asText().isBlank()) {
+            throw new IllegalStateException("Quiz id is required in pack " + packName + ": " + node);
+        }
+
+        try {
+            String category = node.get("category").asText();
+            String type = node.get("type").asText();
+            String quizType = node.hasNonNull("quizType") ? node.get("quizType").asText() : defaultQuizType;
+            String question = node.get("question").asText();
+            String explanation = node.get("explanation").asText();
+
+            Integer answer;
+            String options = null;
+
+            if ("OX".equals(type)) {
+                // O/X 문제: true → 1, false → 0
+                answer = node.get("answer").asBoolean() ? 1 : 0;
+            } else {
+                // 객관식: 정답 인덱스
+                answer = node.get("answer").asInt();
+                // options 배열을 JSON 문자열로 저장
+                JsonNode optionsNode = node.get("options");
+                if (optionsNode != null && optionsNode.isArray()) {
+                    options = objectMapper.writeValueAsString(optionsNode);
+                }
+            }
+
+            // id가 고정 키 (문구를 고쳐도 같은 문제), 해시 키는 id 도입 전 적재분 이전용
+            String localKey = node.get("id").asText();
+            String hashedKey = sha256((category + FIELD_SEPARATOR + question).getBytes(StandardCharsets.UTF_8))
+                    .substring(0, 32);
+            String checksum = sha256(String.join(FIELD_SEPARATOR,
+                    category, type, quizType, question, String.valueOf(options), String.valueOf(answer), explanation)
+                    .getBytes(StandardCharsets.UTF_8));
+
+            return new QuizContent(packName + ":" + localKey, packName + ":" + hashedKey, category, type, quizType,
+                    question, options, answer, explanation, checksum);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to parse quiz node in pack " + packName + ": " + node, e);
+        }
+    }
+
+    private String packNameOf(Resource resource) {
+        String filename = resource.getFilename() != null ? resource.getFilename() : "default";
+        return filename.endsWith(".json") ? filename.substring(0, filename.length() - 5) : filename;
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record QuizContent(String contentKey, String hashedKey, String category, String type, String quizType,
+                               String question, String options, Integer answer, String explanation, String checksum) {
+    }
+
+    private record StoredQuiz(String checksum, boolean active) {
+    }
+}
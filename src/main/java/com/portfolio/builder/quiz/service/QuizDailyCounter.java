@@ -0,0 +1,173 @@
+package com.portfolio.builder.quiz.service;
+
+import com.portfolio.builder.quiz.repository.QuizAttemptRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Redis 기반 일일 퀴즈 풀이 카운터
+ * 회원/날짜/퀴즈타입별로 오늘 푼 문제 수(복습 모드 제외)를 보관하고,
+ * 일일 제한 확인과 증가를 Lua 스크립트 한 번으로 처리한다.
+ * Redis 장애 시에는 TB_QUIZ_ATTEMPT 카운트로 대체한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QuizDailyCounter {
+
+    private static final String KEY_PREFIX = "quiz:daily:";
+    private static final long LIMIT_EXCEEDED = -1L;
+    private static final long NOT_INITIALIZED = -2L;
+
+    /**
+     * KEYS[1] = 카운터 키
+     * ARGV[1] = 일일 제한 (0 이하면 무제한), ARGV[2] = TTL(초), ARGV[3] = 키가 없을 때 시작값 (없으면 "")
+     * 반환: 증가 후 값 / -1 제한 초과 / -2 키 없음 (시작값 필요)
+     */
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            if not current then
+                if ARGV[3] == '' then
+                    return -2
+                end
+                current = ARGV[3]
+                redis.call('SET', KEYS[1], current, 'EX', ARGV[2])
+            end
+            local limit = tonumber(ARGV[1])
+            if limit > 0 and tonumber(current) >= limit then
+                return -1
+            end
+            return redis.call('INCR', KEYS[1])
+            """, Long.class);
+
+    /**
+     * KEYS[1] = 카운터 키
+     * 키가 있고 0보다 클 때만 감소 (DECR은 TTL을 유지, 만료된 키를 -1로 되살리지 않음)
+     * 반환: 감소 후 값 / -1 키 없음 또는 이미 0
+     */
+    private static final RedisScript<Long> DECREMENT_SCRIPT = new DefaultRedisScript<>("""
+            local current = tonumber(redis.call('GET', KEYS[1]))
+            if not current or current <= 0 then
+                return -1
+            end
+            return redis.call('DECR', KEYS[1])
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final QuizAttemptRepository quizAttemptRepository;
+
+    /**
+     * 오늘 푼 문제 수 조회 (키가 없으면 DB 카운트로 채움)
+     */
+    public int getSolvedCount(Long memberId, String quizType) {
+        LocalDate today = LocalDate.now();
+        String key = buildKey(memberId, today, quizType);
+
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+            if (value != null) {
+                return Integer.parseInt(value);
+            }
+            int count = countFromDb(memberId, today, quizType);
+            redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(count), ttlUntilMidnight());
+            return count;
+        } catch (Exception e) {
+            log.error("Redis error, falling back to DB count: {}", e.getMessage());
+            return countFromDb(memberId, today, quizType);
+        }
+    }
+
+    /**
+     * 제출 1건 반영 - 일일 제한 확인과 증가를 원자적으로 처리
+     * @param dailyLimit 일일 제한 (0이면 무제한)
+     * @return 허용되면 true, 제한 초과면 false
+     */
+    public boolean tryIncrement(Long memberId, String quizType, int dailyLimit) {
+        LocalDate today = LocalDate.now();
+        String key = buildKey(memberId, today, quizType);
+
+        try {
+            Long result = increment(key, dailyLimit, "");
+            if (result != null && result == NOT_INITIALIZED) {
+                result = increment(key, dailyLimit, String.valueOf(countFromDb(memberId, today, quizType)));
+            }
+            if (result == null) {
+                log.warn("Redis script returned null for key: {}", key);
+                return isUnderLimitInDb(memberId, today, quizType, dailyLimit);
+            }
+            if (result == LIMIT_EXCEEDED) {
+                log.info("Daily quiz limit reached - memberId: {}, quizType: {}", memberId, quizType);
+                return false;
+            }
+            decrementOnRollback(key);
+            return true;
+        } catch (Exception e) {
+            log.error("Redis error, falling back to DB count: {}", e.getMessage());
+            return isUnderLimitInDb(memberId, today, quizType, dailyLimit);
+        }
+    }
+
+    private Long increment(String key, int dailyLimit, String seed) {
+        return redisTemplate.execute(INCREMENT_SCRIPT, List.of(key),
+                String.valueOf(dailyLimit), String.valueOf(ttlUntilMidnight().getSeconds()), seed);
+    }
+
+    /**
+     * 제출 트랜잭션이 롤백되면 증가분 되돌림 (그 사이 자정이 지나 키가 만료됐으면 되돌릴 것 없음)
+     */
+    private void decrementOnRollback(String key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) {
+                    return;
+                }
+                try {
+                    redisTemplate.execute(DECREMENT_SCRIPT, List.of(key));
+                } catch (Exception e) {
+                    log.error("Redis error while reverting daily quiz count: {}", e.getMessage());
+                }
+            }
+        });
+    }
+
+    private boolean isUnderLimitInDb(Long memberId, LocalDate today, String quizType, int dailyLimit) {
+        return dailyLimit <= 0 || countFromDb(memberId, today, quizType) < dailyLimit;
+    }
+
+    private int countFromDb(Long memberId, LocalDate today, String quizType) {
+        Long count = quizAttemptRepository.countByMemberIdAndAttemptDateAndQuizTypeAndIsReviewModeFalse(memberId, today, quizType);
+        return count != null ? count.intValue() : 0;
+    }
+
+    /**
+     * 자정까지 남은 시간 (키는 날짜별이라 자정 이후 자동 만료)
+     */
+    private Duration ttlUntilMidnight() {
+        LocalDateTime now = LocalDateTime.now();
+        Duration ttl = Duration.between(now, now.toLocalDate().plusDays(1).atStartOfDay());
+        return ttl.getSeconds() > 0 ? ttl : Duration.ofSeconds(1);
+    }
+
+    /**
+     * Redis 키 생성
+     * 형식: quiz:daily:{memberId}:{날짜}:{퀴즈타입}
+     */
+    private String buildKey(Long memberId, LocalDate date, String quizType) {
+        return KEY_PREFIX + memberId + ":" + date + ":" + quizType;
+    }
+}
@@ -8,21 +8,23 @@ import com.portfolio.builder.member.domain.MemberRepository;
 import com.portfolio.builder.quiz.domain.Quiz;
 import com.portfolio.builder.quiz.domain.QuizAttempt;
 import com.portfolio.builder.quiz.domain.QuizStreak;
+import com.portfolio.builder.quiz.domain.RareBadgeCount;
 import com.portfolio.builder.quiz.dto.QuizDto.*;
 import com.portfolio.builder.quiz.repository.QuizAttemptRepository;
 import com.portfolio.builder.quiz.repository.QuizRepository;
 import com.portfolio.builder.quiz.repository.QuizStreakRepository;
 import com.portfolio.builder.quiz.repository.BadgeRepository;
+import com.portfolio.builder.quiz.repository.RareBadgeCountRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -34,9 +36,15 @@ public class QuizService {
     private final QuizStreakRepository quizStreakRepository;
     private final MemberRepository memberRepository;
     private final BadgeRepository badgeRepository;
+    private final RareBadgeCountRepository rareBadgeCountRepository;
+    private final QuizStreakRecorder quizStreakRecorder;
+    private final QuizDailyCounter quizDailyCounter;
+    private final ReviewQueueService reviewQueueService;
+    private final QuizStatsCache quizStatsCache;
+    private final QuizSessionService quizSessionService;
     private final ObjectMapper objectMapper;
 
-    private static final int DAILY_LIMIT = 10; 
+    static final int DAILY_LIMIT = 10; 
     private static final int PRACTICE_QUIZ_COUNT = 10;  // 수업 복습 기본 문제 수
 
     /**
@@ -46,7 +54,7 @@ public class QuizService {
         List<String> categories = quizRepository.findAllCategoriesByQuizType(quizType);
         
         return categories.stream().map(category -> {
-            long totalCount = quizRepository.countByCategoryAndQuizType(category, quizType);
+            long totalCount = quizRepository.countByCategoryAndQuizTypeAndActiveTrue(category, quizType);
             long solvedCount = quizAttemptRepository.countByMemberIdAndCategory(memberId, category);
             
             return CategoryInfo.builder()
@@ -67,14 +75,13 @@ public class QuizService {
      */
     public List<QuizResponse> getDailyQuiz(Long memberId, String category) {
         // 오늘 이미 푼 문제 확인 (면접 대비 타입만, 복습 모드 제외)
-        LocalDate today = LocalDate.now();
-        Long solvedToday = quizAttemptRepository.countByMemberIdAndAttemptDateAndQuizTypeAndIsReviewModeFalse(memberId, today, "INTERVIEW");
+        int solvedToday = quizDailyCounter.getSolvedCount(memberId, "INTERVIEW");
         
-        if (solvedToday != null && solvedToday >= DAILY_LIMIT) {
+        if (solvedToday >= DAILY_LIMIT) {
             return new ArrayList<>();  // 일일 제한 완료
         }
 
-        int remaining = DAILY_LIMIT - (solvedToday != null ? solvedToday.intValue() : 0);
+        int remaining = DAILY_LIMIT - solvedToday;
         
         // 안 푼 문제 중 랜덤 조회 (이미 푼 문제는 제외)
         List<Quiz> quizzes = quizRepository.findUnsolvedRandomByCategory(category, memberId, remaining);
@@ -84,9 +91,7 @@ public class QuizService {
             return new ArrayList<>();
         }
 
-        return quizzes.stream()
-                .map(this::toQuizResponse)
-                .collect(Collectors.toList());
+        return toSessionQuizResponses(memberId, "INTERVIEW", quizzes);
     }
 
     /**
@@ -102,18 +107,35 @@ public class QuizService {
             return new ArrayList<>();
         }
 
-        return quizzes.stream()
+        return toSessionQuizResponses(memberId, "PRACTICE", quizzes);
+    }
+
+    /**
+     * 출제 세션 생성 후 응답에 세션 ID 포함
+     * 세션 없이는 제출할 수 없으므로 세션 생성에 실패하면 문제도 내주지 않는다.
+     */
+    private List<QuizResponse> toSessionQuizResponses(Long memberId, String quizType, List<Quiz> quizzes) {
+        String sessionId = quizSessionService.open(memberId, quizType, quizzes);
+        if (sessionId == null && !quizzes.isEmpty()) {
+            throw new RuntimeException("퀴즈를 불러오지 못했습니다. 잠시 후 다시 시도해주세요.");
+        }
+        List<QuizResponse> responses = quizzes.stream()
                 .map(this::toQuizResponse)
                 .collect(Collectors.toList());
+        responses.forEach(response -> response.setSessionId(sessionId));
+        return responses;
     }
 
     /**
-     * 정답 제출
+     * 세션 없이 정답 제출 (오답 다시 풀기 등 복습 모드만, 이미 풀어 본 문제만)
+     * 오늘의 퀴즈 / 수업 복습은 출제 세션으로만 제출한다. (QuizSessionService.submit)
      */
     @Transactional
     public SubmitResponse submitAnswer(Long memberId, SubmitRequest request) {
-        Quiz quiz = quizRepository.findById(request.getQuizId())
-                .orElseThrow(() -> new RuntimeException("문제를 찾을 수 없습니다."));
+        if (!Boolean.TRUE.equals(request.getIsReviewMode())) {
+            throw new RuntimeException("출제된 문제만 제출할 수 있습니다. 문제를 다시 불러와주세요.");
+        }
+        Quiz quiz = findReviewableQuiz(memberId, request.getQuizId());
 
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new RuntimeException("회원을 찾을 수 없습니다."));
@@ -122,21 +144,28 @@ public class QuizService {
 
         // 퀴즈 타입 결정 (요청에서 받거나 퀴즈 자체의 타입 사용)
         String quizType = request.getQuizType() != null ? request.getQuizType() : quiz.getQuizType();
+        boolean isReviewMode = true;
 
-        // 시도 기록 저장
+        // 시도 기록 저장 (복습 모드는 일일 제한에 포함하지 않음)
         QuizAttempt attempt = QuizAttempt.builder()
                 .member(member)
                 .quiz(quiz)
                 .userAnswer(request.getUserAnswer())
                 .isCorrect(isCorrect)
                 .attemptDate(LocalDate.now())
-                .isReviewMode(request.getIsReviewMode() != null && request.getIsReviewMode())
+                .isReviewMode(isReviewMode)
                 .quizType(quizType)
                 .build();
         quizAttemptRepository.save(attempt);
 
         // 스트릭 업데이트 (면접 OR 수업복습 모두 스트릭 갱신)
-        updateStreak(memberId, isCorrect);
+        quizStreakRecorder.record(memberId, isCorrect);
+
+        // 복습 일정 갱신
+        reviewQueueService.record(memberId, quiz, quizType, isCorrect, isReviewMode);
+
+        // 통계 캐시 무효화 (커밋 후)
+        quizStatsCache.invalidate(memberId);
 
         return SubmitResponse.builder()
                 .quizId(quiz.getId())
@@ -150,24 +179,22 @@ public class QuizService {
      * 오늘의 진행 상황 (퀴즈타입별)
      */
     public DailyProgress getDailyProgress(Long memberId, String quizType) {
-        LocalDate today = LocalDate.now();
-        
         if ("PRACTICE".equals(quizType)) {
             // 수업 복습은 무제한이므로 오늘 푼 문제 수만 반환
-            Long solvedToday = quizAttemptRepository.countByMemberIdAndAttemptDateAndQuizTypeAndIsReviewModeFalse(memberId, today, quizType);
+            int solvedToday = quizDailyCounter.getSolvedCount(memberId, quizType);
             return DailyProgress.builder()
-                    .solvedToday(solvedToday != null ? solvedToday.intValue() : 0)
+                    .solvedToday(solvedToday)
                     .dailyLimit(0)  // 0은 무제한 의미
                     .completed(false)  // 수업 복습은 완료 개념 없음
                     .build();
         }
         
         // 면접 대비 - quizType으로 필터링해서 면접 문제만 카운트
-        Long solvedToday = quizAttemptRepository.countByMemberIdAndAttemptDateAndQuizTypeAndIsReviewModeFalse(memberId, today, "INTERVIEW");
+        int solvedToday = quizDailyCounter.getSolvedCount(memberId, "INTERVIEW");
         return DailyProgress.builder()
-                .solvedToday(solvedToday != null ? solvedToday.intValue() : 0)
+                .solvedToday(solvedToday)
                 .dailyLimit(DAILY_LIMIT)
-                .completed(solvedToday != null && solvedToday >= DAILY_LIMIT)
+                .completed(solvedToday >= DAILY_LIMIT)
                 .build();
     }
 
@@ -180,6 +207,11 @@ public class QuizService {
      * 사용자 통계 조회 (퀴즈타입별)
      */
     public StatsResponse getStats(Long memberId, String quizType) {
+        return quizStatsCache.get("stats", memberId, quizType, StatsResponse.class,
+                () -> loadStats(memberId, quizType));
+    }
+
+    private StatsResponse loadStats(Long memberId, String quizType) {
         QuizStreak streak = quizStreakRepository.findByMemberId(memberId)
                 .orElse(QuizStreak.builder()
                         .currentStreak(0)
@@ -190,7 +222,7 @@ public class QuizService {
 
         List<String> categories = quizRepository.findAllCategoriesByQuizType(quizType);
         List<CategoryStats> categoryStats = categories.stream().map(category -> {
-            long totalCount = quizRepository.countByCategoryAndQuizType(category, quizType);
+            long totalCount = quizRepository.countByCategoryAndQuizTypeAndActiveTrue(category, quizType);
             long solvedCount = quizAttemptRepository.countByMemberIdAndCategory(memberId, category);
             long correctCount = quizAttemptRepository.countCorrectByMemberIdAndCategory(memberId, category);
             double accuracy = solvedCount > 0 ? (correctCount * 100.0 / solvedCount) : 0;
@@ -223,53 +255,10 @@ public class QuizService {
         return getStats(memberId, "INTERVIEW");
     }
 
-    /**
-     * 스트릭 업데이트
-     */
-    private void updateStreak(Long memberId, boolean isCorrect) {
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new RuntimeException("회원을 찾을 수 없습니다."));
-
-        QuizStreak streak = quizStreakRepository.findByMemberId(memberId)
-                .orElseGet(() -> QuizStreak.builder()
-                        .member(member)
-                        .currentStreak(0)
-                        .maxStreak(0)
-                        .lastStudyDate(LocalDate.now().minusDays(1))
-                        .totalQuizCount(0)
-                        .correctCount(0)
-                        .build());
-
-        LocalDate today = LocalDate.now();
-        LocalDate lastStudy = streak.getLastStudyDate();
-
-        // 연속 학습일 계산
-        if (lastStudy == null || lastStudy.isBefore(today.minusDays(1))) {
-            // 하루 이상 공백 → 스트릭 리셋
-            streak.setCurrentStreak(1);
-        } else if (lastStudy.equals(today.minusDays(1))) {
-            // 어제 학습 → 스트릭 증가
-            streak.setCurrentStreak(streak.getCurrentStreak() + 1);
-        }
-        // 오늘 이미 학습한 경우 스트릭 유지
-
-        streak.setLastStudyDate(today);
-        streak.setTotalQuizCount(streak.getTotalQuizCount() + 1);
-        if (isCorrect) {
-            streak.setCorrectCount(streak.getCorrectCount() + 1);
-        }
-
-        if (streak.getCurrentStreak() > streak.getMaxStreak()) {
-            streak.setMaxStreak(streak.getCurrentStreak());
-        }
-
-        quizStreakRepository.save(streak);
-    }
-
     /**
      * Quiz → QuizResponse 변환
      */
-    private QuizResponse toQuizResponse(Quiz quiz) {
+    QuizResponse toQuizResponse(Quiz quiz) {
         List<String> options = null;
         if (quiz.getOptions() != null && !quiz.getOptions().isEmpty()) {
             try {
@@ -294,7 +283,7 @@ public class QuizService {
      * 오답 목록 조회 (퀴즈타입별)
      */
     public List<WrongAnswerResponse> getWrongAnswers(Long memberId, String category, String quizType) {
-        List<QuizAttempt> wrongAttempts;
+        List<Object[]> wrongAttempts;
         
         if (category != null && !category.isEmpty()) {
             wrongAttempts = quizAttemptRepository.findWrongAnswersByMemberIdAndCategoryAndQuizType(memberId, category, quizType);
@@ -316,6 +305,11 @@ public class QuizService {
      * 오답 통계 조회 (퀴즈타입별)
      */
     public WrongAnswerStats getWrongAnswerStats(Long memberId, String quizType) {
+        return quizStatsCache.get("wrong-answer-stats", memberId, quizType, WrongAnswerStats.class,
+                () -> loadWrongAnswerStats(memberId, quizType));
+    }
+
+    private WrongAnswerStats loadWrongAnswerStats(Long memberId, String quizType) {
         List<Object[]> categoryWrongCounts = quizAttemptRepository.countWrongByMemberIdGroupByCategoryAndQuizType(memberId, quizType);
         
         List<CategoryWrongCount> breakdown = categoryWrongCounts.stream()
@@ -342,24 +336,8 @@ public class QuizService {
      * 오답 다시 풀기 (5개 제한 없음 - 복습 모드, 퀴즈타입별)
      */
     public List<QuizResponse> getWrongQuizzes(Long memberId, String category, int count, String quizType) {
-        List<QuizAttempt> wrongAttempts;
-        
-        if (category != null && !category.isEmpty()) {
-            wrongAttempts = quizAttemptRepository.findWrongAnswersByMemberIdAndCategoryAndQuizType(memberId, category, quizType);
-        } else {
-            wrongAttempts = quizAttemptRepository.findWrongAnswersByMemberIdAndQuizType(memberId, quizType);
-        }
-
-        // 중복 제거 및 섞기
-        List<Quiz> uniqueQuizzes = wrongAttempts.stream()
-                .map(QuizAttempt::getQuiz)
-                .distinct()
-                .collect(Collectors.toList());
-        
-        java.util.Collections.shuffle(uniqueQuizzes);
-        
-        return uniqueQuizzes.stream()
-                .limit(count)
+        // 틀린 적 있는 문제 중 복습일이 빠른 순 (복습 큐 인덱스에서 count개만 조회)
+        return reviewQueueService.getWrongQuizzes(memberId, category, count, quizType).stream()
                 .map(this::toQuizResponse)
                 .collect(Collectors.toList());
     }
@@ -369,40 +347,55 @@ public class QuizService {
         return getWrongQuizzes(memberId, category, count, "INTERVIEW");
     }
 
-    private WrongAnswerResponse toWrongAnswerResponse(QuizAttempt attempt) {
-        Quiz quiz = attempt.getQuiz();
+    // [attemptId, quizId, category, type, question, options, userAnswer, answer, explanation, attemptDate]
+    private WrongAnswerResponse toWrongAnswerResponse(Object[] row) {
+        String rawOptions = (String) row[5];
         List<String> options = null;
         
-        if (quiz.getOptions() != null && !quiz.getOptions().isEmpty()) {
+        if (rawOptions != null && !rawOptions.isEmpty()) {
             try {
-                options = objectMapper.readValue(quiz.getOptions(), new TypeReference<List<String>>() {});
+                options = objectMapper.readValue(rawOptions, new TypeReference<List<String>>() {});
             } catch (JsonProcessingException e) {
                 options = null;
             }
         }
 
         return WrongAnswerResponse.builder()
-                .attemptId(attempt.getId())
-                .quizId(quiz.getId())
-                .category(quiz.getCategory())
-                .type(quiz.getType())
-                .question(quiz.getQuestion())
+                .attemptId(((Number) row[0]).longValue())
+                .quizId(((Number) row[1]).longValue())
+                .category((String) row[2])
+                .type((String) row[3])
+                .question((String) row[4])
                 .options(options)
-                .userAnswer(attempt.getUserAnswer())
-                .correctAnswer(quiz.getAnswer())
-                .explanation(quiz.getExplanation())
-                .attemptDate(attempt.getAttemptDate().toString())
+                .userAnswer(((Number) row[6]).intValue())
+                .correctAnswer(((Number) row[7]).intValue())
+                .explanation((String) row[8])
+                .attemptDate(toLocalDate(row[9]).toString())
                 .build();
     }
 
+    // 네이티브 쿼리의 날짜 컬럼 (드라이버에 따라 Date/Timestamp/LocalDate)
+    private LocalDate toLocalDate(Object value) {
+        if (value instanceof java.sql.Timestamp timestamp) {
+            return timestamp.toLocalDateTime().toLocalDate();
+        }
+        if (value instanceof java.sql.Date date) {
+            return date.toLocalDate();
+        }
+        if (value instanceof java.time.LocalDateTime dateTime) {
+            return dateTime.toLocalDate();
+        }
+        return (LocalDate) value;
+    }
+
     // ===== Phase 2: 랭킹 시스템 =====
     
     /**
      * 랭킹 조회
      */
     public RankingResponse getRanking(Long memberId, String type, int limit, boolean classFilter) {
-        // 현재 사용자 정보 조회 (classFilter용)
-        Member currentMember = classFilter ? memberRepository.findById(memberId).orElse(null) : null;
+        // 현재 사용자 정보 조회 (classFilter용 - 수강생이면 같은 반 파티션만 조회)
+        Member currentMember = classFilter ? findClassFilterMember(memberId) : null;
         
         // 특수 랭킹 타입들은 별도 처리
         switch (type) {
@@ -426,23 +419,25 @@ public class QuizService {
         
         switch (type) {
             case "accuracy":
-                streaks = quizStreakRepository.findTopByAccuracy(10);
+                streaks = currentMember != null
+                        ? quizStreakRepository.findTopByAccuracyInClass(10,
+                                currentMember.getBranch(), currentMember.getClassroom(), currentMember.getCohort())
+                        : quizStreakRepository.findTopByAccuracy(10);
                 break;
             case "total":
-                streaks = quizStreakRepository.findTopByTotalQuizCount();
+                streaks = currentMember != null
+                        ? quizStreakRepository.findTopByTotalQuizCountInClass(
+                                currentMember.getBranch(), currentMember.getClassroom(), currentMember.getCohort())
+                        : quizStreakRepository.findTopByTotalQuizCount();
                 break;
             case "streak":
             default:
-                streaks = quizStreakRepository.findTopByCurrentStreak();
+                streaks = currentMember != null
+                        ? quizStreakRepository.findTopByCurrentStreakInClass(
+                                currentMember.getBranch(), currentMember.getClassroom(), currentMember.getCohort())
+                        : quizStreakRepository.findTopByCurrentStreak();
                 break;
         }
-        
-        // classFilter 적용
-        if (currentMember != null) {
-            streaks = streaks.stream()
-                    .filter(s -> isSameClass(s.getMember(), currentMember))
-                    .collect(java.util.stream.Collectors.toList());
-        }
 
         List<RankingEntry> rankings = new ArrayList<>();
         RankingEntry myRanking = null;
@@ -493,53 +488,13 @@ public class QuizService {
     }
     
     /**
-     * 같은 반인지 확인 (position=수강생, branch, classroom, cohort 모두 일치)
+     * classFilter 기준 회원 조회
+     * 수강생이 아니면 필터 안함 (null 반환 → 전체 랭킹)
      */
-    private boolean isSameClass(Member member, Member currentMember) {
-        if (member == null || currentMember == null) return false;
-        if (!"수강생".equals(currentMember.getPosition())) return true; // 수강생이 아니면 필터 안함
-        
-        return "수강생".equals(member.getPosition()) &&
-               java.util.Objects.equals(member.getBranch(), currentMember.getBranch()) &&
-               java.util.Objects.equals(member.getClassroom(), currentMember.getClassroom()) &&
-               java.util.Objects.equals(member.getCohort(), currentMember.getCohort());
-    }
-    
-    /**
-     * Object[] 배열에서 같은 반인지 확인 (index 4~7: position, branch, classroom, cohort)
-     */
-    private boolean isSameClassFromArray(Object[] row, Member currentMember) {
-        if (currentMember == null) return true;
-        if (!"수강생".equals(currentMember.getPosition())) return true; // 수강생이 아니면 필터 안함
-        
-        String position = (String) row[4];
-        String branch = (String) row[5];
-        String classroom = (String) row[6];
-        String cohort = (String) row[7];
-        
-        return "수강생".equals(position) &&
-               java.util.Objects.equals(branch, currentMember.getBranch()) &&
-               java.util.Objects.equals(classroom, currentMember.getClassroom()) &&
-               java.util.Objects.equals(cohort, currentMember.getCohort());
-    }
-    
-    /**
-     * 희귀 배지 배열용 필터 (index 4~7: position, branch, classroom, cohort)
-     * findMembersWithRareBadges는 row[3]이 badgeId이므로 index가 동일
-     */
-    private boolean isSameClassFromRareBadgeArray(Object[] row, Member currentMember) {
-        if (currentMember == null) return true;
-        if (!"수강생".equals(currentMember.getPosition())) return true;
-        
-        String position = (String) row[4];
-        String branch = (String) row[5];
-        String classroom = (String) row[6];
-        String cohort = (String) row[7];
-        
-        return "수강생".equals(position) &&
-               java.util.Objects.equals(branch, currentMember.getBranch()) &&
-               java.util.Objects.equals(classroom, currentMember.getClassroom()) &&
-               java.util.Objects.equals(cohort, currentMember.getCohort());
+    private Member findClassFilterMember(Long memberId) {
+        Member member = memberRepository.findById(memberId).orElse(null);
+        if (member == null || !"수강생".equals(member.getPosition())) return null;
+        return member;
     }
     
     private int getStreakValue(QuizStreak streak, String type) {
@@ -644,24 +599,20 @@ public class QuizService {
      * 복습 랭킹 조회 (QuizAttempt에서 집계)
      */
     private RankingResponse getReviewRanking(Long memberId, int limit, Member currentMember) {
-        List<Object[]> results = quizAttemptRepository.findTopByReviewCount();
-        
-        // classFilter 적용
-        if (currentMember != null) {
-            results = results.stream()
-                    .filter(row -> isSameClassFromArray(row, currentMember))
-                    .collect(java.util.stream.Collectors.toList());
-        }
+        List<Object[]> results = currentMember != null
+                ? quizAttemptRepository.findTopByReviewCountInClass(
+                        currentMember.getBranch(), currentMember.getClassroom(), currentMember.getCohort())
+                : quizAttemptRepository.findTopByReviewCount();
         
         List<RankingEntry> rankings = new ArrayList<>();
         RankingEntry myRanking = null;
         
         for (int i = 0; i < results.size(); i++) {
             Object[] row = results.get(i);
-            Long rowMemberId = (Long) row[0];
+            Long rowMemberId = ((Number) row[0]).longValue();  // 네이티브 쿼리 결과 호환
             String name = (String) row[1];
             String avatarUrl = (String) row[2];
-            Long reviewCount = (Long) row[3];
+            Long reviewCount = ((Number) row[3]).longValue();
             
             RankingEntry entry = RankingEntry.builder()
                     .rank(i + 1)
@@ -693,8 +644,11 @@ public class QuizService {
      */
     private RankingResponse getEarlyBirdRanking(Long memberId, int limit, Member currentMember) {
         return buildGenericRanking(
-            quizAttemptRepository.findTopByEarlyBird(),
-            memberId, limit, "회", currentMember
+            currentMember != null
+                ? quizAttemptRepository.findTopByEarlyBirdInClass(
+                        currentMember.getBranch(), currentMember.getClassroom(), currentMember.getCohort())
+                : quizAttemptRepository.findTopByEarlyBird(),
+            memberId, limit, "회"
         );
     }
 
@@ -703,8 +657,11 @@ public class QuizService {
      */
     private RankingResponse getNightOwlRanking(Long memberId, int limit, Member currentMember) {
         return buildGenericRanking(
-            quizAttemptRepository.findTopByNightOwl(),
-            memberId, limit, "회", currentMember
+            currentMember != null
+                ? quizAttemptRepository.findTopByNightOwlInClass(
+                        currentMember.getBranch(), currentMember.getClassroom(), currentMember.getCohort())
+                : quizAttemptRepository.findTopByNightOwl(),
+            memberId, limit, "회"
         );
     }
 
@@ -712,9 +669,14 @@ public class QuizService {
      * 🔥 오늘의 챔피언 (오늘 풀이 횟수)
      */
     private RankingResponse getTodayRanking(Long memberId, int limit, Member currentMember) {
+        LocalDate today = LocalDate.now();
+        
         return buildGenericRanking(
-            quizAttemptRepository.findTopByToday(LocalDate.now()),
-            memberId, limit, "문제", currentMember
+            currentMember != null
+                ? quizAttemptRepository.findTopByTodayInClass(today,
+                        currentMember.getBranch(), currentMember.getClassroom(), currentMember.getCohort())
+                : quizAttemptRepository.findTopByToday(today),
+            memberId, limit, "문제"
         );
     }
 
@@ -727,8 +689,11 @@ public class QuizService {
         LocalDate weekEnd = today.with(java.time.DayOfWeek.SUNDAY);
         
         return buildGenericRanking(
-            quizAttemptRepository.findTopByThisWeek(weekStart, weekEnd),
-            memberId, limit, "문제", currentMember
+            currentMember != null
+                ? quizAttemptRepository.findTopByThisWeekInClass(weekStart, weekEnd,
+                        currentMember.getBranch(), currentMember.getClassroom(), currentMember.getCohort())
+                : quizAttemptRepository.findTopByThisWeek(weekStart, weekEnd),
+            memberId, limit, "문제"
         );
     }
 
@@ -737,79 +702,24 @@ public class QuizService {
      */
     private RankingResponse getBadgeRanking(Long memberId, int limit, Member currentMember) {
         return buildGenericRanking(
-            badgeRepository.findTopByBadgeCount(),
-            memberId, limit, "개", currentMember
+            currentMember != null
+                ? badgeRepository.findTopByBadgeCountInClass(
+                        currentMember.getBranch(), currentMember.getClassroom(), currentMember.getCohort())
+                : badgeRepository.findTopByBadgeCount(),
+            memberId, limit, "개"
         );
     }
 
     /**
      * ⭐ 희귀 배지 랭킹 (10% 미만 획득률 배지 보유 수)
+     * 희귀 배지 인덱스(TB_RARE_BADGE_COUNT)에서 상위 N명만 조회
      */
     private RankingResponse getRareBadgeRanking(Long memberId, int limit, Member currentMember) {
-        // 1. 전체 수강생 수 계산
-        long totalStudents = memberRepository.countByPosition("수강생");
-        if (totalStudents == 0) totalStudents = 1; // 0으로 나누기 방지
-        
-        // 2. 배지별 획득자 수 조회
-        List<Object[]> badgeCounts = badgeRepository.countByBadgeIdGrouped();
-        
-        // 3. 10% 미만 획득률인 희귀 배지 ID 추출
-        List<String> rareBadgeIds = new ArrayList<>();
-        for (Object[] row : badgeCounts) {
-            String badgeId = (String) row[0];
-            Long count = (Long) row[1];
-            double rate = (count * 100.0) / totalStudents;
-            if (rate < 10) {
-                rareBadgeIds.add(badgeId);
-            }
-        }
-        
-        if (rareBadgeIds.isEmpty()) {
-            return RankingResponse.builder()
-                    .rankings(new ArrayList<>())
-                    .myRanking(null)
-                    .build();
-        }
-        
-        // 4. 희귀 배지 보유자별 개수 집계
-        List<Object[]> membersWithRare = badgeRepository.findMembersWithRareBadges(rareBadgeIds);
-        
-        // classFilter 적용
-        if (currentMember != null) {
-            membersWithRare = membersWithRare.stream()
-                    .filter(row -> isSameClassFromRareBadgeArray(row, currentMember))
-                    .collect(java.util.stream.Collectors.toList());
-        }
-        
-        Map<Long, RankingEntry> memberMap = new LinkedHashMap<>();
-        
-        for (Object[] row : membersWithRare) {
-            Long rowMemberId = (Long) row[0];
-            String name = (String) row[1];
-            String avatarUrl = (String) row[2];
-            // row[3] = badgeId
-            String positionStr = buildPositionStringFromArray(new Object[]{null, null, null, null, row[4], row[5], row[6], row[7]});
-            
-            memberMap.compute(rowMemberId, (k, v) -> {
-                if (v == null) {
-                    return RankingEntry.builder()
-                            .memberId(rowMemberId)
-                            .nickname(name)
-                            .avatarUrl(avatarUrl)
-                            .position(positionStr)
-                            .value(1)
-                            .build();
-                } else {
-                    v.setValue(v.getValue() + 1);
-                    return v;
-                }
-            });
-        }
-        
-        // 5. 개수 기준 정렬 및 순위 부여 (동점자 처리 포함)
-        List<RankingEntry> sorted = memberMap.values().stream()
-                .sorted((a, b) -> Integer.compare(b.getValue(), a.getValue()))
-                .collect(java.util.stream.Collectors.toList());
+        PageRequest top = PageRequest.of(0, Math.max(1, limit));
+        List<RareBadgeCount> topCounts = currentMember != null
+                ? rareBadgeCountRepository.findTopByRareCountInClass(
+                        currentMember.getBranch(), currentMember.getClassroom(), currentMember.getCohort(), top)
+                : rareBadgeCountRepository.findTopByRareCount(top);
         
         List<RankingEntry> rankings = new ArrayList<>();
         RankingEntry myRanking = null;
@@ -817,43 +727,59 @@ public class QuizService {
         int currentRank = 1;
         Integer prevValue = null;
         
-        for (int i = 0; i < sorted.size(); i++) {
-            RankingEntry entry = sorted.get(i);
+        for (int i = 0; i < topCounts.size(); i++) {
+            RareBadgeCount count = topCounts.get(i);
+            int value = count.getRareCount();
             
             // 동점자 처리: 이전 값과 다르면 현재 순번(i+1)으로 순위 갱신
-            if (prevValue == null || !prevValue.equals(entry.getValue())) {
+            if (prevValue == null || !prevValue.equals(value)) {
                 currentRank = i + 1;
             }
-            prevValue = entry.getValue();
+            prevValue = value;
             
-            entry.setRank(currentRank);
-            entry.setDisplayValue(entry.getValue() + "개");
+            RankingEntry entry = toRareBadgeRankingEntry(count, currentRank);
+            rankings.add(entry);
             
-            if (i < limit) {
-                rankings.add(entry);
-            }
-            if (entry.getMemberId().equals(memberId)) {
+            if (count.getMember().getId().equals(memberId)) {
                 myRanking = entry;
             }
         }
         
+        // 내 순위가 Top에 없으면 별도 계산 (나보다 희귀 배지가 많은 인원 수 + 1)
+        if (myRanking == null) {
+            RareBadgeCount mine = rareBadgeCountRepository.findByMemberId(memberId).orElse(null);
+            if (mine != null && mine.getRareCount() > 0) {
+                long higher = currentMember != null
+                        ? rareBadgeCountRepository.countByRareCountGreaterThanInClass(mine.getRareCount(),
+                                currentMember.getBranch(), currentMember.getClassroom(), currentMember.getCohort())
+                        : rareBadgeCountRepository.countByRareCountGreaterThan(mine.getRareCount());
+                myRanking = toRareBadgeRankingEntry(mine, (int) higher + 1);
+            }
+        }
+        
         return RankingResponse.builder()
                 .rankings(rankings)
                 .myRanking(myRanking)
                 .build();
     }
+    
+    private RankingEntry toRareBadgeRankingEntry(RareBadgeCount count, int rank) {
+        Member member = count.getMember();
+        return RankingEntry.builder()
+                .rank(rank)
+                .memberId(member.getId())
+                .nickname(member.getName())
+                .avatarUrl(member.getAvatarUrl())
+                .position(buildPositionString(member))
+                .value(count.getRareCount())
+                .displayValue(count.getRareCount() + "개")
+                .build();
+    }
 
     /**
      * 공통 랭킹 빌더 (Object[] 결과를 RankingResponse로 변환) - 동점자 처리 포함
      */
-    private RankingResponse buildGenericRanking(List<Object[]> results, Long memberId, int limit, String unit, Member currentMember) {
-        // classFilter 적용
-        if (currentMember != null) {
-            results = results.stream()
-                    .filter(row -> isSameClassFromArray(row, currentMember))
-                    .collect(java.util.stream.Collectors.toList());
-        }
-        
+    private RankingResponse buildGenericRanking(List<Object[]> results, Long memberId, int limit, String unit) {
         List<RankingEntry> rankings = new ArrayList<>();
         RankingEntry myRanking = null;
         
@@ -862,10 +788,10 @@ public class QuizService {
         
         for (int i = 0; i < results.size(); i++) {
             Object[] row = results.get(i);
-            Long rowMemberId = (Long) row[0];
+            Long rowMemberId = ((Number) row[0]).longValue();  // 네이티브 쿼리 결과 호환
             String name = (String) row[1];
             String avatarUrl = (String) row[2];
-            Long count = (Long) row[3];
+            Long count = ((Number) row[3]).longValue();
             
             // 동점자 처리: 이전 값과 다르면 현재 순번(i+1)으로 순위 갱신
             if (prevValue == null || !prevValue.equals(count)) {
@@ -902,48 +828,58 @@ public class QuizService {
     
     /**
      * 복습 퀴즈 조회 (내가 푼 문제만, 5개 제한 없음, 퀴즈타입별)
+     * mode: all / correct / wrong / due (간격 반복 - 복습일 도래 문제)
      */
     public List<QuizResponse> getReviewQuizzes(Long memberId, String category, int count, String mode, String quizType) {
-        List<QuizAttempt> attempts;
-        
+        // 간격 반복 복습: 복습일이 도래한 문제만 (복습 큐 인덱스에서 count개만 조회)
+        if ("due".equals(mode)) {
+            return reviewQueueService.getDueQuizzes(memberId, category, count, quizType).stream()
+                    .map(this::toQuizResponse)
+                    .collect(Collectors.toList());
+        }
+
+        boolean hasCategory = category != null && !category.isEmpty();
+        List<Long> sampledIds;
+
+        // 푼 문제 ID를 스트리밍하며 count개만 무작위 추출 (이력 길이와 무관하게 O(count) 메모리)
         switch (mode) {
             case "wrong":
                 // 틀린 문제만
-                if (category != null && !category.isEmpty()) {
-                    attempts = quizAttemptRepository.findWrongAnswersByMemberIdAndCategoryAndQuizType(memberId, category, quizType);
-                } else {
-                    attempts = quizAttemptRepository.findWrongAnswersByMemberIdAndQuizType(memberId, quizType);
+                try (Stream<Number> ids = hasCategory
+                        ? quizAttemptRepository.streamWrongQuizIdsByCategory(memberId, category, quizType)
+                        : quizAttemptRepository.streamWrongQuizIds(memberId, quizType)) {
+                    sampledIds = ReservoirSampler.sample(ids.map(Number::longValue), count);
                 }
                 break;
             case "correct":
                 // 맞은 문제만
-                if (category != null && !category.isEmpty()) {
-                    attempts = quizAttemptRepository.findCorrectAnswersByMemberIdAndCategory(memberId, category);
-                } else {
-                    attempts = quizAttemptRepository.findCorrectAnswersByMemberId(memberId);
+                try (Stream<Number> ids = hasCategory
+                        ? quizAttemptRepository.streamCorrectQuizIdsByCategory(memberId, category)
+                        : quizAttemptRepository.streamCorrectQuizIds(memberId)) {
+                    sampledIds = ReservoirSampler.sample(ids.map(Number::longValue), count);
                 }
                 break;
             case "all":
             default:
                 // 내가 푼 모든 문제
-                if (category != null && !category.isEmpty()) {
-                    attempts = quizAttemptRepository.findAllSolvedByMemberIdAndCategory(memberId, category);
-                } else {
-                    attempts = quizAttemptRepository.findAllSolvedByMemberId(memberId);
+                try (Stream<Number> ids = hasCategory
+                        ? quizAttemptRepository.streamSolvedQuizIdsByCategory(memberId, category)
+                        : quizAttemptRepository.streamSolvedQuizIds(memberId)) {
+                    sampledIds = ReservoirSampler.sample(ids.map(Number::longValue), count);
                 }
                 break;
         }
 
-        // 중복 제거 및 섞기
-        List<Quiz> uniqueQuizzes = attempts.stream()
-                .map(QuizAttempt::getQuiz)
-                .distinct()
-                .collect(Collectors.toList());
-        
-        java.util.Collections.shuffle(uniqueQuizzes);
+        if (sampledIds.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-        return uniqueQuizzes.stream()
-                .limit(count)
+        // 뽑힌 문제만 한 번에 조회 후 섞기 (findAllById는 순서 보장 없음, 출제 중단된 문제 제외)
+        List<Quiz> quizzes = new ArrayList<>(quizRepository.findAllById(sampledIds));
+        quizzes.removeIf(quiz -> !Boolean.TRUE.equals(quiz.getActive()));
+        java.util.Collections.shuffle(quizzes);
+
+        return quizzes.stream()
                 .map(this::toQuizResponse)
                 .collect(Collectors.toList());
     }
@@ -957,6 +893,11 @@ public class QuizService {
      * 복습 가능한 문제 통계 조회 (퀴즈타입별)
      */
     public ReviewStatsResponse getReviewStats(Long memberId, String quizType) {
+        return quizStatsCache.get("review-stats", memberId, quizType, ReviewStatsResponse.class,
+                () -> loadReviewStats(memberId, quizType));
+    }
+
+    private ReviewStatsResponse loadReviewStats(Long memberId, String quizType) {
         List<Object[]> solvedByCategory = quizAttemptRepository.countSolvedByMemberIdGroupByCategory(memberId);
         List<Object[]> wrongByCategory = quizAttemptRepository.countWrongByMemberIdGroupByCategoryAndQuizType(memberId, quizType);
 
@@ -1006,8 +947,7 @@ public class QuizService {
      */
     @Transactional
     public SubmitResponse submitReviewAnswer(Long memberId, SubmitRequest request) {
-        Quiz quiz = quizRepository.findById(request.getQuizId())
-                .orElseThrow(() -> new RuntimeException("문제를 찾을 수 없습니다."));
+        Quiz quiz = findReviewableQuiz(memberId, request.getQuizId());
 
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new RuntimeException("회원을 찾을 수 없습니다."));
@@ -1028,6 +968,12 @@ public class QuizService {
                 .quizType(quizType)
                 .build();
         quizAttemptRepository.save(attempt);
+
+        // 복습 일정 갱신 (오답 횟수에는 포함하지 않음)
+        reviewQueueService.record(memberId, quiz, quizType, isCorrect, true);
+
+        // 통계 캐시 무효화 (커밋 후)
+        quizStatsCache.invalidate(memberId);
         
         return SubmitResponse.builder()
                 .quizId(quiz.getId())
@@ -1036,4 +982,16 @@ public class QuizService {
                 .explanation(quiz.getExplanation())
                 .build();
     }
+
+    /**
+     * 복습 제출 대상 문제 (풀어 본 적 없는 문제는 정답이 노출되지 않도록 거부)
+     */
+    private Quiz findReviewableQuiz(Long memberId, Long quizId) {
+        Quiz quiz = quizRepository.findById(quizId)
+                .orElseThrow(() -> new RuntimeException("문제를 찾을 수 없습니다."));
+        if (!quizAttemptRepository.existsByMemberIdAndQuizId(memberId, quizId)) {
+            throw new RuntimeException("풀어 본 문제만 복습할 수 있습니다.");
+        }
+        return quiz;
+    }
 }
@@ -0,0 +1,225 @@
+package com.portfolio.builder.quiz.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.builder.quiz.domain.Quiz;
+import com.portfolio.builder.quiz.dto.QuizDto.BadgeResponse;
+import com.portfolio.builder.quiz.dto.QuizDto.QuizSessionResult;
+import com.portfolio.builder.quiz.dto.QuizDto.SubmitRequest;
+import com.portfolio.builder.quiz.dto.QuizDto.SubmitResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 출제 세션 (Redis Hash)
+ * 오늘의 퀴즈/수업 복습 출제 시 문제 ID와 정답 키를 보관하고,
+ * 제출은 DB 조회 없이 세션으로 채점하고, 시도/스트릭/복습 일정/배지는 같은 요청 안에서 저장한다.
+ *
+ * quiz:session:{sessionId}
+ *   memberId, quizType, quizIds(출제 순서), key:{quizId}(정답/해설), answer:{quizId}(제출 답/정답 여부)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class QuizSessionService {
+
+    private static final String KEY_PREFIX = "quiz:session:";
+    private static final Duration SESSION_TTL = Duration.ofHours(2);
+
+    private static final String FIELD_MEMBER_ID = "memberId";
+    private static final String FIELD_QUIZ_TYPE = "quizType";
+    private static final String FIELD_QUIZ_IDS = "quizIds";
+    private static final String ANSWER_KEY_PREFIX = "key:";
+    private static final String ANSWER_PREFIX = "answer:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final QuizDailyCounter quizDailyCounter;
+    private final QuizAttemptWriter quizAttemptWriter;
+
+    /**
+     * 세션 생성
+     * @return 세션 ID (출제 문제가 없거나 Redis 장애 시 null → 출제 실패)
+     */
+    public String open(Long memberId, String quizType, List<Quiz> quizzes) {
+        if (quizzes.isEmpty()) {
+            return null;
+        }
+
+        String sessionId = UUID.randomUUID().toString();
+        Map<String, String> fields = new HashMap<>();
+        fields.put(FIELD_MEMBER_ID, String.valueOf(memberId));
+        fields.put(FIELD_QUIZ_TYPE, quizType);
+        fields.put(FIELD_QUIZ_IDS, quizzes.stream().map(quiz -> String.valueOf(quiz.getId())).collect(Collectors.joining(",")));
+
+        try {
+            for (Quiz quiz : quizzes) {
+                fields.put(ANSWER_KEY_PREFIX + quiz.getId(),
+                        objectMapper.writeValueAsString(new AnswerKey(quiz.getAnswer(), quiz.getExplanation())));
+            }
+            redisTemplate.opsForHash().putAll(KEY_PREFIX + sessionId, fields);
+            redisTemplate.expire(KEY_PREFIX + sessionId, SESSION_TTL);
+            return sessionId;
+        } catch (Exception e) {
+            log.error("Failed to open quiz session: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 세션 기준 채점 (DB 조회 없음)
+     * 같은 문제 중복 제출은 거부하고, 일일 제한은 제출 시점에 원자적으로 확인한다.
+     * 저장이 실패해 롤백되면 제출 표시와 일일 카운트를 되돌려 다시 제출할 수 있게 한다.
+     */
+    @Transactional
+    public SubmitResponse submit(Long memberId, SubmitRequest request) {
+        String key = KEY_PREFIX + request.getSessionId();
+        Long quizId = request.getQuizId();
+        HashOperations<String, String, String> hash = redisTemplate.opsForHash();
+
+        List<String> values = hash.multiGet(key, List.of(FIELD_MEMBER_ID, FIELD_QUIZ_TYPE, ANSWER_KEY_PREFIX + quizId));
+        if (values.get(0) == null) {
+            throw new RuntimeException("퀴즈 세션이 만료되었습니다.");
+        }
+        if (!values.get(0).equals(String.valueOf(memberId))) {
+            throw new RuntimeException("잘못된 퀴즈 세션입니다.");
+        }
+        if (values.get(2) == null) {
+            throw new RuntimeException("세션에서 출제되지 않은 문제입니다.");
+        }
+
+        String quizType = values.get(1);
+        AnswerKey answerKey = readJson(values.get(2), AnswerKey.class);
+        boolean isCorrect = answerKey.answer().equals(request.getUserAnswer());
+
+        // 중복 제출 방지 (먼저 기록한 요청만 통과)
+        String answerField = ANSWER_PREFIX + quizId;
+        if (!Boolean.TRUE.equals(hash.putIfAbsent(key, answerField,
+                writeJson(new RecordedAnswer(request.getUserAnswer(), isCorrect))))) {
+            throw new RuntimeException("이미 제출한 문제입니다.");
+        }
+        deleteAnswerOnRollback(key, answerField);
+
+        int dailyLimit = "INTERVIEW".equals(quizType) ? QuizService.DAILY_LIMIT : 0;
+        if (!quizDailyCounter.tryIncrement(memberId, quizType, dailyLimit)) {
+            hash.delete(key, answerField);
+            throw new RuntimeException("오늘의 퀴즈를 모두 풀었습니다.");
+        }
+
+        List<BadgeResponse> newBadges = quizAttemptWriter.persist(
+                memberId, quizId, quizType, request.getUserAnswer(), isCorrect, LocalDate.now());
+
+        return SubmitResponse.builder()
+                .quizId(quizId)
+                .isCorrect(isCorrect)
+                .correctAnswer(answerKey.answer())
+                .explanation(answerKey.explanation())
+                .newBadges(newBadges)
+                .build();
+    }
+
+    /**
+     * 제출 트랜잭션이 롤백되면 제출 표시 삭제 (일일 카운트는 QuizDailyCounter가 되돌림)
+     */
+    private void deleteAnswerOnRollback(String key, String answerField) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) {
+                    return;
+                }
+                try {
+                    redisTemplate.opsForHash().delete(key, answerField);
+                } catch (Exception e) {
+                    log.error("Redis error while reverting quiz session answer: {}", e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * 세션 전체 결과
+     */
+    public QuizSessionResult getResult(Long memberId, String sessionId) {
+        HashOperations<String, String, String> hash = redisTemplate.opsForHash();
+        Map<String, String> fields = hash.entries(KEY_PREFIX + sessionId);
+
+        if (fields.isEmpty()) {
+            throw new RuntimeException("퀴즈 세션이 만료되었습니다.");
+        }
+        if (!String.valueOf(memberId).equals(fields.get(FIELD_MEMBER_ID))) {
+            throw new RuntimeException("잘못된 퀴즈 세션입니다.");
+        }
+
+        String[] quizIds = fields.get(FIELD_QUIZ_IDS).split(",");
+        List<SubmitResponse> results = new ArrayList<>();
+        int correctCount = 0;
+
+        for (String quizId : quizIds) {
+            String answer = fields.get(ANSWER_PREFIX + quizId);
+            if (answer == null) {
+                continue;  // 아직 제출하지 않은 문제
+            }
+            RecordedAnswer recorded = readJson(answer, RecordedAnswer.class);
+            AnswerKey answerKey = readJson(fields.get(ANSWER_KEY_PREFIX + quizId), AnswerKey.class);
+            if (recorded.correct()) {
+                correctCount++;
+            }
+            results.add(SubmitResponse.builder()
+                    .quizId(Long.valueOf(quizId))
+                    .isCorrect(recorded.correct())
+                    .correctAnswer(answerKey.answer())
+                    .explanation(answerKey.explanation())
+                    .build());
+        }
+
+        return QuizSessionResult.builder()
+                .sessionId(sessionId)
+                .quizType(fields.get(FIELD_QUIZ_TYPE))
+                .totalCount(quizIds.length)
+                .answeredCount(results.size())
+                .correctCount(correctCount)
+                .results(results)
+                .build();
+    }
+
+    private <T> T readJson(String json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("퀴즈 세션 데이터를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private String writeJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("퀴즈 세션 데이터를 저장할 수 없습니다.", e);
+        }
+    }
+
+    private record AnswerKey(Integer answer, String explanation) {
+    }
+
+    private record RecordedAnswer(Integer userAnswer, boolean correct) {
+    }
+}
@@ -0,0 +1,116 @@
+package com.portfolio.builder.quiz.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 회원별 퀴즈 통계 응답 캐시 (Redis, 버전 기반 무효화)
+ * - 캐시 키에 회원 버전을 포함하고, 제출/배지 획득 시 버전만 올려 이전 응답을 무효화
+ * - 버전이 Redis에 있으므로 ALB 뒤 모든 인스턴스에 즉시 반영
+ * - Redis 장애 시 캐시 없이 바로 조회
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QuizStatsCache {
+
+    private static final String VERSION_KEY_PREFIX = "quiz:stats:version:";
+    private static final String CACHE_KEY_PREFIX = "quiz:stats:";
+    private static final Duration CACHE_TTL = Duration.ofHours(6);  // 지난 버전은 TTL로 정리
+    private static final Duration VERSION_TTL = Duration.ofDays(30);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    /**
+     * 캐시 조회, 없으면 loader 결과를 현재 버전으로 저장
+     * @param name 응답 종류 (stats, wrong-stats, review-stats, badge-summary)
+     * @param variant 같은 응답의 파라미터 (예: 퀴즈타입)
+     */
+    public <T> T get(String name, Long memberId, String variant, Class<T> type, Supplier<T> loader) {
+        String key;
+        try {
+            String version = redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + memberId);
+            key = CACHE_KEY_PREFIX + name + ":" + memberId + ":" + (version != null ? version : "0") + ":" + variant;
+
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                hits.increment();
+                return objectMapper.readValue(cached, type);
+            }
+        } catch (Exception e) {
+            errors.increment();
+            log.error("Redis error while reading quiz stats cache: {}", e.getMessage());
+            return loader.get();
+        }
+
+        misses.increment();
+        T value = loader.get();
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(value), CACHE_TTL);
+        } catch (Exception e) {
+            errors.increment();
+            log.error("Redis error while writing quiz stats cache: {}", e.getMessage());
+        }
+        return value;
+    }
+
+    /**
+     * 회원 통계 버전 증가 - 트랜잭션 안이면 커밋 후에 증가
+     * (커밋 전에 올리면 다른 요청이 이전 데이터를 새 버전으로 캐시할 수 있음)
+     */
+    public void invalidate(Long memberId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bumpVersion(memberId);
+                }
+            });
+            return;
+        }
+        bumpVersion(memberId);
+    }
+
+    /**
+     * 인스턴스별 캐시 통계 (헬스체크 노출용)
+     */
+    public Map<String, Object> getMetrics() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("hits", hitCount);
+        metrics.put("misses", missCount);
+        metrics.put("errors", errors.sum());
+        metrics.put("hitRate", total > 0 ? Math.round(hitCount * 1000.0 / total) / 10.0 : 0.0);
+        return metrics;
+    }
+
+    private void bumpVersion(Long memberId) {
+        String key = VERSION_KEY_PREFIX + memberId;
+        try {
+            redisTemplate.opsForValue().increment(key);
+            redisTemplate.expire(key, VERSION_TTL);
+        } catch (Exception e) {
+            errors.increment();
+            log.error("Redis error while invalidating quiz stats cache - memberId: {}, {}", memberId, e.getMessage());
+        }
+    }
+}
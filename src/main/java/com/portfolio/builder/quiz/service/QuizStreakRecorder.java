@@ -0,0 +1,58 @@
+package com.portfolio.builder.quiz.service;
+
+import com.portfolio.builder.quiz.repository.QuizStreakRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+/**
+ * 퀴즈 스트릭 갱신기
+ * 읽기-수정-쓰기 대신 조건부 UPDATE 한 번으로 반영해
+ * 동시 제출(여러 탭, 재시도)에도 카운트가 유실되지 않는다.
+ */
+@Component
+@Slf4j
+public class QuizStreakRecorder {
+
+    private final QuizStreakRepository quizStreakRepository;
+    private final TransactionTemplate requiresNewTransaction;
+
+    public QuizStreakRecorder(QuizStreakRepository quizStreakRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.quizStreakRepository = quizStreakRepository;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 풀이 1건을 스트릭에 반영
+     */
+    @Transactional
+    public void record(Long memberId, boolean isCorrect) {
+        LocalDate today = LocalDate.now();
+        LocalDate yesterday = today.minusDays(1);
+        int correctDelta = isCorrect ? 1 : 0;
+
+        if (quizStreakRepository.applyAttempt(memberId, today, yesterday, correctDelta) > 0) {
+            return;
+        }
+
+        // 첫 풀이: 빈 스트릭 행 생성 (별도 트랜잭션 - 동시 생성 충돌 시 먼저 만든 행 사용)
+        try {
+            requiresNewTransaction.executeWithoutResult(status ->
+                    quizStreakRepository.insertIfAbsent(memberId, yesterday));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Quiz streak row already created concurrently - memberId: {}", memberId);
+        }
+
+        if (quizStreakRepository.applyAttempt(memberId, today, yesterday, correctDelta) == 0) {
+            throw new RuntimeException("스트릭을 갱신할 수 없습니다.");
+        }
+    }
+}
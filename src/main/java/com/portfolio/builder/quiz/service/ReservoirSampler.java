@@ -0,0 +1,45 @@
+package com.portfolio.builder.quiz.service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+/**
+ * 저수지 샘플링 (Algorithm R)
+ * 길이를 모르는 스트림에서 k개를 균등 확률로 뽑는다. 메모리는 O(k).
+ */
+final class ReservoirSampler {
+
+    private ReservoirSampler() {
+    }
+
+    static <T> List<T> sample(Stream<T> stream, int k) {
+        return sample(stream, k, ThreadLocalRandom.current());
+    }
+
+    static <T> List<T> sample(Stream<T> stream, int k, Random random) {
+        List<T> reservoir = new ArrayList<>(Math.max(0, k));
+        if (k <= 0) {
+            return reservoir;
+        }
+
+        long seen = 0;
+        Iterator<T> iterator = stream.iterator();
+        while (iterator.hasNext()) {
+            T item = iterator.next();
+            seen++;
+            if (reservoir.size() < k) {
+                reservoir.add(item);
+            } else {
+                long slot = random.nextLong(seen);
+                if (slot < k) {
+                    reservoir.set((int) slot, item);
+                }
+            }
+        }
+        return reservoir;
+    }
+}
@@ -0,0 +1,198 @@
+package com.portfolio.builder.quiz.service;
+
+import com.portfolio.builder.quiz.domain.Quiz;
+import com.portfolio.builder.quiz.domain.QuizReviewState;
+import com.portfolio.builder.quiz.repository.QuizReviewStateRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 간격 반복(SM-2) 복습 큐
+ * 정답/오답만 받으므로 품질 점수는 정답 4, 오답 2로 고정해 계산한다.
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class ReviewQueueService {
+
+    private static final int QUALITY_CORRECT = 4;
+    private static final int QUALITY_WRONG = 2;
+    private static final double MIN_EASE_FACTOR = 1.3;
+    private static final String BACKFILL_DONE_KEY = "quiz:review:backfilled";
+    private static final String LOCK_KEY = "lock:quiz:review-backfill";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(30);
+
+    private final QuizReviewStateRepository quizReviewStateRepository;
+    private final TransactionTemplate requiresNewTransaction;
+    private final StringRedisTemplate redisTemplate;
+
+    public ReviewQueueService(QuizReviewStateRepository quizReviewStateRepository,
+                              PlatformTransactionManager transactionManager,
+                              StringRedisTemplate redisTemplate) {
+        this.quizReviewStateRepository = quizReviewStateRepository;
+        this.redisTemplate = redisTemplate;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 애플리케이션 시작 후 복습 일정이 비어 있으면 기존 풀이 기록으로 생성 (전체에서 한 번)
+     * - 완료 표시가 있으면 바로 종료 (재시작마다 다시 확인하지 않음)
+     * - Redis 락을 잡은 인스턴스만 실행하고, 락 해제 전에 커밋 / 락 안에서 다시 확인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void initQueue() {
+        if (isBackfillDone()) {
+            return;
+        }
+        if (quizReviewStateRepository.count() > 0) {
+            markBackfillDone();
+            return;
+        }
+        if (!acquireLock()) {
+            log.info("Quiz review queue backfill running on another instance");
+            return;
+        }
+
+        try {
+            requiresNewTransaction.executeWithoutResult(status -> {
+                if (quizReviewStateRepository.count() == 0) {
+                    int created = quizReviewStateRepository.backfillFromAttempts();
+                    log.info("Quiz review queue backfilled - states: {}", created);
+                }
+            });
+            markBackfillDone();
+        } finally {
+            releaseLock();
+        }
+    }
+
+    /**
+     * 제출 1건을 복습 일정에 반영
+     * @param isReviewMode 복습 모드 풀이는 오답 횟수에 포함하지 않음
+     */
+    @Transactional
+    public void record(Long memberId, Quiz quiz, String quizType, boolean isCorrect, boolean isReviewMode) {
+        LocalDate today = LocalDate.now();
+        QuizReviewState state = quizReviewStateRepository.findForUpdate(memberId, quiz.getId())
+                .orElseGet(() -> createAndLock(memberId, quiz.getId(), quizType, today));
+
+        schedule(state, isCorrect, today);
+        if (!isCorrect && !isReviewMode) {
+            state.setWrongCount(state.getWrongCount() + 1);
+        }
+    }
+
+    /**
+     * 복습일이 도래한 문제 (오래된 순 최대 count개)
+     */
+    public List<Quiz> getDueQuizzes(Long memberId, String category, int count, String quizType) {
+        LocalDate today = LocalDate.now();
+        PageRequest page = PageRequest.of(0, Math.max(1, count));
+        List<QuizReviewState> states = (category != null && !category.isEmpty())
+                ? quizReviewStateRepository.findDueByCategory(memberId, today, quizType, category, page)
+                : quizReviewStateRepository.findDue(memberId, today, quizType, page);
+        return states.stream().map(QuizReviewState::getQuiz).toList();
+    }
+
+    /**
+     * 틀린 적 있는 문제 (복습일 빠른 순 최대 count개)
+     */
+    public List<Quiz> getWrongQuizzes(Long memberId, String category, int count, String quizType) {
+        PageRequest page = PageRequest.of(0, Math.max(1, count));
+        List<QuizReviewState> states = (category != null && !category.isEmpty())
+                ? quizReviewStateRepository.findWrongByCategory(memberId, quizType, category, page)
+                : quizReviewStateRepository.findWrong(memberId, quizType, page);
+        return states.stream().map(QuizReviewState::getQuiz).toList();
+    }
+
+    /**
+     * SM-2: 정답이면 간격을 늘리고, 오답이면 처음부터 다시 (다음 날 복습)
+     */
+    private void schedule(QuizReviewState state, boolean isCorrect, LocalDate today) {
+        int quality = isCorrect ? QUALITY_CORRECT : QUALITY_WRONG;
+
+        if (isCorrect) {
+            int repetitions = state.getRepetitions() + 1;
+            int interval = switch (repetitions) {
+                case 1 -> 1;
+                case 2 -> 6;
+                default -> (int) Math.round(state.getIntervalDays() * state.getEaseFactor());
+            };
+            state.setRepetitions(repetitions);
+            state.setIntervalDays(interval);
+        } else {
+            state.setRepetitions(0);
+            state.setIntervalDays(1);
+        }
+
+        double ease = state.getEaseFactor() + (0.1 - (5 - quality) * (0.08 + (5 - quality) * 0.02));
+        state.setEaseFactor(Math.max(MIN_EASE_FACTOR, ease));
+        state.setDueAt(today.plusDays(state.getIntervalDays()));
+        state.setLastReviewedAt(today);
+    }
+
+    /**
+     * 첫 풀이: 복습 일정 생성 (별도 트랜잭션 - 동시 생성 충돌 시 먼저 만든 행 사용)
+     */
+    private QuizReviewState createAndLock(Long memberId, Long quizId, String quizType, LocalDate today) {
+        try {
+            requiresNewTransaction.executeWithoutResult(status ->
+                    quizReviewStateRepository.insertIfAbsent(memberId, quizId, quizType, today));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Quiz review state already created concurrently - memberId: {}, quizId: {}", memberId, quizId);
+        }
+        return quizReviewStateRepository.findForUpdate(memberId, quizId)
+                .orElseThrow(() -> new RuntimeException("복습 일정을 생성할 수 없습니다."));
+    }
+
+    private boolean isBackfillDone() {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(BACKFILL_DONE_KEY));
+        } catch (Exception e) {
+            log.warn("Redis error, checking quiz review queue in DB: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void markBackfillDone() {
+        try {
+            redisTemplate.opsForValue().set(BACKFILL_DONE_KEY, "1");
+        } catch (Exception e) {
+            log.warn("Redis error, failed to mark quiz review queue backfill done: {}", e.getMessage());
+        }
+    }
+
+    private boolean acquireLock() {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", LOCK_TTL));
+        } catch (Exception e) {
+            // Redis 장애 시 락 없이 진행 (단일 인스턴스 기동과 동일)
+            log.warn("Redis error, backfilling quiz review queue without lock: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    private void releaseLock() {
+        try {
+            redisTemplate.delete(LOCK_KEY);
+        } catch (Exception e) {
+            log.warn("Redis error, failed to release quiz review backfill lock: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+-- 희귀 배지 인덱스 스키마 (Oracle 12.2+)
+-- ddl-auto: none 이므로 운영 DB에 수동 적용. BadgeRarityService가 아래 테이블을 사용하며,
+-- 비어 있으면 애플리케이션 시작 시 TB_BADGE 기준으로 채운다.
+
+-- 1. 회원당 같은 배지는 1개 (동시 제출로 중복 부여된 행은 가장 먼저 얻은 행만 남김)
+--    BadgeRepository.insertIfAbsent가 이 유니크 인덱스로 중복 부여를 막는다.
+DELETE FROM TB_BADGE b
+WHERE EXISTS (SELECT 1 FROM TB_BADGE o
+              WHERE o.member_id = b.member_id AND o.badge_id = b.badge_id AND o.id < b.id);
+ALTER TABLE TB_BADGE ADD CONSTRAINT UK_BADGE_MEMBER_BADGE UNIQUE (member_id, badge_id);
+
+-- 2. 배지별 획득자 수 / 희귀 여부 (획득률 10% 미만)
+CREATE TABLE TB_BADGE_STAT (
+    badge_id     VARCHAR2(50) PRIMARY KEY,
+    holder_count NUMBER(19)   NOT NULL,
+    rare         NUMBER(1)    NOT NULL
+);
+
+-- 3. 회원별 희귀 배지 보유 수 (희귀 배지 랭킹)
+CREATE TABLE TB_RARE_BADGE_COUNT (
+    id         NUMBER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    member_id  NUMBER     NOT NULL,
+    rare_count NUMBER(10) NOT NULL,
+    CONSTRAINT UK_RARE_BADGE_COUNT_MEMBER UNIQUE (member_id),
+    CONSTRAINT FK_RARE_BADGE_COUNT_MEMBER FOREIGN KEY (member_id) REFERENCES TB_MEMBER_PF (id) ON DELETE CASCADE
+);
+
+-- 희귀 배지 랭킹 (rare_count 역순 스캔)
+CREATE INDEX IDX_RARE_BADGE_COUNT ON TB_RARE_BADGE_COUNT (rare_count);
@@ -0,0 +1,15 @@
+-- 반별 랭킹 / 배지 조회 인덱스 (Oracle)
+-- ddl-auto: none 이므로 운영 DB에 수동 적용. 엔티티의 @Index 선언과 이름/컬럼을 맞춘다.
+-- quiz_attempt_lifecycle.sql의 파티션 전환이 아래 TB_QUIZ_ATTEMPT 인덱스를 LOCAL로 바꾸므로 먼저 적용한다.
+
+-- 반별 랭킹 파티션 (수강생 + 지점 + 강의실 + 기수)
+CREATE INDEX IDX_MEMBER_PF_CLASS ON TB_MEMBER_PF (position, branch, classroom, cohort);
+
+-- 반별 랭킹: 파티션 회원 → 회원별 시도 조회
+CREATE INDEX IDX_QUIZ_ATTEMPT_MEMBER_DATE ON TB_QUIZ_ATTEMPT (member_id, attempt_date);
+
+-- 오늘/이번 주 랭킹
+CREATE INDEX IDX_QUIZ_ATTEMPT_DATE ON TB_QUIZ_ATTEMPT (attempt_date);
+
+-- 배지별 획득자 수 (회원별 배지는 badge_rarity.sql의 UK_BADGE_MEMBER_BADGE 유니크 인덱스 사용)
+CREATE INDEX IDX_BADGE_BADGE_ID ON TB_BADGE (badge_id);
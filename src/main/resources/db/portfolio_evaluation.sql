@@ -0,0 +1,21 @@
+-- 포트폴리오 AI 평가 기록 스키마 (Oracle 12.2+)
+-- ddl-auto: none 이므로 운영 DB에 수동 적용. EvaluationHistoryService가 아래 테이블을 사용한다.
+
+-- 평가 1회당 1행. 항목별 점수는 컬럼(점수 추이 조회용), 세부 내용 / 피드백 / 팁은 평가 응답 JSON(result)
+CREATE TABLE TB_PORTFOLIO_EVALUATION (
+    id                    NUMBER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    portfolio_id          NUMBER        NOT NULL,
+    total_score           NUMBER(3)     NOT NULL,
+    completeness_score    NUMBER(3)     NOT NULL,
+    technical_score       NUMBER(3)     NOT NULL,
+    troubleshooting_score NUMBER(3)     NOT NULL,
+    expression_score      NUMBER(3)     NOT NULL,
+    activity_score        NUMBER(3)     NOT NULL,
+    content_digest        VARCHAR2(64)  NOT NULL,
+    result                CLOB          NOT NULL,
+    evaluated_at          TIMESTAMP     NOT NULL,
+    CONSTRAINT FK_PORTFOLIO_EVALUATION_PF FOREIGN KEY (portfolio_id) REFERENCES TB_PORTFOLIO_PF (id) ON DELETE CASCADE
+);
+
+-- 최근 평가 / 점수 추이 (portfolio_id 조건 + evaluated_at 역순 스캔)
+CREATE INDEX IDX_PORTFOLIO_EVALUATION_PF ON TB_PORTFOLIO_EVALUATION (portfolio_id, evaluated_at);
@@ -0,0 +1,46 @@
+-- 퀴즈 시도 데이터 수명 주기 스키마 (Oracle 12.2+)
+-- ddl-auto: none 이므로 운영 DB에 수동 적용. QuizAttemptLifecycleService가 아래 테이블을 사용한다.
+
+-- 1. TB_QUIZ_ATTEMPT 월 단위 인터벌 파티션 (attempt_date)
+--    랭킹/통계의 hot 구간 조건(attempt_date >= 롤업 경계)과 오늘/이번 주 조건이 파티션 프루닝된다.
+ALTER TABLE TB_QUIZ_ATTEMPT MODIFY
+    PARTITION BY RANGE (attempt_date) INTERVAL (NUMTOYMINTERVAL(1, 'MONTH'))
+    (PARTITION P_QUIZ_ATTEMPT_INITIAL VALUES LESS THAN (DATE '2024-01-01'))
+    ONLINE
+    UPDATE INDEXES (IDX_QUIZ_ATTEMPT_MEMBER_DATE LOCAL, IDX_QUIZ_ATTEMPT_DATE LOCAL);
+
+-- 2. 일별 롤업 (회원/카테고리/퀴즈타입/날짜)
+CREATE TABLE TB_QUIZ_ATTEMPT_DAILY (
+    id               NUMBER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    member_id        NUMBER       NOT NULL,
+    category         VARCHAR2(50) NOT NULL,
+    quiz_type        VARCHAR2(20) NOT NULL,
+    attempt_date     DATE         NOT NULL,
+    attempt_count    NUMBER(10)   NOT NULL,
+    correct_count    NUMBER(10)   NOT NULL,
+    wrong_count      NUMBER(10)   NOT NULL,
+    review_count     NUMBER(10)   NOT NULL,
+    early_bird_count NUMBER(10)   NOT NULL,
+    night_owl_count  NUMBER(10)   NOT NULL,
+    CONSTRAINT UK_QUIZ_ATTEMPT_DAILY UNIQUE (member_id, category, quiz_type, attempt_date),
+    CONSTRAINT FK_QUIZ_ATTEMPT_DAILY_MEMBER FOREIGN KEY (member_id) REFERENCES TB_MEMBER_PF (id) ON DELETE CASCADE
+);
+CREATE INDEX IDX_QUIZ_ATTEMPT_DAILY_DATE ON TB_QUIZ_ATTEMPT_DAILY (attempt_date);
+
+-- 3. 아카이브 (압축 cold 테이블, direct-path insert로 적재)
+CREATE TABLE TB_QUIZ_ATTEMPT_ARCHIVE (
+    id             NUMBER       PRIMARY KEY,
+    member_id      NUMBER       NOT NULL,
+    quiz_id        NUMBER       NOT NULL,
+    user_answer    NUMBER(10)   NOT NULL,
+    is_correct     NUMBER(1)    NOT NULL,
+    attempt_date   DATE         NOT NULL,
+    created_at     TIMESTAMP    NOT NULL,
+    is_review_mode NUMBER(1)    NOT NULL,
+    quiz_type      VARCHAR2(20) NOT NULL,
+    CONSTRAINT FK_QUIZ_ATTEMPT_ARCHIVE_MEMBER FOREIGN KEY (member_id) REFERENCES TB_MEMBER_PF (id) ON DELETE CASCADE
+) COMPRESS BASIC;
+CREATE INDEX IDX_QUIZ_ATTEMPT_ARCHIVE_MEMBER ON TB_QUIZ_ATTEMPT_ARCHIVE (member_id) COMPRESS;
+
+-- 아카이브가 끝나 비어 있는 월 파티션은 필요 시 정리
+-- ALTER TABLE TB_QUIZ_ATTEMPT DROP PARTITION FOR (DATE '2024-03-01') UPDATE INDEXES;
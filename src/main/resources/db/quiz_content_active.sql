@@ -0,0 +1,24 @@
+-- 퀴즈 콘텐츠 팩 동기화 스키마 (Oracle 12.2+)
+-- ddl-auto: none 이므로 운영 DB에 수동 적용. QuizContentLoader가 아래 컬럼 / 테이블을 사용한다.
+
+-- 1. 팩 문제 키 / 체크섬 ({팩}:{id}, 관리자 등록 문제는 null) - 바뀐 문제만 MERGE
+ALTER TABLE TB_QUIZ ADD (
+    content_key VARCHAR2(200),
+    checksum    VARCHAR2(64)
+);
+ALTER TABLE TB_QUIZ ADD CONSTRAINT UK_QUIZ_CONTENT_KEY UNIQUE (content_key);
+
+-- 2. 출제 여부 - 팩에서 빠진 문제는 active = 0 으로 비활성화 (풀이 기록 보존)
+ALTER TABLE TB_QUIZ ADD (active NUMBER(1) DEFAULT 1 NOT NULL);
+
+-- 출제 쿼리 (카테고리/퀴즈타입별 활성 문제)
+CREATE INDEX IDX_QUIZ_CATEGORY_TYPE_ACTIVE ON TB_QUIZ (category, quiz_type, active);
+
+-- 3. 팩 파일 단위 체크섬 (같으면 팩 전체 건너뜀)
+CREATE TABLE TB_QUIZ_PACK (
+    name       VARCHAR2(100) PRIMARY KEY,
+    version    VARCHAR2(50),
+    checksum   VARCHAR2(64)  NOT NULL,
+    quiz_count NUMBER(10)    NOT NULL,
+    synced_at  TIMESTAMP     NOT NULL
+);
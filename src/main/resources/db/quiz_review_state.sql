@@ -0,0 +1,24 @@
+-- 간격 반복(SM-2) 복습 일정 스키마 (Oracle 12.2+)
+-- ddl-auto: none 이므로 운영 DB에 수동 적용. ReviewQueueService가 아래 테이블을 사용하며,
+-- 비어 있으면 애플리케이션 시작 시 한 인스턴스가 기존 풀이 기록(TB_QUIZ_ATTEMPT + 아카이브)으로 한 번 채운다.
+-- quiz_attempt_lifecycle.sql 이후에 적용한다.
+
+-- 회원 + 문제당 1행
+CREATE TABLE TB_QUIZ_REVIEW_STATE (
+    id               NUMBER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    member_id        NUMBER        NOT NULL,
+    quiz_id          NUMBER        NOT NULL,
+    quiz_type        VARCHAR2(20)  NOT NULL,
+    repetitions      NUMBER(10)    NOT NULL,
+    interval_days    NUMBER(10)    NOT NULL,
+    ease_factor      BINARY_DOUBLE NOT NULL,
+    due_at           DATE          NOT NULL,
+    wrong_count      NUMBER(10)    NOT NULL,
+    last_reviewed_at DATE,
+    CONSTRAINT UK_QUIZ_REVIEW_STATE UNIQUE (member_id, quiz_id),
+    CONSTRAINT FK_QUIZ_REVIEW_STATE_MEMBER FOREIGN KEY (member_id) REFERENCES TB_MEMBER_PF (id) ON DELETE CASCADE,
+    CONSTRAINT FK_QUIZ_REVIEW_STATE_QUIZ FOREIGN KEY (quiz_id) REFERENCES TB_QUIZ (id)
+);
+
+-- 복습할 문제 (회원별 복습일 순 스캔)
+CREATE INDEX IDX_QUIZ_REVIEW_DUE ON TB_QUIZ_REVIEW_STATE (member_id, due_at);
@@ -0,0 +1,199 @@
+package com.portfolio.builder.ai.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.builder.ai.config.LocalChatModel;
+import com.portfolio.builder.ai.domain.PortfolioEvaluation;
+import com.portfolio.builder.ai.domain.PortfolioEvaluationRepository;
+import com.portfolio.builder.ai.dto.EvaluationResponse;
+import com.portfolio.builder.member.domain.Member;
+import com.portfolio.builder.portfolio.domain.Portfolio;
+import com.portfolio.builder.portfolio.domain.PortfolioRepository;
+import com.portfolio.builder.portfolio.domain.Troubleshooting;
+import com.portfolio.builder.portfolio.domain.TroubleshootingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 평가 파이프라인 부하 테스트 (LocalChatModel 사용, OpenAI / DB / Redis 불필요)
+ * 요청 스레드 N개로 evaluate를 동시에 호출하고 처리량, p50/p95/p99, 스레드 사용량을 출력한다.
+ * LLM 실패 / 무응답을 주입해도 모든 요청이 폴백으로 응답하는지 확인한다.
+ * 실행: ./gradlew evaluationLoadTest -Pload.requests=500 -Pload.concurrency=64 -Pai.local-llm.failure-rate=0.1
+ */
+@Tag("load")
+class EvaluationLoadTest {
+
+    private static final long MEMBER_ID = 1L;
+
+    private final int requests = Integer.getInteger("load.requests", 200);
+    private final int concurrency = Integer.getInteger("load.concurrency", 32);
+
+    private LlmCallGuard llmCallGuard;
+    private LlmTokenMetrics llmTokenMetrics;
+    private PortfolioEvaluationService evaluationService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+        LocalChatModel chatModel = new LocalChatModel(
+                Long.getLong("ai.local-llm.latency-ms", 800),
+                Long.getLong("ai.local-llm.jitter-ms", 400),
+                doubleProperty("ai.local-llm.slow-rate", 0.05),
+                Long.getLong("ai.local-llm.slow-latency-ms", 8000),
+                doubleProperty("ai.local-llm.failure-rate", 0.0),
+                doubleProperty("ai.local-llm.hang-rate", 0.0));
+        // Redis 미연결 → 캐시 조회 / 저장은 실패 후 무시 (운영과 같은 fail-open 경로)
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        llmCallGuard = new LlmCallGuard(
+                new LlmSharedLimiter(redisTemplate),
+                Integer.getInteger("ai.llm.max-concurrency", 4),
+                Long.getLong("ai.llm.acquire-timeout-ms", 30000),
+                Long.getLong("ai.llm.tokens-per-minute", 200000),
+                20, 10, 0.5, 30, 2);
+
+        llmTokenMetrics = new LlmTokenMetrics();
+
+        PortfolioRepository portfolioRepository = mock(PortfolioRepository.class);
+        TroubleshootingRepository troubleshootingRepository = mock(TroubleshootingRepository.class);
+        when(portfolioRepository.findById(anyLong())).thenAnswer(inv -> Optional.of(portfolio(inv.getArgument(0))));
+        when(portfolioRepository.save(any(Portfolio.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(troubleshootingRepository.findByPortfolioIdOrderByCreatedAtDesc(anyLong()))
+                .thenAnswer(inv -> troubleshootings(inv.getArgument(0)));
+        PortfolioEvaluationRepository portfolioEvaluationRepository = mock(PortfolioEvaluationRepository.class);
+        when(portfolioEvaluationRepository.save(any(PortfolioEvaluation.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        evaluationService = new PortfolioEvaluationService(
+                new RuleBasedScorer(objectMapper),
+                new AiExpressionEvaluator(ChatClient.builder(chatModel), redisTemplate, llmCallGuard, llmTokenMetrics,
+                        new NearDuplicateExpressionCache(redisTemplate, 3), objectMapper),
+                new AiFeedbackGenerator(ChatClient.builder(chatModel).build(), objectMapper, llmCallGuard, llmTokenMetrics),
+                portfolioRepository,
+                troubleshootingRepository,
+                new EvaluationDigest(objectMapper),
+                new EvaluationResultCache(redisTemplate, objectMapper),
+                new EvaluationHistoryService(portfolioEvaluationRepository, redisTemplate, objectMapper),
+                objectMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        evaluationService.shutdown();
+        llmCallGuard.shutdown();
+    }
+
+    @Test
+    void concurrentEvaluations() throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        int threadsBefore = threads.getThreadCount();
+
+        long[] latencies = new long[requests];
+        AtomicInteger errors = new AtomicInteger();
+        // 요청 스레드 (톰캣 워커 역할)
+        ExecutorService callers = Executors.newFixedThreadPool(concurrency);
+        List<Future<?>> futures = new ArrayList<>(requests);
+
+        long started = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            long portfolioId = i + 1;
+            int slot = i;
+            futures.add(callers.submit(() -> {
+                long t0 = System.nanoTime();
+                try {
+                    EvaluationResponse response = evaluationService.evaluate(portfolioId, MEMBER_ID);
+                    if (response.getOverallFeedback() == null) {
+                        errors.incrementAndGet();
+                    }
+                } catch (RuntimeException e) {
+                    errors.incrementAndGet();
+                } finally {
+                    latencies[slot] = System.nanoTime() - t0;
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsedNanos = System.nanoTime() - started;
+        callers.shutdown();
+        callers.awaitTermination(10, TimeUnit.SECONDS);
+
+        Arrays.sort(latencies);
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        Map<String, Object> guard = llmCallGuard.getMetrics();
+
+        System.out.printf("%n[Evaluation load] requests=%d, concurrency=%d, LLM maxConcurrency=%s%n",
+                requests, concurrency, guard.get("maxConcurrency"));
+        System.out.printf("  throughput : %.1f req/s (%.1fs total)%n", requests / seconds, seconds);
+        System.out.printf("  latency    : p50=%dms, p95=%dms, p99=%dms, max=%dms%n",
+                percentile(latencies, 50), percentile(latencies, 95), percentile(latencies, 99),
+                latencies[latencies.length - 1] / 1_000_000);
+        System.out.printf("  threads    : platform before=%d, peak=%d, after=%d%n",
+                threadsBefore, threads.getPeakThreadCount(), threads.getThreadCount());
+        System.out.printf("  LLM guard  : %s%n", guard);
+        System.out.printf("  LLM tokens : %s%n", llmTokenMetrics.getMetrics());
+        System.out.printf("  errors     : %d%n", errors.get());
+
+        // LLM 실패 / 시간 초과는 폴백으로 처리되어 요청 자체는 실패하지 않아야 함
+        assertEquals(0, errors.get());
+    }
+
+    private long percentile(long[] sorted, int p) {
+        int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000;
+    }
+
+    private Portfolio portfolio(long id) {
+        // 포트폴리오마다 내용이 달라 다이제스트 / 프롬프트가 모두 다름
+        String data = """
+                {"name":"수강생%1$d","introduction":"백엔드 개발자 수강생%1$d입니다. Spring Boot로 %1$d명 규모 서비스를 운영하며 응답 시간을 40%% 줄였습니다.",
+                 "skills":[{"name":"Java","level":4},{"name":"Spring Boot","level":4},{"name":"Oracle","level":3},{"name":"Redis","level":2}],
+                 "projects":[{"name":"프로젝트%1$d","description":"팀 프로젝트 %1$d - 주문 API 설계와 캐시 적용을 담당했습니다.","role":"백엔드","tech":"Java, Spring Boot, Redis"}]}
+                """.formatted(id);
+        return Portfolio.builder()
+                .id(id)
+                .member(Member.builder().id(MEMBER_ID).build())
+                .templateType("developer")
+                .data(data)
+                .showContributionGraph(false)
+                .build();
+    }
+
+    private List<Troubleshooting> troubleshootings(long portfolioId) {
+        return List.of(Troubleshooting.builder()
+                .id(portfolioId)
+                .category(Troubleshooting.Category.PERFORMANCE)
+                .problem("목록 조회 API가 느림 (" + portfolioId + ")")
+                .cause("N+1 쿼리")
+                .solution("fetch join과 페이지네이션 적용으로 응답 시간 1.2초 → 180ms")
+                .build());
+    }
+
+    private static double doubleProperty(String key, double defaultValue) {
+        String value = System.getProperty(key);
+        return value != null ? Double.parseDouble(value) : defaultValue;
+    }
+}
@@ -0,0 +1,131 @@
+package com.portfolio.builder.ai.application;
+
+import com.portfolio.builder.ai.dto.FeedbackDelta;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 스트리밍 피드백 파서 - 조각 경계와 관계없이 같은 결과를 내는지 검증
+ */
+class FeedbackStreamParserTest {
+
+    private final List<FeedbackDelta> deltas = new ArrayList<>();
+    private final FeedbackStreamParser parser = new FeedbackStreamParser(deltas::add);
+
+    @Test
+    void escapeSplitAcrossChunks() {
+        feed("{\"overallFeedback\": \"a\\", "\"b\\", "nc\\\\", "d\"}");
+
+        assertTrue(parser.isComplete());
+        assertEquals("a\"b\nc\\d", parser.getOverallFeedback());
+        assertEquals(parser.getOverallFeedback(), joined(FeedbackStreamParser.FIELD_OVERALL, null));
+    }
+
+    @Test
+    void unicodeEscapeSplitAcrossChunks() {
+        feed("{\"overallFeedback\": \"\\u", "D55", "C\\uAE", "00 \\u0021\"}");
+
+        assertTrue(parser.isComplete());
+        assertEquals("한글 !", parser.getOverallFeedback());
+        assertEquals("한글 !", joined(FeedbackStreamParser.FIELD_OVERALL, null));
+    }
+
+    @Test
+    void surrogatePairIsNeverSentHalfway() {
+        feed("{\"overallFeedback\": \"좋아요 \\uD83D", "\\uDE00\"}");
+
+        assertEquals("좋아요 \uD83D\uDE00", parser.getOverallFeedback());
+        for (FeedbackDelta delta : deltas) {
+            char last = delta.getText().charAt(delta.getText().length() - 1);
+            assertFalse(Character.isHighSurrogate(last), "상위 서로게이트만 담긴 조각: " + delta.getText());
+        }
+        assertEquals(parser.getOverallFeedback(), joined(FeedbackStreamParser.FIELD_OVERALL, null));
+    }
+
+    @Test
+    void invalidUnicodeEscapeIsDropped() {
+        feed("{\"overallFeedback\": \"a\\uZZb\"}");
+
+        assertTrue(parser.isComplete());
+        assertEquals("aZZb", parser.getOverallFeedback());
+    }
+
+    @Test
+    void nestedArraysAndObjectsAreIgnored() {
+        feed("```json\n{\"tips\": [\"첫째\", [\"중첩\"], {\"overallFeedback\": \"x\"}, \"둘째\"], ",
+                "\"meta\": [[1, 2], {\"tips\": [\"y\"]}], \"overallFeedback\": \"종합\"}\n```");
+
+        assertTrue(parser.isComplete());
+        assertEquals("종합", parser.getOverallFeedback());
+        assertEquals(List.of("첫째", "둘째"), parser.getTips());
+        assertEquals("첫째", joined(FeedbackStreamParser.FIELD_TIPS, 0));
+        assertEquals("둘째", joined(FeedbackStreamParser.FIELD_TIPS, 1));
+    }
+
+    @Test
+    void truncatedInputIsNotComplete() {
+        feed("{\"overallFeedback\": \"중간에 끊긴 ", "응답\\", "u00");
+
+        assertFalse(parser.isComplete());
+        assertEquals("중간에 끊긴 응답", parser.getOverallFeedback());
+    }
+
+    @Test
+    void missingObjectIsNotComplete() {
+        feed("죄송합니다. 답변할 수 없습니다.");
+
+        assertFalse(parser.isComplete());
+        assertNull(parser.getOverallFeedback());
+        assertTrue(deltas.isEmpty());
+    }
+
+    @Test
+    void everySplitPointGivesSameResult() {
+        String json = "{\"overallFeedback\": \"줄\\n바꿈 \\\"인용\\\" \\uD83D\\uDE00 \\u0041\", "
+                + "\"tips\": [\"팁 \\\\ 하나\", [\"x\"], \"둘\\t\"]}";
+
+        for (int i = 0; i <= json.length(); i++) {
+            for (int j = i; j <= json.length(); j++) {
+                List<FeedbackDelta> received = new ArrayList<>();
+                FeedbackStreamParser split = new FeedbackStreamParser(received::add);
+                split.feed(json.substring(0, i));
+                split.feed(json.substring(i, j));
+                split.feed(json.substring(j));
+
+                String at = "split at " + i + ", " + j;
+                assertTrue(split.isComplete(), at);
+                assertEquals("줄\n바꿈 \"인용\" \uD83D\uDE00 A", split.getOverallFeedback(), at);
+                assertEquals(List.of("팁 \\ 하나", "둘\t"), split.getTips(), at);
+                assertEquals(split.getOverallFeedback(), joined(received, FeedbackStreamParser.FIELD_OVERALL, null), at);
+                assertEquals("팁 \\ 하나", joined(received, FeedbackStreamParser.FIELD_TIPS, 0), at);
+                assertEquals("둘\t", joined(received, FeedbackStreamParser.FIELD_TIPS, 1), at);
+            }
+        }
+    }
+
+    private void feed(String... chunks) {
+        for (String chunk : chunks) {
+            parser.feed(chunk);
+        }
+    }
+
+    private String joined(String field, Integer index) {
+        return joined(deltas, field, index);
+    }
+
+    private static String joined(List<FeedbackDelta> received, String field, Integer index) {
+        return received.stream()
+                .filter(delta -> field.equals(delta.getField()))
+                .filter(delta -> index == null || index.equals(delta.getIndex()))
+                .map(FeedbackDelta::getText)
+                .collect(Collectors.joining());
+    }
+}
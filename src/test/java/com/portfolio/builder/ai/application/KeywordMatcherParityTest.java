@@ -0,0 +1,167 @@
+package com.portfolio.builder.ai.application;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * KeywordMatcher / RuleBasedScorer 키워드 매칭 - 도입 전 구현(LegacyKeywordMatching)과 같은 결과를 내는지 검증
+ * (겹치는 키워드, 대소문자, 한글, ERROR_PATTERNS의 null 포함)
+ */
+class KeywordMatcherParityTest {
+
+    private static final List<String> TEXTS = List.of(
+            "",
+            "특별한 키워드가 없는 평범한 문장입니다.",
+            // 겹치는 키워드 (javascript ⊃ java, 예외처리 ⊃ 예외, postgresql / mysql, nextjs ⊃ next)
+            "JavaScript와 TypeScript로 화면을 만들고 예외처리를 보강했습니다.",
+            "PostgreSQL에서 MySQL로 옮기며 Next.js 빌드를 고쳤습니다.",
+            "springboot security validation",
+            // 대소문자
+            "NullPointerException 이 TIMEOUT 과 함께 발생",
+            "CORS 설정 누락으로 403 Forbidden",
+            "Spring BOOT + JPA + QueryDSL",
+            // 한글
+            "배포 후 에러가 나고 일부 요청이 실패했습니다. 원인은 충돌이었습니다.",
+            "서버 오류와 버그를 경고 로그로 추적",
+            "팀 프로젝트에서 협업하며 문제를 해결한 경험과 성장 목표",
+            "기술 역량을 키우는 도전과 성과, 학습에 대한 관심과 열정",
+            // null / 숫자 / 특수 문자
+            "null",
+            "응답 값이 undefined 또는 nullable 이었습니다",
+            "HTTP 500, 404, 401 처리",
+            "C++ 과 C# 그리고 node",
+            "OOM, memory leak, deadlock, crash",
+            "stacktrace 대신 traceback 을 남겼습니다"
+    );
+
+    @Test
+    void errorAndTechMatchesAreIdentical() {
+        KeywordMatcher<String> errors = KeywordMatcher.<String>builder().add("error", LegacyKeywordMatching.ERROR_PATTERNS).build();
+        KeywordMatcher<String> techs = KeywordMatcher.<String>builder().add("tech", LegacyKeywordMatching.TECH_PATTERNS).build();
+        KeywordMatcher<String> specific = KeywordMatcher.<String>builder().add("specific", LegacyKeywordMatching.SPECIFIC_WORDS).build();
+
+        for (String text : fixtures()) {
+            assertEquals(legacyMatches(LegacyKeywordMatching.ERROR_PATTERNS, text), errors.matchKeywords(text), text);
+            assertEquals(legacyMatches(LegacyKeywordMatching.TECH_PATTERNS, text), techs.matchKeywords(text), text);
+            assertEquals(legacyMatches(LegacyKeywordMatching.SPECIFIC_WORDS, text), specific.matchKeywords(text), text);
+        }
+    }
+
+    @Test
+    void technicalKeywordsAreIdentical() {
+        for (String text : fixtures()) {
+            assertEquals(LegacyKeywordMatching.hasTechnicalKeywords(text), RuleBasedScorer.hasTechnicalKeywords(text), text);
+        }
+    }
+
+    @Test
+    void emptyTroubleshootingFieldsAreIdentical() {
+        // 기존 구현은 비어 있는 항목을 "null"로 이어 붙여 ERROR_PATTERNS의 null과 일치
+        String plain = "화면이 느렸습니다";
+        assertTrue(LegacyKeywordMatching.hasTechnicalKeywords(plain, null, plain));
+        assertEquals(LegacyKeywordMatching.hasTechnicalKeywords(plain, null, plain),
+                RuleBasedScorer.hasTechnicalKeywords(plain, null, plain));
+        assertEquals(LegacyKeywordMatching.hasTechnicalKeywords(plain, plain, plain),
+                RuleBasedScorer.hasTechnicalKeywords(plain, plain, plain));
+
+        for (String problem : TEXTS) {
+            for (String cause : Arrays.asList(null, "", "원인 분석", "Redis 캐시")) {
+                assertEquals(LegacyKeywordMatching.hasTechnicalKeywords(problem, cause, "조치"),
+                        RuleBasedScorer.hasTechnicalKeywords(problem, cause, "조치"), problem + " / " + cause);
+            }
+        }
+    }
+
+    @Test
+    void specificWordsAreIdentical() {
+        for (String text : fixtures()) {
+            assertEquals(LegacyKeywordMatching.containsSpecificWords(text), RuleBasedScorer.containsSpecificWords(text), text);
+        }
+    }
+
+    @Test
+    void techStackCategoriesAreIdentical() {
+        List<List<String>> skillSets = List.of(
+                List.of(),
+                List.of("Java", "Spring Boot", "Spring Security", "JPA", "Oracle", "MySQL",
+                        "React", "TypeScript", "Docker", "AWS EC2", "GitHub Actions", "Redis"),
+                List.of("NEXT.JS", "Tailwind CSS"),
+                List.of("Go", "Rust", "Kotlin"),
+                List.of("MongoDB", "ElasticSearch"),
+                List.of("Figma", "Notion", "Slack"),
+                List.of("c++", "C#", "Node.js"),
+                List.of("CI/CD", "Jenkins", "Terraform"),
+                List.of("자바", "스프링"));
+
+        for (List<String> skills : skillSets) {
+            assertEquals(LegacyKeywordMatching.categorizeTechStack(skills), RuleBasedScorer.categorizeTechStack(skills),
+                    skills.toString());
+        }
+    }
+
+    @Test
+    void jdbcIsTheOnlyIntendedDifference() {
+        // 기존 구현은 "JDBC"를 소문자 변환한 기술명과 비교해 한 번도 일치하지 않았음 (KeywordMatcher 도입 시 의도적으로 수정)
+        List<String> skills = List.of("JDBC");
+        assertTrue(LegacyKeywordMatching.categorizeTechStack(skills).isEmpty());
+        assertEquals(Set.of("Backend"), RuleBasedScorer.categorizeTechStack(skills));
+        assertFalse(RuleBasedScorer.categorizeTechStack(List.of("Figma")).contains("Backend"));
+    }
+
+    @Test
+    void randomTextsAreIdentical() {
+        // 키워드 조각을 섞어 겹침 / 실패 링크 경로를 넓게 확인
+        Random random = new Random(44);
+        List<String> pieces = new ArrayList<>();
+        for (String keyword : concat(LegacyKeywordMatching.ERROR_PATTERNS, LegacyKeywordMatching.TECH_PATTERNS)) {
+            pieces.add(keyword);
+            pieces.add(keyword.substring(0, Math.max(1, keyword.length() / 2)));
+            pieces.add(keyword.toUpperCase());
+        }
+        pieces.addAll(List.of(" ", "가", "a", "s", "에", "예", "++", "#", "0", "5"));
+        KeywordMatcher<String> errors = KeywordMatcher.<String>builder().add("error", LegacyKeywordMatching.ERROR_PATTERNS).build();
+
+        for (int i = 0; i < 2_000; i++) {
+            StringBuilder text = new StringBuilder();
+            int length = 1 + random.nextInt(8);
+            for (int j = 0; j < length; j++) {
+                text.append(pieces.get(random.nextInt(pieces.size())));
+            }
+            String fixture = text.toString();
+            assertEquals(LegacyKeywordMatching.hasTechnicalKeywords(fixture), RuleBasedScorer.hasTechnicalKeywords(fixture), fixture);
+            assertEquals(legacyMatches(LegacyKeywordMatching.ERROR_PATTERNS, fixture), errors.matchKeywords(fixture), fixture);
+        }
+    }
+
+    private static List<String> fixtures() {
+        List<String> fixtures = new ArrayList<>(TEXTS);
+        fixtures.add(String.join(" ", TEXTS));
+        return fixtures;
+    }
+
+    /**
+     * 기존 방식의 일치 키워드 (중복 제거, 등록 순서)
+     */
+    private static Set<String> legacyMatches(List<String> keywords, String text) {
+        String lower = text.toLowerCase();
+        Set<String> matched = new LinkedHashSet<>();
+        keywords.stream().filter(lower::contains).forEach(matched::add);
+        return matched;
+    }
+
+    private static List<String> concat(List<String> first, List<String> second) {
+        List<String> joined = new ArrayList<>(first);
+        joined.addAll(second);
+        return joined;
+    }
+}
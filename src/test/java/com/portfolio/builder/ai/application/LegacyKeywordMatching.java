@@ -0,0 +1,82 @@
+package com.portfolio.builder.ai.application;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * KeywordMatcher 도입 전 RuleBasedScorer 키워드 매칭 (비교 기준)
+ * KeywordMatcherParityTest(결과 비교)와 KeywordMatchingBenchmark(src/jmh, 성능 비교)에서 사용
+ */
+final class LegacyKeywordMatching {
+
+    static final List<String> ERROR_PATTERNS = List.of(
+            "exception", "error", "에러", "오류", "실패", "버그", "bug", "예외", "예외처리",
+            "stacktrace", "traceback", "warning", "경고", "충돌", "실패",
+            "404", "500", "403", "401", "cors", "npe", "oom", "timeout",
+            "null", "undefined", "crash", "memory", "leak", "deadlock"
+    );
+
+    static final List<String> TECH_PATTERNS = List.of(
+            "react", "spring", "java", "javascript", "typescript", "mysql", "oracle",
+            "mybatis", "thymeleaf", "lombok", "querydsl", "websocket",
+            "boot", "security", "validation", "java", "c++", "c#",
+            "docker", "aws", "jpa", "hibernate", "redis", "nginx", "tomcat",
+            "jwt", "oauth", "api", "rest", "graphql", "webpack", "node", "python",
+            "git", "linux", "gradle", "maven", "npm", "vue", "angular", "next",
+            "kubernetes", "jenkins", "terraform", "mongodb", "postgresql", "ansible"
+    );
+
+    static final List<String> SPECIFIC_WORDS = List.of(
+            "경험", "개발", "프로젝트", "학습", "성장", "목표", "관심", "열정",
+            "팀", "협업", "문제", "해결", "기술", "도전", "역량", "성과"
+    );
+
+    private LegacyKeywordMatching() {
+    }
+
+    /**
+     * 트러블슈팅 항목을 이어 붙여 검사 (기존 RuleBasedScorer 호출부와 같음, 비어 있는 항목은 "null"로 이어짐)
+     */
+    static boolean hasTechnicalKeywords(String problem, String cause, String solution) {
+        return hasTechnicalKeywords((problem + " " + cause + " " + solution).toLowerCase());
+    }
+
+    static boolean hasTechnicalKeywords(String text) {
+        if (text == null) return false;
+        String lower = text.toLowerCase();
+        boolean hasError = ERROR_PATTERNS.stream().anyMatch(lower::contains);
+        boolean hasTech = TECH_PATTERNS.stream().anyMatch(lower::contains);
+        return hasError || hasTech;
+    }
+
+    static Set<String> categorizeTechStack(List<String> skills) {
+        Set<String> categories = new HashSet<>();
+        Map<String, List<String>> techMap = Map.of(
+                "Frontend", List.of("react", "vue", "angular", "javascript", "typescript", "html", "css", "next", "tailwind", "sass", "jquery", "svelte"),
+                "Backend", List.of("spring", "boot", "security", "validation", "java", "mybatis", "thymeleaf", "lombok", "querydsl", "JDBC", "c++", "c#", "node", "python", "django", "express", "flask", "nestjs", "go", "rust", "php", "ruby", "kotlin"),
+                "Database", List.of("mysql", "oracle", "postgresql", "mongodb", "redis", "mariadb", "sqlite", "mssql", "dynamodb", "elasticsearch"),
+                "DevOps", List.of("docker", "kubernetes", "aws", "jenkins", "git", "linux", "nginx", "gcp", "azure", "ci", "cd", "terraform", "github", "ansible")
+        );
+        if (skills == null) return categories;
+        for (String skill : skills) {
+            String lower = skill.toLowerCase();
+            for (Map.Entry<String, List<String>> entry : techMap.entrySet()) {
+                if (entry.getValue().stream().anyMatch(lower::contains)) {
+                    categories.add(entry.getKey());
+                }
+            }
+        }
+        return categories;
+    }
+
+    static boolean containsSpecificWords(String text) {
+        return countSpecificWords(text) >= 3;
+    }
+
+    static long countSpecificWords(String text) {
+        String lower = text.toLowerCase();
+        return SPECIFIC_WORDS.stream().filter(lower::contains).count();
+    }
+}
@@ -0,0 +1,216 @@
+package com.portfolio.builder.quiz.service;
+
+import com.portfolio.builder.member.domain.Member;
+import com.portfolio.builder.member.domain.MemberRepository;
+import com.portfolio.builder.quiz.domain.Quiz;
+import com.portfolio.builder.quiz.repository.QuizAttemptRepository;
+import com.portfolio.builder.quiz.repository.QuizRepository;
+import com.portfolio.builder.quiz.repository.QuizReviewStateRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 아카이브 이동 전후로 회원 단위 누적 조회 결과가 같은지 검증 (H2 인메모리)
+ * hot 테이블만 읽는 조회가 있으면 아카이브 후 값이 줄어든다
+ */
+@DataJpaTest(properties = {
+        // 운영 쿼리가 Oracle 문법(NVL, DATE + 1)과 NUMBER(1) 불리언 비교를 쓰므로 Oracle 호환 모드로 실행
+        "spring.datasource.url=jdbc:h2:mem:quiz-lifecycle;MODE=Oracle;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.type.preferred_boolean_jdbc_type=INTEGER"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QuizAttemptLifecycleService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)  // 월 단위 트랜잭션을 실제로 커밋
+class QuizAttemptLifecycleServiceTest {
+
+    private static final int MONTHS = 24;
+
+    @MockBean
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private QuizAttemptLifecycleService lifecycleService;
+
+    @Autowired
+    private QuizAttemptRepository quizAttemptRepository;
+
+    @Autowired
+    private QuizReviewStateRepository quizReviewStateRepository;
+
+    @Autowired
+    private QuizRepository quizRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long memberId;
+    private Long coldOnlyQuizId;
+
+    @BeforeEach
+    void seed() {
+        memberId = memberRepository.save(Member.builder()
+                .githubId("lifecycle")
+                .name("lifecycle")
+                .position("수강생")
+                .build()).getId();
+
+        List<Quiz> quizzes = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            quizzes.add(Quiz.builder()
+                    .category(i % 3 == 0 ? "Java" : i % 3 == 1 ? "Spring" : "Java 수업")
+                    .type("OX")
+                    .quizType(i % 3 == 2 ? "PRACTICE" : "INTERVIEW")
+                    .question("question " + i)
+                    .answer(i % 2)
+                    .explanation("explanation " + i)
+                    .build());
+        }
+        List<Long> quizIds = quizRepository.saveAll(quizzes).stream().map(Quiz::getId).toList();
+        coldOnlyQuizId = quizIds.get(quizIds.size() - 1);
+
+        // 24개월 전부터 오늘까지 한 달에 여러 건 (마지막 문제는 보존 기간 밖에서만 풀이)
+        List<Object[]> rows = new ArrayList<>();
+        LocalDateTime start = LocalDate.now().withDayOfMonth(1).minusMonths(MONTHS).atTime(7, 0);
+        int n = 0;
+        for (LocalDateTime at = start; at.isBefore(LocalDateTime.now()); at = at.plusDays(3).plusHours(5)) {
+            int quizIndex = n % (quizIds.size() - 1);
+            if (at.isBefore(start.plusMonths(3)) && n % 7 == 0) {
+                quizIndex = quizIds.size() - 1;
+            }
+            Quiz quiz = quizzes.get(quizIndex);
+            rows.add(new Object[]{
+                    memberId, quizIds.get(quizIndex), n % 2, n % 3 == 0,
+                    Date.valueOf(at.toLocalDate()), Timestamp.valueOf(at), n % 5 == 0, quiz.getQuizType()});
+            n++;
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO TB_QUIZ_ATTEMPT (member_id, quiz_id, user_answer, is_correct, attempt_date, created_at, is_review_mode, quiz_type)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """, rows);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM TB_QUIZ_ATTEMPT_ARCHIVE");
+        jdbcTemplate.update("DELETE FROM TB_QUIZ_ATTEMPT_DAILY");
+        quizReviewStateRepository.deleteAllInBatch();
+        quizAttemptRepository.deleteAllInBatch();
+        quizRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void archivingColdMonthsKeepsMemberCountsAndLists() {
+        lifecycleService.rollupClosedMonths();
+        Map<String, Object> before = snapshot();
+
+        lifecycleService.archiveColdMonths();
+
+        Integer archived = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM TB_QUIZ_ATTEMPT_ARCHIVE", Integer.class);
+        assertTrue(archived > 0, "보존 기간이 지난 시도가 아카이브로 이동해야 함");
+        assertEquals(before, snapshot());
+    }
+
+    private Map<String, Object> snapshot() {
+        return inTransaction(() -> {
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("wrongAnswers", rows(quizAttemptRepository.findWrongAnswersByMemberId(memberId)));
+            values.put("wrongAnswersPractice", rows(quizAttemptRepository.findWrongAnswersByMemberIdAndQuizType(memberId, "PRACTICE")));
+            values.put("wrongAnswersJava", rows(quizAttemptRepository.findWrongAnswersByMemberIdAndCategory(memberId, "Java")));
+            values.put("wrongAnswersSpring", rows(quizAttemptRepository.findWrongAnswersByMemberIdAndCategoryAndQuizType(memberId, "Spring", "INTERVIEW")));
+            values.put("wrongByCategory", grouped(quizAttemptRepository.countWrongByMemberIdGroupByCategory(memberId)));
+            values.put("wrongByCategoryPractice", grouped(quizAttemptRepository.countWrongByMemberIdGroupByCategoryAndQuizType(memberId, "PRACTICE")));
+            values.put("solvedByCategory", grouped(quizAttemptRepository.countSolvedByMemberIdGroupByCategory(memberId)));
+            values.put("solvedJava", quizAttemptRepository.countByMemberIdAndCategory(memberId, "Java"));
+            values.put("correctJava", quizAttemptRepository.countCorrectByMemberIdAndCategory(memberId, "Java"));
+            values.put("reviewMode", quizAttemptRepository.countReviewModeByMemberId(memberId));
+            values.put("practiceMode", quizAttemptRepository.countPracticeModeByMemberId(memberId));
+            values.put("allReview", quizAttemptRepository.countAllReviewByMemberId(memberId));
+            values.put("solvedColdOnlyQuiz", quizAttemptRepository.existsByMemberIdAndQuizId(memberId, coldOnlyQuizId));
+            values.put("solvedIds", ids(() -> quizAttemptRepository.streamSolvedQuizIds(memberId)));
+            values.put("solvedIdsJava", ids(() -> quizAttemptRepository.streamSolvedQuizIdsByCategory(memberId, "Java")));
+            values.put("correctIds", ids(() -> quizAttemptRepository.streamCorrectQuizIds(memberId)));
+            values.put("correctIdsSpring", ids(() -> quizAttemptRepository.streamCorrectQuizIdsByCategory(memberId, "Spring")));
+            values.put("wrongIds", ids(() -> quizAttemptRepository.streamWrongQuizIds(memberId, "INTERVIEW")));
+            values.put("wrongIdsJava", ids(() -> quizAttemptRepository.streamWrongQuizIdsByCategory(memberId, "Java", "INTERVIEW")));
+            values.put("reviewBackfill", backfilledStates());
+            return values;
+        });
+    }
+
+    // 복습 일정 백필 결과 (스냅샷 후 롤백)
+    private List<String> backfilledStates() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionTemplate.PROPAGATION_REQUIRES_NEW);
+        return template.execute(status -> {
+            quizReviewStateRepository.backfillFromAttempts();
+            List<String> states = jdbcTemplate.query("""
+                            SELECT quiz_id, quiz_type, due_at, wrong_count, last_reviewed_at
+                            FROM TB_QUIZ_REVIEW_STATE WHERE member_id = ? ORDER BY quiz_id
+                            """,
+                    (rs, i) -> rs.getLong(1) + "|" + rs.getString(2) + "|" + rs.getDate(3) + "|"
+                            + rs.getInt(4) + "|" + rs.getDate(5),
+                    memberId);
+            status.setRollbackOnly();
+            return states;
+        });
+    }
+
+    private List<String> rows(List<Object[]> rows) {
+        return rows.stream().map(Arrays::toString).toList();
+    }
+
+    private Map<String, Long> grouped(List<Object[]> rows) {
+        return rows.stream().collect(Collectors.toMap(
+                row -> (String) row[0], row -> ((Number) row[1]).longValue(), Long::sum, TreeMap::new));
+    }
+
+    private Set<Long> ids(Supplier<Stream<Number>> query) {
+        try (Stream<Number> stream = query.get()) {
+            return stream.map(Number::longValue).collect(Collectors.toCollection(TreeSet::new));
+        }
+    }
+
+    private <T> T inTransaction(Supplier<T> task) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> task.get());
+    }
+}
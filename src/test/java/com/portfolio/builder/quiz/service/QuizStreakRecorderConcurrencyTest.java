@@ -0,0 +1,117 @@
+package com.portfolio.builder.quiz.service;
+
+import com.portfolio.builder.member.domain.Member;
+import com.portfolio.builder.member.domain.MemberRepository;
+import com.portfolio.builder.quiz.domain.QuizStreak;
+import com.portfolio.builder.quiz.repository.QuizStreakRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 동시 제출 시 스트릭 카운트가 유실되지 않는지 검증 (H2 인메모리)
+ * 변경 전 read-modify-write 방식에서는 두 테스트 모두 실패함 (카운트 유실, member_id 유니크 위반)
+ */
+@DataJpaTest
+@Import(QuizStreakRecorder.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)  // 스레드마다 실제 커밋
+class QuizStreakRecorderConcurrencyTest {
+
+    private static final int SUBMITS = 120;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private QuizStreakRecorder quizStreakRecorder;
+
+    @Autowired
+    private QuizStreakRepository quizStreakRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @AfterEach
+    void cleanUp() {
+        quizStreakRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void firstSubmitsInParallelCreateSingleRowWithExactCounts() throws Exception {
+        Long memberId = saveMember("streak-first");
+
+        submitInParallel(memberId);
+
+        QuizStreak streak = quizStreakRepository.findByMemberId(memberId).orElseThrow();
+        assertEquals(SUBMITS, streak.getTotalQuizCount());
+        assertEquals(SUBMITS / 3, streak.getCorrectCount());
+        assertEquals(1, streak.getCurrentStreak());
+        assertEquals(1, streak.getMaxStreak());
+        assertEquals(LocalDate.now(), streak.getLastStudyDate());
+        assertEquals(1, quizStreakRepository.count());
+    }
+
+    @Test
+    void parallelSubmitsExtendStreakOnlyOncePerDay() throws Exception {
+        Long memberId = saveMember("streak-continue");
+        quizStreakRepository.save(QuizStreak.builder()
+                .member(memberRepository.getReferenceById(memberId))
+                .currentStreak(4)
+                .maxStreak(4)
+                .lastStudyDate(LocalDate.now().minusDays(1))
+                .totalQuizCount(50)
+                .correctCount(30)
+                .build());
+
+        submitInParallel(memberId);
+
+        QuizStreak streak = quizStreakRepository.findByMemberId(memberId).orElseThrow();
+        assertEquals(50 + SUBMITS, streak.getTotalQuizCount());
+        assertEquals(30 + SUBMITS / 3, streak.getCorrectCount());
+        assertEquals(5, streak.getCurrentStreak());
+        assertEquals(5, streak.getMaxStreak());
+    }
+
+    private Long saveMember(String githubId) {
+        return memberRepository.save(Member.builder()
+                .githubId(githubId)
+                .name(githubId)
+                .position("수강생")
+                .build()).getId();
+    }
+
+    private void submitInParallel(Long memberId) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < SUBMITS; i++) {
+                boolean isCorrect = i % 3 == 0;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    quizStreakRecorder.record(memberId, isCorrect);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();  // 예외 전파
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
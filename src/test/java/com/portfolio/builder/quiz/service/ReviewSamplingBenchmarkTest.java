@@ -0,0 +1,183 @@
+package com.portfolio.builder.quiz.service;
+
+import com.portfolio.builder.member.domain.Member;
+import com.portfolio.builder.member.domain.MemberRepository;
+import com.portfolio.builder.quiz.domain.Quiz;
+import com.portfolio.builder.quiz.domain.QuizAttempt;
+import com.portfolio.builder.quiz.repository.QuizAttemptRepository;
+import com.portfolio.builder.quiz.repository.QuizRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 복습 세션 샘플링 벤치마크 (회원 1명, 시도 50,000건)
+ * 기존 방식(전체 시도 + 문제 로딩 후 shuffle)과 ID 스트리밍 + 저수지 샘플링을 비교한다.
+ * 실행: ./gradlew quizBenchmark
+ */
+@Tag("benchmark")
+@DataJpaTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReviewSamplingBenchmarkTest {
+
+    private static final int ATTEMPTS = 50_000;
+    private static final int QUIZZES = 2_000;
+    private static final int SESSION_SIZE = 10;
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+
+    @Autowired
+    private QuizAttemptRepository quizAttemptRepository;
+
+    @Autowired
+    private QuizRepository quizRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long memberId;
+
+    @BeforeAll
+    void seed() {
+        memberId = memberRepository.save(Member.builder()
+                .githubId("review-benchmark")
+                .name("review-benchmark")
+                .position("수강생")
+                .build()).getId();
+
+        List<Quiz> quizzes = new ArrayList<>();
+        for (int i = 0; i < QUIZZES; i++) {
+            quizzes.add(Quiz.builder()
+                    .category(i % 2 == 0 ? "Java" : "Spring")
+                    .type("OX")
+                    .question("question " + i)
+                    .answer(i % 2)
+                    .explanation("explanation " + i)
+                    .build());
+        }
+        List<Long> quizIds = quizRepository.saveAll(quizzes).stream().map(Quiz::getId).toList();
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Object[]> rows = new ArrayList<>(ATTEMPTS);
+        LocalDateTime start = LocalDateTime.now().minusDays(ATTEMPTS / 100);
+        for (int i = 0; i < ATTEMPTS; i++) {
+            LocalDateTime createdAt = start.plusMinutes(i * 15L);
+            rows.add(new Object[]{
+                    memberId, quizIds.get(random.nextInt(QUIZZES)), 0, random.nextInt(3) != 0,
+                    Date.valueOf(createdAt.toLocalDate()), Timestamp.valueOf(createdAt), false, "INTERVIEW"});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO TB_QUIZ_ATTEMPT (member_id, quiz_id, user_answer, is_correct, attempt_date, created_at, is_review_mode, quiz_type)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """, rows);
+    }
+
+    @Test
+    void streamingSampleStaysBoundedOverLargeHistory() {
+        Result baseline = measure("full load + shuffle", this::loadAllAndShuffle);
+        Result streaming = measure("stream ids + reservoir", this::streamAndSample);
+
+        System.out.printf("[review-sampling] attempts=%d, session=%d%n", ATTEMPTS, SESSION_SIZE);
+        System.out.println(baseline);
+        System.out.println(streaming);
+
+        List<Quiz> sample = inReadOnlyTransaction(this::streamAndSample);
+        assertEquals(SESSION_SIZE, sample.size());
+        assertEquals(SESSION_SIZE, new HashSet<>(sample.stream().map(Quiz::getId).toList()).size());
+    }
+
+    // 변경 전 getReviewQuizzes("all") 방식
+    private List<Quiz> loadAllAndShuffle() {
+        List<QuizAttempt> attempts = entityManager.createQuery(
+                        "SELECT qa FROM QuizAttempt qa JOIN FETCH qa.quiz WHERE qa.member.id = :memberId ORDER BY qa.createdAt DESC",
+                        QuizAttempt.class)
+                .setParameter("memberId", memberId)
+                .getResultList();
+        List<Quiz> unique = new ArrayList<>(attempts.stream().map(QuizAttempt::getQuiz).distinct().toList());
+        Collections.shuffle(unique);
+        return unique.subList(0, Math.min(SESSION_SIZE, unique.size()));
+    }
+
+    // 변경 후 getReviewQuizzes("all") 방식
+    private List<Quiz> streamAndSample() {
+        List<Long> ids;
+        try (Stream<Number> stream = quizAttemptRepository.streamSolvedQuizIds(memberId)) {
+            ids = ReservoirSampler.sample(stream.map(Number::longValue), SESSION_SIZE);
+        }
+        return quizRepository.findAllById(ids);
+    }
+
+    private Result measure(String name, Supplier<List<Quiz>> task) {
+        for (int i = 0; i < WARMUP; i++) {
+            inReadOnlyTransaction(task);
+        }
+        long[] nanos = new long[ITERATIONS];
+        long allocated = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long allocatedBefore = allocatedBytes();
+            long startedAt = System.nanoTime();
+            inReadOnlyTransaction(task);
+            nanos[i] = System.nanoTime() - startedAt;
+            allocated += allocatedBytes() - allocatedBefore;
+        }
+        java.util.Arrays.sort(nanos);
+        return new Result(name, nanos[ITERATIONS / 2] / 1_000_000.0, nanos[ITERATIONS * 95 / 100] / 1_000_000.0,
+                allocated / ITERATIONS / 1024);
+    }
+
+    private List<Quiz> inReadOnlyTransaction(Supplier<List<Quiz>> task) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> {
+            List<Quiz> result = task.get();
+            entityManager.clear();
+            return result;
+        });
+    }
+
+    private long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getCurrentThreadAllocatedBytes();
+    }
+
+    private record Result(String name, double p50Millis, double p95Millis, long allocatedKb) {
+        @Override
+        public String toString() {
+            return String.format("  %-24s p50=%.2fms p95=%.2fms alloc/op=%dKB", name, p50Millis, p95Millis, allocatedKb);
+        }
+    }
+}